@@ -45,6 +45,11 @@ dependencyResolutionManagement {
       library("testcontainers", "org.opensearch:opensearch-testcontainers:3.0.1")
     }
     
+    create("micrometerLibs") {
+      library("observation", "io.micrometer:micrometer-observation:1.14.8")
+      library("core", "io.micrometer:micrometer-core:1.14.8")
+    }
+
     create("jacksonLibs") {
       version("jackson", "2.19.1")
       library("core", "com.fasterxml.jackson.core", "jackson-core").versionRef("jackson")
@@ -59,9 +64,11 @@ dependencyResolutionManagement {
       version("spotless", "6.25.0")
       version("editorconfig", "0.0.3")
       version("release", "3.0.2")
+      version("jmh", "0.7.3")
       plugin("editorconfig", "org.ec4j.editorconfig").versionRef("editorconfig")
       plugin("spotless", "com.diffplug.spotless").versionRef("spotless")
       plugin("release", "net.researchgate.release").versionRef("release")
+      plugin("jmh", "me.champeau.jmh").versionRef("jmh")
       library("editorconfig", "gradle.plugin.org.ec4j.gradle", "editorconfig-gradle-plugin").versionRef("editorconfig")
       library("spotless", "com.diffplug.spotless", "spotless-plugin-gradle").versionRef("spotless")
       library("release", "net.researchgate", "gradle-release").versionRef("release")
@@ -87,6 +94,7 @@ dependencyResolutionManagement {
 }
 
 include("spring-data-opensearch")
+include("spring-data-opensearch-benchmarks")
 include("spring-data-opensearch-docker-compose")
 include("spring-data-opensearch-starter")
 include("spring-data-opensearch-test-autoconfigure")
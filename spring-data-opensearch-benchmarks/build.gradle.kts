@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+plugins {
+  alias(pluginLibs.plugins.spotless)
+  alias(pluginLibs.plugins.editorconfig)
+  alias(pluginLibs.plugins.jmh)
+  id("java-conventions")
+}
+
+buildscript {
+  dependencies {
+    classpath(pluginLibs.editorconfig)
+    classpath(pluginLibs.spotless)
+  }
+}
+
+dependencies {
+  jmh(project(":spring-data-opensearch"))
+  jmh(opensearchLibs.java.client)
+  jmh(jacksonLibs.core)
+  jmh(jacksonLibs.databind)
+  jmh("org.wiremock:wiremock:3.13.1") {
+    exclude("commons-logging", "commons-logging")
+    exclude("org.ow2.asm", "asm")
+  }
+}
+
+description = "Spring Data OpenSearch Benchmarks"
+
+// The iterations, forks and time units are fixed on the benchmark classes so that the results of different
+// versions can be compared, the results are written per version.
+jmh {
+  jmhVersion.set("1.37")
+  jvmArgs.set(listOf("-Xms1g", "-Xmx1g"))
+  profilers.set(listOf("gc"))
+  resultFormat.set("JSON")
+  resultsFile.set(layout.buildDirectory.file("results/jmh/results-${project.version}.json"))
+  findProperty("jmh.includes")?.let { includes.set(listOf(it.toString())) }
+}
+
+spotless {
+  java {
+    target("src/jmh/java/**/*.java")
+
+    trimTrailingWhitespace()
+    indentWithSpaces()
+    endWithNewline()
+
+    removeUnusedImports()
+    importOrder()
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+/**
+ * Creates the converter and the canned OpenSearch responses the benchmarks work on. The sources of the responses are
+ * written by the converter, so reading them back takes the same paths as reading documents the application stored.
+ */
+public final class BenchmarkDocuments {
+
+    private BenchmarkDocuments() {}
+
+    public static ElasticsearchConverter converter() {
+
+        SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+        mappingContext.setInitialEntitySet(Set.of(FlatEntity.class, NestedEntity.class, LargeEntity.class));
+        mappingContext.afterPropertiesSet();
+
+        MappingElasticsearchConverter converter = new MappingElasticsearchConverter(mappingContext);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    public static IndexCoordinates index(ElasticsearchConverter converter, DocumentShape shape) {
+        return converter.getMappingContext().getRequiredPersistentEntity(shape.getType()).getIndexCoordinates();
+    }
+
+    public static String source(ElasticsearchConverter converter, Object entity) {
+        return converter.mapObject(entity).toJson();
+    }
+
+    /**
+     * @return the body of a search response with {@code pageSize} hits of the given shape
+     */
+    public static String searchResponse(ElasticsearchConverter converter, DocumentShape shape, int pageSize) {
+
+        String indexName = index(converter, shape).getIndexName();
+        String hits = IntStream.range(0, pageSize)
+                .mapToObj(i -> "{\"_index\":\"" + indexName + "\",\"_id\":\"" + i
+                        + "\",\"_score\":1.0,\"_seq_no\":" + i + ",\"_primary_term\":1,\"_source\":"
+                        + source(converter, shape.entity(i)) + "}")
+                .collect(Collectors.joining(","));
+
+        return "{\"took\":1,\"timed_out\":false,\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},"
+                + "\"hits\":{\"total\":{\"value\":" + pageSize + ",\"relation\":\"eq\"},\"max_score\":1.0,\"hits\":["
+                + hits + "]}}";
+    }
+
+    /**
+     * @return the body of a successful bulk response for {@code count} index operations
+     */
+    public static String bulkResponse(ElasticsearchConverter converter, DocumentShape shape, int count) {
+
+        String indexName = index(converter, shape).getIndexName();
+        String items = IntStream.range(0, count)
+                .mapToObj(i -> "{\"index\":{\"_index\":\"" + indexName + "\",\"_id\":\"" + i
+                        + "\",\"_version\":1,\"result\":\"created\",\"_shards\":{\"total\":1,\"successful\":1,"
+                        + "\"failed\":0},\"_seq_no\":" + i + ",\"_primary_term\":1,\"status\":201}}")
+                .collect(Collectors.joining(","));
+
+        return "{\"took\":1,\"errors\":false,\"items\":[" + items + "]}";
+    }
+
+    /**
+     * @return the body of a get response for the entity with the given number
+     */
+    public static String getResponse(ElasticsearchConverter converter, DocumentShape shape, int i) {
+
+        return "{\"_index\":\"" + index(converter, shape).getIndexName() + "\",\"_id\":\"" + i
+                + "\",\"_version\":1,\"_seq_no\":" + i + ",\"_primary_term\":1,\"found\":true,\"_source\":"
+                + source(converter, shape.entity(i)) + "}";
+    }
+}
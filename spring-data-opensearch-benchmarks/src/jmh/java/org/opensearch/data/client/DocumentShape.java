@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * The shapes of the documents the benchmarks read and write, used as a {@code @Param} of the benchmarks.
+ */
+public enum DocumentShape {
+
+    FLAT(FlatEntity.class, FlatEntity::of), //
+    NESTED(NestedEntity.class, NestedEntity::of), //
+    LARGE(LargeEntity.class, LargeEntity::of);
+
+    private final Class<?> type;
+    private final IntFunction<?> factory;
+
+    DocumentShape(Class<?> type, IntFunction<?> factory) {
+        this.type = type;
+        this.factory = factory;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the entity with the given number, the same number always gives an equal entity
+     */
+    public Object entity(int i) {
+        return factory.apply(i);
+    }
+
+    public List<Object> entities(int count) {
+        return IntStream.range(0, count).<Object> mapToObj(this::entity).toList();
+    }
+}
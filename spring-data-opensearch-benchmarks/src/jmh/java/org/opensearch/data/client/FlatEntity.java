@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client;
+
+import java.util.List;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.lang.Nullable;
+
+/**
+ * A document with a few scalar fields, like most catalog or log entries.
+ */
+@Document(indexName = "benchmark-flat")
+public class FlatEntity {
+    @Nullable
+    @Id String id;
+    @Nullable
+    @Field(type = FieldType.Keyword) String name;
+    @Nullable
+    @Field(type = FieldType.Text) String description;
+    @Field(type = FieldType.Integer) int quantity;
+    @Field(type = FieldType.Double) double price;
+    @Field(type = FieldType.Boolean) boolean available;
+    @Nullable
+    @Field(type = FieldType.Keyword) List<String> tags;
+
+    static FlatEntity of(int i) {
+
+        FlatEntity entity = new FlatEntity();
+        entity.id = String.valueOf(i);
+        entity.name = "name-" + i;
+        entity.description = "the description of document " + i;
+        entity.quantity = i;
+        entity.price = i * 1.5;
+        entity.available = i % 2 == 0;
+        entity.tags = List.of("tag-" + (i % 10), "tag-" + (i % 7));
+        return entity;
+    }
+}
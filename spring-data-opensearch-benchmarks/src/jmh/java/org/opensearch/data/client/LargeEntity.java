@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.lang.Nullable;
+
+/**
+ * A document with a few kilobytes of text and a long keyword list, like articles or product pages.
+ */
+@Document(indexName = "benchmark-large")
+public class LargeEntity {
+    @Nullable
+    @Id String id;
+    @Nullable
+    @Field(type = FieldType.Text) String title;
+    @Nullable
+    @Field(type = FieldType.Text) String body;
+    @Nullable
+    @Field(type = FieldType.Keyword) List<String> keywords;
+
+    static LargeEntity of(int i) {
+
+        LargeEntity entity = new LargeEntity();
+        entity.id = String.valueOf(i);
+        entity.title = "The title of article " + i;
+        entity.body = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor " //
+                .repeat(50) + i;
+        entity.keywords = IntStream.range(0, 50).mapToObj(k -> "keyword-" + ((i + k) % 500)).toList();
+        return entity;
+    }
+}
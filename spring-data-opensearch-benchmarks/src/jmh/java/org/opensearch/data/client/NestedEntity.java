@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.lang.Nullable;
+
+/**
+ * A document with nested objects, collections of objects, a map and dates, which take the converter's slow paths.
+ */
+@Document(indexName = "benchmark-nested")
+public class NestedEntity {
+    @Nullable
+    @Id String id;
+    @Nullable
+    @Field(type = FieldType.Keyword) String name;
+    @Nullable
+    @Field(type = FieldType.Date, format = DateFormat.date_time) Instant created;
+    @Nullable
+    @Field(type = FieldType.Object) Address address;
+    @Nullable
+    @Field(type = FieldType.Nested) List<Address> previousAddresses;
+    @Nullable
+    @Field(type = FieldType.Object) Map<String, String> attributes;
+
+    static NestedEntity of(int i) {
+
+        NestedEntity entity = new NestedEntity();
+        entity.id = String.valueOf(i);
+        entity.name = "name-" + i;
+        entity.created = Instant.ofEpochSecond(1_700_000_000L + i);
+        entity.address = Address.of(i);
+        entity.previousAddresses = List.of(Address.of(i + 1), Address.of(i + 2), Address.of(i + 3));
+        entity.attributes = Map.of("color", "color-" + (i % 5), "size", "size-" + (i % 3));
+        return entity;
+    }
+
+    public static class Address {
+        @Nullable
+        @Field(type = FieldType.Text) String street;
+        @Nullable
+        @Field(type = FieldType.Keyword) String city;
+        @Nullable
+        @Field(type = FieldType.Keyword) String zipCode;
+
+        static Address of(int i) {
+
+            Address address = new Address();
+            address.street = i + " Main Street";
+            address.city = "city-" + (i % 100);
+            address.zipCode = String.format("%05d", i % 100_000);
+            return address;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.orhlc;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.client.Request;
+import org.opensearch.data.client.BenchmarkDocuments;
+import org.opensearch.data.client.DocumentShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+
+/**
+ * Converts entities to a bulk request of the high level REST client and renders it to the NDJSON request the low level
+ * client sends.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkRequestBenchmark {
+
+    @Param({ "FLAT", "NESTED", "LARGE" }) DocumentShape shape;
+    @Param({ "10", "100", "1000" }) int batchSize;
+
+    private RequestFactory requestFactory;
+    private IndexCoordinates index;
+    private List<IndexQuery> queries;
+
+    @Setup
+    public void setup() {
+
+        ElasticsearchConverter converter = BenchmarkDocuments.converter();
+        requestFactory = new RequestFactory(converter);
+        index = BenchmarkDocuments.index(converter, shape);
+        queries = shape.entities(batchSize).stream()
+                .map(entity -> new IndexQueryBuilder().withObject(entity).build()).toList();
+    }
+
+    @Benchmark
+    public BulkRequest build() {
+        return requestFactory.bulkRequest(queries, BulkOptions.defaultOptions(), index);
+    }
+
+    @Benchmark
+    public Request buildAndSerialize() throws IOException {
+        return RequestConverters.bulk(build());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.orhlc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.data.client.BenchmarkDocuments;
+import org.opensearch.data.client.DocumentShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.elasticsearch.core.SearchHitMapping;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.SearchDocument;
+import org.springframework.data.elasticsearch.core.document.SearchDocumentResponse;
+
+/**
+ * Parses a search response body with the high level REST client and maps its hits to entities like
+ * {@link OpenSearchRestTemplate} does, split into parsing the body and mapping the parsed hits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchHitMappingBenchmark {
+
+    @Param({ "FLAT", "NESTED", "LARGE" }) DocumentShape shape;
+    @Param({ "10", "100", "1000" }) int pageSize;
+
+    private ElasticsearchConverter converter;
+    private byte[] body;
+    private SearchResponse response;
+
+    @Setup
+    public void setup() throws IOException {
+
+        converter = BenchmarkDocuments.converter();
+        body = BenchmarkDocuments.searchResponse(converter, shape, pageSize).getBytes(StandardCharsets.UTF_8);
+        response = parse();
+    }
+
+    @Benchmark
+    public SearchResponse parse() throws IOException {
+
+        try (XContentParser parser = JsonXContent.jsonXContent.createParser(NamedXContentRegistry.EMPTY,
+                DeprecationHandler.IGNORE_DEPRECATIONS, body)) {
+            return SearchResponse.fromXContent(parser);
+        }
+    }
+
+    @Benchmark
+    public SearchHits<?> map() {
+        return map(response, shape.getType());
+    }
+
+    @Benchmark
+    public SearchHits<?> parseAndMap() throws IOException {
+        return map(parse(), shape.getType());
+    }
+
+    private <T> SearchHits<T> map(SearchResponse response, Class<T> type) {
+
+        SearchDocumentResponse documentResponse = SearchDocumentResponseBuilder.from(response,
+                document -> CompletableFuture.completedFuture(converter.read(type, document)));
+
+        List<SearchDocument> documents = documentResponse.getSearchDocuments();
+        List<T> entities = new ArrayList<>(documents.size());
+        for (SearchDocument document : documents) {
+            entities.add(converter.read(type, document));
+        }
+        return SearchHitMapping.mappingFor(type, converter).mapHits(documentResponse, entities);
+    }
+}
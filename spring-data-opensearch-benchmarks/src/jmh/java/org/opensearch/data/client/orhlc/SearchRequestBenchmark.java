@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.orhlc;
+
+import java.util.concurrent.TimeUnit;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.client.Request;
+import org.opensearch.data.client.BenchmarkDocuments;
+import org.opensearch.data.client.DocumentShape;
+import org.opensearch.data.client.FlatEntity;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+
+/**
+ * Converts Spring Data queries to search requests of the high level REST client and renders them to the request the
+ * low level client sends, as {@link OpenSearchRestTemplate} does for every search.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchRequestBenchmark {
+
+    public enum QueryKind {
+        CRITERIA, STRING, NATIVE
+    }
+
+    @Param({ "CRITERIA", "STRING", "NATIVE" }) QueryKind queryKind;
+
+    private RequestFactory requestFactory;
+    private IndexCoordinates index;
+    private Query query;
+    private SearchRequest searchRequest;
+
+    @Setup
+    public void setup() {
+
+        ElasticsearchConverter converter = BenchmarkDocuments.converter();
+        requestFactory = new RequestFactory(converter);
+        index = BenchmarkDocuments.index(converter, DocumentShape.FLAT);
+        query = query(queryKind);
+        searchRequest = build();
+    }
+
+    @Benchmark
+    public SearchRequest build() {
+        return requestFactory.searchRequest(query, null, FlatEntity.class, index);
+    }
+
+    @Benchmark
+    public Request serialize() {
+        return RequestConverters.search(searchRequest);
+    }
+
+    @Benchmark
+    public Request buildAndSerialize() {
+        return RequestConverters.search(build());
+    }
+
+    private static Query query(QueryKind queryKind) {
+
+        PageRequest pageable = PageRequest.of(2, 20, Sort.by("price").descending().and(Sort.by("name")));
+        return switch (queryKind) {
+            case CRITERIA -> new CriteriaQuery(Criteria.where("name").is("name-1") //
+                    .and("price").between(10.0, 100.0) //
+                    .and("tags").in("tag-1", "tag-2", "tag-3") //
+                    .and("description").contains("document"), pageable);
+            case STRING -> new StringQuery("""
+                    {"bool":{"must":[{"match":{"description":"document"}}],                    "filter":[{"range":{"price":{"gte":10,"lte":100}}}]}}""", pageable);
+            case NATIVE -> new NativeSearchQueryBuilder() //
+                    .withQuery(QueryBuilders.boolQuery() //
+                            .must(QueryBuilders.matchQuery("description", "document")) //
+                            .filter(QueryBuilders.termsQuery("tags", "tag-1", "tag-2"))) //
+                    .withAggregations(AggregationBuilders.terms("tags").field("tags").size(10)) //
+                    .withSourceFilter(new FetchSourceFilter(true, new String[] { "name", "price" }, null)) //
+                    .withPageable(pageable) //
+                    .build();
+        };
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import jakarta.json.stream.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.NdJsonpSerializable;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.data.client.BenchmarkDocuments;
+import org.opensearch.data.client.DocumentShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+
+/**
+ * Converts entities to a bulk request and serializes it to the NDJSON body the transport sends. The {@code measured}
+ * benchmarks convert each entity to a bulk operation and measure its size first, like the {@code BulkIngester} and the
+ * streaming {@code saveAll} of the reactive template do; the {@code gc.alloc.rate.norm} of the gc profiler shows the
+ * bytes that path allocates per batch next to those of a plain bulk request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkRequestBenchmark {
+
+    @Param({ "FLAT", "NESTED", "LARGE" }) DocumentShape shape;
+    @Param({ "10", "100", "1000" }) int batchSize;
+
+    private final JsonpMapper jsonpMapper = new JacksonJsonpMapper();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private RequestConverter requestConverter;
+    private IndexCoordinates index;
+    private List<IndexQuery> queries;
+
+    @Setup
+    public void setup() {
+
+        ElasticsearchConverter converter = BenchmarkDocuments.converter();
+        requestConverter = new RequestConverter(converter, jsonpMapper);
+        index = BenchmarkDocuments.index(converter, shape);
+        queries = shape.entities(batchSize).stream()
+                .map(entity -> new IndexQueryBuilder().withObject(entity).build()).toList();
+    }
+
+    @Benchmark
+    public BulkRequest build() {
+        return requestConverter.documentBulkRequest(queries, BulkOptions.defaultOptions(), index, null);
+    }
+
+    @Benchmark
+    public int buildAndSerialize() {
+
+        output.reset();
+        writeNdJson(build(), output);
+        return output.size();
+    }
+
+    @Benchmark
+    public BulkRequest buildMeasured(Blackhole blackhole) {
+
+        List<BulkOperation> operations = new ArrayList<>(queries.size());
+        for (IndexQuery query : queries) {
+            BulkOperation operation = requestConverter.documentBulkOperation(query, index, null);
+            blackhole.consume(requestConverter.documentBulkOperationSize(operation));
+            operations.add(operation);
+        }
+        return requestConverter.documentBulkRequestFromOperations(operations, BulkOptions.defaultOptions(), null);
+    }
+
+    @Benchmark
+    public int buildMeasuredAndSerialize(Blackhole blackhole) {
+
+        output.reset();
+        writeNdJson(buildMeasured(blackhole), output);
+        return output.size();
+    }
+
+    /**
+     * Writes the request like the transports of the {@code opensearch-java} client do.
+     */
+    private void writeNdJson(NdJsonpSerializable value, ByteArrayOutputStream output) {
+
+        Iterator<?> values = value._serializables();
+        while (values.hasNext()) {
+            Object item = values.next();
+            if (item instanceof NdJsonpSerializable ndJsonpSerializable && item != value) {
+                writeNdJson(ndJsonpSerializable, output);
+            } else {
+                try (JsonGenerator generator = jsonpMapper.jsonProvider().createGenerator(output)) {
+                    jsonpMapper.serialize(item, generator);
+                }
+                output.write('\n');
+            }
+        }
+    }
+}
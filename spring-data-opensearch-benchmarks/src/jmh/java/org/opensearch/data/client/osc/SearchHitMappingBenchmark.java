@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.data.client.BenchmarkDocuments;
+import org.opensearch.data.client.DocumentShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.elasticsearch.core.SearchHitMapping;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.SearchDocument;
+import org.springframework.data.elasticsearch.core.document.SearchDocumentResponse;
+
+/**
+ * Reads a search response body and maps its hits to entities like the template does, split into parsing the body and
+ * mapping the parsed hits so that a regression can be told apart.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchHitMappingBenchmark {
+
+    private static final JsonpDeserializer<SearchResponse<EntityAsMap>> DESERIALIZER = SearchResponse
+            .createSearchResponseDeserializer(JsonpDeserializer.of(EntityAsMap.class));
+
+    @Param({ "FLAT", "NESTED", "LARGE" }) DocumentShape shape;
+    @Param({ "10", "100", "1000" }) int pageSize;
+
+    private final JsonpMapper jsonpMapper = new JacksonJsonpMapper();
+    private ElasticsearchConverter converter;
+    private byte[] body;
+    private SearchResponse<EntityAsMap> response;
+
+    @Setup
+    public void setup() {
+
+        converter = BenchmarkDocuments.converter();
+        body = BenchmarkDocuments.searchResponse(converter, shape, pageSize).getBytes(StandardCharsets.UTF_8);
+        response = parse();
+    }
+
+    @Benchmark
+    public SearchResponse<EntityAsMap> parse() {
+
+        try (JsonParser parser = jsonpMapper.jsonProvider().createParser(new ByteArrayInputStream(body))) {
+            return DESERIALIZER.deserialize(parser, jsonpMapper);
+        }
+    }
+
+    @Benchmark
+    public SearchHits<?> map() {
+        return map(response, shape.getType());
+    }
+
+    @Benchmark
+    public SearchHits<?> parseAndMap() {
+        return map(parse(), shape.getType());
+    }
+
+    private <T> SearchHits<T> map(SearchResponse<EntityAsMap> response, Class<T> type) {
+
+        SearchDocumentResponse documentResponse = SearchDocumentResponseBuilder.from(response,
+                document -> CompletableFuture.completedFuture(converter.read(type, document)), jsonpMapper);
+
+        List<SearchDocument> documents = documentResponse.getSearchDocuments();
+        List<T> entities = new ArrayList<>(documents.size());
+        for (SearchDocument document : documents) {
+            entities.add(converter.read(type, document));
+        }
+        return SearchHitMapping.mappingFor(type, converter).mapHits(documentResponse, entities);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.data.client.BenchmarkDocuments;
+import org.opensearch.data.client.DocumentShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+/**
+ * Runs searches, gets and saves through {@link OpenSearchTemplate} and the REST client against a local WireMock server
+ * that returns canned responses, so the numbers include the transport and the JSON processing of the client but no
+ * OpenSearch work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateRoundTripBenchmark {
+
+    @Param({ "FLAT", "NESTED", "LARGE" }) DocumentShape shape;
+    @Param({ "10", "100", "1000" }) int pageSize;
+    @Param({ "false", "true" }) boolean directEntityReads;
+
+    private WireMockServer server;
+    private OpenSearchClient client;
+    private OpenSearchTemplate template;
+    private IndexCoordinates index;
+    private Query query;
+    private List<Object> entities;
+
+    @Setup
+    public void setup() {
+
+        ElasticsearchConverter converter = BenchmarkDocuments.converter();
+        index = BenchmarkDocuments.index(converter, shape);
+        query = Query.findAll().setPageable(PageRequest.of(0, pageSize));
+        entities = shape.entities(pageSize);
+
+        server = new WireMockServer(options().dynamicPort().disableRequestJournal());
+        server.start();
+        server.stubFor(post(urlPathEqualTo("/" + index.getIndexName() + "/_search")).willReturn(okJson(
+                BenchmarkDocuments.searchResponse(converter, shape, pageSize))));
+        server.stubFor(post(urlPathMatching("(/" + index.getIndexName() + ")?/_bulk")).willReturn(okJson(
+                BenchmarkDocuments.bulkResponse(converter, shape, pageSize))));
+        server.stubFor(get(urlPathEqualTo("/" + index.getIndexName() + "/_doc/1")).willReturn(okJson(
+                BenchmarkDocuments.getResponse(converter, shape, 1))));
+
+        client = OpenSearchClients.createImperative(ClientConfiguration.create("localhost:" + server.port()));
+        template = new OpenSearchTemplate(client, converter);
+        template.setDirectEntityReads(directEntityReads);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+
+        client._transport().close();
+        server.stop();
+    }
+
+    @Benchmark
+    public SearchHits<?> search() {
+        return template.search(query, shape.getType(), index);
+    }
+
+    @Benchmark
+    public Object getById() {
+        return template.get("1", shape.getType(), index);
+    }
+
+    @Benchmark
+    public Iterable<Object> save() {
+        return template.save(entities, index);
+    }
+}
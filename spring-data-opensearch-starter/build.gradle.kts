@@ -28,6 +28,8 @@ dependencies {
   }
   compileOnly(opensearchLibs.java.client)
   compileOnly(jakarta.json.bind)
+  compileOnly(micrometerLibs.observation)
+  compileOnly(micrometerLibs.core)
   testImplementation(springLibs.test) {
     exclude("ch.qos.logback", "logback-classic")
   }
@@ -39,6 +41,8 @@ dependencies {
     exclude("commons-logging", "commons-logging")
   }
   testImplementation(opensearchLibs.java.client)
+  testImplementation(micrometerLibs.observation)
+  testImplementation(micrometerLibs.core)
 }
 
 description = "Spring Data OpenSearch Spring Boot Starter"
@@ -9,8 +9,12 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.opensearch.client.RestClientBuilder;
+import org.opensearch.data.client.osc.CompressionSettings;
 import org.springframework.boot.autoconfigure.elasticsearch.ElasticsearchProperties.Restclient;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * OpenSearch client configuration properties.
@@ -57,6 +61,12 @@ public class OpenSearchProperties {
 
     private final Restclient restclient = new Restclient();
 
+    private final Pool pool = new Pool();
+
+    private final Compression compression = new Compression();
+
+    private final Reactive reactive = new Reactive();
+
     public List<String> getUris() {
         return this.uris;
     }
@@ -116,4 +126,180 @@ public class OpenSearchProperties {
     public Restclient getRestclient() {
         return this.restclient;
     }
+
+    public Pool getPool() {
+        return this.pool;
+    }
+
+    public Compression getCompression() {
+        return this.compression;
+    }
+
+    public Reactive getReactive() {
+        return this.reactive;
+    }
+
+    public static class Pool {
+        /**
+         * Maximum number of connections per OpenSearch host.
+         */
+        private int maxConnectionsPerRoute = RestClientBuilder.DEFAULT_MAX_CONN_PER_ROUTE;
+
+        /**
+         * Maximum number of connections to all OpenSearch hosts.
+         */
+        private int maxConnectionsTotal = RestClientBuilder.DEFAULT_MAX_CONN_TOTAL;
+
+        /**
+         * Time after which a pooled connection is closed, regardless of its activity.
+         */
+        private Duration timeToLive;
+
+        /**
+         * Inactivity period after which a pooled connection is validated before it is reused.
+         */
+        private Duration validateAfterInactivity;
+
+        /**
+         * Idle time after which a pooled connection is closed by a background task.
+         */
+        private Duration evictIdleConnectionsAfter;
+
+        /**
+         * Number of I/O dispatch threads, defaults to the number of available processors.
+         */
+        private Integer ioThreadCount;
+
+        /**
+         * HTTP protocol version policy, FORCE_HTTP_2 multiplexes the requests over the pooled connections.
+         */
+        private HttpVersionPolicy httpVersionPolicy;
+
+        public int getMaxConnectionsPerRoute() {
+            return this.maxConnectionsPerRoute;
+        }
+
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        public int getMaxConnectionsTotal() {
+            return this.maxConnectionsTotal;
+        }
+
+        public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+            this.maxConnectionsTotal = maxConnectionsTotal;
+        }
+
+        public Duration getTimeToLive() {
+            return this.timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        public Duration getValidateAfterInactivity() {
+            return this.validateAfterInactivity;
+        }
+
+        public void setValidateAfterInactivity(Duration validateAfterInactivity) {
+            this.validateAfterInactivity = validateAfterInactivity;
+        }
+
+        public Duration getEvictIdleConnectionsAfter() {
+            return this.evictIdleConnectionsAfter;
+        }
+
+        public void setEvictIdleConnectionsAfter(Duration evictIdleConnectionsAfter) {
+            this.evictIdleConnectionsAfter = evictIdleConnectionsAfter;
+        }
+
+        public Integer getIoThreadCount() {
+            return this.ioThreadCount;
+        }
+
+        public void setIoThreadCount(Integer ioThreadCount) {
+            this.ioThreadCount = ioThreadCount;
+        }
+
+        public HttpVersionPolicy getHttpVersionPolicy() {
+            return this.httpVersionPolicy;
+        }
+
+        public void setHttpVersionPolicy(HttpVersionPolicy httpVersionPolicy) {
+            this.httpVersionPolicy = httpVersionPolicy;
+        }
+    }
+
+    public static class Compression {
+        /**
+         * Whether to gzip request bodies above the request threshold and to accept gzip compressed responses.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Size from which request bodies are compressed.
+         */
+        private DataSize requestThreshold = DataSize.ofBytes(CompressionSettings.DEFAULT_REQUEST_COMPRESSION_THRESHOLD);
+
+        /**
+         * Whether to ask for gzip compressed responses.
+         */
+        private boolean compressedResponses = true;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public DataSize getRequestThreshold() {
+            return this.requestThreshold;
+        }
+
+        public void setRequestThreshold(DataSize requestThreshold) {
+            this.requestThreshold = requestThreshold;
+        }
+
+        public boolean isCompressedResponses() {
+            return this.compressedResponses;
+        }
+
+        public void setCompressedResponses(boolean compressedResponses) {
+            this.compressedResponses = compressedResponses;
+        }
+    }
+
+    public static class Reactive {
+        /**
+         * Transport the reactive client sends its requests with. The streaming transport uses an HTTP client of its
+         * own, configured with the HTTP client and request config customizations of the REST client. Customizations of
+         * the RestClientBuilder itself, like default headers or a failure listener, are not applied to it.
+         */
+        private Transport transport = Transport.REST_CLIENT;
+
+        public Transport getTransport() {
+            return this.transport;
+        }
+
+        public void setTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        public enum Transport {
+            /**
+             * Send the requests through the REST client.
+             */
+            REST_CLIENT,
+
+            /**
+             * Send the requests with a streaming transport that writes the request bodies from buffers and decodes
+             * the responses on the I/O threads.
+             */
+            STREAMING
+        }
+    }
 }
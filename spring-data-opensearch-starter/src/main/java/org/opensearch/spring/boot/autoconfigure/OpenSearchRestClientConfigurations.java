@@ -15,7 +15,6 @@ import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
-import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
 import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.core5.http.HttpHost;
@@ -25,6 +24,8 @@ import org.opensearch.client.RestClient;
 import org.opensearch.client.RestClientBuilder;
 import org.opensearch.client.sniff.Sniffer;
 import org.opensearch.client.sniff.SnifferBuilder;
+import org.opensearch.data.client.osc.CompressionSettings;
+import org.opensearch.data.client.osc.ConnectionPoolSettings;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -35,6 +36,7 @@ import org.springframework.boot.ssl.SslBundles;
 import org.springframework.boot.ssl.SslOptions;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.util.StringUtils;
 
 /**
@@ -80,7 +82,7 @@ class OpenSearchRestClientConfigurations {
             return builder;
         }
 
-        private static HttpHost createHttpHost(String uri) {
+        static HttpHost createHttpHost(String uri) {
             try {
                 return createHttpHost(URI.create(uri));
             } catch (IllegalArgumentException ex) {
@@ -141,7 +143,7 @@ class OpenSearchRestClientConfigurations {
         }
     }
 
-    static class DefaultRestClientBuilderCustomizer implements RestClientBuilderCustomizer {
+    static class DefaultRestClientBuilderCustomizer implements RestClientBuilderCustomizer, Ordered {
 
         private static final PropertyMapper map = PropertyMapper.get();
 
@@ -160,16 +162,41 @@ class OpenSearchRestClientConfigurations {
         @Override
         public void customize(RestClientBuilder builder) {}
 
+        /**
+         * Runs before the customizers without an order, so they are able to replace the connection manager.
+         */
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+
         @Override
         public void customize(HttpAsyncClientBuilder builder) {
             builder.setDefaultCredentialsProvider(new ConnectionsDetailsCredentialsProvider(this.connectionDetails));
-            map.from(this.properties::isSocketKeepAlive)
-                    .to((keepAlive) -> builder.setIOReactorConfig(
-                            IOReactorConfig.custom().setSoKeepAlive(keepAlive).build()));
+            IOReactorConfig ioReactorConfig = IOReactorConfig.custom().setSoKeepAlive(this.properties.isSocketKeepAlive()).build();
+            builder.setIOReactorConfig(ioReactorConfig);
 
+            OpenSearchProperties.Pool pool = this.properties.getPool();
+            ConnectionPoolSettings poolSettings = connectionPoolSettings(pool);
+            poolSettings.configure(builder, ioReactorConfig);
+
+            // the connection manager of the RestClientBuilder, with its TLS setup, is only replaced when needed
             String sslBundleName = properties.getRestclient().getSsl().getBundle();
-            if (StringUtils.hasText(sslBundleName)) {
-                this.configureSsl(builder, sslBundles.getObject().getBundle(sslBundleName));
+            if (StringUtils.hasText(sslBundleName) || hasConnectionManagerSettings(pool)) {
+                PoolingAsyncClientConnectionManagerBuilder connectionManager = PoolingAsyncClientConnectionManagerBuilder.create();
+                if (StringUtils.hasText(sslBundleName)) {
+                    this.configureSsl(connectionManager, sslBundles.getObject().getBundle(sslBundleName));
+                }
+                builder.setConnectionManager(poolSettings.configure(connectionManager).build());
+            }
+
+            OpenSearchProperties.Compression compression = this.properties.getCompression();
+            if (compression.isEnabled()) {
+                CompressionSettings.builder()
+                        .withRequestCompressionThreshold(Math.toIntExact(compression.getRequestThreshold().toBytes()))
+                        .withCompressedResponses(compression.isCompressedResponses())
+                        .build()
+                        .configure(builder);
             }
         }
 
@@ -187,7 +214,27 @@ class OpenSearchRestClientConfigurations {
                     .to(builder::setConnectionRequestTimeout);
         }
 
-        private void configureSsl(HttpAsyncClientBuilder builder, SslBundle sslBundle) {
+        private static boolean hasConnectionManagerSettings(OpenSearchProperties.Pool pool) {
+            return pool.getMaxConnectionsPerRoute() != RestClientBuilder.DEFAULT_MAX_CONN_PER_ROUTE
+                    || pool.getMaxConnectionsTotal() != RestClientBuilder.DEFAULT_MAX_CONN_TOTAL
+                    || pool.getTimeToLive() != null
+                    || pool.getValidateAfterInactivity() != null
+                    || pool.getHttpVersionPolicy() != null;
+        }
+
+        private static ConnectionPoolSettings connectionPoolSettings(OpenSearchProperties.Pool pool) {
+            ConnectionPoolSettings.Builder settings = ConnectionPoolSettings.builder()
+                    .withMaxConnectionsPerRoute(pool.getMaxConnectionsPerRoute())
+                    .withMaxConnectionsTotal(pool.getMaxConnectionsTotal());
+            map.from(pool::getTimeToLive).whenNonNull().to(settings::withConnectionTimeToLive);
+            map.from(pool::getValidateAfterInactivity).whenNonNull().to(settings::withValidateAfterInactivity);
+            map.from(pool::getEvictIdleConnectionsAfter).whenNonNull().to(settings::withEvictIdleConnectionsAfter);
+            map.from(pool::getIoThreadCount).whenNonNull().to(settings::withIoThreadCount);
+            map.from(pool::getHttpVersionPolicy).whenNonNull().to(settings::withHttpVersionPolicy);
+            return settings.build();
+        }
+
+        private void configureSsl(PoolingAsyncClientConnectionManagerBuilder connectionManager, SslBundle sslBundle) {
             SSLContext sslcontext = sslBundle.createSslContext();
             SslOptions sslOptions = sslBundle.getOptions();
 
@@ -197,12 +244,7 @@ class OpenSearchRestClientConfigurations {
                     .setHostnameVerifier(null)
                     .setTlsVersions(sslOptions.getEnabledProtocols());
 
-            final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder
-                    .create()
-                    .setTlsStrategy(tlsStrategy.build())
-                    .build();
-
-            builder.setConnectionManager(connectionManager);
+            connectionManager.setTlsStrategy(tlsStrategy.build());
         }
     }
 
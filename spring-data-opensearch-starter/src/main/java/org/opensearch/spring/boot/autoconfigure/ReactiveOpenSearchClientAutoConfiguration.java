@@ -5,15 +5,29 @@
 
 package org.opensearch.spring.boot.autoconfigure;
 
+import java.util.List;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.Timeout;
 import org.opensearch.client.RestClient;
+import org.opensearch.client.RestClientBuilder;
+import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.data.client.osc.OpenSearchClients;
 import org.opensearch.data.client.osc.ReactiveOpenSearchClient;
+import org.opensearch.data.client.osc.StreamingOpenSearchTransport;
+import org.opensearch.spring.boot.autoconfigure.OpenSearchRestClientConfigurations.RestClientBuilderConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import reactor.core.publisher.Mono;
 
@@ -28,8 +42,47 @@ public class ReactiveOpenSearchClientAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnBean(OpenSearchTransport.class)
+    @ConditionalOnProperty(prefix = "opensearch.reactive", name = "transport", havingValue = "rest-client",
+            matchIfMissing = true)
     ReactiveOpenSearchClient reactiveOpensearchClient(OpenSearchTransport transport) {
         return new ReactiveOpenSearchClient(transport);
     }
 
+    /**
+     * The reactive client with a {@link StreamingOpenSearchTransport} of its own. The transport is not a default
+     * candidate for injection, so the {@link OpenSearchTransport} of the imperative client stays unique. The
+     * {@link RestClientBuilderCustomizer#customize(RestClientBuilder)} callbacks are not applied, there is no
+     * {@link RestClientBuilder}.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "opensearch.reactive", name = "transport", havingValue = "streaming")
+    static class StreamingTransportConfiguration {
+
+        @Bean(defaultCandidate = false)
+        StreamingOpenSearchTransport reactiveStreamingOpenSearchTransport(OpenSearchConnectionDetails connectionDetails,
+                ObjectProvider<RestClientBuilderCustomizer> builderCustomizers, JsonpMapper jsonpMapper) {
+            HttpAsyncClientBuilder httpClientBuilder = HttpAsyncClientBuilder.create();
+            RequestConfig.Builder requestConfigBuilder = RequestConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(RestClientBuilder.DEFAULT_CONNECT_TIMEOUT_MILLIS))
+                    .setResponseTimeout(Timeout.ofMilliseconds(RestClientBuilder.DEFAULT_RESPONSE_TIMEOUT_MILLIS));
+            builderCustomizers.orderedStream().forEach((customizer) -> {
+                customizer.customize(httpClientBuilder);
+                customizer.customize(requestConfigBuilder);
+            });
+            httpClientBuilder.setDefaultRequestConfig(requestConfigBuilder.build());
+
+            List<HttpHost> hosts = connectionDetails.getUris().stream()
+                    .map(RestClientBuilderConfiguration::createHttpHost)
+                    .toList();
+            return OpenSearchClients.getStreamingOpenSearchTransport(httpClientBuilder.build(), hosts,
+                    connectionDetails.getPathPrefix(), OpenSearchClients.REACTIVE_CLIENT, null, jsonpMapper);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        ReactiveOpenSearchClient reactiveOpensearchClient(
+                @Qualifier("reactiveStreamingOpenSearchTransport") StreamingOpenSearchTransport transport) {
+            return new ReactiveOpenSearchClient(transport);
+        }
+    }
 }
@@ -20,8 +20,10 @@ import org.springframework.context.annotation.Import;
  * Adaptation of the {@link org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration} to
  * the needs of OpenSearch.
  */
-@AutoConfiguration(after = {OpenSearchClientAutoConfiguration.class, OpenSearchRestClientAutoConfiguration.class})
+@AutoConfiguration(after = {OpenSearchClientAutoConfiguration.class, OpenSearchRestClientAutoConfiguration.class},
+        afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 @ConditionalOnClass({OpenSearchRestTemplate.class, OpenSearchTemplate.class})
 @Import({OpenSearchDataConfiguration.BaseConfiguration.class, OpenSearchDataConfiguration.JavaClientConfiguration.class,
-    OpenSearchDataConfiguration.ReactiveRestClientConfiguration.class})
+    OpenSearchDataConfiguration.ReactiveRestClientConfiguration.class,
+    OpenSearchDataConfiguration.MeterObservationConfiguration.class})
 public class OpenSearchDataAutoConfiguration {}
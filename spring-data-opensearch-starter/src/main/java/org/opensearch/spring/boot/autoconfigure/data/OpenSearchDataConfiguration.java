@@ -5,11 +5,15 @@
 
 package org.opensearch.spring.boot.autoconfigure.data;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import java.util.Collections;
 import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.data.client.osc.OpenSearchMeterObservationHandler;
 import org.opensearch.data.client.osc.OpenSearchTemplate;
 import org.opensearch.data.client.osc.ReactiveOpenSearchClient;
 import org.opensearch.data.client.osc.ReactiveOpenSearchTemplate;
+import org.opensearch.data.client.osc.TemplateObservations;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -24,6 +28,7 @@ import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverte
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchCustomConversions;
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.util.ClassUtils;
 
 /**
  * Configuration classes for Spring Data for Opensearch
@@ -74,8 +79,13 @@ abstract class OpenSearchDataConfiguration {
         @Bean
         @ConditionalOnMissingBean(value = ElasticsearchOperations.class, name = { "elasticsearchTemplate", "opensearchTemplate" })
         @ConditionalOnBean(OpenSearchClient.class)
-        OpenSearchTemplate elasticsearchTemplate(OpenSearchClient client, ElasticsearchConverter converter) {
-            return new OpenSearchTemplate(client, converter);
+        OpenSearchTemplate elasticsearchTemplate(OpenSearchClient client, ElasticsearchConverter converter,
+                ApplicationContext applicationContext) {
+            OpenSearchTemplate template = new OpenSearchTemplate(client, converter);
+            if (Observations.isPresent(applicationContext)) {
+                Observations.observe(template, applicationContext);
+            }
+            return template;
         }
     }
 
@@ -87,10 +97,49 @@ abstract class OpenSearchDataConfiguration {
         @ConditionalOnMissingBean(value = ReactiveElasticsearchOperations.class, name = { "reactiveElasticsearchTemplate", "reactiveOpensearchTemplate" })
         @ConditionalOnBean(ReactiveOpenSearchClient.class)
         ReactiveOpenSearchTemplate reactiveElasticsearchTemplate(ReactiveOpenSearchClient client,
-                ElasticsearchConverter converter) {
-            return new ReactiveOpenSearchTemplate(client, converter);
+                ElasticsearchConverter converter, ApplicationContext applicationContext) {
+            ReactiveOpenSearchTemplate template = new ReactiveOpenSearchTemplate(client, converter);
+            if (Observations.isPresent(applicationContext)) {
+                Observations.observe(template, applicationContext);
+            }
+            return template;
         }
 
     }
 
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({ ObservationRegistry.class, MeterRegistry.class })
+    static class MeterObservationConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnBean(MeterRegistry.class)
+        OpenSearchMeterObservationHandler openSearchMeterObservationHandler(MeterRegistry meterRegistry) {
+            return new OpenSearchMeterObservationHandler(meterRegistry);
+        }
+    }
+
+    /**
+     * Applies the {@link ObservationRegistry}, if there is one, to the templates. Only used when Micrometer Observation,
+     * an optional dependency of Spring Data OpenSearch, is on the classpath.
+     */
+    private static final class Observations {
+
+        private static final String OBSERVATION_REGISTRY = "io.micrometer.observation.ObservationRegistry";
+
+        static boolean isPresent(ApplicationContext applicationContext) {
+            return ClassUtils.isPresent(OBSERVATION_REGISTRY, applicationContext.getClassLoader());
+        }
+
+        static void observe(OpenSearchTemplate template, ApplicationContext applicationContext) {
+            applicationContext.getBeanProvider(ObservationRegistry.class)
+                    .ifAvailable(observationRegistry -> TemplateObservations.observe(template, observationRegistry));
+        }
+
+        static void observe(ReactiveOpenSearchTemplate template, ApplicationContext applicationContext) {
+            applicationContext.getBeanProvider(ObservationRegistry.class)
+                    .ifAvailable(observationRegistry -> TemplateObservations.observe(template, observationRegistry));
+        }
+    }
+
 }
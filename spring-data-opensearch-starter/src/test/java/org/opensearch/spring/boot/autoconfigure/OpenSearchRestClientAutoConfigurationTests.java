@@ -10,16 +10,21 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 
 import java.time.Duration;
+import javax.net.ssl.SSLContext;
+import org.apache.hc.client5.http.HttpRoute;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.Credentials;
 import org.apache.hc.client5.http.auth.CredentialsProvider;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.function.Resolver;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.config.Lookup;
 import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
@@ -122,6 +127,89 @@ class OpenSearchRestClientAutoConfigurationTests {
                 });
     }
 
+    @Test
+    void configureWithDefaultConnectionPool() {
+        this.contextRunner.run((context) -> {
+            RestClient restClient = context.getBean(RestClient.class);
+            assertThat(restClient)
+                    .extracting("client.manager.pool.maxTotal")
+                    .isEqualTo(RestClientBuilder.DEFAULT_MAX_CONN_TOTAL);
+            assertThat(restClient)
+                    .extracting("client.manager.pool.defaultMaxPerRoute")
+                    .isEqualTo(RestClientBuilder.DEFAULT_MAX_CONN_PER_ROUTE);
+        });
+    }
+
+    @Test
+    void configureWithCustomConnectionPool() {
+        this.contextRunner
+                .withPropertyValues(
+                        "opensearch.pool.max-connections-per-route=50",
+                        "opensearch.pool.max-connections-total=200",
+                        "opensearch.pool.time-to-live=5m",
+                        "opensearch.pool.validate-after-inactivity=2s",
+                        "opensearch.pool.io-thread-count=3")
+                .run((context) -> {
+                    RestClient restClient = context.getBean(RestClient.class);
+                    assertThat(restClient)
+                            .extracting("client.manager.pool.maxTotal")
+                            .isEqualTo(200);
+                    assertThat(restClient)
+                            .extracting("client.manager.pool.defaultMaxPerRoute")
+                            .isEqualTo(50);
+                    assertThat(restClient)
+                            .extracting("client.manager.connectionConfigResolver")
+                            .extracting((resolver) -> ((Resolver<HttpRoute, ConnectionConfig>) resolver).resolve(null))
+                            .satisfies((config) -> {
+                                assertThat(config.getTimeToLive()).isEqualTo(TimeValue.ofMinutes(5));
+                                assertThat(config.getValidateAfterInactivity()).isEqualTo(TimeValue.ofSeconds(2));
+                            });
+                    assertThat(restClient)
+                            .extracting("client.ioReactor.workerCount")
+                            .isEqualTo(3);
+                });
+    }
+
+    @Test
+    void configureWithDefaultConnectionPoolKeepsDefaultTlsSetup() {
+        this.contextRunner.run((context) -> {
+            RestClient restClient = context.getBean(RestClient.class);
+            assertThat(restClient)
+                    .extracting("client.manager.connectionOperator.tlsStrategyLookup")
+                    .extracting((lookup) -> ((Lookup<TlsStrategy>) lookup).lookup("https"))
+                    .extracting("sslContext")
+                    .isSameAs(SSLContext.getDefault());
+        });
+    }
+
+    @Test
+    void configureWithCompression() {
+        this.contextRunner
+                .withPropertyValues("opensearch.compression.enabled=true", "opensearch.compression.request-threshold=2KB")
+                .run((context) -> {
+                    OpenSearchProperties.Compression compression =
+                            context.getBean(OpenSearchProperties.class).getCompression();
+                    assertThat(compression.getRequestThreshold().toBytes()).isEqualTo(2048);
+                    assertThat(compression.isCompressedResponses()).isTrue();
+                    RestClient restClient = context.getBean(RestClient.class);
+                    assertThat(restClient)
+                            .extracting("client.execChain.handler")
+                            .extracting((handler) -> handler.getClass().getSimpleName())
+                            .isEqualTo("RequestCompressionHandler");
+                });
+    }
+
+    @Test
+    void configureWithoutCompressionByDefault() {
+        this.contextRunner.run((context) -> {
+            RestClient restClient = context.getBean(RestClient.class);
+            assertThat(restClient)
+                    .extracting("client.execChain.handler")
+                    .extracting((handler) -> handler.getClass().getSimpleName())
+                    .isNotEqualTo("RequestCompressionHandler");
+        });
+    }
+
     @Test
     void configureUriWithNoScheme() {
         this.contextRunner.withPropertyValues("opensearch.uris=localhost:9876").run((context) -> {
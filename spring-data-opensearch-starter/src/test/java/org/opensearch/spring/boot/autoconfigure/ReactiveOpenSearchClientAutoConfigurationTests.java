@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.rest_client.RestClientTransport;
+import org.opensearch.data.client.osc.ReactiveOpenSearchClient;
+import org.opensearch.data.client.osc.StreamingOpenSearchTransport;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link ReactiveOpenSearchClientAutoConfiguration}.
+ */
+class ReactiveOpenSearchClientAutoConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(OpenSearchRestClientAutoConfiguration.class,
+                    OpenSearchClientAutoConfiguration.class, ReactiveOpenSearchClientAutoConfiguration.class));
+
+    @Test
+    void configureShouldCreateReactiveClientWithSharedTransport() {
+        this.contextRunner.run((context) -> {
+            assertThat(context).hasSingleBean(OpenSearchTransport.class).hasSingleBean(ReactiveOpenSearchClient.class);
+            assertThat(context.getBean(ReactiveOpenSearchClient.class)._transport())
+                    .isSameAs(context.getBean(OpenSearchTransport.class))
+                    .isInstanceOf(RestClientTransport.class);
+        });
+    }
+
+    @Test
+    void configureWithStreamingTransportShouldCreateReactiveClientWithItsOwnTransport() {
+        this.contextRunner.withPropertyValues("opensearch.reactive.transport=streaming").run((context) -> {
+            assertThat(context).hasSingleBean(ReactiveOpenSearchClient.class).hasSingleBean(OpenSearchClient.class);
+            assertThat(context.getBean(ReactiveOpenSearchClient.class)._transport())
+                    .isInstanceOf(StreamingOpenSearchTransport.class);
+            assertThat(context.getBean(OpenSearchClient.class)._transport()).isInstanceOf(RestClientTransport.class);
+        });
+    }
+}
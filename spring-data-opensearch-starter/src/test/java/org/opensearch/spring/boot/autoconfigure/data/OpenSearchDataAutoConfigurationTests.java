@@ -7,12 +7,22 @@ package org.opensearch.spring.boot.autoconfigure.data;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import java.math.BigDecimal;
 import java.util.Collections;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.data.client.orhlc.OpenSearchRestTemplate;
+import org.opensearch.data.client.osc.OpenSearchMeterObservationHandler;
+import org.opensearch.data.client.osc.OpenSearchTemplate;
+import org.opensearch.data.client.osc.TemplateObservations;
 import org.opensearch.spring.boot.autoconfigure.OpenSearchRestClientAutoConfiguration;
 import org.opensearch.spring.boot.autoconfigure.OpenSearchRestHighLevelClientAutoConfiguration;
 import org.opensearch.spring.boot.autoconfigure.data.entity.Product;
@@ -84,6 +94,37 @@ class OpenSearchDataAutoConfigurationTests {
                 .contains("opensearchTemplate"));
     }
 
+    @Test
+    void templateShouldObserveRequestsWhenObservationRegistryIsPresent() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(OpenSearchDataAutoConfiguration.class))
+                .withUserConfiguration(JavaClientConfiguration.class)
+                .run((context) -> assertThat(
+                        TemplateObservations.getObservationRegistry(context.getBean(OpenSearchTemplate.class)))
+                        .isSameAs(context.getBean(ObservationRegistry.class)));
+    }
+
+    @Test
+    void templateShouldNotObserveRequestsWithoutMicrometerObservation() {
+        new ApplicationContextRunner()
+                .withClassLoader(new FilteredClassLoader(ObservationRegistry.class))
+                .withConfiguration(AutoConfigurations.of(OpenSearchDataAutoConfiguration.class))
+                .withUserConfiguration(JavaClientConfiguration.class)
+                .run((context) -> {
+                    assertThat(context).doesNotHaveBean(OpenSearchMeterObservationHandler.class);
+                    assertThat(TemplateObservations.getObservationRegistry(context.getBean(OpenSearchTemplate.class)))
+                            .isNull();
+                });
+    }
+
+    @Test
+    void meterObservationHandlerShouldBeRegisteredWhenMeterRegistryIsPresent() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(OpenSearchDataAutoConfiguration.class))
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .run((context) -> assertThat(context).hasSingleBean(OpenSearchMeterObservationHandler.class));
+    }
+
     @Test
     void shouldFilterInitialEntityScanWithDocumentAnnotation() {
         this.contextRunner.withUserConfiguration(EntityScanConfig.class).run((context) -> {
@@ -92,6 +133,22 @@ class OpenSearchDataAutoConfigurationTests {
         });
     }
 
+    @Configuration(proxyBeanMethods = false)
+    static class JavaClientConfiguration {
+
+        @Bean
+        OpenSearchClient opensearchClient() {
+            OpenSearchTransport transport = mock(OpenSearchTransport.class);
+            when(transport.jsonpMapper()).thenReturn(new JacksonJsonpMapper());
+            return new OpenSearchClient(transport);
+        }
+
+        @Bean
+        ObservationRegistry observationRegistry() {
+            return ObservationRegistry.create();
+        }
+    }
+
     @Configuration(proxyBeanMethods = false)
     static class CustomOpenSearchCustomConversions {
 
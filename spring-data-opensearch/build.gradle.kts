@@ -30,16 +30,19 @@ dependencies {
   api(opensearchLibs.high.level.client) {
     exclude("commons-logging", "commons-logging")
   }
-  
   implementation(jacksonLibs.core)
   implementation(jacksonLibs.databind)
   implementation(springLibs.context)
   implementation(springLibs.tx)
   compileOnly(springLibs.web)
   compileOnly(opensearchLibs.java.client)
+  compileOnly(micrometerLibs.observation)
+  compileOnly(micrometerLibs.core)
 
   testImplementation(springLibs.projectreactor)
   testImplementation(opensearchLibs.java.client)
+  testImplementation(micrometerLibs.observation)
+  testImplementation(micrometerLibs.core)
   testImplementation("jakarta.enterprise:jakarta.enterprise.cdi-api:3.0.0")
   testImplementation("org.slf4j:log4j-over-slf4j:2.0.17")
   testImplementation("org.apache.logging.log4j:log4j-core:2.25.0")
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import org.opensearch.client.opensearch.core.search.TotalHits;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The number of documents matching a query, counted up to a threshold. If more documents than the threshold match,
+ * the count is a lower bound with the relation {@link TotalHitsRelation#GREATER_THAN_OR_EQUAL_TO}.
+ *
+ * @param value the number of matching documents, or the lower bound of it
+ * @param relation whether the value is exact or a lower bound
+ * @see OpenSearchTemplate#countApproximately(org.springframework.data.elasticsearch.core.query.Query, Class, int)
+ * @see ReactiveOpenSearchTemplate#countApproximately(org.springframework.data.elasticsearch.core.query.Query, Class,
+ *      int)
+ */
+public record ApproximateCount(long value, TotalHitsRelation relation) {
+
+    public ApproximateCount {
+        Assert.notNull(relation, "relation must not be null");
+    }
+
+    /**
+     * @return {@literal true} if the value is the exact number of matching documents
+     */
+    public boolean isExact() {
+        return relation == TotalHitsRelation.EQUAL_TO;
+    }
+
+    static ApproximateCount of(@Nullable TotalHits totalHits) {
+
+        if (totalHits == null) {
+            return new ApproximateCount(0, TotalHitsRelation.OFF);
+        }
+
+        return new ApproximateCount(totalHits.value(), switch (totalHits.relation()) {
+            case Eq -> TotalHitsRelation.EQUAL_TO;
+            case Gte -> TotalHitsRelation.GREATER_THAN_OR_EQUAL_TO;
+        });
+    }
+}
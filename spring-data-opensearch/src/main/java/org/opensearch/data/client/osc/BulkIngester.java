@@ -0,0 +1,353 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A long-lived bulk ingester that collects {@link org.springframework.data.elasticsearch.core.query.IndexQuery} and
+ * {@link org.springframework.data.elasticsearch.core.query.UpdateQuery} objects into bulk requests and sends them in the
+ * background. When to send a request and how many requests may be executed concurrently is controlled by the
+ * {@link BulkIngesterOptions}; the outcome of every single operation is reported to a {@link Listener}.
+ * <p>
+ * Instances are thread safe and must be {@link #close() closed} to send the pending operations and release the
+ * background threads.
+ *
+ * @see OpenSearchTemplate#bulkIngester(IndexCoordinates, BulkIngesterOptions, Listener)
+ */
+public class BulkIngester implements AutoCloseable {
+
+    private static final Log LOGGER = LogFactory.getLog(BulkIngester.class);
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final RequestConverter requestConverter;
+    private final Function<BulkRequest, BulkResponse> bulkExecutor;
+    private final IndexCoordinates index;
+    @Nullable private final RefreshPolicy refreshPolicy;
+    private final BulkIngesterOptions options;
+    private final Listener listener;
+
+    private final Object lock = new Object();
+    private final BulkRequestAccumulator accumulator;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    @Nullable private final ScheduledExecutorService scheduler;
+
+    private List<Object> pendingQueries = new ArrayList<>();
+    private List<BulkOperation> pendingOperations = new ArrayList<>();
+    private int unsubmittedBatches;
+    private volatile boolean closed;
+
+    BulkIngester(RequestConverter requestConverter, Function<BulkRequest, BulkResponse> bulkExecutor,
+            IndexCoordinates index, @Nullable RefreshPolicy refreshPolicy, BulkIngesterOptions options,
+            Listener listener) {
+
+        Assert.notNull(requestConverter, "requestConverter must not be null");
+        Assert.notNull(bulkExecutor, "bulkExecutor must not be null");
+        Assert.notNull(index, "index must not be null");
+        Assert.notNull(options, "options must not be null");
+        Assert.notNull(listener, "listener must not be null");
+
+        this.requestConverter = requestConverter;
+        this.bulkExecutor = bulkExecutor;
+        this.index = index;
+        this.refreshPolicy = refreshPolicy;
+        this.options = options;
+        this.listener = listener;
+
+        this.accumulator = new BulkRequestAccumulator(options.getMaxActions(), options.getMaxBytes());
+        this.permits = new Semaphore(options.getMaxConcurrentRequests() + options.getMaxQueuedRequests());
+
+        String threadPrefix = "opensearch-bulk-ingester-" + INSTANCES.incrementAndGet();
+        this.executor = Executors.newFixedThreadPool(options.getMaxConcurrentRequests(), threadFactory(threadPrefix));
+
+        Duration flushInterval = options.getFlushInterval();
+        if (flushInterval != null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory(threadPrefix + "-flush"));
+            long millis = flushInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::flush, millis, millis, TimeUnit.MILLISECONDS);
+        } else {
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Adds an {@link org.springframework.data.elasticsearch.core.query.IndexQuery} or
+     * {@link org.springframework.data.elasticsearch.core.query.UpdateQuery} to the ingester. If this completes a bulk
+     * request, the request is sent; when the maximum number of concurrent and queued requests is reached, this method
+     * blocks until a running request has finished.
+     *
+     * @param query the query to add, must not be {@literal null}
+     * @throws IllegalStateException if the ingester is closed
+     */
+    public void add(Object query) {
+
+        Assert.notNull(query, "query must not be null");
+        Assert.state(!closed, "BulkIngester is closed");
+
+        BulkOperation operation = requestConverter.documentBulkOperation(query, index, refreshPolicy);
+        long size = requestConverter.documentBulkOperationSize(operation);
+
+        Batch batch = null;
+        synchronized (lock) {
+            // checked again under the lock, so no operation is added after the final flush of close()
+            Assert.state(!closed, "BulkIngester is closed");
+
+            pendingQueries.add(query);
+            pendingOperations.add(operation);
+
+            if (accumulator.add(size)) {
+                batch = takeBatch();
+            }
+        }
+
+        if (batch != null) {
+            submit(batch);
+        }
+    }
+
+    /**
+     * Sends the pending operations, if any, regardless of the flush triggers.
+     */
+    public void flush() {
+
+        Batch batch = null;
+        synchronized (lock) {
+            if (!accumulator.isEmpty()) {
+                batch = takeBatch();
+            }
+        }
+
+        if (batch != null) {
+            submit(batch);
+        }
+    }
+
+    /**
+     * Sends the pending operations, waits for all running requests to finish and releases the background threads.
+     */
+    @Override
+    public void close() {
+
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+
+        if (scheduler != null) {
+            // a running timed flush may wait for a permit; it is not interrupted, but allowed to submit its batch
+            scheduler.shutdown();
+            awaitTermination(scheduler);
+        }
+
+        flush();
+        awaitSubmittedBatches();
+
+        int allPermits = options.getMaxConcurrentRequests() + options.getMaxQueuedRequests();
+        permits.acquireUninterruptibly(allPermits);
+        permits.release(allPermits);
+        executor.shutdown();
+    }
+
+    /**
+     * Waits until the batches that were taken by a concurrent {@link #add(Object)} or {@link #flush()} are submitted to
+     * the executor.
+     */
+    private void awaitSubmittedBatches() {
+
+        boolean interrupted = false;
+        synchronized (lock) {
+            while (unsubmittedBatches > 0) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executorService) {
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Batch takeBatch() {
+
+        Batch batch = new Batch(pendingQueries, pendingOperations);
+        pendingQueries = new ArrayList<>();
+        pendingOperations = new ArrayList<>();
+        accumulator.reset();
+        unsubmittedBatches++;
+        return batch;
+    }
+
+    private void submit(Batch batch) {
+
+        try {
+            doSubmit(batch);
+        } finally {
+            synchronized (lock) {
+                if (--unsubmittedBatches == 0) {
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void doSubmit(Batch batch) {
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batch.failAll(listener, e);
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    execute(batch);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            batch.failAll(listener, e);
+        }
+    }
+
+    private void execute(Batch batch) {
+
+        BulkResponse response;
+        try {
+            BulkRequest request = requestConverter.documentBulkRequestFromOperations(batch.operations(),
+                    options.getBulkOptions(), refreshPolicy);
+            response = bulkExecutor.apply(request);
+        } catch (RuntimeException e) {
+            batch.failAll(listener, e);
+            return;
+        }
+
+        List<BulkResponseItem> items = response.items();
+        for (int i = 0; i < items.size(); i++) {
+            BulkResponseItem item = items.get(i);
+            Object query = batch.queries().get(i);
+
+            try {
+                if (item.error() != null) {
+                    BulkFailureException.FailureDetails details = new BulkFailureException.FailureDetails(item.status(),
+                            item.error().reason());
+                    listener.onItemFailure(query, new BulkFailureException(
+                            "Bulk operation failed for document [" + item.id() + "]: " + details.errorMessage(),
+                            Collections.singletonMap(item.id(), details)));
+                } else {
+                    listener.onItemSuccess(query, new IndexedObjectInformation(item.id(), item.index(), item.seqNo(),
+                            item.primaryTerm(), item.version()));
+                }
+            } catch (RuntimeException e) {
+                LOGGER.warn("BulkIngester listener threw an exception", e);
+            }
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + '-' + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Batch(List<Object> queries, List<BulkOperation> operations) {
+
+        void failAll(Listener listener, Exception failure) {
+
+            for (Object query : queries) {
+                try {
+                    listener.onItemFailure(query, failure);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("BulkIngester listener threw an exception", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Callback that receives the outcome of every operation added to a {@link BulkIngester}. Methods are invoked from
+     * the ingester's background threads.
+     */
+    public interface Listener {
+
+        Listener NOOP = new Listener() {};
+
+        /**
+         * Called when the operation for a query has been executed successfully.
+         *
+         * @param query the query that was added to the ingester
+         * @param information the information about the indexed document
+         */
+        default void onItemSuccess(Object query, IndexedObjectInformation information) {}
+
+        /**
+         * Called when the operation for a query has failed, either because the item was rejected or because the whole
+         * bulk request could not be executed.
+         *
+         * @param query the query that was added to the ingester
+         * @param failure the cause, a {@link BulkFailureException} if the item was rejected
+         */
+        default void onItemFailure(Object query, Exception failure) {}
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.time.Duration;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Options for a {@link BulkIngester}. A bulk request is sent as soon as it contains {@link #getMaxActions()}
+ * operations, its estimated body size reaches {@link #getMaxBytes()} or the {@link #getFlushInterval()} has elapsed,
+ * whichever comes first. At most {@link #getMaxConcurrentRequests()} bulk requests are executed at the same time and
+ * at most {@link #getMaxQueuedRequests()} further requests wait for execution; once that limit is reached, adding
+ * operations blocks the caller.
+ *
+ * @see OpenSearchTemplate#bulkIngester(org.springframework.data.elasticsearch.core.mapping.IndexCoordinates,
+ *      BulkIngesterOptions, BulkIngester.Listener)
+ */
+public class BulkIngesterOptions {
+
+    public static final int DEFAULT_MAX_ACTIONS = 1_000;
+    public static final long DEFAULT_MAX_BYTES = 5L * 1024 * 1024;
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 1;
+    public static final int DEFAULT_MAX_QUEUED_REQUESTS = 0;
+
+    private static final BulkIngesterOptions DEFAULT = builder().build();
+
+    private final int maxActions;
+    private final long maxBytes;
+    @Nullable private final Duration flushInterval;
+    private final int maxConcurrentRequests;
+    private final int maxQueuedRequests;
+    private final BulkOptions bulkOptions;
+
+    private BulkIngesterOptions(Builder builder) {
+        this.maxActions = builder.maxActions;
+        this.maxBytes = builder.maxBytes;
+        this.flushInterval = builder.flushInterval;
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.maxQueuedRequests = builder.maxQueuedRequests;
+        this.bulkOptions = builder.bulkOptions;
+    }
+
+    public static BulkIngesterOptions defaultOptions() {
+        return DEFAULT;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of operations in a single bulk request
+     */
+    public int getMaxActions() {
+        return maxActions;
+    }
+
+    /**
+     * @return the estimated maximum size in bytes of a single bulk request body
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return the interval after which pending operations are sent regardless of count and size, {@literal null} if
+     *         pending operations are only sent when a request is full or on an explicit flush
+     */
+    @Nullable
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * @return the maximum number of bulk requests that are executed concurrently
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * @return the maximum number of bulk requests that are waiting for execution
+     */
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    /**
+     * @return the options applied to every bulk request
+     */
+    public BulkOptions getBulkOptions() {
+        return bulkOptions;
+    }
+
+    public static class Builder {
+
+        private int maxActions = DEFAULT_MAX_ACTIONS;
+        private long maxBytes = DEFAULT_MAX_BYTES;
+        @Nullable private Duration flushInterval;
+        private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+        private int maxQueuedRequests = DEFAULT_MAX_QUEUED_REQUESTS;
+        private BulkOptions bulkOptions = BulkOptions.defaultOptions();
+
+        private Builder() {}
+
+        public Builder withMaxActions(int maxActions) {
+
+            Assert.isTrue(maxActions > 0, "maxActions must be greater than 0");
+
+            this.maxActions = maxActions;
+            return this;
+        }
+
+        public Builder withMaxBytes(long maxBytes) {
+
+            Assert.isTrue(maxBytes > 0, "maxBytes must be greater than 0");
+
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        public Builder withFlushInterval(@Nullable Duration flushInterval) {
+
+            Assert.isTrue(flushInterval == null || (!flushInterval.isNegative() && !flushInterval.isZero()),
+                    "flushInterval must be positive");
+
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        public Builder withMaxConcurrentRequests(int maxConcurrentRequests) {
+
+            Assert.isTrue(maxConcurrentRequests > 0, "maxConcurrentRequests must be greater than 0");
+
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        public Builder withMaxQueuedRequests(int maxQueuedRequests) {
+
+            Assert.isTrue(maxQueuedRequests >= 0, "maxQueuedRequests must not be negative");
+
+            this.maxQueuedRequests = maxQueuedRequests;
+            return this;
+        }
+
+        public Builder withBulkOptions(BulkOptions bulkOptions) {
+
+            Assert.notNull(bulkOptions, "bulkOptions must not be null");
+
+            this.bulkOptions = bulkOptions;
+            return this;
+        }
+
+        public BulkIngesterOptions build() {
+            return new BulkIngesterOptions(this);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import org.springframework.util.Assert;
+
+/**
+ * Keeps track of the number of operations and the estimated body size of a bulk request that is being assembled and
+ * decides when the request is full. Not thread safe.
+ */
+final class BulkRequestAccumulator {
+
+    private final int maxActions;
+    private final long maxBytes;
+
+    private int actions;
+    private long bytes;
+
+    BulkRequestAccumulator(int maxActions, long maxBytes) {
+
+        Assert.isTrue(maxActions > 0, "maxActions must be greater than 0");
+        Assert.isTrue(maxBytes > 0, "maxBytes must be greater than 0");
+
+        this.maxActions = maxActions;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Registers an operation with the given size.
+     *
+     * @param size the size of the operation in bytes
+     * @return {@literal true} if the request is full after adding the operation
+     */
+    boolean add(long size) {
+        actions++;
+        bytes += size;
+        return isFull();
+    }
+
+    /**
+     * Registers an operation with the given size and resets the accumulator if the request is full afterwards. Suitable
+     * as a predicate for {@link reactor.core.publisher.Flux#bufferUntil(java.util.function.Predicate)}.
+     *
+     * @param size the size of the operation in bytes
+     * @return {@literal true} if the request was full and the accumulator has been reset
+     */
+    boolean addAndResetIfFull(long size) {
+
+        if (add(size)) {
+            reset();
+            return true;
+        }
+        return false;
+    }
+
+    boolean isFull() {
+        return actions >= maxActions || bytes >= maxBytes;
+    }
+
+    boolean isEmpty() {
+        return actions == 0;
+    }
+
+    int getActions() {
+        return actions;
+    }
+
+    long getBytes() {
+        return bytes;
+    }
+
+    void reset() {
+        actions = 0;
+        bytes = 0;
+    }
+}
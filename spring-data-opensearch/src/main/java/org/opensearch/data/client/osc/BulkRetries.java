@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+
+/**
+ * Helper functions shared by the imperative and the reactive template to resend the rejected items of a bulk request
+ * and to merge the results of the retry back into the original response, keeping the order of the original items.
+ */
+final class BulkRetries {
+
+    private BulkRetries() {}
+
+    /**
+     * @return the positions of the items in the response that failed with a retryable status
+     */
+    static List<Integer> retryablePositions(BulkResponse response, BulkRetryPolicy policy) {
+
+        if (!response.errors()) {
+            return List.of();
+        }
+
+        List<Integer> positions = new ArrayList<>();
+        List<BulkResponseItem> items = response.items();
+        for (int i = 0; i < items.size(); i++) {
+            if (policy.isRetryable(items.get(i))) {
+                positions.add(i);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * @return the operations at the given positions
+     */
+    static List<BulkOperation> select(List<BulkOperation> operations, List<Integer> positions) {
+
+        List<BulkOperation> selected = new ArrayList<>(positions.size());
+        for (Integer position : positions) {
+            selected.add(operations.get(position));
+        }
+        return selected;
+    }
+
+    /**
+     * Replaces the items at the given positions of the previous response with the items of the retry response.
+     *
+     * @param previous the response containing all items
+     * @param positions the positions of the items that were resent
+     * @param retried the response of the retry request, its items are in the order of {@code positions}
+     * @return a response with the merged items
+     */
+    static BulkResponse merge(BulkResponse previous, List<Integer> positions, BulkResponse retried) {
+
+        List<BulkResponseItem> items = new ArrayList<>(previous.items());
+        List<BulkResponseItem> retriedItems = retried.items();
+        for (int i = 0; i < positions.size(); i++) {
+            items.set(positions.get(i), retriedItems.get(i));
+        }
+
+        boolean errors = items.stream().anyMatch(item -> item.error() != null);
+        return BulkResponse.of(b -> b //
+                .errors(errors) //
+                .took(previous.took() + retried.took()) //
+                .ingestTook(previous.ingestTook()) //
+                .items(items));
+    }
+}
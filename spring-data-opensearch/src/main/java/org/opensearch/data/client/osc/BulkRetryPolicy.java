@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.time.Duration;
+import java.util.Set;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.springframework.util.Assert;
+
+/**
+ * Policy for resending the items of a bulk request that were rejected with a transient error, for example a
+ * {@code 429 es_rejected_execution_exception}. Only the rejected items are sent again; the delay between two attempts
+ * grows exponentially from {@link #getInitialBackoff()} up to {@link #getMaxBackoff()}. Items that still fail after
+ * {@link #getMaxRetries()} attempts, or that fail with a status that is not retryable, are reported as permanent
+ * failures.
+ */
+public class BulkRetryPolicy {
+
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(5);
+    public static final double DEFAULT_MULTIPLIER = 2.0;
+    public static final Set<Integer> DEFAULT_RETRYABLE_STATUSES = Set.of(429);
+
+    private static final BulkRetryPolicy DEFAULT = builder().build();
+
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double multiplier;
+    private final Set<Integer> retryableStatuses;
+
+    private BulkRetryPolicy(Builder builder) {
+        this.maxRetries = builder.maxRetries;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.multiplier = builder.multiplier;
+        this.retryableStatuses = builder.retryableStatuses;
+    }
+
+    public static BulkRetryPolicy defaultPolicy() {
+        return DEFAULT;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of times rejected items are resent
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @return the delay before the first retry
+     */
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    /**
+     * @return the upper bound of the delay between two retries
+     */
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * @return the factor the delay is multiplied with after each retry
+     */
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * @return the item status codes that are considered transient
+     */
+    public Set<Integer> getRetryableStatuses() {
+        return retryableStatuses;
+    }
+
+    /**
+     * @param attempt the number of the retry, starting at 1
+     * @return the delay to wait before the given retry
+     */
+    public Duration getBackoff(int attempt) {
+
+        Assert.isTrue(attempt > 0, "attempt must be greater than 0");
+
+        double millis = initialBackoff.toMillis() * Math.pow(multiplier, attempt - 1);
+        return millis >= maxBackoff.toMillis() ? maxBackoff : Duration.ofMillis((long) millis);
+    }
+
+    /**
+     * @param item a bulk response item
+     * @return {@literal true} if the item failed with a retryable status
+     */
+    public boolean isRetryable(BulkResponseItem item) {
+        return item.error() != null && retryableStatuses.contains(item.status());
+    }
+
+    public static class Builder {
+
+        private int maxRetries = DEFAULT_MAX_RETRIES;
+        private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+        private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+        private double multiplier = DEFAULT_MULTIPLIER;
+        private Set<Integer> retryableStatuses = DEFAULT_RETRYABLE_STATUSES;
+
+        private Builder() {}
+
+        public Builder withMaxRetries(int maxRetries) {
+
+            Assert.isTrue(maxRetries >= 0, "maxRetries must not be negative");
+
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder withInitialBackoff(Duration initialBackoff) {
+
+            Assert.notNull(initialBackoff, "initialBackoff must not be null");
+            Assert.isTrue(!initialBackoff.isNegative(), "initialBackoff must not be negative");
+
+            this.initialBackoff = initialBackoff;
+            return this;
+        }
+
+        public Builder withMaxBackoff(Duration maxBackoff) {
+
+            Assert.notNull(maxBackoff, "maxBackoff must not be null");
+            Assert.isTrue(!maxBackoff.isNegative(), "maxBackoff must not be negative");
+
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        public Builder withMultiplier(double multiplier) {
+
+            Assert.isTrue(multiplier >= 1.0, "multiplier must be at least 1");
+
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        public Builder withRetryableStatuses(Set<Integer> retryableStatuses) {
+
+            Assert.notNull(retryableStatuses, "retryableStatuses must not be null");
+
+            this.retryableStatuses = Set.copyOf(retryableStatuses);
+            return this;
+        }
+
+        public BulkRetryPolicy build() {
+            return new BulkRetryPolicy(this);
+        }
+    }
+}
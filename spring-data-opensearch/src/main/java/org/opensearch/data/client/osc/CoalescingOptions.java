@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.time.Duration;
+import org.springframework.util.Assert;
+
+/**
+ * Options for coalescing concurrent requests into one batch request. A batch is opened by the first request and
+ * collects the requests arriving within the {@link #getWindow() window}; it is sent when the window has passed or when
+ * it holds {@link #getMaxBatchSize() max batch size} distinct requests, whatever comes first. Identical requests in the
+ * same batch are sent only once.
+ * <p>
+ * Coalescing trades the latency of the window for fewer round trips, it pays off when many requests are issued
+ * concurrently.
+ *
+ * @see OpenSearchTemplate#setGetCoalescingOptions(CoalescingOptions)
+ * @see ReactiveOpenSearchTemplate#setGetCoalescingOptions(CoalescingOptions)
+ * @see OpenSearchTemplate#setSearchCoalescingOptions(CoalescingOptions)
+ * @see ReactiveOpenSearchTemplate#setSearchCoalescingOptions(CoalescingOptions)
+ */
+public class CoalescingOptions {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+
+    private final int maxBatchSize;
+    private final Duration window;
+
+    private CoalescingOptions(Builder builder) {
+        this.maxBatchSize = builder.maxBatchSize;
+        this.window = builder.window;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of distinct requests in one batch
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the time a batch collects requests after the first one arrived
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    public static class Builder {
+
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        private Duration window = DEFAULT_WINDOW;
+
+        private Builder() {}
+
+        public Builder withMaxBatchSize(int maxBatchSize) {
+
+            Assert.isTrue(maxBatchSize > 0, "maxBatchSize must be greater than 0");
+
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder withWindow(Duration window) {
+
+            Assert.notNull(window, "window must not be null");
+            Assert.isTrue(!window.isNegative(), "window must not be negative");
+
+            this.window = window;
+            return this;
+        }
+
+        public CoalescingOptions build() {
+            return new CoalescingOptions(this);
+        }
+    }
+}
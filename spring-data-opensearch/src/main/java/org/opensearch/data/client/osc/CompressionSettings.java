@@ -0,0 +1,245 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Settings for the gzip compression of the requests sent and the responses received by the HTTP client used by the
+ * {@link org.opensearch.client.RestClient}. Both the imperative and the reactive client send their requests through
+ * this HTTP client. Request bodies are compressed only when they are at least as large as the threshold, as small
+ * bodies gain little and cost the compression on every request. Compressed responses are negotiated with an
+ * {@code Accept-Encoding} header and decompressed by the {@link org.opensearch.client.RestClient}.
+ * <p>
+ * Add an instance to a {@link ClientConfiguration} with
+ * {@link ClientConfiguration.TerminalClientConfigurationBuilder#withClientConfigurer(ClientConfiguration.ClientConfigurationCallback)}
+ * to have {@link OpenSearchClients} apply it to the HTTP client it creates. For the clients created by
+ * {@link org.opensearch.data.client.orhlc.RestClients}, register its {@link #configure(HttpAsyncClientBuilder)} method
+ * with {@link org.opensearch.data.client.orhlc.RestClients.RestClientConfigurationCallback#from(java.util.function.Function)}.
+ */
+public final class CompressionSettings implements ClientConfiguration.ClientConfigurationCallback<HttpAsyncClientBuilder> {
+
+    public static final int DEFAULT_REQUEST_COMPRESSION_THRESHOLD = 1024;
+
+    static final String GZIP = "gzip";
+
+    @Nullable private final Integer requestCompressionThreshold;
+    private final boolean compressedResponses;
+
+    private CompressionSettings(Builder builder) {
+        this.requestCompressionThreshold = builder.requestCompressionThreshold;
+        this.compressedResponses = builder.compressedResponses;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return settings that compress request bodies of at least {@link #DEFAULT_REQUEST_COMPRESSION_THRESHOLD} bytes and
+     *         accept compressed responses
+     */
+    public static CompressionSettings gzip() {
+        return builder().withRequestCompressionThreshold(DEFAULT_REQUEST_COMPRESSION_THRESHOLD)
+                .withCompressedResponses(true).build();
+    }
+
+    /**
+     * @return the size in bytes from which request bodies are compressed, {@literal null} if they are not compressed
+     */
+    @Nullable
+    public Integer getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    public boolean isCompressedResponses() {
+        return compressedResponses;
+    }
+
+    /**
+     * Adds the request body compression and the {@code Accept-Encoding} header to the builder of the HTTP client.
+     */
+    @Override
+    public HttpAsyncClientBuilder configure(HttpAsyncClientBuilder builder) {
+
+        Assert.notNull(builder, "builder must not be null");
+
+        if (requestCompressionThreshold != null) {
+            builder.addExecInterceptorFirst("request-compression",
+                    new RequestCompressionHandler(requestCompressionThreshold));
+        }
+
+        if (compressedResponses) {
+            builder.addRequestInterceptorLast((request, entity, context) -> {
+                if (!request.containsHeader(HttpHeaders.ACCEPT_ENCODING)) {
+                    request.addHeader(HttpHeaders.ACCEPT_ENCODING, GZIP);
+                }
+            });
+        }
+
+        return builder;
+    }
+
+    /**
+     * Replaces request bodies of known length above the threshold with their gzip compressed content. It runs first in
+     * the execution chain, so retries and redirects send the compressed body as well.
+     */
+    static final class RequestCompressionHandler implements AsyncExecChainHandler {
+
+        private final int threshold;
+
+        RequestCompressionHandler(int threshold) {
+            this.threshold = threshold;
+        }
+
+        @Override
+        public void execute(HttpRequest request, @Nullable AsyncEntityProducer entityProducer, AsyncExecChain.Scope scope,
+                AsyncExecChain chain, AsyncExecCallback asyncExecCallback) throws HttpException, IOException {
+
+            if (entityProducer != null //
+                    && entityProducer.getContentEncoding() == null //
+                    && !request.containsHeader(HttpHeaders.CONTENT_ENCODING) //
+                    && entityProducer.getContentLength() >= 0 //
+                    && entityProducer.getContentLength() >= threshold) {
+                byte[] compressed = compress(entityProducer);
+                String contentType = entityProducer.getContentType();
+                entityProducer = new GzipEntityProducer(compressed,
+                        contentType != null ? ContentType.parse(contentType) : null);
+                request.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            }
+
+            chain.proceed(request, entityProducer, scope, asyncExecCallback);
+        }
+
+        /**
+         * Drains the producer, which holds the serialized request in memory, into a gzip stream.
+         */
+        static byte[] compress(AsyncEntityProducer entityProducer) throws IOException {
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(
+                    (int) Math.min(Integer.MAX_VALUE - 8, entityProducer.getContentLength() / 4 + 64));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+                DrainingChannel channel = new DrainingChannel(gzip);
+                while (!channel.ended) {
+                    long written = channel.written;
+                    entityProducer.produce(channel);
+                    if (!channel.ended && channel.written == written) {
+                        throw new IOException("request body was not produced eagerly and cannot be compressed");
+                    }
+                }
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+    private static final class DrainingChannel implements DataStreamChannel {
+
+        private final OutputStream out;
+        private long written;
+        private boolean ended;
+
+        private DrainingChannel(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void requestOutput() {}
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+
+            int length = src.remaining();
+            if (src.hasArray()) {
+                out.write(src.array(), src.arrayOffset() + src.position(), length);
+                src.position(src.limit());
+            } else {
+                byte[] chunk = new byte[length];
+                src.get(chunk);
+                out.write(chunk);
+            }
+            written += length;
+            return length;
+        }
+
+        @Override
+        public void endStream() {
+            ended = true;
+        }
+
+        @Override
+        public void endStream(List<? extends Header> trailers) {
+            ended = true;
+        }
+    }
+
+    private static final class GzipEntityProducer extends BasicAsyncEntityProducer {
+
+        private GzipEntityProducer(byte[] content, @Nullable ContentType contentType) {
+            super(content, contentType);
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return GZIP;
+        }
+    }
+
+    public static final class Builder {
+
+        @Nullable private Integer requestCompressionThreshold;
+        private boolean compressedResponses;
+
+        private Builder() {}
+
+        /**
+         * @param requestCompressionThreshold the size in bytes from which request bodies are compressed, {@literal 0}
+         *          compresses all request bodies
+         */
+        public Builder withRequestCompressionThreshold(int requestCompressionThreshold) {
+
+            Assert.isTrue(requestCompressionThreshold >= 0, "requestCompressionThreshold must not be negative");
+
+            this.requestCompressionThreshold = requestCompressionThreshold;
+            return this;
+        }
+
+        /**
+         * @param compressedResponses whether to ask for gzip compressed responses
+         */
+        public Builder withCompressedResponses(boolean compressedResponses) {
+            this.compressedResponses = compressedResponses;
+            return this;
+        }
+
+        public CompressionSettings build() {
+            return new CompressionSettings(this);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Settings for the connection pool and the I/O reactor of the HTTP client used by the
+ * {@link org.opensearch.client.RestClient}. Settings that are not set keep the defaults of the HTTP client.
+ * <p>
+ * Add an instance to a {@link ClientConfiguration} with
+ * {@link ClientConfiguration.TerminalClientConfigurationBuilder#withClientConfigurer(ClientConfiguration.ClientConfigurationCallback)}
+ * to have {@link OpenSearchClients} apply it to the connection manager it creates.
+ */
+public final class ConnectionPoolSettings
+        implements ClientConfiguration.ClientConfigurationCallback<PoolingAsyncClientConnectionManagerBuilder> {
+
+    @Nullable private final Integer maxConnectionsPerRoute;
+    @Nullable private final Integer maxConnectionsTotal;
+    @Nullable private final Duration connectionTimeToLive;
+    @Nullable private final Duration validateAfterInactivity;
+    @Nullable private final Duration evictIdleConnectionsAfter;
+    @Nullable private final Integer ioThreadCount;
+    @Nullable private final HttpVersionPolicy httpVersionPolicy;
+
+    private ConnectionPoolSettings(Builder builder) {
+        this.maxConnectionsPerRoute = builder.maxConnectionsPerRoute;
+        this.maxConnectionsTotal = builder.maxConnectionsTotal;
+        this.connectionTimeToLive = builder.connectionTimeToLive;
+        this.validateAfterInactivity = builder.validateAfterInactivity;
+        this.evictIdleConnectionsAfter = builder.evictIdleConnectionsAfter;
+        this.ioThreadCount = builder.ioThreadCount;
+        this.httpVersionPolicy = builder.httpVersionPolicy;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Nullable
+    public Integer getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    @Nullable
+    public Integer getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    @Nullable
+    public Duration getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    @Nullable
+    public Duration getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    @Nullable
+    public Duration getEvictIdleConnectionsAfter() {
+        return evictIdleConnectionsAfter;
+    }
+
+    @Nullable
+    public Integer getIoThreadCount() {
+        return ioThreadCount;
+    }
+
+    @Nullable
+    public HttpVersionPolicy getHttpVersionPolicy() {
+        return httpVersionPolicy;
+    }
+
+    /**
+     * Applies the pool sizes, the connection time to live, the validation interval and the HTTP version policy to the
+     * builder of the connection manager.
+     */
+    @Override
+    public PoolingAsyncClientConnectionManagerBuilder configure(PoolingAsyncClientConnectionManagerBuilder builder) {
+
+        Assert.notNull(builder, "builder must not be null");
+
+        if (maxConnectionsPerRoute != null) {
+            builder.setMaxConnPerRoute(maxConnectionsPerRoute);
+        }
+
+        if (maxConnectionsTotal != null) {
+            builder.setMaxConnTotal(maxConnectionsTotal);
+        }
+
+        if (connectionTimeToLive != null || validateAfterInactivity != null) {
+            ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom();
+            if (connectionTimeToLive != null) {
+                connectionConfig.setTimeToLive(TimeValue.ofMilliseconds(connectionTimeToLive.toMillis()));
+            }
+            if (validateAfterInactivity != null) {
+                connectionConfig.setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivity.toMillis()));
+            }
+            builder.setDefaultConnectionConfig(connectionConfig.build());
+        }
+
+        if (httpVersionPolicy != null) {
+            builder.setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(httpVersionPolicy).build());
+            builder.setMessageMultiplexing(httpVersionPolicy == HttpVersionPolicy.FORCE_HTTP_2);
+        }
+
+        return builder;
+    }
+
+    /**
+     * Applies the idle connection eviction and the I/O thread count to the builder of the HTTP client.
+     *
+     * @param builder the builder of the HTTP client
+     * @param ioReactorConfig the I/O reactor configuration to extend with the thread count, {@literal null} to start
+     *          from the defaults
+     * @return the builder
+     */
+    public HttpAsyncClientBuilder configure(HttpAsyncClientBuilder builder, @Nullable IOReactorConfig ioReactorConfig) {
+
+        Assert.notNull(builder, "builder must not be null");
+
+        if (evictIdleConnectionsAfter != null) {
+            builder.evictIdleConnections(TimeValue.ofMilliseconds(evictIdleConnectionsAfter.toMillis()));
+        }
+
+        if (ioThreadCount != null) {
+            IOReactorConfig.Builder config = ioReactorConfig != null ? IOReactorConfig.copy(ioReactorConfig)
+                    : IOReactorConfig.custom();
+            builder.setIOReactorConfig(config.setIoThreadCount(ioThreadCount).build());
+        }
+
+        return builder;
+    }
+
+    public static final class Builder {
+
+        @Nullable private Integer maxConnectionsPerRoute;
+        @Nullable private Integer maxConnectionsTotal;
+        @Nullable private Duration connectionTimeToLive;
+        @Nullable private Duration validateAfterInactivity;
+        @Nullable private Duration evictIdleConnectionsAfter;
+        @Nullable private Integer ioThreadCount;
+        @Nullable private HttpVersionPolicy httpVersionPolicy;
+
+        private Builder() {}
+
+        public Builder withMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+
+            Assert.isTrue(maxConnectionsPerRoute > 0, "maxConnectionsPerRoute must be greater than 0");
+
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        public Builder withMaxConnectionsTotal(int maxConnectionsTotal) {
+
+            Assert.isTrue(maxConnectionsTotal > 0, "maxConnectionsTotal must be greater than 0");
+
+            this.maxConnectionsTotal = maxConnectionsTotal;
+            return this;
+        }
+
+        /**
+         * @param connectionTimeToLive the time after which a pooled connection is closed, regardless of its activity
+         */
+        public Builder withConnectionTimeToLive(Duration connectionTimeToLive) {
+
+            Assert.notNull(connectionTimeToLive, "connectionTimeToLive must not be null");
+
+            this.connectionTimeToLive = connectionTimeToLive;
+            return this;
+        }
+
+        /**
+         * @param validateAfterInactivity the inactivity period after which a pooled connection is checked before reuse
+         */
+        public Builder withValidateAfterInactivity(Duration validateAfterInactivity) {
+
+            Assert.notNull(validateAfterInactivity, "validateAfterInactivity must not be null");
+
+            this.validateAfterInactivity = validateAfterInactivity;
+            return this;
+        }
+
+        /**
+         * @param evictIdleConnectionsAfter the idle time after which a pooled connection is closed by a background task
+         */
+        public Builder withEvictIdleConnectionsAfter(Duration evictIdleConnectionsAfter) {
+
+            Assert.notNull(evictIdleConnectionsAfter, "evictIdleConnectionsAfter must not be null");
+
+            this.evictIdleConnectionsAfter = evictIdleConnectionsAfter;
+            return this;
+        }
+
+        public Builder withIoThreadCount(int ioThreadCount) {
+
+            Assert.isTrue(ioThreadCount > 0, "ioThreadCount must be greater than 0");
+
+            this.ioThreadCount = ioThreadCount;
+            return this;
+        }
+
+        /**
+         * @param httpVersionPolicy whether to use HTTP/1.1, HTTP/2 or to negotiate the version, HTTP/2 connections are
+         *          multiplexed
+         */
+        public Builder withHttpVersionPolicy(HttpVersionPolicy httpVersionPolicy) {
+
+            Assert.notNull(httpVersionPolicy, "httpVersionPolicy must not be null");
+
+            this.httpVersionPolicy = httpVersionPolicy;
+            return this;
+        }
+
+        public ConnectionPoolSettings build() {
+            return new ConnectionPoolSettings(this);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import io.micrometer.common.KeyValues;
+import java.util.regex.Pattern;
+import org.opensearch.data.client.osc.OpenSearchObservation.HighCardinalityKeyNames;
+import org.opensearch.data.client.osc.OpenSearchObservation.LowCardinalityKeyNames;
+import org.springframework.lang.Nullable;
+
+/**
+ * Default {@link OpenSearchObservationConvention}: the operation, the index alias and the outcome as low cardinality
+ * key values, the concrete index and the times and counts taken from the response as high cardinality key values. The
+ * times and counts are recorded as meters by an {@link OpenSearchMeterObservationHandler}.
+ */
+public class DefaultOpenSearchObservationConvention implements OpenSearchObservationConvention {
+
+    public static final DefaultOpenSearchObservationConvention INSTANCE = new DefaultOpenSearchObservationConvention();
+
+    private static final String NONE = "none";
+    private static final String MULTIPLE = "multiple";
+    private static final Pattern NUMERIC_SUFFIX = Pattern.compile("(?:[-_.]\\d+)+$");
+
+    @Override
+    public String getName() {
+        return "spring.data.opensearch.request";
+    }
+
+    @Override
+    public String getContextualName(OpenSearchObservationContext context) {
+        return "opensearch " + context.getOperation();
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(OpenSearchObservationContext context) {
+        return KeyValues.of( //
+                LowCardinalityKeyNames.OPERATION.withValue(context.getOperation()), //
+                LowCardinalityKeyNames.INDEX.withValue(indexAlias(context.getIndex())), //
+                LowCardinalityKeyNames.OUTCOME.withValue(outcome(context)));
+    }
+
+    @Override
+    public KeyValues getHighCardinalityKeyValues(OpenSearchObservationContext context) {
+
+        KeyValues keyValues = KeyValues.of(
+                HighCardinalityKeyNames.INDEX_NAME.withValue(context.getIndex() != null ? context.getIndex() : NONE));
+
+        if (context.getTookMillis() != null) {
+            keyValues = keyValues.and(HighCardinalityKeyNames.TOOK.withValue(String.valueOf(context.getTookMillis())));
+        }
+        if (context.getClientOverheadMillis() != null) {
+            keyValues = keyValues.and(
+                    HighCardinalityKeyNames.CLIENT_OVERHEAD.withValue(String.valueOf(context.getClientOverheadMillis())));
+        }
+        if (context.getHits() != null) {
+            keyValues = keyValues.and(HighCardinalityKeyNames.HITS.withValue(String.valueOf(context.getHits())));
+        }
+        if (context.getBulkFailures() != null) {
+            keyValues = keyValues
+                    .and(HighCardinalityKeyNames.BULK_FAILURES.withValue(String.valueOf(context.getBulkFailures())));
+        }
+
+        return keyValues;
+    }
+
+    /**
+     * Returns the value of the low cardinality {@link LowCardinalityKeyNames#INDEX index} key: the index with the
+     * numeric suffixes of dated or rolled over indices removed, like {@code logs} for {@code logs-2024.05.01} or
+     * {@code products} for {@code products-000042}, {@code multiple} for several indices and {@code none} for requests
+     * without an index. Override it to map concrete indices that do not follow this naming to their alias.
+     *
+     * @param index the index in the path of the request, {@literal null} if there is none
+     */
+    protected String indexAlias(@Nullable String index) {
+
+        if (index == null) {
+            return NONE;
+        }
+        if (index.indexOf(',') >= 0) {
+            return MULTIPLE;
+        }
+
+        String alias = NUMERIC_SUFFIX.matcher(index).replaceFirst("");
+        return alias.isEmpty() ? index : alias;
+    }
+
+    private static String outcome(OpenSearchObservationContext context) {
+
+        if (context.getError() != null) {
+            return "FAILURE";
+        }
+
+        Integer bulkFailures = context.getBulkFailures();
+        return bulkFailures != null && bulkFailures > 0 ? "PARTIAL_FAILURE" : "SUCCESS";
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opensearch.client.json.JsonpDeserializerBase;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+import org.springframework.data.mapping.InstanceCreatorMetadata;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Deserializes the {@code _source} of a hit straight into an entity, using the field names and property types of its
+ * {@link ElasticsearchPersistentEntity}, without building an intermediate map and {@link
+ * org.springframework.data.elasticsearch.core.document.Document}.
+ * <p>
+ * Only entities with a no-argument constructor whose properties are scalar values (strings, numbers, booleans, enums)
+ * or collections of those, without property value converters, are supported; {@link #of(Class, ElasticsearchConverter)}
+ * returns {@literal null} for all other types, and for types with subtypes in the mapping context. Like the
+ * converter, the reader ignores type hints of classes that are not subtypes of the type; a source with the type hint
+ * of a subtype that was not yet in the mapping context when the reader was created cannot be read directly, the
+ * reader then fails with a {@link TypeHintMismatchException}.
+ */
+final class DirectEntityReader<T> extends JsonpDeserializerBase<T> {
+
+    private static final String TYPE_HINT = "_class";
+
+    private final ElasticsearchPersistentEntity<T> entity;
+    private final Constructor<T> constructor;
+    private final ConversionService conversionService;
+    private final MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext;
+    private final Set<String> typeHints;
+    private final Map<String, Boolean> foreignTypeHints = new ConcurrentHashMap<>();
+
+    private DirectEntityReader(ElasticsearchPersistentEntity<T> entity, Constructor<T> constructor,
+            ElasticsearchConverter converter) {
+        super(EnumSet.of(Event.START_OBJECT));
+
+        this.entity = entity;
+        this.constructor = constructor;
+        this.conversionService = converter.getConversionService();
+        this.mappingContext = converter.getMappingContext();
+        this.typeHints = new LinkedHashSet<>();
+        typeHints.add(entity.getType().getName());
+        if (entity.getTypeAlias().isPresent()) {
+            typeHints.add(entity.getTypeAlias().getValue().toString());
+        }
+    }
+
+    /**
+     * @return a reader for the given type or {@literal null} if the type cannot be read directly
+     */
+    @Nullable
+    static <T> DirectEntityReader<T> of(Class<T> type, ElasticsearchConverter converter) {
+
+        if (type.isInterface() || type.isRecord()) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        ElasticsearchPersistentEntity<T> entity = (ElasticsearchPersistentEntity<T>) converter.getMappingContext()
+                .getPersistentEntity(type);
+        if (entity == null || hasSubtypes(type, converter.getMappingContext().getPersistentEntities())) {
+            return null;
+        }
+
+        InstanceCreatorMetadata<ElasticsearchPersistentProperty> creator = entity.getInstanceCreatorMetadata();
+        if (creator != null && creator.hasParameters()) {
+            return null;
+        }
+
+        Constructor<T> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+
+        for (ElasticsearchPersistentProperty property : entity) {
+            if (!isSupported(property)) {
+                return null;
+            }
+        }
+
+        return new DirectEntityReader<>(entity, constructor, converter);
+    }
+
+    private static boolean hasSubtypes(Class<?> type, Collection<? extends ElasticsearchPersistentEntity<?>> entities) {
+
+        for (ElasticsearchPersistentEntity<?> entity : entities) {
+            if (entity.getType() != type && type.isAssignableFrom(entity.getType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether a source with the given type hint of another class is read as the type, which the converter does
+     *         for hints that do not resolve to a subtype of it
+     */
+    private boolean isIgnorable(String typeHint) {
+        return foreignTypeHints.computeIfAbsent(typeHint, hint -> {
+
+            for (ElasticsearchPersistentEntity<?> mapped : mappingContext.getPersistentEntities()) {
+                if (mapped.getTypeAlias().hasValue(hint)) {
+                    return !entity.getType().isAssignableFrom(mapped.getType());
+                }
+            }
+
+            try {
+                Class<?> hinted = ClassUtils.forName(hint, entity.getType().getClassLoader());
+                return !entity.getType().isAssignableFrom(hinted);
+            } catch (ClassNotFoundException | LinkageError e) {
+                return true;
+            }
+        });
+    }
+
+    private static boolean isSupported(ElasticsearchPersistentProperty property) {
+
+        if (property.isSeqNoPrimaryTermProperty() || property.isIndexedIndexNameProperty()) {
+            return true;
+        }
+
+        if (property.isEntity() || property.hasPropertyValueConverter() || property.isJoinFieldProperty()
+                || property.isMap() || property.isArray()) {
+            return false;
+        }
+
+        Class<?> type = property.isCollectionLike() ? property.getActualType() : property.getType();
+        return isScalar(type) && (!property.isCollectionLike() || property.getType().isAssignableFrom(List.class)
+                || property.getType().isAssignableFrom(Set.class));
+    }
+
+    private static boolean isScalar(Class<?> type) {
+
+        Class<?> boxed = ClassUtils.resolvePrimitiveIfNecessary(type);
+        return boxed == String.class || boxed == Boolean.class || Number.class.isAssignableFrom(boxed) || boxed.isEnum();
+    }
+
+    /**
+     * @return a new instance of the entity without any properties set, used for hits without a source
+     */
+    T newInstance() {
+        return BeanUtils.instantiateClass(constructor);
+    }
+
+    @Override
+    public T deserialize(JsonParser parser, JsonpMapper mapper, Event event) {
+
+        T instance = newInstance();
+        PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(instance);
+
+        while ((event = parser.next()) != Event.END_OBJECT) {
+            String fieldName = JsonpUtils.expectKeyName(parser, event);
+            event = parser.next();
+
+            if (TYPE_HINT.equals(fieldName)) {
+                String typeHint = parser.getString();
+                if (!typeHints.contains(typeHint) && !isIgnorable(typeHint)) {
+                    throw new TypeHintMismatchException("Cannot read a document of type " + typeHint
+                            + " directly into " + entity.getType().getName());
+                }
+                continue;
+            }
+
+            ElasticsearchPersistentProperty property = entity.getPersistentPropertyWithFieldName(fieldName);
+            if (property == null || property.isSeqNoPrimaryTermProperty() || property.isIndexedIndexNameProperty()) {
+                JsonpUtils.skipValue(parser, event);
+                continue;
+            }
+
+            Object value;
+            if (property.isCollectionLike()) {
+                value = readCollection(parser, event, property);
+            } else {
+                value = readScalar(parser, event, property.getType());
+            }
+
+            if (value != null || !property.getType().isPrimitive()) {
+                accessor.setProperty(property, value);
+            }
+        }
+
+        return accessor.getBean();
+    }
+
+    /**
+     * @return whether the given exception or one of its causes is a {@link TypeHintMismatchException}
+     */
+    static boolean isTypeHintMismatch(@Nullable Throwable exception) {
+
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TypeHintMismatchException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the metadata of the hit on the entity read from its source, like the converter does with the metadata of a
+     * {@link org.springframework.data.elasticsearch.core.document.Document}.
+     */
+    T applyMetadata(T instance, Hit<?> hit) {
+
+        PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(instance);
+
+        ElasticsearchPersistentProperty idProperty = entity.getIdProperty();
+        if (idProperty != null && hit.id() != null) {
+            accessor.setProperty(idProperty, conversionService.convert(hit.id(), idProperty.getType()));
+        }
+
+        ElasticsearchPersistentProperty versionProperty = entity.getVersionProperty();
+        if (versionProperty != null && hit.version() != null) {
+            accessor.setProperty(versionProperty, conversionService.convert(hit.version(), versionProperty.getType()));
+        }
+
+        if (entity.hasSeqNoPrimaryTermProperty() && hit.seqNo() != null && hit.seqNo() >= 0 && hit.primaryTerm() != null
+                && hit.primaryTerm() > 0) {
+            accessor.setProperty(entity.getRequiredSeqNoPrimaryTermProperty(),
+                    new SeqNoPrimaryTerm(hit.seqNo(), hit.primaryTerm()));
+        }
+
+        ElasticsearchPersistentProperty indexedIndexNameProperty = entity.getIndexedIndexNameProperty();
+        if (indexedIndexNameProperty != null) {
+            accessor.setProperty(indexedIndexNameProperty, hit.index());
+        }
+
+        return accessor.getBean();
+    }
+
+    private Collection<Object> readCollection(JsonParser parser, Event event, ElasticsearchPersistentProperty property) {
+
+        Collection<Object> values = Set.class.isAssignableFrom(property.getType()) ? new LinkedHashSet<>()
+                : new ArrayList<>();
+        Class<?> elementType = property.getActualType();
+
+        if (event != Event.START_ARRAY) {
+            // a single value for a collection property
+            values.add(readScalar(parser, event, elementType));
+            return values;
+        }
+
+        while ((event = parser.next()) != Event.END_ARRAY) {
+            values.add(readScalar(parser, event, elementType));
+        }
+        return values;
+    }
+
+    @Nullable
+    private Object readScalar(JsonParser parser, Event event, Class<?> type) {
+
+        Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(type);
+        Object value = switch (event) {
+            case VALUE_NULL -> null;
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_STRING -> parser.getString();
+            case VALUE_NUMBER -> {
+                if (targetType == Integer.class) {
+                    yield parser.getInt();
+                } else if (targetType == Long.class) {
+                    yield parser.getLong();
+                } else if (targetType == Double.class) {
+                    yield parser.getBigDecimal().doubleValue();
+                } else if (targetType == Float.class) {
+                    yield parser.getBigDecimal().floatValue();
+                }
+                yield parser.getBigDecimal();
+            }
+            default -> throw new MappingException("Cannot read a value of " + targetType.getName() + " from " + event);
+        };
+
+        if (value == null || targetType.isInstance(value)) {
+            return value;
+        }
+        return conversionService.convert(value, targetType);
+    }
+
+    /**
+     * Thrown when a source has the type hint of another class than the one of the reader.
+     */
+    static final class TypeHintMismatchException extends MappingException {
+
+        TypeHintMismatchException(String message) {
+            super(message);
+        }
+    }
+}
@@ -15,11 +15,15 @@
  */
 package org.opensearch.data.client.osc;
 
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -62,66 +66,78 @@ final class DocumentAdapters {
      * @param jsonpMapper to map JsonData objects
      * @return the created {@link SearchDocument}
      */
-    @SuppressWarnings("unchecked")
     public static SearchDocument from(Hit<?> hit, JsonpMapper jsonpMapper) {
+        return from(hit, null, jsonpMapper);
+    }
+
+    /**
+     * Creates a {@link SearchDocument} from a {@link Hit} whose source has already been read.
+     *
+     * @param hit the hit object
+     * @param source the document of the source of the hit, {@literal null} to create it from the source of the hit
+     * @param jsonpMapper to map JsonData objects
+     * @return the created {@link SearchDocument}
+     */
+    @SuppressWarnings("unchecked")
+    static SearchDocument from(Hit<?> hit, @Nullable Document source, JsonpMapper jsonpMapper) {
 
         Assert.notNull(hit, "hit must not be null");
 
-        Map<String, List<String>> highlightFields = hit.highlight();
+        Map<String, List<String>> highlightFields = hit.highlight().isEmpty() ? Collections.emptyMap() : hit.highlight();
 
-        Map<String, SearchDocumentResponse> innerHits = new LinkedHashMap<>();
-        hit.innerHits().forEach((name, innerHitsResult) -> {
-            // noinspection ReturnOfNull
-            innerHits.put(name, SearchDocumentResponseBuilder.from(innerHitsResult.hits(), null, null, null, 0, null, null,
-                    searchDocument -> null, jsonpMapper));
-        });
+        Map<String, SearchDocumentResponse> innerHits;
+        if (hit.innerHits().isEmpty()) {
+            innerHits = Collections.emptyMap();
+        } else {
+            innerHits = new LinkedHashMap<>();
+            hit.innerHits().forEach((name, innerHitsResult) -> {
+                // noinspection ReturnOfNull
+                innerHits.put(name, SearchDocumentResponseBuilder.from(innerHitsResult.hits(), null, null, null, 0, null,
+                        null, searchDocument -> null, jsonpMapper));
+            });
+        }
 
         NestedMetaData nestedMetaData = from(hit.nested());
 
         Explanation explanation = from(hit.explanation());
 
-        List<String> matchedQueries = hit.matchedQueries();
+        List<String> matchedQueries = hit.matchedQueries().isEmpty() ? Collections.emptyList() : hit.matchedQueries();
 
-        Function<Map<String, JsonData>, EntityAsMap> fromFields = fields -> {
-            StringBuilder sb = new StringBuilder("{");
-            final boolean[] firstField = { true };
+        Map<String, Object> hitFieldsAsMap;
+        Map<String, List<Object>> documentFields;
+        if (hit.fields().isEmpty()) {
+            hitFieldsAsMap = Collections.emptyMap();
+            documentFields = Collections.emptyMap();
+        } else {
+            hitFieldsAsMap = new LinkedHashMap<>();
+            documentFields = new LinkedHashMap<>();
             hit.fields().forEach((key, jsonData) -> {
-                if (!firstField[0]) {
-                    sb.append(',');
+                Object value = fromJsonValue(jsonData.toJson(jsonpMapper));
+                hitFieldsAsMap.put(key, value);
+                if (value instanceof List) {
+                    // noinspection unchecked
+                    documentFields.put(key, (List<Object>) value);
+                } else {
+                    documentFields.put(key, Collections.singletonList(value));
                 }
-                sb.append('"').append(key).append("\":") //
-                        .append(jsonData.toJson(jsonpMapper).toString());
-                firstField[0] = false;
             });
-            sb.append('}');
-            return new EntityAsMap().fromJson(sb.toString());
-        };
-
-        EntityAsMap hitFieldsAsMap = fromFields.apply(hit.fields());
-
-        Map<String, List<Object>> documentFields = new LinkedHashMap<>();
-        hitFieldsAsMap.forEach((key, value) -> {
-            if (value instanceof List) {
-                // noinspection unchecked
-                documentFields.put(key, (List<Object>) value);
-            } else {
-                documentFields.put(key, Collections.singletonList(value));
-            }
-        });
+        }
 
         Document document;
-        Object source = hit.source();
-        if (source == null) {
-            document = Document.from(hitFieldsAsMap);
+        Object hitSource = hit.source();
+        if (source != null) {
+            document = source;
+        } else if (hitSource == null) {
+            document = hitFieldsAsMap.isEmpty() ? Document.create() : Document.from(hitFieldsAsMap);
         } else {
-            if (source instanceof EntityAsMap entityAsMap) {
+            if (hitSource instanceof EntityAsMap entityAsMap) {
                 document = Document.from(entityAsMap);
-            } else if (source instanceof JsonData jsonData) {
+            } else if (hitSource instanceof JsonData jsonData) {
                 document = Document.from(jsonData.to(EntityAsMap.class));
             } else {
 
                 if (LOGGER.isWarnEnabled()) {
-                    LOGGER.warn(String.format("Cannot map from type " + source.getClass().getName()));
+                    LOGGER.warn(String.format("Cannot map from type " + hitSource.getClass().getName()));
                 }
                 document = Document.create();
             }
@@ -156,6 +172,49 @@ final class DocumentAdapters {
                 Collections.emptyMap(), null, null, null, completionSuggestOption.routing());
     }
 
+    /**
+     * Converts a {@link JsonValue} to the plain Java objects that parsing its JSON into an {@link EntityAsMap} would
+     * produce, without the round trip through a JSON string.
+     */
+    @Nullable
+    private static Object fromJsonValue(JsonValue value) {
+
+        return switch (value.getValueType()) {
+            case STRING -> ((JsonString) value).getString();
+            case NUMBER -> fromJsonNumber((JsonNumber) value);
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case NULL -> null;
+            case ARRAY -> {
+                JsonArray array = value.asJsonArray();
+                List<Object> list = new ArrayList<>(array.size());
+                for (JsonValue element : array) {
+                    list.add(fromJsonValue(element));
+                }
+                yield list;
+            }
+            case OBJECT -> {
+                Map<String, Object> map = new LinkedHashMap<>();
+                value.asJsonObject().forEach((key, element) -> map.put(key, fromJsonValue(element)));
+                yield map;
+            }
+        };
+    }
+
+    private static Object fromJsonNumber(JsonNumber number) {
+
+        if (!number.isIntegral()) {
+            return number.doubleValue();
+        }
+
+        try {
+            long longValue = number.longValueExact();
+            return longValue == (int) longValue ? (Object) (int) longValue : (Object) longValue;
+        } catch (ArithmeticException e) {
+            return number.bigIntegerValue();
+        }
+    }
+
     @Nullable
     private static Explanation from(@Nullable org.opensearch.client.opensearch.core.explain.Explanation explanation) {
 
@@ -0,0 +1,237 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import org.opensearch.client.opensearch.core.MgetRequest;
+import org.opensearch.client.opensearch.core.mget.MultiGetOperation;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded cache of the documents read by id, see {@link NearCache}. The documents are evicted when they expire or
+ * when the cache is full, the least recently used first.
+ * <p>
+ * A write to a document leaves an entry with its sequence number and primary term in place of the document. A
+ * document is only cached if no entry with a newer sequence number is present, so a read that was sent before a write
+ * and returns after it cannot put the old document back.
+ */
+final class DocumentCache {
+
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoTime;
+    private final Map<Key, Entry> entries;
+
+    DocumentCache(NearCache nearCache) {
+        this(nearCache.maximumSize(), nearCache.timeUnit().toNanos(nearCache.timeToLive()), System::nanoTime);
+    }
+
+    DocumentCache(int maximumSize, long timeToLiveNanos, LongSupplier nanoTime) {
+
+        Assert.isTrue(maximumSize > 0, "maximumSize must be greater than 0");
+        Assert.isTrue(timeToLiveNanos > 0, "timeToLive must be greater than 0");
+        Assert.notNull(nanoTime, "nanoTime must not be null");
+
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > DocumentCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * @return a copy of the cached document, {@literal null} if it is not cached or was read with another routing
+     */
+    @Nullable
+    synchronized Document get(String index, String id, @Nullable String routing) {
+
+        Key key = new Key(index, id);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expired(nanoTime.getAsLong())) {
+            entries.remove(key);
+            return null;
+        }
+
+        return entry.document != null && Objects.equals(entry.routing, routing) ? copy(entry.document) : null;
+    }
+
+    /**
+     * Caches a copy of a document that was read, unless it has no sequence number or a newer write was seen.
+     */
+    synchronized void put(String index, String id, @Nullable String routing, Document document) {
+
+        if (!document.hasSeqNo() || !document.hasPrimaryTerm()) {
+            return;
+        }
+
+        long now = nanoTime.getAsLong();
+        Key key = new Key(index, id);
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.expired(now) && entry.newerThan(document.getSeqNo(), document.getPrimaryTerm())) {
+            return;
+        }
+
+        entries.put(key, new Entry(copy(document), routing, document.getSeqNo(), document.getPrimaryTerm(),
+                now + timeToLiveNanos));
+    }
+
+    /**
+     * Removes a document that is about to be written.
+     */
+    synchronized void evict(String index, String id) {
+        entries.remove(new Key(index, id));
+    }
+
+    /**
+     * Replaces a document that was written with the sequence number and primary term of the write.
+     */
+    synchronized void invalidate(String index, String id, long seqNo, long primaryTerm) {
+
+        long now = nanoTime.getAsLong();
+        Key key = new Key(index, id);
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.expired(now) && entry.newerThan(seqNo, primaryTerm)) {
+            return;
+        }
+
+        entries.put(key, new Entry(null, null, seqNo, primaryTerm, now + timeToLiveNanos));
+    }
+
+    /**
+     * Removes all documents of an index, for writes that do not tell which of its documents they changed.
+     */
+    synchronized void evictIndex(String index) {
+        entries.keySet().removeIf(key -> key.index().equals(index));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Looks up the documents of a multi get request.
+     *
+     * @return the cached documents and the request for the ones that are not cached, {@literal null} if the request
+     *         does not read whole documents
+     */
+    @Nullable
+    Lookup lookup(MgetRequest request) {
+
+        List<MultiGetOperation> operations = request.docs();
+        for (MultiGetOperation operation : operations) {
+            if (operation.index() == null || operation.source() != null || !operation.storedFields().isEmpty()) {
+                return null;
+            }
+        }
+
+        List<Document> documents = new ArrayList<>(operations.size());
+        List<MultiGetOperation> missing = new ArrayList<>();
+        for (MultiGetOperation operation : operations) {
+            Document document = get(operation.index(), operation.id(), operation.routing());
+            documents.add(document);
+            if (document == null) {
+                missing.add(operation);
+            }
+        }
+
+        return new Lookup(operations, documents,
+                missing.isEmpty() ? null : MgetRequest.of(mg -> mg.docs(missing)));
+    }
+
+    /**
+     * Caches the documents read for the missing request of the lookup and merges them with the cached ones.
+     *
+     * @param items the items of the response to {@link Lookup#missing()}, {@literal empty} if there was nothing missing
+     * @return the items in the order of the operations of the original request
+     */
+    List<MultiGetItem<Document>> merge(Lookup lookup, List<MultiGetItem<Document>> items) {
+
+        List<MultiGetItem<Document>> merged = new ArrayList<>(lookup.documents().size());
+        Iterator<MultiGetItem<Document>> fetched = items.iterator();
+
+        for (int i = 0; i < lookup.documents().size(); i++) {
+            Document document = lookup.documents().get(i);
+            if (document != null) {
+                merged.add(MultiGetItem.of(document, null));
+                continue;
+            }
+
+            Assert.state(fetched.hasNext(), "multi get response has less items than requested");
+            MultiGetItem<Document> item = fetched.next();
+            if (!item.isFailed() && item.hasItem()) {
+                MultiGetOperation operation = lookup.operations().get(i);
+                put(operation.index(), operation.id(), operation.routing(), item.getItem());
+            }
+            merged.add(item);
+        }
+
+        return merged;
+    }
+
+    private static Document copy(Document document) {
+
+        Document copy = Document.from(document);
+        if (document.hasId()) {
+            copy.setId(document.getId());
+        }
+        if (document.getIndex() != null) {
+            copy.setIndex(document.getIndex());
+        }
+        if (document.hasVersion()) {
+            copy.setVersion(document.getVersion());
+        }
+        copy.setSeqNo(document.getSeqNo());
+        copy.setPrimaryTerm(document.getPrimaryTerm());
+        return copy;
+    }
+
+    /**
+     * @param operations the operations of the original request
+     * @param documents the cached documents in the order of the operations, {@literal null} for the missing ones
+     * @param missing the request for the missing documents, {@literal null} if all are cached
+     */
+    record Lookup(List<MultiGetOperation> operations, List<Document> documents, @Nullable MgetRequest missing) {
+    }
+
+    private record Key(String index, String id) {
+    }
+
+    /**
+     * A cached document or, with a {@literal null} document, the sequence number of a write.
+     */
+    private record Entry(@Nullable Document document, @Nullable String routing, long seqNo, long primaryTerm,
+            long expiresAt) {
+
+        boolean expired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        boolean newerThan(long seqNo, long primaryTerm) {
+            return this.primaryTerm > primaryTerm || (this.primaryTerm == primaryTerm && this.seqNo > seqNo);
+        }
+    }
+}
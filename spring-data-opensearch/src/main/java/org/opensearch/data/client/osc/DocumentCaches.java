@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.opensearch.client.opensearch._types.WriteResponseBase;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.BulkOperationBase;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@link DocumentCache}s of the entity types annotated with {@link NearCache}, shared by a template and its copies.
+ * The writes of the templates invalidate the documents in the caches of all types, as a write does not always know the
+ * entity type, like a delete by id.
+ */
+final class DocumentCaches {
+
+    private final Map<Class<?>, Optional<DocumentCache>> caches = new ConcurrentHashMap<>();
+    private final List<DocumentCache> present = new CopyOnWriteArrayList<>();
+
+    /**
+     * @return the cache for the entity type, {@literal null} if the type is not annotated with {@link NearCache} or the
+     *         index has more than one name
+     */
+    @Nullable
+    DocumentCache get(Class<?> type, IndexCoordinates index) {
+
+        if (index.getIndexNames().length != 1) {
+            return null;
+        }
+
+        return caches.computeIfAbsent(type, this::create).orElse(null);
+    }
+
+    private Optional<DocumentCache> create(Class<?> type) {
+
+        NearCache nearCache = AnnotatedElementUtils.findMergedAnnotation(type, NearCache.class);
+        if (nearCache == null) {
+            return Optional.empty();
+        }
+
+        DocumentCache cache = new DocumentCache(nearCache);
+        present.add(cache);
+        return Optional.of(cache);
+    }
+
+    /**
+     * Evicts a document that is about to be written.
+     */
+    void evict(IndexCoordinates index, @Nullable String id) {
+
+        if (present.isEmpty() || id == null) {
+            return;
+        }
+
+        for (DocumentCache cache : present) {
+            for (String indexName : index.getIndexNames()) {
+                cache.evict(indexName, id);
+            }
+        }
+    }
+
+    /**
+     * Evicts the documents of a bulk request that is about to be sent.
+     */
+    void evict(BulkRequest request) {
+
+        if (present.isEmpty()) {
+            return;
+        }
+
+        for (BulkOperation operation : request.operations()) {
+            BulkOperationBase base = (BulkOperationBase) operation._get();
+            String index = base.index() != null ? base.index() : request.index();
+            if (index != null && base.id() != null) {
+                evict(IndexCoordinates.of(index), base.id());
+            }
+        }
+    }
+
+    /**
+     * Invalidates a document that was written, under the names of the index it was written to and of the index the
+     * write was sent to.
+     */
+    void invalidate(IndexCoordinates index, WriteResponseBase response) {
+
+        if (present.isEmpty()) {
+            return;
+        }
+
+        for (DocumentCache cache : present) {
+            cache.invalidate(response.index(), response.id(), response.seqNo(), response.primaryTerm());
+            for (String indexName : index.getIndexNames()) {
+                cache.invalidate(indexName, response.id(), response.seqNo(), response.primaryTerm());
+            }
+        }
+    }
+
+    /**
+     * Invalidates the documents written by a bulk request. Failed items were evicted before the request was sent.
+     */
+    void invalidate(BulkRequest request, BulkResponse response) {
+
+        if (present.isEmpty() || request.operations().size() != response.items().size()) {
+            return;
+        }
+
+        for (int i = 0; i < response.items().size(); i++) {
+            BulkResponseItem item = response.items().get(i);
+            if (item.error() != null || item.id() == null || item.seqNo() == null || item.primaryTerm() == null) {
+                continue;
+            }
+
+            BulkOperationBase base = (BulkOperationBase) request.operations().get(i)._get();
+            String index = base.index() != null ? base.index() : request.index();
+            for (DocumentCache cache : present) {
+                cache.invalidate(item.index(), item.id(), item.seqNo(), item.primaryTerm());
+                if (index != null) {
+                    cache.invalidate(index, item.id(), item.seqNo(), item.primaryTerm());
+                }
+            }
+        }
+    }
+
+    /**
+     * Evicts all documents of the index, for writes that do not tell which of its documents they changed, like a delete
+     * by query, and for a deleted index. Documents cached under another name of the same index, like an alias, are
+     * kept.
+     */
+    void evict(IndexCoordinates index) {
+
+        for (DocumentCache cache : present) {
+            for (String indexName : index.getIndexNames()) {
+                cache.evictIndex(indexName);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.data.client.osc;
+
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+/**
+ * Notified by the {@link IndicesTemplate} and {@link ReactiveIndicesTemplate} after an index was refreshed or deleted,
+ * used by the templates to invalidate their caches.
+ */
+interface IndexChangeListener {
+
+    /**
+     * Called after the index was refreshed. A refresh makes written documents visible to searches, it does not change
+     * any document.
+     */
+    void indexRefreshed(IndexCoordinates index);
+
+    /**
+     * Called after the index was deleted.
+     */
+    void indexDeleted(IndexCoordinates index);
+}
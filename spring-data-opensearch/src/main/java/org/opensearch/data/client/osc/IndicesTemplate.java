@@ -62,6 +62,7 @@ public class IndicesTemplate extends ChildTemplate<OpenSearchTransport, OpenSear
     protected final ElasticsearchConverter elasticsearchConverter;
     @Nullable protected final Class<?> boundClass;
     @Nullable protected final IndexCoordinates boundIndex;
+    @Nullable private IndexChangeListener indexChangeListener;
 
     public IndicesTemplate(OpenSearchIndicesClient client, ClusterTemplate clusterTemplate,
             ElasticsearchConverter elasticsearchConverter, Class<?> boundClass) {
@@ -93,6 +94,28 @@ public class IndicesTemplate extends ChildTemplate<OpenSearchTransport, OpenSear
 
     }
 
+    /**
+     * Sets the listener that is called after the index was refreshed or deleted, used by the {@link OpenSearchTemplate}
+     * to invalidate its caches.
+     */
+    void setIndexChangeListener(@Nullable IndexChangeListener indexChangeListener) {
+        this.indexChangeListener = indexChangeListener;
+    }
+
+    private void indexRefreshed(IndexCoordinates indexCoordinates) {
+
+        if (indexChangeListener != null) {
+            indexChangeListener.indexRefreshed(indexCoordinates);
+        }
+    }
+
+    private void indexDeleted(IndexCoordinates indexCoordinates) {
+
+        if (indexChangeListener != null) {
+            indexChangeListener.indexDeleted(indexCoordinates);
+        }
+    }
+
     protected Class<?> checkForBoundClass() {
         if (boundClass == null) {
             throw new InvalidDataAccessApiUsageException("IndexOperations are not bound");
@@ -152,6 +175,7 @@ public class IndicesTemplate extends ChildTemplate<OpenSearchTransport, OpenSear
         if (doExists(indexCoordinates)) {
             DeleteIndexRequest deleteIndexRequest = requestConverter.indicesDeleteRequest(indexCoordinates);
             DeleteIndexResponse deleteIndexResponse = execute(client -> client.delete(deleteIndexRequest));
+            indexDeleted(indexCoordinates);
             return deleteIndexResponse.acknowledged();
         }
 
@@ -175,8 +199,10 @@ public class IndicesTemplate extends ChildTemplate<OpenSearchTransport, OpenSear
     @Override
     public void refresh() {
 
-        RefreshRequest refreshRequest = requestConverter.indicesRefreshRequest(getIndexCoordinates());
+        IndexCoordinates indexCoordinates = getIndexCoordinates();
+        RefreshRequest refreshRequest = requestConverter.indicesRefreshRequest(indexCoordinates);
         execute(client -> client.refresh(refreshRequest));
+        indexRefreshed(indexCoordinates);
     }
 
     @Override
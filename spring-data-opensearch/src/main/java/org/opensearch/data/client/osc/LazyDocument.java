@@ -0,0 +1,199 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.data.client.osc;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link Document} whose metadata is set right away and whose content is only created when it is first accessed.
+ * Used for directly read search hits, whose entity is only written to a document when an entity callback looks at it.
+ */
+final class LazyDocument implements Document {
+
+    private final Document document = Document.create();
+    @Nullable private Supplier<? extends Map<String, ?>> content;
+
+    LazyDocument(Supplier<? extends Map<String, ?>> content) {
+        this.content = content;
+    }
+
+    private Document document() {
+
+        Supplier<? extends Map<String, ?>> supplier = content;
+        if (supplier != null) {
+            content = null;
+            document.putAll(supplier.get());
+        }
+        return document;
+    }
+
+    /**
+     * @return whether the content has been created
+     */
+    boolean isLoaded() {
+        return content == null;
+    }
+
+    @Override
+    public void setIndex(@Nullable String index) {
+        document.setIndex(index);
+    }
+
+    @Override
+    @Nullable
+    public String getIndex() {
+        return document.getIndex();
+    }
+
+    @Override
+    public boolean hasId() {
+        return document.hasId();
+    }
+
+    @Override
+    public String getId() {
+        return document.getId();
+    }
+
+    @Override
+    public void setId(String id) {
+        document.setId(id);
+    }
+
+    @Override
+    public boolean hasVersion() {
+        return document.hasVersion();
+    }
+
+    @Override
+    public long getVersion() {
+        return document.getVersion();
+    }
+
+    @Override
+    public void setVersion(long version) {
+        document.setVersion(version);
+    }
+
+    @Override
+    public boolean hasSeqNo() {
+        return document.hasSeqNo();
+    }
+
+    @Override
+    public long getSeqNo() {
+        return document.getSeqNo();
+    }
+
+    @Override
+    public void setSeqNo(long seqNo) {
+        document.setSeqNo(seqNo);
+    }
+
+    @Override
+    public boolean hasPrimaryTerm() {
+        return document.hasPrimaryTerm();
+    }
+
+    @Override
+    public long getPrimaryTerm() {
+        return document.getPrimaryTerm();
+    }
+
+    @Override
+    public void setPrimaryTerm(long primaryTerm) {
+        document.setPrimaryTerm(primaryTerm);
+    }
+
+    @Override
+    public int size() {
+        return document().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return document().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return document().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return document().containsValue(value);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return document().get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return document().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return document().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        document().putAll(map);
+    }
+
+    @Override
+    public void clear() {
+        content = null;
+        document.clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return document().keySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return document().values();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return document().entrySet();
+    }
+
+    @Override
+    public String toJson() {
+        return document().toJson();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || document().equals(o instanceof LazyDocument lazyDocument ? lazyDocument.document() : o);
+    }
+
+    @Override
+    public int hashCode() {
+        return document().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + '@' + getId() + '#' + (isLoaded() ? document : "(not loaded)");
+    }
+}
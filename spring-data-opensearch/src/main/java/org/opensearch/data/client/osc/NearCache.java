@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the documents of the annotated entity type that are read by id in a bounded cache of the
+ * {@link OpenSearchTemplate} or {@link ReactiveOpenSearchTemplate} that read them, so that reading them again does not
+ * send a request. The get and multi get operations of the templates use the cache when they read from a single index
+ * and, for multi get, the whole source of the documents.
+ * <p>
+ * The writes sent by the template and its copies, like index, update, delete and bulk requests, invalidate the cached
+ * documents they change, and a document read before a write is not cached once the template has seen the sequence
+ * number of the write. Writes to the index from other clients, or from the same client through an alias when the
+ * documents are read through the index name or the other way round, are only seen when the cached document expires.
+ * Delete and update by query requests invalidate all cached documents.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface NearCache {
+
+    /**
+     * @return the maximum number of documents in the cache, the least recently used ones are evicted first
+     */
+    int maximumSize() default 1000;
+
+    /**
+     * @return the time a document is kept after it was read, in the {@link #timeUnit()}
+     */
+    long timeToLive() default 60;
+
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+}
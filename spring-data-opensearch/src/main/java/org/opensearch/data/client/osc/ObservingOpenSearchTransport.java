@@ -0,0 +1,244 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+
+/**
+ * An {@link OpenSearchTransport} that observes every request sent through the transport it delegates to with an
+ * {@link OpenSearchObservation#REQUEST} observation. The operation is derived from the type of the request, like
+ * {@code search} for a {@link org.opensearch.client.opensearch.core.SearchRequest}, the index from the path of the
+ * request. The hits of a search sent through a {@link StreamingOpenSearchTransport} are still emitted while its
+ * response arrives, see {@link #searchHits(SearchRequest, JsonpDeserializer, TransportOptions)}.
+ *
+ * @see TemplateObservations
+ */
+public final class ObservingOpenSearchTransport implements OpenSearchTransport {
+
+    private static final ClassValue<String> OPERATIONS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return operationName(type);
+        }
+    };
+
+    private final OpenSearchTransport delegate;
+    private final ObservationRegistry observationRegistry;
+    @Nullable private final OpenSearchObservationConvention observationConvention;
+
+    public ObservingOpenSearchTransport(OpenSearchTransport delegate, ObservationRegistry observationRegistry) {
+        this(delegate, observationRegistry, null);
+    }
+
+    /**
+     * @param observationConvention the convention to use instead of the {@link DefaultOpenSearchObservationConvention},
+     *          may be {@literal null}
+     */
+    public ObservingOpenSearchTransport(OpenSearchTransport delegate, ObservationRegistry observationRegistry,
+            @Nullable OpenSearchObservationConvention observationConvention) {
+
+        Assert.notNull(delegate, "delegate must not be null");
+        Assert.notNull(observationRegistry, "observationRegistry must not be null");
+
+        this.delegate = delegate;
+        this.observationRegistry = observationRegistry;
+        this.observationConvention = observationConvention;
+    }
+
+    public OpenSearchTransport getDelegate() {
+        return delegate;
+    }
+
+    public ObservationRegistry getObservationRegistry() {
+        return observationRegistry;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) throws IOException {
+
+        if (observationRegistry.isNoop()) {
+            return delegate.performRequest(request, endpoint, options);
+        }
+
+        OpenSearchObservationContext context = context(request, endpoint);
+        Observation observation = observation(context).start();
+        Observation.Scope scope = observation.openScope();
+        long start = System.nanoTime();
+        try {
+            ResponseT response = delegate.performRequest(request, endpoint, options);
+            context.setResponse(response, System.nanoTime() - start);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            scope.close();
+            observation.stop();
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) {
+
+        if (observationRegistry.isNoop()) {
+            return delegate.performRequestAsync(request, endpoint, options);
+        }
+
+        OpenSearchObservationContext context = context(request, endpoint);
+        Observation observation = observation(context).start();
+        long start = System.nanoTime();
+
+        CompletableFuture<ResponseT> future;
+        try {
+            future = delegate.performRequestAsync(request, endpoint, options);
+        } catch (RuntimeException e) {
+            observation.error(e);
+            observation.stop();
+            throw e;
+        }
+
+        // the future of the delegate is returned so that cancelling it still cancels the request
+        future.whenComplete((response, error) -> {
+            if (error != null) {
+                observation.error(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                context.setResponse(response, System.nanoTime() - start);
+            }
+            observation.stop();
+        });
+        return future;
+    }
+
+    /**
+     * Observes a search whose hits are emitted by the {@link StreamingOpenSearchTransport} this transport delegates to
+     * while the response arrives, see
+     * {@link StreamingOpenSearchTransport#searchHits(SearchRequest, JsonpDeserializer, TransportOptions)}. The
+     * observation records the number of emitted hits and is stopped when the hits complete, fail or are cancelled.
+     *
+     * @throws IllegalStateException if the delegate is not a {@link StreamingOpenSearchTransport}
+     */
+    public <TDocument> Flux<Hit<TDocument>> searchHits(SearchRequest request,
+            JsonpDeserializer<TDocument> documentDeserializer, @Nullable TransportOptions options) {
+
+        Assert.state(delegate instanceof StreamingOpenSearchTransport, "delegate must be a StreamingOpenSearchTransport");
+
+        StreamingOpenSearchTransport streamingTransport = (StreamingOpenSearchTransport) delegate;
+        if (observationRegistry.isNoop()) {
+            return streamingTransport.searchHits(request, documentDeserializer, options);
+        }
+
+        return Flux.defer(() -> {
+            OpenSearchObservationContext context = context(request, SearchRequest._ENDPOINT);
+            Observation observation = observation(context).start();
+            AtomicInteger hits = new AtomicInteger();
+
+            return streamingTransport.searchHits(request, documentDeserializer, options) //
+                    .doOnNext(hit -> hits.incrementAndGet()) //
+                    .doOnComplete(() -> {
+                        context.setStreamedHits(hits.get());
+                        observation.stop();
+                    }) //
+                    .doOnError(error -> {
+                        observation.error(error);
+                        observation.stop();
+                    }) //
+                    .doOnCancel(() -> {
+                        context.setStreamedHits(hits.get());
+                        observation.stop();
+                    });
+        });
+    }
+
+    @Override
+    public JsonpMapper jsonpMapper() {
+        return delegate.jsonpMapper();
+    }
+
+    @Override
+    public TransportOptions options() {
+        return delegate.options();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private Observation observation(OpenSearchObservationContext context) {
+        return OpenSearchObservation.REQUEST.observation(observationConvention,
+                DefaultOpenSearchObservationConvention.INSTANCE, () -> context, observationRegistry);
+    }
+
+    private static <RequestT> OpenSearchObservationContext context(RequestT request, Endpoint<RequestT, ?, ?> endpoint) {
+        return new OpenSearchObservationContext(request, OPERATIONS.get(request.getClass()),
+                index(endpoint.requestUrl(request)));
+    }
+
+    /**
+     * @return the first segment of the path if it is not an API name like {@code _search}, {@literal null} otherwise
+     */
+    @Nullable
+    static String index(String requestUrl) {
+
+        int start = requestUrl.startsWith("/") ? 1 : 0;
+        int end = requestUrl.indexOf('/', start);
+        String segment = requestUrl.substring(start, end >= 0 ? end : requestUrl.length());
+
+        if (segment.isEmpty() || segment.startsWith("_")) {
+            return null;
+        }
+        return URLDecoder.decode(segment, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the simple name of the request type without the {@code Request} suffix in snake case, like
+     *         {@code delete_by_query} for a {@code DeleteByQueryRequest}
+     */
+    static String operationName(Class<?> requestType) {
+
+        String name = requestType.getSimpleName();
+        if (name.endsWith("Request") && name.length() > "Request".length()) {
+            name = name.substring(0, name.length() - "Request".length());
+        }
+
+        StringBuilder sb = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) {
+                    sb.append('_');
+                }
+                sb.append(Character.toLowerCase(c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -32,8 +32,8 @@ import java.util.stream.Collectors;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.X509TrustManager;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
-import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
 import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.core5.http.ContentType;
@@ -183,15 +183,7 @@ public final class OpenSearchClients {
     }
 
     private static RestClientBuilder getRestClientBuilder(ClientConfiguration clientConfiguration) {
-        HttpHost[] httpHosts = formattedHosts(clientConfiguration.getEndpoints(), clientConfiguration.useSsl()).stream()
-                .map(s -> {
-                    try {
-                        return HttpHost.create(s);
-                    } catch (final URISyntaxException e) {
-                        throw new IllegalArgumentException(e);
-                    }
-                }).toArray(HttpHost[]::new);
-        RestClientBuilder builder = RestClient.builder(httpHosts);
+        RestClientBuilder builder = RestClient.builder(getHttpHosts(clientConfiguration));
 
         if (clientConfiguration.getPathPrefix() != null) {
             builder.setPathPrefix(clientConfiguration.getPathPrefix());
@@ -203,59 +195,86 @@ public final class OpenSearchClients {
             builder.setDefaultHeaders(toHeaderArray(headers));
         }
 
-        builder.setHttpClientConfigCallback(clientBuilder -> {
-            ClientTlsStrategyBuilder tlsStrategy = ClientTlsStrategyBuilder.create();
-            if (clientConfiguration.getCaFingerprint().isPresent()) {
-                tlsStrategy = tlsStrategy.setSslContext(sslContextFromCaFingerprint(clientConfiguration.getCaFingerprint().get()));
+        builder.setHttpClientConfigCallback(clientBuilder -> configureHttpClient(clientBuilder, clientConfiguration));
+
+        for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurationCallback : clientConfiguration
+                .getClientConfigurers()) {
+            if (clientConfigurationCallback instanceof OpenSearchRestClientConfigurationCallback configurationCallback) {
+                builder = configurationCallback.configure(builder);
             }
-            clientConfiguration.getSslContext().ifPresent(tlsStrategy::setSslContext);
-            clientConfiguration.getHostNameVerifier().ifPresent(tlsStrategy::setHostnameVerifier);
-            clientBuilder.addRequestInterceptorLast(new CustomHeaderInjector(clientConfiguration.getHeadersSupplier()));
+        }
+        return builder;
+    }
+
+    private static HttpHost[] getHttpHosts(ClientConfiguration clientConfiguration) {
+        return formattedHosts(clientConfiguration.getEndpoints(), clientConfiguration.useSsl()).stream()
+                .map(s -> {
+                    try {
+                        return HttpHost.create(s);
+                    } catch (final URISyntaxException e) {
+                        throw new IllegalArgumentException(e);
+                    }
+                }).toArray(HttpHost[]::new);
+    }
 
-            RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
-            Duration connectTimeout = clientConfiguration.getConnectTimeout();
+    private static HttpAsyncClientBuilder configureHttpClient(HttpAsyncClientBuilder clientBuilder,
+            ClientConfiguration clientConfiguration) {
+        ClientTlsStrategyBuilder tlsStrategy = ClientTlsStrategyBuilder.create();
+        if (clientConfiguration.getCaFingerprint().isPresent()) {
+            tlsStrategy = tlsStrategy.setSslContext(sslContextFromCaFingerprint(clientConfiguration.getCaFingerprint().get()));
+        }
+        clientConfiguration.getSslContext().ifPresent(tlsStrategy::setSslContext);
+        clientConfiguration.getHostNameVerifier().ifPresent(tlsStrategy::setHostnameVerifier);
+        clientBuilder.addRequestInterceptorLast(new CustomHeaderInjector(clientConfiguration.getHeadersSupplier()));
 
-            if (!connectTimeout.isNegative()) {
-                requestConfigBuilder.setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()));
-            }
+        RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
+        Duration connectTimeout = clientConfiguration.getConnectTimeout();
 
-            Duration socketTimeout = clientConfiguration.getSocketTimeout();
+        if (!connectTimeout.isNegative()) {
+            requestConfigBuilder.setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()));
+        }
 
-            if (!socketTimeout.isNegative()) {
-                requestConfigBuilder.setConnectionRequestTimeout(Timeout.ofMilliseconds(socketTimeout.toMillis()));
-            }
+        Duration socketTimeout = clientConfiguration.getSocketTimeout();
 
-            clientBuilder.setDefaultRequestConfig(requestConfigBuilder.build());
+        if (!socketTimeout.isNegative()) {
+            requestConfigBuilder.setConnectionRequestTimeout(Timeout.ofMilliseconds(socketTimeout.toMillis()));
+        }
 
-            clientConfiguration.getProxy().map(s -> {
-                try {
-                    return HttpHost.create(s);
-                } catch (final URISyntaxException e) {
-                    throw new IllegalArgumentException(e);
-                }
-            }).ifPresent(clientBuilder::setProxy);
+        clientBuilder.setDefaultRequestConfig(requestConfigBuilder.build());
 
-            for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
-                    .getClientConfigurers()) {
-                if (clientConfigurer instanceof OpenSearchHttpClientConfigurationCallback restClientConfigurationCallback) {
-                    clientBuilder = restClientConfigurationCallback.configure(clientBuilder);
-                }
+        clientConfiguration.getProxy().map(s -> {
+            try {
+                return HttpHost.create(s);
+            } catch (final URISyntaxException e) {
+                throw new IllegalArgumentException(e);
             }
+        }).ifPresent(clientBuilder::setProxy);
 
-            final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
-                .setTlsStrategy(tlsStrategy.build())
-                .build();
+        PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder = PoolingAsyncClientConnectionManagerBuilder
+                .create()
+                .setTlsStrategy(tlsStrategy.build());
 
-            return clientBuilder.setConnectionManager(connectionManager);
-        });
+        for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
+                .getClientConfigurers()) {
+            if (clientConfigurer instanceof ConnectionPoolSettings connectionPoolSettings) {
+                connectionManagerBuilder = connectionPoolSettings.configure(connectionManagerBuilder);
+                clientBuilder = connectionPoolSettings.configure(clientBuilder, null);
+            } else if (clientConfigurer instanceof CompressionSettings compressionSettings) {
+                clientBuilder = compressionSettings.configure(clientBuilder);
+            }
+        }
 
-        for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurationCallback : clientConfiguration
+        clientBuilder.setConnectionManager(connectionManagerBuilder.build());
+
+        // the callbacks run after the connection manager has been set, so they are able to replace it
+        for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
                 .getClientConfigurers()) {
-            if (clientConfigurationCallback instanceof OpenSearchRestClientConfigurationCallback configurationCallback) {
-                builder = configurationCallback.configure(builder);
+            if (clientConfigurer instanceof OpenSearchHttpClientConfigurationCallback restClientConfigurationCallback) {
+                clientBuilder = restClientConfigurationCallback.configure(clientBuilder);
             }
         }
-        return builder;
+
+        return clientBuilder;
     }
     // endregion
 
@@ -302,6 +321,79 @@ public final class OpenSearchClients {
 
         return new RestClientTransport(restClient, jsonpMapper, restClientOptionsBuilder.build());
     }
+
+    /**
+     * Creates a {@link StreamingOpenSearchTransport} with its own HTTP client for the given configuration. The client
+     * is configured like the one of the {@link RestClient} created by {@link #getRestClient(ClientConfiguration)},
+     * except for the {@link OpenSearchRestClientConfigurationCallback}s, which configure a {@link RestClientBuilder}
+     * and are not applied.
+     *
+     * @param clientConfiguration configuration options, must not be {@literal null}
+     * @param clientType the client type to pass in each request as header
+     * @param transportOptions options for the transport
+     * @param jsonpMapper mapper for the transport
+     * @return the {@link StreamingOpenSearchTransport}, which closes its HTTP client when it is closed
+     */
+    public static StreamingOpenSearchTransport getStreamingOpenSearchTransport(ClientConfiguration clientConfiguration,
+            String clientType, @Nullable TransportOptions transportOptions, JsonpMapper jsonpMapper) {
+
+        Assert.notNull(clientConfiguration, "clientConfiguration must not be null");
+        Assert.notNull(clientType, "clientType must not be null");
+        Assert.notNull(jsonpMapper, "jsonpMapper must not be null");
+
+        HttpAsyncClientBuilder clientBuilder = HttpAsyncClientBuilder.create();
+        HttpHeaders headers = clientConfiguration.getDefaultHeaders();
+
+        if (!headers.isEmpty()) {
+            clientBuilder.setDefaultHeaders(Arrays.asList(toHeaderArray(headers)));
+        }
+
+        CloseableHttpAsyncClient client = configureHttpClient(clientBuilder, clientConfiguration).build();
+        return getStreamingOpenSearchTransport(client, Arrays.asList(getHttpHosts(clientConfiguration)),
+                clientConfiguration.getPathPrefix(), clientType, transportOptions, jsonpMapper);
+    }
+
+    /**
+     * Creates a {@link StreamingOpenSearchTransport} that sends the requests with the given HTTP client, additionally
+     * customized with a header to contain the clientType.
+     *
+     * @param client the HTTP client to use, closed when the transport is closed
+     * @param hosts the hosts to send the requests to
+     * @param pathPrefix the prefix of the paths of all requests, may be {@literal null}
+     * @param clientType the client type to pass in each request as header
+     * @param transportOptions options for the transport
+     * @param jsonpMapper mapper for the transport
+     * @return the {@link StreamingOpenSearchTransport}
+     */
+    public static StreamingOpenSearchTransport getStreamingOpenSearchTransport(CloseableHttpAsyncClient client,
+            List<HttpHost> hosts, @Nullable String pathPrefix, String clientType,
+            @Nullable TransportOptions transportOptions, JsonpMapper jsonpMapper) {
+
+        Assert.notNull(clientType, "clientType must not be null");
+
+        return new StreamingOpenSearchTransport(client, hosts, pathPrefix, jsonpMapper,
+                getTransportOptions(transportOptions, clientType));
+    }
+
+    /**
+     * @return the given options with the JSON {@code Content-Type} and {@code Accept} headers if they are not set and
+     *         the header with the client type
+     */
+    private static TransportOptions getTransportOptions(@Nullable TransportOptions transportOptions, String clientType) {
+
+        TransportOptions.Builder builder = transportOptions != null ? transportOptions.toBuilder()
+                : TransportOptions.builder();
+
+        for (String header : List.of("Content-Type", "Accept")) {
+            if (transportOptions == null || transportOptions.headers().stream() //
+                    .noneMatch(h -> h.getKey().equalsIgnoreCase(header))) {
+                builder.addHeader(header, ContentType.APPLICATION_JSON.toString());
+            }
+        }
+
+        builder.addHeader(X_SPRING_DATA_OPENSEARCH_CLIENT, clientType);
+        return builder.build();
+    }
     // endregion
 
     // region reactive client
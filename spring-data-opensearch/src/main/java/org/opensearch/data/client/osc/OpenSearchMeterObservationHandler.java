@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import java.util.concurrent.TimeUnit;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link ObservationHandler} that records the times and counts of an {@link OpenSearchObservation#REQUEST}
+ * observation as meters, tagged with the low cardinality key values of the observation:
+ * <ul>
+ * <li>{@code <name>.took}: a timer of the time the cluster took to execute the request,</li>
+ * <li>{@code <name>.client.overhead}: a timer of the time the request took in the client in addition,</li>
+ * <li>{@code <name>.hits}: a distribution summary of the number of hits returned by a search,</li>
+ * <li>{@code <name>.bulk.failures}: a distribution summary of the number of failed items of a bulk request,</li>
+ * </ul>
+ * where {@code <name>} is the name of the observation, {@code spring.data.opensearch.request} by default. The duration
+ * of the whole request is recorded by the default meter handler of the registry.
+ */
+public class OpenSearchMeterObservationHandler implements ObservationHandler<OpenSearchObservationContext> {
+
+    private final MeterRegistry meterRegistry;
+
+    public OpenSearchMeterObservationHandler(MeterRegistry meterRegistry) {
+
+        Assert.notNull(meterRegistry, "meterRegistry must not be null");
+
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onStop(OpenSearchObservationContext context) {
+
+        String name = context.getName();
+        Tags tags = tags(context);
+
+        if (context.getTookMillis() != null) {
+            Timer.builder(name + ".took") //
+                    .description("Time the cluster took to execute the request") //
+                    .tags(tags) //
+                    .register(meterRegistry) //
+                    .record(context.getTookMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (context.getClientOverheadMillis() != null) {
+            Timer.builder(name + ".client.overhead") //
+                    .description("Time the request took in the client in addition to the time the cluster took") //
+                    .tags(tags) //
+                    .register(meterRegistry) //
+                    .record(context.getClientOverheadMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (context.getHits() != null) {
+            DistributionSummary.builder(name + ".hits") //
+                    .description("Number of hits returned by a search") //
+                    .tags(tags) //
+                    .register(meterRegistry) //
+                    .record(context.getHits());
+        }
+        if (context.getBulkFailures() != null) {
+            DistributionSummary.builder(name + ".bulk.failures") //
+                    .description("Number of failed items of a bulk request") //
+                    .tags(tags) //
+                    .register(meterRegistry) //
+                    .record(context.getBulkFailures());
+        }
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof OpenSearchObservationContext;
+    }
+
+    private static Tags tags(OpenSearchObservationContext context) {
+
+        Tags tags = Tags.empty();
+        for (KeyValue keyValue : context.getLowCardinalityKeyValues()) {
+            tags = tags.and(Tag.of(keyValue.getKey(), keyValue.getValue()));
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documentation of the observations of the requests sent to OpenSearch.
+ *
+ * @see ObservingOpenSearchTransport
+ */
+public enum OpenSearchObservation implements ObservationDocumentation {
+
+    /**
+     * A request sent to OpenSearch, from the serialization of the request to the deserialization of the response.
+     */
+    REQUEST {
+        @Override
+        public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+            return DefaultOpenSearchObservationConvention.class;
+        }
+
+        @Override
+        public KeyName[] getLowCardinalityKeyNames() {
+            return LowCardinalityKeyNames.values();
+        }
+
+        @Override
+        public KeyName[] getHighCardinalityKeyNames() {
+            return HighCardinalityKeyNames.values();
+        }
+    };
+
+    public enum LowCardinalityKeyNames implements KeyName {
+
+        /**
+         * The operation of the request, like {@code search}, {@code bulk}, {@code mget}, {@code index} or {@code count}.
+         */
+        OPERATION {
+            @Override
+            public String asString() {
+                return "opensearch.operation";
+            }
+        },
+
+        /**
+         * The index alias of the request: the index in the path with the numeric suffixes of dated or rolled over
+         * indices removed, {@code multiple} for several indices and {@code none} for requests without an index in the
+         * path.
+         *
+         * @see DefaultOpenSearchObservationConvention#indexAlias(String)
+         */
+        INDEX {
+            @Override
+            public String asString() {
+                return "opensearch.index";
+            }
+        },
+
+        /**
+         * {@code SUCCESS}, {@code PARTIAL_FAILURE} for bulk requests with failed items or {@code FAILURE}.
+         */
+        OUTCOME {
+            @Override
+            public String asString() {
+                return "outcome";
+            }
+        }
+    }
+
+    public enum HighCardinalityKeyNames implements KeyName {
+
+        /**
+         * The index, alias or comma separated list of indices in the path of the request, {@code none} for requests
+         * without an index in the path.
+         */
+        INDEX_NAME {
+            @Override
+            public String asString() {
+                return "opensearch.index.name";
+            }
+        },
+
+        /**
+         * The time in milliseconds the cluster reported it took to execute the request.
+         */
+        TOOK {
+            @Override
+            public String asString() {
+                return "opensearch.took";
+            }
+        },
+
+        /**
+         * The time in milliseconds the request took in the client in addition to {@link #TOOK}: serialization, the
+         * network round trip and deserialization.
+         */
+        CLIENT_OVERHEAD {
+            @Override
+            public String asString() {
+                return "opensearch.client.overhead";
+            }
+        },
+
+        /**
+         * The number of hits returned by a search.
+         */
+        HITS {
+            @Override
+            public String asString() {
+                return "opensearch.hits";
+            }
+        },
+
+        /**
+         * The number of failed items of a bulk request.
+         */
+        BULK_FAILURES {
+            @Override
+            public String asString() {
+                return "opensearch.bulk.failures";
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import io.micrometer.observation.Observation;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.MsearchResponse;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.search.SearchResult;
+import org.opensearch.client.transport.TransportOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Observation.Context} of a request sent to OpenSearch.
+ *
+ * @see OpenSearchObservation#REQUEST
+ */
+public class OpenSearchObservationContext extends Observation.Context {
+
+    private final Object request;
+    private final String operation;
+    @Nullable private final String index;
+
+    @Nullable private Object response;
+    @Nullable private Long tookMillis;
+    @Nullable private Long clientOverheadMillis;
+    @Nullable private Integer hits;
+    @Nullable private Integer bulkFailures;
+
+    /**
+     * @param request the request sent to OpenSearch
+     * @param operation the operation of the request, like {@code search} or {@code bulk}
+     * @param index the index in the path of the request, {@literal null} if there is none
+     */
+    public OpenSearchObservationContext(Object request, String operation, @Nullable String index) {
+
+        Assert.notNull(request, "request must not be null");
+        Assert.notNull(operation, "operation must not be null");
+
+        this.request = request;
+        this.operation = operation;
+        this.index = index;
+    }
+
+    public Object getRequest() {
+        return request;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    @Nullable
+    public String getIndex() {
+        return index;
+    }
+
+    @Nullable
+    public Object getResponse() {
+        return response;
+    }
+
+    /**
+     * @return the time the cluster took to execute the request, {@literal null} if the response does not report it
+     */
+    @Nullable
+    public Long getTookMillis() {
+        return tookMillis;
+    }
+
+    /**
+     * @return the time the request took in the client in addition to the time the cluster took, {@literal null} if the
+     *         response does not report the time the cluster took
+     */
+    @Nullable
+    public Long getClientOverheadMillis() {
+        return clientOverheadMillis;
+    }
+
+    /**
+     * @return the number of hits returned by a search, {@literal null} for other requests
+     */
+    @Nullable
+    public Integer getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of failed items of a bulk request, {@literal null} for other requests
+     */
+    @Nullable
+    public Integer getBulkFailures() {
+        return bulkFailures;
+    }
+
+    /**
+     * Sets the response and the values taken from it.
+     *
+     * @param response the response of the request
+     * @param elapsedNanos the time from sending the request to reading the response
+     */
+    public void setResponse(Object response, long elapsedNanos) {
+
+        this.response = response;
+
+        if (response instanceof SearchResult<?> searchResult) {
+            tookMillis = searchResult.took();
+            hits = searchResult.hits().hits().size();
+        } else if (response instanceof MsearchResponse<?> msearchResponse) {
+            tookMillis = msearchResponse.took();
+        } else if (response instanceof BulkResponse bulkResponse) {
+            tookMillis = bulkResponse.took();
+            bulkFailures = bulkResponse.errors()
+                    ? (int) bulkResponse.items().stream().filter(item -> item.error() != null).count()
+                    : 0;
+        }
+
+        if (tookMillis != null) {
+            clientOverheadMillis = Math.max(0, TimeUnit.NANOSECONDS.toMillis(elapsedNanos) - tookMillis);
+        }
+    }
+
+    /**
+     * Sets the number of hits of a search whose hits were emitted while its response was read. The other properties
+     * of such a response are not read, so the time the cluster took is not known.
+     *
+     * @param hits the number of hits that were emitted
+     * @see ObservingOpenSearchTransport#searchHits(SearchRequest, JsonpDeserializer, TransportOptions)
+     */
+    public void setStreamedHits(int hits) {
+        this.hits = hits;
+    }
+}
@@ -25,32 +25,44 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.Time;
+import org.opensearch.client.opensearch._types.WriteResponseBase;
 import org.opensearch.client.opensearch.core.*;
 import org.opensearch.client.opensearch.core.DeletePitRequest;
 import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
 import org.opensearch.client.opensearch.core.msearch.MultiSearchResponseItem;
+import org.opensearch.client.opensearch.core.search.Hit;
 import org.opensearch.client.opensearch.core.search.SearchResult;
+import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.client.transport.Version;
 import org.opensearch.data.core.OpenSearchOperations;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.elasticsearch.BulkFailureException;
 import org.springframework.data.elasticsearch.client.UnsupportedBackendOperation;
 import org.springframework.data.elasticsearch.core.AbstractElasticsearchTemplate;
 import org.springframework.data.elasticsearch.core.IndexOperations;
 import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
 import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.SearchHitMapping;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
 import org.springframework.data.elasticsearch.core.SearchScrollHits;
 import org.springframework.data.elasticsearch.core.cluster.ClusterOperations;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.document.SearchDocument;
 import org.springframework.data.elasticsearch.core.document.SearchDocumentResponse;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BaseQuery;
 import org.springframework.data.elasticsearch.core.query.BaseQueryBuilder;
 import org.springframework.data.elasticsearch.core.query.BulkOptions;
 import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
@@ -79,7 +91,7 @@ import org.springframework.util.Assert;
  * @author Haibo Liu
  * @since 4.4
  */
-public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements OpenSearchOperations {
+public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements OpenSearchOperations, DisposableBean {
 
     private static final Log LOGGER = LogFactory.getLog(OpenSearchTemplate.class);
 
@@ -88,6 +100,16 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
     private final ResponseConverter responseConverter;
     private final JsonpMapper jsonpMapper;
     private final OpenSearchExceptionTranslator exceptionTranslator;
+    @Nullable private BulkRetryPolicy bulkRetryPolicy;
+    private boolean directEntityReads = false;
+    @Nullable private Integer unpagedSearchLimit;
+    private OpenSearchClient observedClient;
+    @Nullable private RequestCoalescer<RequestConverter.DocumentGet, MultiGetItem<Document>> getCoalescer;
+    @Nullable private RequestCoalescer<RequestConverter.SearchItem, MultiSearchResponseItem<EntityAsMap>> searchCoalescer;
+    private DocumentCaches documentCaches = new DocumentCaches();
+    @Nullable private SearchResultCache searchResultCache;
+    private PointInTimeExecutor pointInTimeExecutor = new PointInTimeExecutor();
+    private final Map<Class<?>, Optional<DirectEntityReader<?>>> directEntityReaders = new ConcurrentHashMap<>();
 
     // region _initialization
     public OpenSearchTemplate(OpenSearchClient client) {
@@ -95,6 +117,7 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
         Assert.notNull(client, "client must not be null");
 
         this.client = client;
+        this.observedClient = client;
         this.jsonpMapper = client._transport().jsonpMapper();
         requestConverter = new RequestConverter(elasticsearchConverter, jsonpMapper);
         responseConverter = new ResponseConverter(jsonpMapper);
@@ -107,6 +130,7 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
         Assert.notNull(client, "client must not be null");
 
         this.client = client;
+        this.observedClient = client;
         this.jsonpMapper = client._transport().jsonpMapper();
         requestConverter = new RequestConverter(elasticsearchConverter, jsonpMapper);
         responseConverter = new ResponseConverter(jsonpMapper);
@@ -115,19 +139,182 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
 
     @Override
     protected AbstractElasticsearchTemplate doCopy() {
-        return new OpenSearchTemplate(client, elasticsearchConverter);
+
+        OpenSearchTemplate copy = new OpenSearchTemplate(client, elasticsearchConverter);
+        copy.setBulkRetryPolicy(bulkRetryPolicy);
+        copy.setDirectEntityReads(directEntityReads);
+        copy.setUnpagedSearchLimit(unpagedSearchLimit);
+        copy.observedClient = observedClient;
+        copy.setGetCoalescingOptions(getGetCoalescingOptions());
+        copy.setSearchCoalescingOptions(getSearchCoalescingOptions());
+        copy.documentCaches = documentCaches;
+        copy.searchResultCache = searchResultCache;
+        copy.pointInTimeExecutor = pointInTimeExecutor;
+        return copy;
+    }
+
+    /**
+     * Shuts down the threads that read the pages of {@link #searchForStreamWithPointInTime point in time scans} ahead,
+     * which are shared with the copies of this template. Open scans continue to read their pages on the consuming
+     * thread.
+     */
+    @Override
+    public void destroy() {
+        pointInTimeExecutor.shutdown();
+    }
+
+    /**
+     * Sets the policy used to resend the items of a bulk request that were rejected with a transient error. If no
+     * policy is set, any failed item makes the bulk operation fail.
+     *
+     * @param bulkRetryPolicy the policy, {@literal null} to disable retries
+     */
+    public void setBulkRetryPolicy(@Nullable BulkRetryPolicy bulkRetryPolicy) {
+        this.bulkRetryPolicy = bulkRetryPolicy;
+    }
+
+    @Nullable
+    public BulkRetryPolicy getBulkRetryPolicy() {
+        return bulkRetryPolicy;
+    }
+
+    /**
+     * Enables reading the {@code _source} of search hits directly into the entity class, without building an
+     * intermediate map and {@link Document} per hit. This is only done for entities that are simple enough to be read
+     * without the {@link ElasticsearchConverter}: a no-argument constructor and scalar properties (or collections of
+     * them) without property value converters. Other entities, entities with subtypes in the mapping context, and
+     * queries with suggesters, are read as before; so is an entity class once a hit of it has the type hint of a
+     * subtype that was not mapped yet, that search is then sent again.
+     * <p>
+     * {@link org.springframework.data.elasticsearch.core.event.AfterLoadCallback}s are <strong>not</strong> invoked for
+     * directly read hits, as there is no document before the entity is read; do not enable direct reads when such a
+     * callback has to change the loaded documents.
+     * {@link org.springframework.data.elasticsearch.core.event.AfterConvertCallback}s get a {@link Document} that the
+     * read entity is only written to when the callback accesses its content.
+     *
+     * @param directEntityReads {@literal true} to enable direct reads, defaults to {@literal false}
+     */
+    public void setDirectEntityReads(boolean directEntityReads) {
+        this.directEntityReads = directEntityReads;
+    }
+
+    public boolean isDirectEntityReads() {
+        return directEntityReads;
+    }
+
+    /**
+     * Limits the number of hits an unpaged search may return. Without a limit, an unpaged query without max results
+     * reads up to {@link RequestConverter#INDEX_MAX_RESULT_WINDOW} documents in one response. With a limit, at most one
+     * hit more than the limit is requested and the search fails with an {@link InvalidDataAccessApiUsageException} if
+     * more hits than the limit are returned. Use a paged query or
+     * {@link #searchForStreamWithPointInTime(Query, Class, IndexCoordinates)} to read larger results.
+     *
+     * @param unpagedSearchLimit the maximum number of hits of an unpaged search, {@literal null} for no limit
+     */
+    public void setUnpagedSearchLimit(@Nullable Integer unpagedSearchLimit) {
+
+        Assert.isTrue(unpagedSearchLimit == null || unpagedSearchLimit > 0, "unpagedSearchLimit must be greater than 0");
+        Assert.isTrue(unpagedSearchLimit == null || unpagedSearchLimit < RequestConverter.INDEX_MAX_RESULT_WINDOW,
+                "unpagedSearchLimit must be less than " + RequestConverter.INDEX_MAX_RESULT_WINDOW);
+
+        this.unpagedSearchLimit = unpagedSearchLimit;
+    }
+
+    @Nullable
+    public Integer getUnpagedSearchLimit() {
+        return unpagedSearchLimit;
+    }
+
+    /**
+     * Sends the requests of {@link #execute(ClientCallback)} through the transport the given function creates around the
+     * transport of the client. The requests of the index and cluster operations are not affected.
+     *
+     * @param observingTransport creates the transport, {@literal null} to send the requests through the client
+     * @see TemplateObservations
+     */
+    void observeRequests(@Nullable UnaryOperator<OpenSearchTransport> observingTransport) {
+        this.observedClient = observingTransport != null
+                ? new OpenSearchClient(observingTransport.apply(client._transport()), client._transportOptions())
+                : client;
+    }
+
+    OpenSearchTransport getRequestTransport() {
+        return observedClient._transport();
+    }
+
+    /**
+     * Enables coalescing of concurrent {@link #get(String, Class, IndexCoordinates)} calls into {@code _mget} requests.
+     * The thread of the call that opens a batch waits for the window of the options and then sends the batch for all
+     * the calls in it. Documents that fail in the {@code _mget} request are fetched again with a single get, so the
+     * failure surfaces as it does without coalescing. Calls with more than one index are not coalesced.
+     *
+     * @param getCoalescingOptions the options, {@literal null} to send a request per call
+     */
+    public void setGetCoalescingOptions(@Nullable CoalescingOptions getCoalescingOptions) {
+        this.getCoalescer = getCoalescingOptions != null ? new RequestCoalescer<>(getCoalescingOptions) : null;
+    }
+
+    @Nullable
+    public CoalescingOptions getGetCoalescingOptions() {
+        return getCoalescer != null ? getCoalescer.getOptions() : null;
+    }
+
+    /**
+     * Enables coalescing of concurrent {@link #search(Query, Class, IndexCoordinates)} calls into {@code _msearch}
+     * requests, identical searches in a batch are sent once. The thread of the call that opens a batch waits for the
+     * window of the options and then sends the batch for all the calls in it. Searches that fail in the
+     * {@code _msearch} request are sent again on their own, so the failure surfaces as it does without coalescing.
+     * Searches with a point in time or other options an {@code _msearch} item does not support, search template queries
+     * and searches read with {@link #setDirectEntityReads(boolean) direct entity reads} are not coalesced.
+     *
+     * @param searchCoalescingOptions the options, {@literal null} to send a request per call
+     */
+    public void setSearchCoalescingOptions(@Nullable CoalescingOptions searchCoalescingOptions) {
+        this.searchCoalescer = searchCoalescingOptions != null ? new RequestCoalescer<>(searchCoalescingOptions) : null;
+    }
+
+    @Nullable
+    public CoalescingOptions getSearchCoalescingOptions() {
+        return searchCoalescer != null ? searchCoalescer.getOptions() : null;
+    }
+
+    /**
+     * Enables the cache of search responses for {@link #search(Query, Class, IndexCoordinates)} and the other search
+     * operations. Searches with a point in time or other options an {@code _msearch} item does not support are not
+     * cached, neither are searches read with {@link #setDirectEntityReads(boolean) direct entity reads}. The writes of
+     * the template and its copies and the refreshes and deletes of an index through its
+     * {@link #indexOps(IndexCoordinates) index operations} invalidate the cached responses of the index. A new cache
+     * is created on every call and shared with the copies of the template created afterwards.
+     *
+     * @param searchCacheOptions the options, {@literal null} to not cache search responses
+     */
+    public void setSearchCacheOptions(@Nullable SearchCacheOptions searchCacheOptions) {
+        this.searchResultCache = searchCacheOptions != null ? new SearchResultCache(searchCacheOptions, jsonpMapper) : null;
+    }
+
+    @Nullable
+    public SearchCacheOptions getSearchCacheOptions() {
+        return searchResultCache != null ? searchResultCache.getOptions() : null;
     }
     // endregion
 
     // region child templates
     @Override
     public IndexOperations indexOps(Class<?> clazz) {
-        return new IndicesTemplate(client.indices(), getClusterTemplate(), elasticsearchConverter, clazz);
+
+        IndicesTemplate indicesTemplate = new IndicesTemplate(client.indices(), getClusterTemplate(),
+                elasticsearchConverter, clazz);
+        indicesTemplate.setIndexChangeListener(indexChangeListener());
+        return indicesTemplate;
     }
 
     @Override
     public IndexOperations indexOps(IndexCoordinates index) {
-        return new IndicesTemplate(client.indices(), getClusterTemplate(), elasticsearchConverter, index);
+
+        IndicesTemplate indicesTemplate = new IndicesTemplate(client.indices(), getClusterTemplate(),
+                elasticsearchConverter, index);
+        indicesTemplate.setIndexChangeListener(indexChangeListener());
+        return indicesTemplate;
     }
 
     @Override
@@ -145,12 +332,52 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
     @Nullable
     public <T> T get(String id, Class<T> clazz, IndexCoordinates index) {
 
-        GetRequest getRequest = requestConverter.documentGetRequest(elasticsearchConverter.convertId(id),
-                routingResolver.getRouting(), index);
+        String convertedId = elasticsearchConverter.convertId(id);
+        String routing = routingResolver.getRouting();
+        ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
+
+        DocumentCache cache = documentCaches.get(clazz, index);
+        if (cache != null) {
+            Document document = cache.get(index.getIndexName(), convertedId, routing);
+            if (document == null) {
+                document = doGet(convertedId, routing, index);
+                if (document != null) {
+                    cache.put(index.getIndexName(), convertedId, routing, document);
+                }
+            }
+            return callback.doWith(document);
+        }
+
+        return callback.doWith(doGet(convertedId, routing, index));
+    }
+
+    @Nullable
+    private Document doGet(String id, @Nullable String routing, IndexCoordinates index) {
+
+        RequestCoalescer<RequestConverter.DocumentGet, MultiGetItem<Document>> coalescer = getCoalescer;
+        if (coalescer != null && index.getIndexNames().length == 1) {
+            MultiGetItem<Document> item = coalescer
+                    .execute(new RequestConverter.DocumentGet(index.getIndexName(), id, routing), this::doGets);
+            if (!item.isFailed()) {
+                return item.getItem();
+            }
+        }
+
+        GetRequest getRequest = requestConverter.documentGetRequest(id, routing, index);
         GetResponse<EntityAsMap> getResponse = execute(client -> client.get(getRequest, EntityAsMap.class));
 
-        ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
-        return callback.doWith(DocumentAdapters.from(getResponse));
+        return DocumentAdapters.from(getResponse);
+    }
+
+    private List<MultiGetItem<Document>> doGets(List<RequestConverter.DocumentGet> gets) {
+
+        return doMultiGet(requestConverter.documentMgetRequest(gets));
+    }
+
+    private List<MultiGetItem<Document>> doMultiGet(MgetRequest request) {
+
+        MgetResponse<EntityAsMap> response = execute(client -> client.mget(request, EntityAsMap.class));
+        return DocumentAdapters.from(response);
     }
 
     @Override
@@ -160,11 +387,21 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
         Assert.notNull(clazz, "clazz must not be null");
 
         MgetRequest request = requestConverter.documentMgetRequest(query, clazz, index);
-        MgetResponse<EntityAsMap> result = execute(client -> client.mget(request, EntityAsMap.class));
+
+        DocumentCache cache = documentCaches.get(clazz, index);
+        DocumentCache.Lookup lookup = cache != null ? cache.lookup(request) : null;
+
+        List<MultiGetItem<Document>> documents;
+        if (lookup != null) {
+            MgetRequest missing = lookup.missing();
+            documents = cache.merge(lookup, missing != null ? doMultiGet(missing) : List.of());
+        } else {
+            documents = doMultiGet(request);
+        }
 
         ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 
-        return DocumentAdapters.from(result).stream() //
+        return documents.stream() //
                 .map(multiGetItem -> MultiGetItem.of( //
                         multiGetItem.isFailed() ? null : callback.doWith(multiGetItem.getItem()), multiGetItem.getFailure())) //
                 .collect(Collectors.toList());
@@ -193,6 +430,7 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
                 clazz, index, getRefreshPolicy());
 
         DeleteByQueryResponse response = execute(client -> client.deleteByQuery(request));
+        invalidateCaches(index);
 
         return responseConverter.byQueryResponse(response);
     }
@@ -202,8 +440,10 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
 
         UpdateRequest<Document, ?> request = requestConverter.documentUpdateRequest(updateQuery, index, getRefreshPolicy(),
                 routingResolver.getRouting());
+        documentCaches.evict(index, request.id());
         org.opensearch.client.opensearch.core.UpdateResponse<Document> response = execute(
                 client -> client.update(request, Document.class));
+        invalidateCaches(index, response);
         return UpdateResponse.of(result(response.result()));
     }
 
@@ -217,6 +457,7 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
                 getRefreshPolicy());
 
         UpdateByQueryResponse byQueryResponse = execute(client -> client.updateByQuery(request));
+        invalidateCaches(index);
         return responseConverter.byQueryResponse(byQueryResponse);
     }
 
@@ -228,7 +469,9 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
 
         IndexRequest<?> indexRequest = requestConverter.documentIndexRequest(query, indexCoordinates, refreshPolicy);
 
+        documentCaches.evict(indexCoordinates, indexRequest.id());
         IndexResponse indexResponse = execute(client -> client.index(indexRequest));
+        invalidateCaches(indexCoordinates, indexResponse);
 
         Object queryObject = query.getObject();
 
@@ -267,7 +510,10 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
 
         DeleteRequest request = requestConverter.documentDeleteRequest(elasticsearchConverter.convertId(id), routing, index,
                 getRefreshPolicy());
-        return execute(client -> client.delete(request)).id();
+        documentCaches.evict(index, request.id());
+        DeleteResponse response = execute(client -> client.delete(request));
+        invalidateCaches(index, response);
+        return response.id();
     }
 
     @Override
@@ -302,12 +548,141 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
             IndexCoordinates index) {
 
         BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, refreshPolicy);
-        BulkResponse bulkResponse = execute(client -> client.bulk(bulkRequest));
+        BulkResponse bulkResponse = doBulkRequest(bulkRequest, bulkOptions);
         List<IndexedObjectInformation> indexedObjectInformationList = checkForBulkOperationFailure(bulkResponse);
         updateIndexedObjectsWithQueries(queries, indexedObjectInformationList);
         return indexedObjectInformationList;
     }
 
+    /**
+     * Creates a {@link BulkIngester} that sends the queries added to it as bulk requests to the given index. The caller
+     * is responsible for closing the returned ingester.
+     *
+     * @param index the index to send the operations to, must not be {@literal null}
+     * @param options the options controlling batching and concurrency, must not be {@literal null}
+     * @param listener the listener receiving the outcome of every operation, must not be {@literal null}
+     * @return a new {@link BulkIngester}
+     */
+    public BulkIngester bulkIngester(IndexCoordinates index, BulkIngesterOptions options,
+            BulkIngester.Listener listener) {
+
+        Assert.notNull(index, "index must not be null");
+        Assert.notNull(options, "options must not be null");
+        Assert.notNull(listener, "listener must not be null");
+
+        return new BulkIngester(requestConverter, bulkRequest -> doBulkRequest(bulkRequest, options.getBulkOptions()),
+                index, refreshPolicy, options, listener);
+    }
+
+    /**
+     * Creates a {@link BulkIngester} with default options that sends the queries added to it as bulk requests to the
+     * given index.
+     *
+     * @param index the index to send the operations to, must not be {@literal null}
+     * @param listener the listener receiving the outcome of every operation, must not be {@literal null}
+     * @return a new {@link BulkIngester}
+     */
+    public BulkIngester bulkIngester(IndexCoordinates index, BulkIngester.Listener listener) {
+        return bulkIngester(index, BulkIngesterOptions.defaultOptions(), listener);
+    }
+
+    /**
+     * Executes a bulk request and, if a {@link BulkRetryPolicy} is set, resends the items that were rejected with a
+     * transient error until they succeed or the retries are exhausted.
+     */
+    private BulkResponse doBulkRequest(BulkRequest bulkRequest, BulkOptions bulkOptions) {
+
+        documentCaches.evict(bulkRequest);
+        BulkResponse bulkResponse = execute(client -> client.bulk(bulkRequest));
+
+        BulkRetryPolicy retryPolicy = bulkRetryPolicy;
+        if (retryPolicy == null) {
+            invalidateCaches(bulkRequest, bulkResponse);
+            return bulkResponse;
+        }
+
+        for (int attempt = 1; attempt <= retryPolicy.getMaxRetries(); attempt++) {
+            List<Integer> positions = BulkRetries.retryablePositions(bulkResponse, retryPolicy);
+
+            if (positions.isEmpty()) {
+                break;
+            }
+
+            try {
+                Thread.sleep(retryPolicy.getBackoff(attempt).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            BulkRequest retryRequest = requestConverter.documentBulkRequestFromOperations(
+                    BulkRetries.select(bulkRequest.operations(), positions), bulkOptions, refreshPolicy);
+            BulkResponse retryResponse = execute(client -> client.bulk(retryRequest));
+            bulkResponse = BulkRetries.merge(bulkResponse, positions, retryResponse);
+        }
+
+        invalidateCaches(bulkRequest, bulkResponse);
+        return bulkResponse;
+    }
+
+    /**
+     * Invalidates the cached documents and search results after a document was written.
+     */
+    private void invalidateCaches(IndexCoordinates index, WriteResponseBase response) {
+
+        documentCaches.invalidate(index, response);
+        SearchResultCache cache = searchResultCache;
+        if (cache != null) {
+            cache.invalidate(index, response.index());
+        }
+    }
+
+    private void invalidateCaches(BulkRequest bulkRequest, BulkResponse bulkResponse) {
+
+        documentCaches.invalidate(bulkRequest, bulkResponse);
+        SearchResultCache cache = searchResultCache;
+        if (cache != null) {
+            cache.invalidate(bulkRequest, bulkResponse);
+        }
+    }
+
+    /**
+     * Invalidates the cached documents of the index and its search results after documents of the index were written
+     * by a query or the index was deleted.
+     */
+    private void invalidateCaches(IndexCoordinates index) {
+
+        documentCaches.evict(index);
+        invalidateSearchResults(index);
+    }
+
+    /**
+     * Invalidates the cached search results of the index after it was refreshed, which makes written documents visible
+     * to searches. Cached documents are read in real time and stay valid.
+     */
+    private void invalidateSearchResults(IndexCoordinates index) {
+
+        SearchResultCache cache = searchResultCache;
+        if (cache != null) {
+            cache.invalidate(index, null);
+        }
+    }
+
+    private IndexChangeListener indexChangeListener() {
+        return new IndexChangeListener() {
+
+            @Override
+            public void indexRefreshed(IndexCoordinates index) {
+                invalidateSearchResults(index);
+            }
+
+            @Override
+            public void indexDeleted(IndexCoordinates index) {
+                invalidateCaches(index);
+            }
+        };
+    }
+
     // endregion
 
     @Override
@@ -332,6 +707,11 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
         Assert.notNull(query, "query must not be null");
         Assert.notNull(index, "index must not be null");
 
+        CountRequest countRequest = requestConverter.countRequest(query, routingResolver.getRouting(), clazz, index);
+        if (countRequest != null) {
+            return execute(client -> client.count(countRequest)).count();
+        }
+
         SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
                 true);
 
@@ -340,6 +720,80 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
         return searchResponse.hits().total().value();
     }
 
+    /**
+     * Counts the documents matching the query in the index of the given class up to the threshold.
+     *
+     * @see #countApproximately(Query, Class, IndexCoordinates, int)
+     */
+    public ApproximateCount countApproximately(Query query, Class<?> clazz, int threshold) {
+        return countApproximately(query, clazz, getIndexCoordinatesFor(clazz), threshold);
+    }
+
+    /**
+     * Counts the documents matching the query up to the threshold. Searches stop counting once the threshold is
+     * reached, which is much cheaper than an exact {@link #count(Query, Class, IndexCoordinates) count} of a large
+     * number of matches.
+     *
+     * @param threshold the number of documents up to which the count is exact
+     * @return the count, a lower bound if more documents than the threshold match
+     */
+    public ApproximateCount countApproximately(Query query, @Nullable Class<?> clazz, IndexCoordinates index,
+            int threshold) {
+
+        Assert.notNull(query, "query must not be null");
+        Assert.notNull(index, "index must not be null");
+
+        SearchRequest searchRequest = requestConverter.approximateCountRequest(query, routingResolver.getRouting(), clazz,
+                index, threshold);
+
+        SearchResponse<EntityAsMap> searchResponse = execute(client -> client.search(searchRequest, EntityAsMap.class));
+
+        return ApproximateCount.of(searchResponse.hits().total());
+    }
+
+    /**
+     * Searches in the index of the given class and returns the hits with their sources as JSON bytes.
+     *
+     * @see #searchRaw(Query, Class, IndexCoordinates)
+     */
+    public List<RawSearchHit> searchRaw(Query query, Class<?> clazz) {
+        return searchRaw(query, clazz, getIndexCoordinatesFor(clazz));
+    }
+
+    /**
+     * Searches and returns the hits with their sources as the JSON of the response, for services that pass the
+     * sources on as they are. The sources are not read into documents or entities, and no entity callbacks are
+     * invoked. The search result cache and search coalescing are not used, the
+     * {@link #setUnpagedSearchLimit(Integer) unpaged search limit} is.
+     *
+     * @param clazz the class to map the field names of the query with, may be {@literal null}
+     */
+    public List<RawSearchHit> searchRaw(Query query, @Nullable Class<?> clazz, IndexCoordinates index) {
+
+        Assert.notNull(query, "query must not be null");
+        Assert.notNull(index, "index must not be null");
+
+        boolean limitedUnpagedSearch = isLimitedUnpagedSearch(query);
+        SearchRequest convertedRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz,
+                index, false);
+        SearchRequest searchRequest = limitedUnpagedSearch
+                ? convertedRequest.toBuilder().size(unpagedSearchLimit + 1).build()
+                : convertedRequest;
+
+        SearchResponse<byte[]> searchResponse = execute(client -> client._transport().performRequest(searchRequest,
+                SearchRequest.createSearchEndpoint(RawSearchHit.SOURCE_DESERIALIZER), client._transportOptions()));
+        if (limitedUnpagedSearch) {
+            checkUnpagedSearchLimit(searchResponse);
+        }
+
+        List<Hit<byte[]>> hits = searchResponse.hits().hits();
+        List<RawSearchHit> rawSearchHits = new ArrayList<>(hits.size());
+        for (Hit<byte[]> hit : hits) {
+            rawSearchHits.add(RawSearchHit.from(hit));
+        }
+        return rawSearchHits;
+    }
+
     @Override
     public <T> SearchHits<T> search(Query query, Class<T> clazz, IndexCoordinates index) {
 
@@ -355,9 +809,28 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
     }
 
     protected <T> SearchHits<T> doSearch(Query query, Class<T> clazz, IndexCoordinates index) {
-        SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
-                false);
-        SearchResponse<EntityAsMap> searchResponse = execute(client -> client.search(searchRequest, EntityAsMap.class));
+        boolean limitedUnpagedSearch = isLimitedUnpagedSearch(query);
+        SearchRequest convertedRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz,
+                index, false);
+        SearchRequest searchRequest = limitedUnpagedSearch
+                ? convertedRequest.toBuilder().size(unpagedSearchLimit + 1).build()
+                : convertedRequest;
+
+        if (directEntityReads && !(query instanceof NativeQuery nativeQuery && nativeQuery.getSuggester() != null)) {
+            DirectEntityReader<T> directEntityReader = getDirectEntityReader(clazz);
+            if (directEntityReader != null) {
+                SearchHits<T> searchHits = doSearchDirect(searchRequest, limitedUnpagedSearch, directEntityReader,
+                        clazz, index);
+                if (searchHits != null) {
+                    return searchHits;
+                }
+            }
+        }
+
+        SearchResponse<EntityAsMap> searchResponse = executeSearch(searchRequest);
+        if (limitedUnpagedSearch) {
+            checkUnpagedSearchLimit(searchResponse);
+        }
 
         // noinspection DuplicatedCode
         ReadDocumentCallback<T> readDocumentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
@@ -367,6 +840,120 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
         return callback.doWith(SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
     }
 
+    private SearchResponse<EntityAsMap> executeSearch(SearchRequest searchRequest) {
+
+        SearchResultCache cache = searchResultCache;
+        RequestCoalescer<RequestConverter.SearchItem, MultiSearchResponseItem<EntityAsMap>> coalescer = searchCoalescer;
+        RequestConverter.SearchItem searchItem = cache != null || coalescer != null
+                ? requestConverter.searchItem(searchRequest)
+                : null;
+
+        if (searchItem == null) {
+            return execute(client -> client.search(searchRequest, EntityAsMap.class));
+        }
+
+        if (cache == null) {
+            return executeSearch(searchRequest, searchItem, coalescer);
+        }
+
+        SearchResponse<EntityAsMap> cachedResponse = cache.get(searchItem.json());
+        if (cachedResponse != null) {
+            return cachedResponse;
+        }
+
+        long generation = cache.generation();
+        SearchResponse<EntityAsMap> searchResponse = executeSearch(searchRequest, searchItem, coalescer);
+        cache.put(searchItem.json(), searchRequest.index(), searchResponse, generation);
+        return searchResponse;
+    }
+
+    private SearchResponse<EntityAsMap> executeSearch(SearchRequest searchRequest,
+            RequestConverter.SearchItem searchItem,
+            @Nullable RequestCoalescer<RequestConverter.SearchItem, MultiSearchResponseItem<EntityAsMap>> coalescer) {
+
+        if (coalescer != null) {
+            MultiSearchResponseItem<EntityAsMap> responseItem = coalescer.execute(searchItem, this::doSearches);
+            if (responseItem.isResult()) {
+                return responseItem.result();
+            }
+        }
+
+        return execute(client -> client.search(searchRequest, EntityAsMap.class));
+    }
+
+    private List<MultiSearchResponseItem<EntityAsMap>> doSearches(List<RequestConverter.SearchItem> searchItems) {
+
+        MsearchRequest request = requestConverter.searchMsearchRequest(searchItems);
+        return execute(client -> client.msearch(request, EntityAsMap.class)).responses();
+    }
+
+    /**
+     * @return the hits read directly into entities, {@literal null} if a hit has the type hint of a subtype that was not
+     *         mapped when the reader was created, the class is then read with the converter from now on
+     */
+    @Nullable
+    private <T> SearchHits<T> doSearchDirect(SearchRequest searchRequest, boolean limitedUnpagedSearch,
+            DirectEntityReader<T> directEntityReader, Class<T> clazz, IndexCoordinates index) {
+
+        SearchResponse<T> searchResponse;
+        try {
+            searchResponse = execute(client -> client._transport().performRequest(searchRequest,
+                    SearchRequest.createSearchEndpoint(directEntityReader), client._transportOptions()));
+        } catch (RuntimeException e) {
+            if (DirectEntityReader.isTypeHintMismatch(e)) {
+                directEntityReaders.put(clazz, Optional.empty());
+                return null;
+            }
+            throw e;
+        }
+        if (limitedUnpagedSearch) {
+            checkUnpagedSearchLimit(searchResponse);
+        }
+
+        List<Hit<T>> hits = searchResponse.hits().hits();
+        List<SearchDocument> searchDocuments = new ArrayList<>(hits.size());
+        List<T> entities = new ArrayList<>(hits.size());
+        for (Hit<T> hit : hits) {
+            T source = hit.source() != null ? hit.source() : directEntityReader.newInstance();
+            T entity = directEntityReader.applyMetadata(source, hit);
+            // the source was never read into a document, callbacks that look at it get the entity written back to one;
+            // AfterLoadCallbacks are not invoked, there is no document before the entity is read
+            Document document = entityCallbacks != null ? new LazyDocument(() -> elasticsearchConverter.mapObject(entity))
+                    : Document.create();
+            SearchDocument searchDocument = DocumentAdapters.from(hit, document, jsonpMapper);
+            searchDocuments.add(searchDocument);
+            entities.add(maybeCallbackAfterConvert(entity, searchDocument, index));
+        }
+
+        SearchDocumentResponse searchDocumentResponse = SearchDocumentResponseBuilder.from(searchResponse,
+                searchDocuments);
+        return SearchHitMapping.mappingFor(clazz, elasticsearchConverter).mapHits(searchDocumentResponse, entities);
+    }
+
+    /**
+     * @return {@literal true} if the query is unpaged without max results and an unpaged search limit is set, the
+     *         search then requests one hit more than the limit
+     */
+    private boolean isLimitedUnpagedSearch(Query query) {
+        return unpagedSearchLimit != null && query.getPageable().isUnpaged() && !query.isLimiting();
+    }
+
+    private void checkUnpagedSearchLimit(SearchResult<?> searchResponse) {
+
+        if (unpagedSearchLimit != null && searchResponse.hits().hits().size() > unpagedSearchLimit) {
+            throw new InvalidDataAccessApiUsageException("Unpaged search returned more than " + unpagedSearchLimit
+                    + " hits, use a paged query or searchForStreamWithPointInTime");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private <T> DirectEntityReader<T> getDirectEntityReader(Class<T> clazz) {
+        return (DirectEntityReader<T>) directEntityReaders
+                .computeIfAbsent(clazz, type -> Optional.ofNullable(DirectEntityReader.of(type, elasticsearchConverter)))
+                .orElse(null);
+    }
+
     protected <T> SearchHits<T> doSearch(SearchTemplateQuery query, Class<T> clazz, IndexCoordinates index) {
         var searchTemplateRequest = requestConverter.searchTemplate(query, routingResolver.getRouting(), index);
         var searchTemplateResponse = execute(client -> client.searchTemplate(searchTemplateRequest, EntityAsMap.class));
@@ -440,6 +1027,58 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
         }
     }
 
+    /**
+     * Like {@link #searchForStream(Query, Class, IndexCoordinates)}, but reads the documents through a point in time
+     * with {@code search_after} instead of a scroll, using the default {@link PointInTimeScanOptions}.
+     */
+    public <T> SearchHitsIterator<T> searchForStreamWithPointInTime(Query query, Class<T> clazz, IndexCoordinates index) {
+        return searchForStreamWithPointInTime(query, clazz, index, PointInTimeScanOptions.defaultOptions());
+    }
+
+    /**
+     * Returns a lazily evaluated iterator over all documents matching the query, read page by page through a point in
+     * time with {@code search_after} instead of a scroll. The point in time is closed when all pages have been read or
+     * when the iterator, or the stream created from it, is closed. The iterator returns at most the
+     * {@link Query#getMaxResults() maximum results} of a limiting query.
+     *
+     * @param query the query, must be derived from {@link BaseQuery} and its pageable must not have an offset
+     * @param clazz the entity class
+     * @param index the index to search
+     * @param options the page size, prefetch depth and keep alive of the scan
+     * @return the iterator, must be closed if not read to the end
+     */
+    public <T> SearchHitsIterator<T> searchForStreamWithPointInTime(Query query, Class<T> clazz, IndexCoordinates index,
+            PointInTimeScanOptions options) {
+
+        Assert.isInstanceOf(BaseQuery.class, query, "query must be derived from BaseQuery");
+        Assert.notNull(clazz, "clazz must not be null");
+        Assert.notNull(index, "index must not be null");
+        Assert.notNull(options, "options must not be null");
+        RequestConverter.assertPointInTimeScannable(query);
+
+        String pit = openPointInTime(index, options.getKeepAlive(), true);
+        Runnable closePointInTime = () -> closePointInTime(pit);
+
+        RequestConverter.PointInTimeSearchRequests searchRequests;
+        try {
+            searchRequests = requestConverter.pointInTimeSearchRequests((BaseQuery) query, pit, options,
+                    routingResolver.getRouting(), clazz, index);
+        } catch (RuntimeException e) {
+            closePointInTime.run();
+            throw e;
+        }
+
+        ReadDocumentCallback<T> readDocumentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
+        SearchDocumentResponse.EntityCreator<T> entityCreator = getEntityCreator(readDocumentCallback);
+        SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index);
+
+        return new PointInTimeSearchHitsIterator<>( //
+                searchRequest -> execute(client -> client.search(searchRequest, EntityAsMap.class)), //
+                response -> callback.doWith(SearchDocumentResponseBuilder.from(response, entityCreator, jsonpMapper)), //
+                searchRequests.first(), searchRequests.follow(), closePointInTime, options.getPrefetch(),
+                query.isLimiting() ? query.getMaxResults() : null, pointInTimeExecutor);
+    }
+
     @Override
     public <T> List<SearchHits<T>> multiSearch(List<? extends Query> queries, Class<T> clazz, IndexCoordinates index) {
 
@@ -689,7 +1328,7 @@ public class OpenSearchTemplate extends AbstractElasticsearchTemplate implements
         Assert.notNull(callback, "callback must not be null");
 
         try {
-            return callback.doWithClient(client);
+            return callback.doWithClient(observedClient);
         } catch (IOException | RuntimeException e) {
             throw exceptionTranslator.translateException(e);
         }
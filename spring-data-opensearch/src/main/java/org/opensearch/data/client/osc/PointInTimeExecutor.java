@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.data.client.osc;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.lang.Nullable;
+
+/**
+ * The executor of an {@link OpenSearchTemplate} and its copies on which {@link PointInTimeSearchHitsIterator}s read
+ * pages ahead and close the points in time of iterators that were garbage collected without being closed. The thread
+ * pool is created when it is first needed; its queue is bounded, a task that does not fit is rejected with a
+ * {@link RejectedExecutionException} and the iterators then do the work on the calling thread. Once shut down, queued
+ * tasks are still run and new ones are rejected.
+ */
+final class PointInTimeExecutor implements Executor {
+
+    private static final int QUEUE_CAPACITY = 256;
+    private static final AtomicInteger POOLS = new AtomicInteger();
+
+    @Nullable private ThreadPoolExecutor executor;
+    private boolean shutdown;
+
+    @Override
+    public void execute(Runnable command) {
+
+        ThreadPoolExecutor threadPool;
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("the executor has been shut down");
+            }
+            if (executor == null) {
+                executor = createThreadPool();
+            }
+            threadPool = executor;
+        }
+        threadPool.execute(command);
+    }
+
+    /**
+     * Shuts the thread pool down after the queued tasks have run.
+     */
+    synchronized void shutdown() {
+
+        shutdown = true;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    private static ThreadPoolExecutor createThreadPool() {
+
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        String prefix = "opensearch-pit-" + POOLS.incrementAndGet() + '-';
+        AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+}
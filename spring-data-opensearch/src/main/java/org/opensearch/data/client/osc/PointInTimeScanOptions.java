@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.time.Duration;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Options for reading all documents matching an unbounded query through a point in time (PIT) and
+ * {@code search_after}. The scan can be split into {@link #getSlices()} sliced searches over the same point in time
+ * which are executed concurrently; with {@link #AUTO_SLICES} the number of slices is the number of shards of the point
+ * in time.
+ * <p>
+ * With a {@link #getPrefetch() prefetch} depth greater than 0 the request for the next page is sent as soon as the sort
+ * values of the last hit of the current page are known, independent of how fast the hits are consumed. At most that
+ * many pages per slice are read ahead and buffered. Without prefetch the next page of a single slice is only requested
+ * once the hits of the current page have been consumed; with several slices the next page of a slice is requested as
+ * soon as its current page is handed to the consumer, so every slice reads at most one page ahead.
+ * <p>
+ * Slices are only used by the reactive template, the imperative scan reads a single slice.
+ *
+ * @see ReactiveOpenSearchTemplate#setPointInTimeScanOptions(PointInTimeScanOptions)
+ * @see OpenSearchTemplate#searchForStreamWithPointInTime(org.springframework.data.elasticsearch.core.query.Query,
+ *      Class, org.springframework.data.elasticsearch.core.mapping.IndexCoordinates, PointInTimeScanOptions)
+ */
+public class PointInTimeScanOptions {
+
+    /**
+     * Slice count to use one slice per shard of the point in time.
+     */
+    public static final int AUTO_SLICES = 0;
+
+    public static final int DEFAULT_SLICES = 1;
+    public static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(5);
+    public static final int DEFAULT_PREFETCH = 0;
+    public static final int DEFAULT_PAGE_SIZE = 0;
+
+    private static final PointInTimeScanOptions DEFAULT = builder().build();
+
+    private final int slices;
+    private final Duration keepAlive;
+    private final int prefetch;
+    private final int pageSize;
+
+    private PointInTimeScanOptions(Builder builder) {
+        this.slices = builder.slices;
+        this.keepAlive = builder.keepAlive;
+        this.prefetch = builder.prefetch;
+        this.pageSize = builder.pageSize;
+    }
+
+    public static PointInTimeScanOptions defaultOptions() {
+        return DEFAULT;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the number of slices the scan is split into, {@link #AUTO_SLICES} for one slice per shard
+     */
+    public int getSlices() {
+        return slices;
+    }
+
+    /**
+     * @return the keep alive of the point in time, it is extended with every page that is read
+     */
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * @return the number of pages per slice that are read ahead of the consumer, 0 to read the next page only when it
+     *         is requested
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * @return the number of hits per page, 0 to use the batch size of the query
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @param shards the number of shards of the point in time, may be {@literal null} if not known
+     * @return the number of slices to use for a point in time with the given number of shards
+     */
+    int slicesFor(@Nullable Integer shards) {
+
+        if (slices != AUTO_SLICES) {
+            return slices;
+        }
+        return shards != null && shards > 0 ? shards : DEFAULT_SLICES;
+    }
+
+    public static class Builder {
+
+        private int slices = DEFAULT_SLICES;
+        private Duration keepAlive = DEFAULT_KEEP_ALIVE;
+        private int prefetch = DEFAULT_PREFETCH;
+        private int pageSize = DEFAULT_PAGE_SIZE;
+
+        private Builder() {}
+
+        /**
+         * @param slices the number of slices, {@link #AUTO_SLICES} to derive it from the number of shards
+         */
+        public Builder withSlices(int slices) {
+
+            Assert.isTrue(slices >= 0, "slices must not be negative");
+
+            this.slices = slices;
+            return this;
+        }
+
+        public Builder withKeepAlive(Duration keepAlive) {
+
+            Assert.notNull(keepAlive, "keepAlive must not be null");
+            Assert.isTrue(!keepAlive.isNegative() && !keepAlive.isZero(), "keepAlive must be positive");
+
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        public Builder withPrefetch(int prefetch) {
+
+            Assert.isTrue(prefetch >= 0, "prefetch must not be negative");
+
+            this.prefetch = prefetch;
+            return this;
+        }
+
+        public Builder withPageSize(int pageSize) {
+
+            Assert.isTrue(pageSize >= 0, "pageSize must not be negative");
+
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public PointInTimeScanOptions build() {
+            return new PointInTimeScanOptions(this);
+        }
+    }
+}
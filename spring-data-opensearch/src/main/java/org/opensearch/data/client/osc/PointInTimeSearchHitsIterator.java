@@ -0,0 +1,362 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.lang.ref.Cleaner;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.springframework.data.elasticsearch.core.AggregationsContainer;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SearchHitsIterator} that lazily pages through a point in time with {@code search_after}. The first page is
+ * read when the iterator is created, the following pages when the hits of the previous one have been consumed or, with
+ * a prefetch depth greater than 0, up to that many pages ahead on the executor of the template. The point in time is
+ * closed when the last page has been read, when the iterator is closed or, at the latest, when the iterator is no
+ * longer referenced and has been garbage collected; the point in time of a garbage collected iterator is closed on the
+ * executor, not on the thread of the cleaner.
+ */
+final class PointInTimeSearchHitsIterator<T> implements SearchHitsIterator<T> {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Function<SearchResponse<EntityAsMap>, SearchHits<T>> pageMapper;
+    private final SearchHits<T> firstPage;
+    private final long maxHits;
+    private final Scan scan;
+    private final Cleaner.Cleanable cleanable;
+
+    private Iterator<SearchHit<T>> currentHits;
+    private long returnedHits;
+    private boolean closed;
+
+    /**
+     * @param searchExecutor executes a search request
+     * @param pageMapper maps a page of the point in time to search hits
+     * @param firstSearchRequest the request for the first page
+     * @param followSearchRequest the request for the following pages, without {@code search_after} values
+     * @param closePointInTime closes the point in time
+     * @param prefetch the number of pages to read ahead, 0 to read pages only when needed
+     * @param maxResults the maximum number of hits to return, {@literal null} to return all hits
+     * @param executor reads pages ahead and closes the point in time of a garbage collected iterator
+     */
+    PointInTimeSearchHitsIterator(Function<SearchRequest, SearchResponse<EntityAsMap>> searchExecutor,
+            Function<SearchResponse<EntityAsMap>, SearchHits<T>> pageMapper, SearchRequest firstSearchRequest,
+            SearchRequest followSearchRequest, Runnable closePointInTime, int prefetch, @Nullable Integer maxResults,
+            Executor executor) {
+
+        Assert.notNull(searchExecutor, "searchExecutor must not be null");
+        Assert.notNull(pageMapper, "pageMapper must not be null");
+        Assert.notNull(firstSearchRequest, "firstSearchRequest must not be null");
+        Assert.notNull(followSearchRequest, "followSearchRequest must not be null");
+        Assert.notNull(closePointInTime, "closePointInTime must not be null");
+        Assert.isTrue(prefetch >= 0, "prefetch must not be negative");
+        Assert.isTrue(maxResults == null || maxResults >= 0, "maxResults must not be negative");
+        Assert.notNull(executor, "executor must not be null");
+
+        this.pageMapper = pageMapper;
+        this.maxHits = maxResults != null ? maxResults : Long.MAX_VALUE;
+
+        SearchResponse<EntityAsMap> firstResponse;
+        try {
+            firstResponse = searchExecutor.apply(firstSearchRequest);
+        } catch (RuntimeException e) {
+            closePointInTime.run();
+            throw e;
+        }
+
+        // the scan must not reference this iterator, else the cleaner would never run
+        this.scan = new Scan(searchExecutor, followSearchRequest, closePointInTime, prefetch, maxHits, executor);
+        this.cleanable = CLEANER.register(this, scan::closeAsync);
+        this.firstPage = pageMapper.apply(firstResponse);
+        this.currentHits = firstPage.iterator();
+        scan.start(firstResponse);
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        if (closed) {
+            return false;
+        }
+
+        if (returnedHits >= maxHits) {
+            close();
+            return false;
+        }
+
+        while (!currentHits.hasNext()) {
+            SearchResponse<EntityAsMap> response;
+            try {
+                response = scan.nextPage();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new IllegalStateException("interrupted while waiting for the next page", e);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+
+            if (response == null) {
+                close();
+                return false;
+            }
+            currentHits = pageMapper.apply(response).iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public SearchHit<T> next() {
+
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        returnedHits++;
+        return currentHits.next();
+    }
+
+    @Override
+    public void close() {
+
+        if (closed) {
+            return;
+        }
+        closed = true;
+        scan.close();
+        cleanable.clean();
+    }
+
+    @Override
+    @Nullable
+    public AggregationsContainer<?> getAggregations() {
+        return firstPage.getAggregations();
+    }
+
+    @Override
+    public float getMaxScore() {
+        return firstPage.getMaxScore();
+    }
+
+    @Override
+    public Duration getExecutionDuration() {
+        return firstPage.getExecutionDuration();
+    }
+
+    @Override
+    public long getTotalHits() {
+        return firstPage.getTotalHits();
+    }
+
+    @Override
+    public TotalHitsRelation getTotalHitsRelation() {
+        return firstPage.getTotalHitsRelation();
+    }
+
+    /**
+     * The pages of a point in time that have not been read yet. Pages are prefetched by tasks that each read a single
+     * page and schedule the next one only while fewer than the prefetch depth pages are waiting, so no pool thread
+     * blocks on a slow consumer; a page whose task the executor rejects is read by the consumer. Closing the scan stops
+     * the prefetching and closes the point in time, {@link #closeAsync()} is the cleaning action of the iterator.
+     */
+    private static final class Scan {
+
+        private final Function<SearchRequest, SearchResponse<EntityAsMap>> searchExecutor;
+        private final SearchRequest followSearchRequest;
+        private final Runnable closePointInTime;
+        private final int prefetch;
+        private final long maxHits;
+        private final Executor executor;
+        private final Deque<Page> pages = new ArrayDeque<>();
+
+        @Nullable private SearchRequest nextSearchRequest;
+        private long fetchedHits;
+        private boolean fetching;
+        private boolean closed;
+
+        Scan(Function<SearchRequest, SearchResponse<EntityAsMap>> searchExecutor, SearchRequest followSearchRequest,
+                Runnable closePointInTime, int prefetch, long maxHits, Executor executor) {
+            this.searchExecutor = searchExecutor;
+            this.followSearchRequest = followSearchRequest;
+            this.closePointInTime = closePointInTime;
+            this.prefetch = prefetch;
+            this.maxHits = maxHits;
+            this.executor = executor;
+        }
+
+        synchronized void start(SearchResponse<EntityAsMap> firstResponse) {
+
+            advance(firstResponse);
+            prefetch();
+        }
+
+        /**
+         * @return the next page, {@literal null} if all pages have been read or the scan is closed
+         */
+        @Nullable
+        SearchResponse<EntityAsMap> nextPage() throws InterruptedException {
+
+            if (prefetch == 0) {
+                SearchRequest searchRequest;
+                synchronized (this) {
+                    if (closed || nextSearchRequest == null) {
+                        return null;
+                    }
+                    searchRequest = nextSearchRequest;
+                }
+
+                SearchResponse<EntityAsMap> response = searchExecutor.apply(searchRequest);
+                synchronized (this) {
+                    advance(response);
+                }
+                return response;
+            }
+
+            while (true) {
+                synchronized (this) {
+                    while (pages.isEmpty()) {
+                        if (closed || (!fetching && nextSearchRequest == null)) {
+                            return null;
+                        }
+                        prefetch();
+                        if (!fetching) {
+                            // the executor rejected the task, the page is read on this thread
+                            fetching = true;
+                            break;
+                        }
+                        wait();
+                    }
+
+                    if (!pages.isEmpty()) {
+                        Page page = pages.poll();
+                        prefetch();
+                        if (page.failure() != null) {
+                            throw page.failure();
+                        }
+                        return page.response();
+                    }
+                }
+                fetch();
+            }
+        }
+
+        /**
+         * Stops the prefetching and closes the point in time on the calling thread.
+         */
+        void close() {
+
+            if (markClosed()) {
+                closePointInTime.run();
+            }
+        }
+
+        /**
+         * Stops the prefetching and closes the point in time on the executor, or on the calling thread if the executor
+         * rejects the task.
+         */
+        void closeAsync() {
+
+            if (markClosed()) {
+                try {
+                    executor.execute(closePointInTime);
+                } catch (RejectedExecutionException e) {
+                    closePointInTime.run();
+                }
+            }
+        }
+
+        private synchronized boolean markClosed() {
+
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            pages.clear();
+            notifyAll();
+            return true;
+        }
+
+        // must be called while holding the lock
+        private void prefetch() {
+
+            if (prefetch > 0 && !fetching && !closed && nextSearchRequest != null && pages.size() < prefetch) {
+                fetching = true;
+                try {
+                    executor.execute(this::fetch);
+                } catch (RejectedExecutionException e) {
+                    fetching = false;
+                }
+            }
+        }
+
+        private void fetch() {
+
+            SearchRequest searchRequest;
+            synchronized (this) {
+                searchRequest = nextSearchRequest;
+            }
+
+            Page page;
+            try {
+                page = new Page(searchExecutor.apply(searchRequest), null);
+            } catch (RuntimeException e) {
+                page = new Page(null, e);
+            }
+
+            synchronized (this) {
+                fetching = false;
+                if (closed) {
+                    return;
+                }
+
+                if (page.failure() != null) {
+                    nextSearchRequest = null;
+                } else {
+                    advance(page.response());
+                }
+                pages.add(page);
+                notifyAll();
+                prefetch();
+            }
+        }
+
+        // sets the request for the page after the given one, null if the given page is the last one to read
+        private void advance(SearchResponse<EntityAsMap> response) {
+
+            var hits = response.hits().hits();
+            fetchedHits += hits.size();
+            if (hits.isEmpty() || fetchedHits >= maxHits) {
+                nextSearchRequest = null;
+                return;
+            }
+
+            Hit<EntityAsMap> lastHit = hits.get(hits.size() - 1);
+            nextSearchRequest = followSearchRequest.toBuilder().searchAfter(lastHit.sort()).build();
+        }
+    }
+
+    private record Page(@Nullable SearchResponse<EntityAsMap> response, @Nullable RuntimeException failure) {
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.SerializableString;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpSerializable;
+import org.opensearch.client.json.jackson.JacksonJsonpGenerator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A JSON value that is already serialized, for example the source of an
+ * {@link org.springframework.data.elasticsearch.core.query.IndexQuery}. With a Jackson based generator the JSON is
+ * written to the output as is; with other generators it is parsed and copied event by event.
+ * <p>
+ * A value that is written to an NDJSON body, like the document of a bulk operation, must not span lines; use
+ * {@link #singleLine(String)} for these. {@link #of(Object, JsonpMapper)} serializes a value, like the mapped document
+ * of an entity, once to UTF-8 bytes that are then written as they are, and whose length is known up front.
+ */
+final class RawJsonValue implements JsonpSerializable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Nullable private final String json;
+    @Nullable private final byte[] utf8;
+
+    RawJsonValue(String json) {
+
+        Assert.notNull(json, "json must not be null");
+
+        this.json = json;
+        this.utf8 = null;
+    }
+
+    private RawJsonValue(byte[] utf8) {
+        this.json = null;
+        this.utf8 = utf8;
+    }
+
+    /**
+     * Serializes the given value with the mapper into UTF-8 bytes. The JSON of the mapper is written on a single line.
+     */
+    static RawJsonValue of(Object value, JsonpMapper mapper) {
+
+        Assert.notNull(value, "value must not be null");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = mapper.jsonProvider().createGenerator(out)) {
+            mapper.serialize(value, generator);
+        }
+        return new RawJsonValue(out.toByteArray());
+    }
+
+    /**
+     * Creates a value that is written on a single line. JSON that contains line breaks is parsed and written compactly
+     * once, numbers with their exact text; JSON without line breaks is kept as is.
+     */
+    static RawJsonValue singleLine(String json) {
+
+        Assert.notNull(json, "json must not be null");
+
+        if (json.indexOf('\n') < 0 && json.indexOf('\r') < 0) {
+            return new RawJsonValue(json);
+        }
+
+        StringWriter compact = new StringWriter(json.length());
+        try (com.fasterxml.jackson.core.JsonParser parser = JSON_FACTORY.createParser(json);
+                com.fasterxml.jackson.core.JsonGenerator generator = JSON_FACTORY.createGenerator(compact)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentEventExact(parser);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new RawJsonValue(compact.toString());
+    }
+
+    String getJson() {
+        return json != null ? json : new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the number of bytes of the UTF-8 encoded JSON, computed without encoding it
+     */
+    long getUtf8Length() {
+
+        if (utf8 != null) {
+            return utf8.length;
+        }
+
+        long length = 0;
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < json.length()
+                    && Character.isLowSurrogate(json.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, JsonpMapper mapper) {
+
+        if (generator instanceof JacksonJsonpGenerator jacksonJsonpGenerator) {
+            try {
+                if (utf8 != null) {
+                    jacksonJsonpGenerator.jacksonGenerator().writeRawValue(new Utf8Value(utf8));
+                } else {
+                    jacksonJsonpGenerator.jacksonGenerator().writeRawValue(json);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return;
+        }
+
+        try (JsonParser parser = utf8 != null
+                ? mapper.jsonProvider().createParser(new ByteArrayInputStream(utf8))
+                : mapper.jsonProvider().createParser(new StringReader(json))) {
+            parser.next();
+            generator.write(parser.getValue());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getJson();
+    }
+
+    /**
+     * Hands already encoded JSON to a Jackson generator, which copies the bytes to its output without decoding them.
+     * Raw values are never quoted, so only the unquoted variants are supported.
+     */
+    private record Utf8Value(byte[] bytes) implements SerializableString {
+
+        @Override
+        public String getValue() {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int charLength() {
+            return getValue().length();
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return bytes;
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+
+            if (offset + bytes.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+            return bytes.length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+
+            String value = getValue();
+            if (offset + value.length() > buffer.length) {
+                return -1;
+            }
+            value.getChars(0, value.length(), buffer, offset);
+            return value.length();
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(bytes);
+            return bytes.length;
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+
+            if (bytes.length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(bytes);
+            return bytes.length;
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpDeserializerBase;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpParser;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A search hit with its {@code _source} kept as the UTF-8 encoded JSON of the response, for services that pass the
+ * sources on without reading them. The source is written token by token from the parser of the response into a new
+ * byte array, it is not a slice of the response buffers; it is not read into a
+ * {@link org.springframework.data.elasticsearch.core.document.Document} or an entity. The metadata of the hit is
+ * available without touching the source.
+ *
+ * @see OpenSearchTemplate#searchRaw(org.springframework.data.elasticsearch.core.query.Query, Class,
+ *      org.springframework.data.elasticsearch.core.mapping.IndexCoordinates)
+ * @see ReactiveOpenSearchTemplate#searchRaw(org.springframework.data.elasticsearch.core.query.Query, Class,
+ *      org.springframework.data.elasticsearch.core.mapping.IndexCoordinates)
+ */
+public final class RawSearchHit {
+
+    /**
+     * Deserializes a {@code _source} into its JSON bytes.
+     */
+    static final JsonpDeserializer<byte[]> SOURCE_DESERIALIZER = new SourceDeserializer();
+
+    private static final byte[] NO_SOURCE = new byte[0];
+
+    private final String index;
+    @Nullable private final String id;
+    private final float score;
+    private final Object[] sortValues;
+    private final Map<String, List<String>> highlightFields;
+    @Nullable private final String routing;
+    @Nullable private final Long seqNo;
+    @Nullable private final Long primaryTerm;
+    @Nullable private final Long version;
+    @Nullable private final byte[] source;
+
+    private RawSearchHit(Hit<byte[]> hit) {
+
+        this.index = hit.index();
+        this.id = hit.id();
+        this.score = hit.score() != null ? hit.score().floatValue() : Float.NaN;
+        this.sortValues = hit.sort().stream().toArray();
+        this.highlightFields = hit.highlight().isEmpty() ? Collections.emptyMap() : hit.highlight();
+        this.routing = hit.routing();
+        this.seqNo = hit.seqNo();
+        this.primaryTerm = hit.primaryTerm();
+        this.version = hit.version();
+        this.source = hit.source();
+    }
+
+    static RawSearchHit from(Hit<byte[]> hit) {
+
+        Assert.notNull(hit, "hit must not be null");
+
+        return new RawSearchHit(hit);
+    }
+
+    public String getIndex() {
+        return index;
+    }
+
+    @Nullable
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return the score of the hit, {@link Float#NaN} if the hits were not scored
+     */
+    public float getScore() {
+        return score;
+    }
+
+    public Object[] getSortValues() {
+        return sortValues.clone();
+    }
+
+    public Map<String, List<String>> getHighlightFields() {
+        return highlightFields;
+    }
+
+    @Nullable
+    public String getRouting() {
+        return routing;
+    }
+
+    @Nullable
+    public Long getSeqNo() {
+        return seqNo;
+    }
+
+    @Nullable
+    public Long getPrimaryTerm() {
+        return primaryTerm;
+    }
+
+    @Nullable
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return whether the response contained the {@code _source} of the hit
+     */
+    public boolean hasSource() {
+        return source != null;
+    }
+
+    /**
+     * @return a read-only buffer over the JSON of the source, {@literal empty} if the hit has no source
+     */
+    public ByteBuffer getSource() {
+        return ByteBuffer.wrap(source != null ? source : NO_SOURCE).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return the number of bytes of the JSON of the source
+     */
+    public int getSourceLength() {
+        return source != null ? source.length : 0;
+    }
+
+    /**
+     * Writes the JSON of the source to the given stream, nothing if the hit has no source.
+     */
+    public void writeSourceTo(OutputStream out) throws IOException {
+
+        Assert.notNull(out, "out must not be null");
+
+        if (source != null) {
+            out.write(source);
+        }
+    }
+
+    /**
+     * @return the JSON of the source, {@literal null} if the hit has no source
+     */
+    @Nullable
+    public String getSourceAsString() {
+        return source != null ? new String(source, StandardCharsets.UTF_8) : null;
+    }
+
+    @Override
+    public String toString() {
+        return "RawSearchHit{" + "index='" + index + '\'' + ", id='" + id + '\'' + ", score=" + score + ", source="
+                + getSourceAsString() + '}';
+    }
+
+    /**
+     * Copies a {@code _source} to bytes. With a Jackson based parser the tokens are copied straight to a Jackson
+     * generator, numbers with their exact value; with other parsers the source is read into a
+     * {@link jakarta.json.JsonValue} first.
+     */
+    private static final class SourceDeserializer extends JsonpDeserializerBase<byte[]> {
+
+        private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+        private SourceDeserializer() {
+            super(EnumSet.of(Event.START_OBJECT));
+        }
+
+        @Override
+        public byte[] deserialize(JsonParser parser, JsonpMapper mapper, Event event) {
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            if (parser instanceof JacksonJsonpParser jacksonJsonpParser) {
+                com.fasterxml.jackson.core.JsonParser jacksonParser = jacksonJsonpParser.jacksonParser();
+                try (com.fasterxml.jackson.core.JsonGenerator generator = JSON_FACTORY.createGenerator(bytes)) {
+                    int depth = 0;
+                    do {
+                        JsonToken token = jacksonParser.currentToken();
+                        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+                            // the text, as a buffered hit may not return the exact number value
+                            generator.writeNumber(jacksonParser.getText());
+                        } else {
+                            generator.copyCurrentEventExact(jacksonParser);
+                        }
+                        if (token.isStructStart()) {
+                            depth++;
+                        } else if (token.isStructEnd()) {
+                            depth--;
+                        }
+                    } while (depth > 0 && jacksonParser.nextToken() != null);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return bytes.toByteArray();
+            }
+
+            try (JsonGenerator generator = mapper.jsonProvider().createGenerator(bytes)) {
+                generator.write(parser.getObject());
+            }
+            return bytes.toByteArray();
+        }
+    }
+}
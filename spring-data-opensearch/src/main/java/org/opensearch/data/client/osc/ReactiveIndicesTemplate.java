@@ -87,6 +87,7 @@ public class ReactiveIndicesTemplate
 
     @Nullable private final Class<?> boundClass;
     private final IndexCoordinates boundIndexCoordinates;
+    @Nullable private IndexChangeListener indexChangeListener;
 
     public ReactiveIndicesTemplate(ReactiveOpenSearchIndicesClient client, ReactiveClusterTemplate clusterTemplate,
             ElasticsearchConverter elasticsearchConverter, IndexCoordinates index) {
@@ -114,6 +115,28 @@ public class ReactiveIndicesTemplate
         this.boundIndexCoordinates = getIndexCoordinatesFor(clazz);
     }
 
+    /**
+     * Sets the listener that is called after the index was refreshed or deleted, used by the
+     * {@link ReactiveOpenSearchTemplate} to invalidate its caches.
+     */
+    void setIndexChangeListener(@Nullable IndexChangeListener indexChangeListener) {
+        this.indexChangeListener = indexChangeListener;
+    }
+
+    private void indexRefreshed(IndexCoordinates indexCoordinates) {
+
+        if (indexChangeListener != null) {
+            indexChangeListener.indexRefreshed(indexCoordinates);
+        }
+    }
+
+    private void indexDeleted(IndexCoordinates indexCoordinates) {
+
+        if (indexChangeListener != null) {
+            indexChangeListener.indexDeleted(indexCoordinates);
+        }
+    }
+
     @Override
     public Mono<Boolean> create() {
 
@@ -172,6 +195,7 @@ public class ReactiveIndicesTemplate
             if (exists) {
                 DeleteIndexRequest deleteIndexRequest = requestConverter.indicesDeleteRequest(getIndexCoordinates());
                 return Mono.from(execute(client -> client.delete(deleteIndexRequest))) //
+                        .doOnNext(response -> indexDeleted(getIndexCoordinates())) //
                         .map(DeleteIndexResponse::acknowledged) //
                         .onErrorResume(NoSuchIndexException.class, e -> Mono.just(false));
             } else {
@@ -191,8 +215,11 @@ public class ReactiveIndicesTemplate
 
     @Override
     public Mono<Void> refresh() {
-        RefreshRequest refreshRequest = requestConverter.indicesRefreshRequest(getIndexCoordinates());
-        return Mono.from(execute(client -> client.refresh(refreshRequest))).then();
+        IndexCoordinates indexCoordinates = getIndexCoordinates();
+        RefreshRequest refreshRequest = requestConverter.indicesRefreshRequest(indexCoordinates);
+        return Mono.from(execute(client -> client.refresh(refreshRequest))) //
+                .doOnNext(response -> indexRefreshed(indexCoordinates)) //
+                .then();
     }
 
     @Override
@@ -12,6 +12,7 @@ package org.opensearch.data.client.osc;
 import java.io.IOException;
 import java.util.function.Function;
 import org.opensearch.client.ApiClient;
+import org.opensearch.client.json.JsonpDeserializer;
 import org.opensearch.client.opensearch._types.ErrorResponse;
 import org.opensearch.client.opensearch.core.BulkRequest;
 import org.opensearch.client.opensearch.core.BulkResponse;
@@ -40,6 +41,8 @@ import org.opensearch.client.opensearch.core.InfoRequest;
 import org.opensearch.client.opensearch.core.InfoResponse;
 import org.opensearch.client.opensearch.core.MgetRequest;
 import org.opensearch.client.opensearch.core.MgetResponse;
+import org.opensearch.client.opensearch.core.MsearchRequest;
+import org.opensearch.client.opensearch.core.MsearchResponse;
 import org.opensearch.client.opensearch.core.PingRequest;
 import org.opensearch.client.opensearch.core.PutScriptRequest;
 import org.opensearch.client.opensearch.core.PutScriptResponse;
@@ -53,6 +56,7 @@ import org.opensearch.client.opensearch.core.SearchTemplateRequest;
 import org.opensearch.client.opensearch.core.SearchTemplateResponse;
 import org.opensearch.client.opensearch.core.UpdateRequest;
 import org.opensearch.client.opensearch.core.UpdateResponse;
+import org.opensearch.client.opensearch.core.search.Hit;
 import org.opensearch.client.transport.JsonEndpoint;
 import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.client.transport.TransportOptions;
@@ -61,10 +65,13 @@ import org.opensearch.client.transport.endpoints.EndpointWithResponseMapperAttr;
 import org.opensearch.client.util.ObjectBuilder;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
- * Reactive version of {@link org.opensearch.client.opensearch.OpenSearchClient}.
+ * Reactive version of {@link org.opensearch.client.opensearch.OpenSearchClient}. The requests are sent when the
+ * returned {@link Mono} is subscribed to, once for every subscription. Cancelling the subscription cancels the future
+ * of the transport, which aborts the HTTP exchange of the {@code RestClientTransport} and releases its connection.
  */
 public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, ReactiveOpenSearchClient>
         implements AutoCloseable {
@@ -101,12 +108,12 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
 
     public Mono<InfoResponse> info() {
         return Mono
-                .fromFuture(transport.performRequestAsync(InfoRequest.builder().build(), InfoRequest._ENDPOINT, transportOptions));
+                .fromFuture(() -> transport.performRequestAsync(InfoRequest.builder().build(), InfoRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<BooleanResponse> ping() {
         return Mono
-                .fromFuture(transport.performRequestAsync(PingRequest.builder().build(), PingRequest._ENDPOINT, transportOptions));
+                .fromFuture(() -> transport.performRequestAsync(PingRequest.builder().build(), PingRequest._ENDPOINT, transportOptions));
     }
 
     // endregion
@@ -116,7 +123,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
 
         Assert.notNull(request, "request must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request, IndexRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, IndexRequest._ENDPOINT, transportOptions));
     }
 
     public <T> Mono<IndexResponse> index(Function<IndexRequest.Builder<T>, ObjectBuilder<IndexRequest<T>>> fn) {
@@ -130,7 +137,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
 
         Assert.notNull(request, "request must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request, BulkRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, BulkRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<BulkResponse> bulk(Function<BulkRequest.Builder, ObjectBuilder<BulkRequest>> fn) {
@@ -148,19 +155,19 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
         // org.opensearch.client.opensearch.OpenSearchClient.get(org.opensearch.client.opensearch.core.GetRequest,
         // java.lang.Class<TDocument>)
         // noinspection unchecked
-        JsonEndpoint<GetRequest, GetResponse<T>, ErrorResponse> endpoint = (JsonEndpoint<GetRequest, GetResponse<T>, ErrorResponse>) GetRequest._ENDPOINT;
-        endpoint = new EndpointWithResponseMapperAttr<>(endpoint,
+        JsonEndpoint<GetRequest, GetResponse<T>, ErrorResponse> endpoint = new EndpointWithResponseMapperAttr<>(
+                (JsonEndpoint<GetRequest, GetResponse<T>, ErrorResponse>) GetRequest._ENDPOINT,
                 "org.opensearch.client:Deserializer:_global.get.TDocument",
                 getDeserializer(tClass));
 
-        return Mono.fromFuture(transport.performRequestAsync(request, endpoint, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, endpoint, transportOptions));
     }
 
     public Mono<BooleanResponse> exists(ExistsRequest request) {
 
         Assert.notNull(request, "request must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request, ExistsRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, ExistsRequest._ENDPOINT, transportOptions));
     }
 
     public <T, P> Mono<UpdateResponse<T>> update(UpdateRequest<T, P> request, Class<T> clazz) {
@@ -171,7 +178,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
         JsonEndpoint<UpdateRequest<?, ?>, UpdateResponse<T>, ErrorResponse> endpoint = new EndpointWithResponseMapperAttr(
                 UpdateRequest._ENDPOINT, "org.opensearch.client:Deserializer:_global.update.TDocument",
                 this.getDeserializer(clazz));
-        return Mono.fromFuture(transport.performRequestAsync(request, endpoint, this.transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, endpoint, this.transportOptions));
     }
 
     public <T, P> Mono<UpdateResponse<T>> update(
@@ -194,12 +201,12 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
         Assert.notNull(clazz, "clazz must not be null");
 
         // noinspection unchecked
-        JsonEndpoint<MgetRequest, MgetResponse<T>, ErrorResponse> endpoint = (JsonEndpoint<MgetRequest, MgetResponse<T>, ErrorResponse>) MgetRequest._ENDPOINT;
-        endpoint = new EndpointWithResponseMapperAttr<>(endpoint,
+        JsonEndpoint<MgetRequest, MgetResponse<T>, ErrorResponse> endpoint = new EndpointWithResponseMapperAttr<>(
+                (JsonEndpoint<MgetRequest, MgetResponse<T>, ErrorResponse>) MgetRequest._ENDPOINT,
                 "org.opensearch.client:Deserializer:_global.mget.TDocument",
                 this.getDeserializer(clazz));
 
-        return Mono.fromFuture(transport.performRequestAsync(request, endpoint, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, endpoint, transportOptions));
     }
 
     public <T> Mono<MgetResponse<T>> mget(Function<MgetRequest.Builder, ObjectBuilder<MgetRequest>> fn, Class<T> clazz) {
@@ -209,11 +216,33 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
         return mget(fn.apply(new MgetRequest.Builder()).build(), clazz);
     }
 
+    public <T> Mono<MsearchResponse<T>> msearch(MsearchRequest request, Class<T> tDocumentClass) {
+
+        Assert.notNull(request, "request must not be null");
+        Assert.notNull(tDocumentClass, "tDocumentClass must not be null");
+
+        // noinspection unchecked
+        JsonEndpoint<MsearchRequest, MsearchResponse<T>, ErrorResponse> endpoint = new EndpointWithResponseMapperAttr<>(
+                (JsonEndpoint<MsearchRequest, MsearchResponse<T>, ErrorResponse>) MsearchRequest._ENDPOINT,
+                "org.opensearch.client:Deserializer:_global.msearch.TDocument",
+                this.getDeserializer(tDocumentClass));
+
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, endpoint, transportOptions));
+    }
+
+    public <T> Mono<MsearchResponse<T>> msearch(Function<MsearchRequest.Builder, ObjectBuilder<MsearchRequest>> fn,
+            Class<T> tDocumentClass) {
+
+        Assert.notNull(fn, "fn must not be null");
+
+        return msearch(fn.apply(new MsearchRequest.Builder()).build(), tDocumentClass);
+    }
+
     public Mono<ReindexResponse> reindex(ReindexRequest request) {
 
         Assert.notNull(request, "request must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request, ReindexRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, ReindexRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<ReindexResponse> reindex(Function<ReindexRequest.Builder, ObjectBuilder<ReindexRequest>> fn) {
@@ -227,7 +256,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
 
         Assert.notNull(request, "request must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request, DeleteRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, DeleteRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<DeleteResponse> delete(Function<DeleteRequest.Builder, ObjectBuilder<DeleteRequest>> fn) {
@@ -241,7 +270,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
 
         Assert.notNull(request, "request must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request, DeleteByQueryRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, DeleteByQueryRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<DeleteByQueryResponse> deleteByQuery(
@@ -259,7 +288,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
 
         Assert.notNull(request, "request must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request, CountRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, CountRequest._ENDPOINT, transportOptions));
     }
 
     /**
@@ -280,7 +309,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
         Assert.notNull(request, "request must not be null");
         Assert.notNull(tDocumentClass, "tDocumentClass must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request,
+        return Mono.fromFuture(() -> transport.performRequestAsync(request,
                 SearchRequest.createSearchEndpoint(this.getDeserializer(tDocumentClass)), transportOptions));
     }
 
@@ -293,6 +322,40 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
         return search(fn.apply(new SearchRequest.Builder()).build(), tDocumentClass);
     }
 
+    /**
+     * Searches and emits the hits of the response. With a {@link StreamingOpenSearchTransport}, also one wrapped in an
+     * {@link ObservingOpenSearchTransport}, every hit is emitted as soon as it was parsed from the response, before the
+     * rest of the response was received; with other transports the hits are emitted once the whole response was read.
+     */
+    public <T> Flux<Hit<T>> searchHits(SearchRequest request, Class<T> tDocumentClass) {
+
+        Assert.notNull(tDocumentClass, "tDocumentClass must not be null");
+
+        return searchHits(request, this.getDeserializer(tDocumentClass));
+    }
+
+    /**
+     * Searches and emits the hits of the response with their sources read by the given deserializer, see
+     * {@link #searchHits(SearchRequest, Class)}.
+     */
+    public <T> Flux<Hit<T>> searchHits(SearchRequest request, JsonpDeserializer<T> tDocumentDeserializer) {
+
+        Assert.notNull(request, "request must not be null");
+        Assert.notNull(tDocumentDeserializer, "tDocumentDeserializer must not be null");
+
+        if (transport instanceof StreamingOpenSearchTransport streamingTransport) {
+            return streamingTransport.searchHits(request, tDocumentDeserializer, transportOptions);
+        }
+        if (transport instanceof ObservingOpenSearchTransport observingTransport
+                && observingTransport.getDelegate() instanceof StreamingOpenSearchTransport) {
+            return observingTransport.searchHits(request, tDocumentDeserializer, transportOptions);
+        }
+        return Mono
+                .fromFuture(() -> transport.performRequestAsync(request,
+                        SearchRequest.createSearchEndpoint(tDocumentDeserializer), transportOptions))
+                .flatMapIterable(response -> response.hits().hits());
+    }
+
     /**
      * @since 5.1
      */
@@ -301,7 +364,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
         Assert.notNull(request, "request must not be null");
         Assert.notNull(tDocumentClass, "tDocumentClass must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request,
+        return Mono.fromFuture(() -> transport.performRequestAsync(request,
                 SearchTemplateRequest.createSearchTemplateEndpoint(this.getDeserializer(tDocumentClass)), transportOptions));
     }
 
@@ -325,11 +388,11 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
         // org.opensearch.client.opensearch.OpenSearchClient.scroll(org.opensearch.client.opensearch.core.ScrollRequest,
         // java.lang.Class<TDocument>)
         // noinspection unchecked
-        JsonEndpoint<ScrollRequest, ScrollResponse<T>, ErrorResponse> endpoint = (JsonEndpoint<ScrollRequest, ScrollResponse<T>, ErrorResponse>) ScrollRequest._ENDPOINT;
-        endpoint = new EndpointWithResponseMapperAttr<>(endpoint,
+        JsonEndpoint<ScrollRequest, ScrollResponse<T>, ErrorResponse> endpoint = new EndpointWithResponseMapperAttr<>(
+                (JsonEndpoint<ScrollRequest, ScrollResponse<T>, ErrorResponse>) ScrollRequest._ENDPOINT,
                 "org.opensearch.client:Deserializer:_global.scroll.TDocument", getDeserializer(tDocumentClass));
 
-        return Mono.fromFuture(transport.performRequestAsync(request, endpoint, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, endpoint, transportOptions));
     }
 
     public <T> Mono<ScrollResponse<T>> scroll(Function<ScrollRequest.Builder, ObjectBuilder<ScrollRequest>> fn,
@@ -345,7 +408,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
 
         Assert.notNull(request, "request must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request, ClearScrollRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, ClearScrollRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<ClearScrollResponse> clearScroll(
@@ -366,7 +429,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
 
         Assert.notNull(request, "request must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request, PutScriptRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, PutScriptRequest._ENDPOINT, transportOptions));
     }
 
     /**
@@ -386,7 +449,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
 
         Assert.notNull(request, "request must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request, GetScriptRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, GetScriptRequest._ENDPOINT, transportOptions));
     }
 
     /**
@@ -406,7 +469,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
 
         Assert.notNull(request, "request must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request, DeleteScriptRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, DeleteScriptRequest._ENDPOINT, transportOptions));
     }
 
     /**
@@ -427,7 +490,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
 
         Assert.notNull(request, "request must not be null");
 
-        return Mono.fromFuture(transport.performRequestAsync(request, CreatePitRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, CreatePitRequest._ENDPOINT, transportOptions));
     }
 
    /*
@@ -437,7 +500,7 @@ public class ReactiveOpenSearchClient extends ApiClient<OpenSearchTransport, Rea
 
        Assert.notNull(request, "request must not be null");
 
-       return Mono.fromFuture(transport.performRequestAsync(request, DeletePitRequest._ENDPOINT, transportOptions));
+       return Mono.fromFuture(() -> transport.performRequestAsync(request, DeletePitRequest._ENDPOINT, transportOptions));
    }
 
    /**
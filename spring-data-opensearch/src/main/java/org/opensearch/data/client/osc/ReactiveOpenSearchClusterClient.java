@@ -28,7 +28,9 @@ import org.springframework.lang.Nullable;
 import reactor.core.publisher.Mono;
 
 /**
- * Reactive version of the {@link org.opensearch.client.opensearch.cluster.OpenSearchClusterClient}
+ * Reactive version of the {@link org.opensearch.client.opensearch.cluster.OpenSearchClusterClient}. Like the
+ * {@link ReactiveOpenSearchClient}, it sends a request for every subscription and cancels it when the subscription is
+ * cancelled.
  */
 public class ReactiveOpenSearchClusterClient
         extends ApiClient<OpenSearchTransport, ReactiveOpenSearchClusterClient> {
@@ -44,7 +46,7 @@ public class ReactiveOpenSearchClusterClient
     }
 
     public Mono<HealthResponse> health(HealthRequest healthRequest) {
-        return Mono.fromFuture(transport.performRequestAsync(healthRequest, HealthRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(healthRequest, HealthRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<HealthResponse> health(Function<HealthRequest.Builder, ObjectBuilder<HealthRequest>> fn) {
@@ -53,7 +55,7 @@ public class ReactiveOpenSearchClusterClient
 
     public Mono<PutComponentTemplateResponse> putComponentTemplate(
             PutComponentTemplateRequest putComponentTemplateRequest) {
-        return Mono.fromFuture(transport.performRequestAsync(putComponentTemplateRequest,
+        return Mono.fromFuture(() -> transport.performRequestAsync(putComponentTemplateRequest,
                 PutComponentTemplateRequest._ENDPOINT, transportOptions));
     }
 
@@ -64,7 +66,7 @@ public class ReactiveOpenSearchClusterClient
 
     public Mono<GetComponentTemplateResponse> getComponentTemplate(
             GetComponentTemplateRequest getComponentTemplateRequest) {
-        return Mono.fromFuture(transport.performRequestAsync(getComponentTemplateRequest,
+        return Mono.fromFuture(() -> transport.performRequestAsync(getComponentTemplateRequest,
                 GetComponentTemplateRequest._ENDPOINT, transportOptions));
     }
 
@@ -74,7 +76,7 @@ public class ReactiveOpenSearchClusterClient
     }
 
     public Mono<BooleanResponse> existsComponentTemplate(ExistsComponentTemplateRequest existsComponentTemplateRequest) {
-        return Mono.fromFuture(transport.performRequestAsync(existsComponentTemplateRequest,
+        return Mono.fromFuture(() -> transport.performRequestAsync(existsComponentTemplateRequest,
                 ExistsComponentTemplateRequest._ENDPOINT, transportOptions));
     }
 
@@ -85,7 +87,7 @@ public class ReactiveOpenSearchClusterClient
 
     public Mono<DeleteComponentTemplateResponse> deleteComponentTemplate(
             DeleteComponentTemplateRequest deleteComponentTemplateRequest) {
-        return Mono.fromFuture(transport.performRequestAsync(deleteComponentTemplateRequest,
+        return Mono.fromFuture(() -> transport.performRequestAsync(deleteComponentTemplateRequest,
                 DeleteComponentTemplateRequest._ENDPOINT, transportOptions));
     }
 
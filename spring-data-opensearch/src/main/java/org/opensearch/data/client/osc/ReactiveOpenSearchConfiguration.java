@@ -54,7 +54,8 @@ public abstract class ReactiveOpenSearchConfiguration extends ElasticsearchConfi
 
     /**
      * Provides the Elasticsearch transport to be used. The default implementation uses the {@link RestClient} bean and
-     * the {@link JsonpMapper} bean provided in this class.
+     * the {@link JsonpMapper} bean provided in this class, or a {@link StreamingOpenSearchTransport} for the
+     * {@link #clientConfiguration()} if {@link #useStreamingTransport()} returns {@literal true}.
      *
      * @return the {@link OpenSearchTransport}
      * @since 5.2
@@ -65,10 +66,26 @@ public abstract class ReactiveOpenSearchConfiguration extends ElasticsearchConfi
         Assert.notNull(restClient, "restClient must not be null");
         Assert.notNull(jsonpMapper, "jsonpMapper must not be null");
 
+        if (useStreamingTransport()) {
+            return OpenSearchClients.getStreamingOpenSearchTransport(clientConfiguration(),
+                    OpenSearchClients.REACTIVE_CLIENT, transportOptions(), jsonpMapper);
+        }
+
         return OpenSearchClients.getOpenSearchTransport(restClient, OpenSearchClients.REACTIVE_CLIENT,
                 transportOptions(), jsonpMapper);
     }
 
+    /**
+     * Whether the reactive client sends its requests with a {@link StreamingOpenSearchTransport}, which streams the
+     * request bodies from buffers and deserializes the responses on the I/O thread that received them, instead of the
+     * {@link RestClient}. The {@link RestClient} bean is still provided for other users.
+     *
+     * @return {@literal false} by default
+     */
+    public boolean useStreamingTransport() {
+        return false;
+    }
+
     /**
      * Provides the {@link ReactiveOpenSearchClient} instance used.
      *
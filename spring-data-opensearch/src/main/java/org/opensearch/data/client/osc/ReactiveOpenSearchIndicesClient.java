@@ -107,7 +107,9 @@ import org.springframework.lang.Nullable;
 import reactor.core.publisher.Mono;
 
 /**
- * Reactive version of the {@link org.opensearch.client.opensearch.indices.OpenSearchIndicesClient}
+ * Reactive version of the {@link org.opensearch.client.opensearch.indices.OpenSearchIndicesClient}. Like the
+ * {@link ReactiveOpenSearchClient}, it sends a request for every subscription and cancels it when the subscription is
+ * cancelled.
  */
 public class ReactiveOpenSearchIndicesClient
         extends ApiClient<OpenSearchTransport, ReactiveOpenSearchIndicesClient> {
@@ -123,7 +125,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<AddBlockResponse> addBlock(AddBlockRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, AddBlockRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, AddBlockRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<AddBlockResponse> addBlock(Function<AddBlockRequest.Builder, ObjectBuilder<AddBlockRequest>> fn) {
@@ -131,7 +133,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<AnalyzeResponse> analyze(AnalyzeRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, AnalyzeRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, AnalyzeRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<AnalyzeResponse> analyze(Function<AnalyzeRequest.Builder, ObjectBuilder<AnalyzeRequest>> fn) {
@@ -143,7 +145,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<ClearCacheResponse> clearCache(ClearCacheRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, ClearCacheRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, ClearCacheRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<ClearCacheResponse> clearCache(Function<ClearCacheRequest.Builder, ObjectBuilder<ClearCacheRequest>> fn) {
@@ -155,7 +157,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<CloneIndexResponse> clone(CloneIndexRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, CloneIndexRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, CloneIndexRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<CloneIndexResponse> clone(Function<CloneIndexRequest.Builder, ObjectBuilder<CloneIndexRequest>> fn) {
@@ -163,7 +165,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<CloseIndexResponse> close(CloseIndexRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, CloseIndexRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, CloseIndexRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<CloseIndexResponse> close(Function<CloseIndexRequest.Builder, ObjectBuilder<CloseIndexRequest>> fn) {
@@ -171,7 +173,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<CreateIndexResponse> create(CreateIndexRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, CreateIndexRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, CreateIndexRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<CreateIndexResponse> create(Function<CreateIndexRequest.Builder, ObjectBuilder<CreateIndexRequest>> fn) {
@@ -179,7 +181,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<CreateDataStreamResponse> createDataStream(CreateDataStreamRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, CreateDataStreamRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, CreateDataStreamRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<CreateDataStreamResponse> createDataStream(
@@ -188,7 +190,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<DataStreamsStatsResponse> dataStreamsStats(DataStreamsStatsRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, DataStreamsStatsRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, DataStreamsStatsRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<DataStreamsStatsResponse> dataStreamsStats(
@@ -201,7 +203,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<DeleteIndexResponse> delete(DeleteIndexRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, DeleteIndexRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, DeleteIndexRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<DeleteIndexResponse> delete(Function<DeleteIndexRequest.Builder, ObjectBuilder<DeleteIndexRequest>> fn) {
@@ -209,7 +211,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<DeleteAliasResponse> deleteAlias(DeleteAliasRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, DeleteAliasRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, DeleteAliasRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<DeleteAliasResponse> deleteAlias(
@@ -218,7 +220,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<DeleteDataStreamResponse> deleteDataStream(DeleteDataStreamRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, DeleteDataStreamRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, DeleteDataStreamRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<DeleteDataStreamResponse> deleteDataStream(
@@ -228,7 +230,7 @@ public class ReactiveOpenSearchIndicesClient
 
     public Mono<DeleteIndexTemplateResponse> deleteIndexTemplate(DeleteIndexTemplateRequest request) {
         return Mono
-                .fromFuture(transport.performRequestAsync(request, DeleteIndexTemplateRequest._ENDPOINT, transportOptions));
+                .fromFuture(() -> transport.performRequestAsync(request, DeleteIndexTemplateRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<DeleteIndexTemplateResponse> deleteIndexTemplate(
@@ -237,7 +239,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<DeleteTemplateResponse> deleteTemplate(DeleteTemplateRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, DeleteTemplateRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, DeleteTemplateRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<DeleteTemplateResponse> deleteTemplate(
@@ -246,7 +248,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<BooleanResponse> exists(ExistsRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, ExistsRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, ExistsRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<BooleanResponse> exists(Function<ExistsRequest.Builder, ObjectBuilder<ExistsRequest>> fn) {
@@ -254,7 +256,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<BooleanResponse> existsAlias(ExistsAliasRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, ExistsAliasRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, ExistsAliasRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<BooleanResponse> existsAlias(Function<ExistsAliasRequest.Builder, ObjectBuilder<ExistsAliasRequest>> fn) {
@@ -263,7 +265,7 @@ public class ReactiveOpenSearchIndicesClient
 
     public Mono<BooleanResponse> existsIndexTemplate(ExistsIndexTemplateRequest request) {
         return Mono
-                .fromFuture(transport.performRequestAsync(request, ExistsIndexTemplateRequest._ENDPOINT, transportOptions));
+                .fromFuture(() -> transport.performRequestAsync(request, ExistsIndexTemplateRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<BooleanResponse> existsIndexTemplate(
@@ -272,7 +274,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<BooleanResponse> existsTemplate(ExistsTemplateRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, ExistsTemplateRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, ExistsTemplateRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<BooleanResponse> existsTemplate(
@@ -281,7 +283,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<FlushResponse> flush(FlushRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, FlushRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, FlushRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<FlushResponse> flush(Function<FlushRequest.Builder, ObjectBuilder<FlushRequest>> fn) {
@@ -294,7 +296,7 @@ public class ReactiveOpenSearchIndicesClient
 
     @SuppressWarnings("SpellCheckingInspection")
     public Mono<ForcemergeResponse> forcemerge(ForcemergeRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, ForcemergeRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, ForcemergeRequest._ENDPOINT, transportOptions));
     }
 
     @SuppressWarnings("SpellCheckingInspection")
@@ -308,7 +310,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<GetIndexResponse> get(GetIndexRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, GetIndexRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, GetIndexRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<GetIndexResponse> get(Function<GetIndexRequest.Builder, ObjectBuilder<GetIndexRequest>> fn) {
@@ -316,7 +318,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<GetAliasResponse> getAlias(GetAliasRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, GetAliasRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, GetAliasRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<GetAliasResponse> getAlias(Function<GetAliasRequest.Builder, ObjectBuilder<GetAliasRequest>> fn) {
@@ -328,7 +330,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<GetDataStreamResponse> getDataStream(GetDataStreamRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, GetDataStreamRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, GetDataStreamRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<GetDataStreamResponse> getDataStream(
@@ -341,7 +343,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<GetFieldMappingResponse> getFieldMapping(GetFieldMappingRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, GetFieldMappingRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, GetFieldMappingRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<GetFieldMappingResponse> getFieldMapping(
@@ -350,7 +352,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<GetIndexTemplateResponse> getIndexTemplate(GetIndexTemplateRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, GetIndexTemplateRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, GetIndexTemplateRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<GetIndexTemplateResponse> getIndexTemplate(
@@ -364,7 +366,7 @@ public class ReactiveOpenSearchIndicesClient
 
     public Mono<GetMappingResponse> getMapping(GetMappingRequest getMappingRequest) {
         return Mono
-                .fromFuture(transport.performRequestAsync(getMappingRequest, GetMappingRequest._ENDPOINT, transportOptions));
+                .fromFuture(() -> transport.performRequestAsync(getMappingRequest, GetMappingRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<GetMappingResponse> getMapping(Function<GetMappingRequest.Builder, ObjectBuilder<GetMappingRequest>> fn) {
@@ -377,7 +379,7 @@ public class ReactiveOpenSearchIndicesClient
 
     public Mono<GetIndicesSettingsResponse> getSettings(GetIndicesSettingsRequest request) {
         return Mono
-                .fromFuture(transport.performRequestAsync(request, GetIndicesSettingsRequest._ENDPOINT, transportOptions));
+                .fromFuture(() -> transport.performRequestAsync(request, GetIndicesSettingsRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<GetIndicesSettingsResponse> getSettings(
@@ -390,7 +392,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<GetTemplateResponse> getTemplate(GetTemplateRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, GetTemplateRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, GetTemplateRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<GetTemplateResponse> getTemplate(
@@ -403,7 +405,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<OpenResponse> open(OpenRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, OpenRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, OpenRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<OpenResponse> open(Function<OpenRequest.Builder, ObjectBuilder<OpenRequest>> fn) {
@@ -411,7 +413,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<PutAliasResponse> putAlias(PutAliasRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, PutAliasRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, PutAliasRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<PutAliasResponse> putAlias(Function<PutAliasRequest.Builder, ObjectBuilder<PutAliasRequest>> fn) {
@@ -419,7 +421,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<PutIndexTemplateResponse> putIndexTemplate(PutIndexTemplateRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, PutIndexTemplateRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, PutIndexTemplateRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<PutIndexTemplateResponse> putIndexTemplate(
@@ -429,7 +431,7 @@ public class ReactiveOpenSearchIndicesClient
 
     public Mono<PutMappingResponse> putMapping(PutMappingRequest putMappingRequest) {
         return Mono
-                .fromFuture(transport.performRequestAsync(putMappingRequest, PutMappingRequest._ENDPOINT, transportOptions));
+                .fromFuture(() -> transport.performRequestAsync(putMappingRequest, PutMappingRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<PutMappingResponse> putMapping(Function<PutMappingRequest.Builder, ObjectBuilder<PutMappingRequest>> fn) {
@@ -438,7 +440,7 @@ public class ReactiveOpenSearchIndicesClient
 
     public Mono<PutIndicesSettingsResponse> putSettings(PutIndicesSettingsRequest request) {
         return Mono
-                .fromFuture(transport.performRequestAsync(request, PutIndicesSettingsRequest._ENDPOINT, transportOptions));
+                .fromFuture(() -> transport.performRequestAsync(request, PutIndicesSettingsRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<PutIndicesSettingsResponse> putSettings(
@@ -451,7 +453,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<PutTemplateResponse> putTemplate(PutTemplateRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, PutTemplateRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, PutTemplateRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<PutTemplateResponse> putTemplate(
@@ -460,7 +462,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<RecoveryResponse> recovery(RecoveryRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, RecoveryRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, RecoveryRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<RecoveryResponse> recovery(Function<RecoveryRequest.Builder, ObjectBuilder<RecoveryRequest>> fn) {
@@ -472,7 +474,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<RefreshResponse> refresh(RefreshRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, RefreshRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, RefreshRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<RefreshResponse> refresh(Function<RefreshRequest.Builder, ObjectBuilder<RefreshRequest>> fn) {
@@ -484,7 +486,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<ResolveIndexResponse> resolveIndex(ResolveIndexRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, ResolveIndexRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, ResolveIndexRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<ResolveIndexResponse> resolveIndex(
@@ -493,7 +495,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<RolloverResponse> rollover(RolloverRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, RolloverRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, RolloverRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<RolloverResponse> rollover(Function<RolloverRequest.Builder, ObjectBuilder<RolloverRequest>> fn) {
@@ -501,7 +503,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<SegmentsResponse> segments(SegmentsRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, SegmentsRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, SegmentsRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<SegmentsResponse> segments(Function<SegmentsRequest.Builder, ObjectBuilder<SegmentsRequest>> fn) {
@@ -513,7 +515,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<ShardStoresResponse> shardStores(ShardStoresRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, ShardStoresRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, ShardStoresRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<ShardStoresResponse> shardStores(
@@ -526,7 +528,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<ShrinkResponse> shrink(ShrinkRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, ShrinkRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, ShrinkRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<ShrinkResponse> shrink(Function<ShrinkRequest.Builder, ObjectBuilder<ShrinkRequest>> fn) {
@@ -535,7 +537,7 @@ public class ReactiveOpenSearchIndicesClient
 
     public Mono<SimulateIndexTemplateResponse> simulateIndexTemplate(SimulateIndexTemplateRequest request) {
         return Mono
-                .fromFuture(transport.performRequestAsync(request, SimulateIndexTemplateRequest._ENDPOINT, transportOptions));
+                .fromFuture(() -> transport.performRequestAsync(request, SimulateIndexTemplateRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<SimulateIndexTemplateResponse> simulateIndexTemplate(
@@ -544,7 +546,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<SimulateTemplateResponse> simulateTemplate(SimulateTemplateRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, SimulateTemplateRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, SimulateTemplateRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<SimulateTemplateResponse> simulateTemplate(
@@ -557,7 +559,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<SplitResponse> split(SplitRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, SplitRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, SplitRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<SplitResponse> split(Function<SplitRequest.Builder, ObjectBuilder<SplitRequest>> fn) {
@@ -565,7 +567,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<IndicesStatsResponse> stats(IndicesStatsRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, IndicesStatsRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, IndicesStatsRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<IndicesStatsResponse> stats(
@@ -578,7 +580,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<UpdateAliasesResponse> updateAliases(UpdateAliasesRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, UpdateAliasesRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, UpdateAliasesRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<UpdateAliasesResponse> updateAliases(
@@ -591,7 +593,7 @@ public class ReactiveOpenSearchIndicesClient
     }
 
     public Mono<ValidateQueryResponse> validateQuery(ValidateQueryRequest request) {
-        return Mono.fromFuture(transport.performRequestAsync(request, ValidateQueryRequest._ENDPOINT, transportOptions));
+        return Mono.fromFuture(() -> transport.performRequestAsync(request, ValidateQueryRequest._ENDPOINT, transportOptions));
     }
 
     public Mono<ValidateQueryResponse> validateQuery(
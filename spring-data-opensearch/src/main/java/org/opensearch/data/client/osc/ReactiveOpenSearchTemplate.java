@@ -17,17 +17,24 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.UnaryOperator;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.opensearch._types.Result;
+import org.opensearch.client.opensearch._types.SlicedScroll;
+import org.opensearch.client.opensearch._types.WriteResponseBase;
 import org.opensearch.client.opensearch.core.*;
 import org.opensearch.client.opensearch.core.CreatePitResponse;
 import org.opensearch.client.opensearch.core.DeletePitRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
 import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.msearch.MultiSearchResponseItem;
+import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.client.transport.Version;
 import org.opensearch.client.transport.endpoints.BooleanResponse;
 import org.reactivestreams.Publisher;
@@ -57,8 +64,10 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
 
 /**
@@ -74,6 +83,13 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
     private final ResponseConverter responseConverter;
     private final JsonpMapper jsonpMapper;
     private final OpenSearchExceptionTranslator exceptionTranslator;
+    @Nullable private BulkRetryPolicy bulkRetryPolicy;
+    private PointInTimeScanOptions pointInTimeScanOptions = PointInTimeScanOptions.defaultOptions();
+    private ReactiveOpenSearchClient observedClient;
+    @Nullable private RequestCoalescer<RequestConverter.DocumentGet, MultiGetItem<Document>> getCoalescer;
+    @Nullable private RequestCoalescer<RequestConverter.SearchItem, MultiSearchResponseItem<EntityAsMap>> searchCoalescer;
+    private DocumentCaches documentCaches = new DocumentCaches();
+    @Nullable private SearchResultCache searchResultCache;
 
     public ReactiveOpenSearchTemplate(ReactiveOpenSearchClient client, ElasticsearchConverter converter) {
         super(converter);
@@ -81,6 +97,7 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
         Assert.notNull(client, "client must not be null");
 
         this.client = client;
+        this.observedClient = client;
         this.jsonpMapper = client._transport().jsonpMapper();
         requestConverter = new RequestConverter(converter, jsonpMapper);
         responseConverter = new ResponseConverter(jsonpMapper);
@@ -96,6 +113,8 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
         return Mono.just(entity) //
                 .zipWith(//
                         Mono.from(execute(client -> client.index(indexRequest))) //
+                                .doOnSubscribe(subscription -> documentCaches.evict(index, indexRequest.id())) //
+                                .doOnNext(indexResponse -> invalidateCaches(index, indexResponse)) //
                                 .map(indexResponse -> new IndexResponseMetaData(indexResponse.id(), //
                                         indexResponse.index(), //
                                         indexResponse.seqNo(), //
@@ -122,23 +141,95 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
 
                     return doBulkOperation(entities.indexQueries(), BulkOptions.defaultOptions(), index)//
                             .index() //
-                            .flatMap(indexAndResponse -> {
-                                T savedEntity = entities.entityAt(indexAndResponse.getT1());
-                                BulkResponseItem response = indexAndResponse.getT2();
-                                var updatedEntity = entityOperations.updateIndexedObject(
-                                        savedEntity, new IndexedObjectInformation( //
-                                                response.id(), //
-                                                response.index(), //
-                                                response.seqNo(), //
-                                                response.primaryTerm(), //
-                                                response.version()),
-                                        converter,
-                                        routingResolver);
-                                return maybeCallbackAfterSave(updatedEntity, index);
-                            });
+                            .flatMap(indexAndResponse -> afterBulkSave(entities.entityAt(indexAndResponse.getT1()),
+                                    indexAndResponse.getT2(), index));
                 });
     }
 
+    /**
+     * Saves the entities emitted by the given publisher in a sequence of bulk requests. In contrast to
+     * {@link #saveAll(Mono, IndexCoordinates)} the entities are not collected before sending them; a bulk request is
+     * sent as soon as it contains {@link StreamingBulkOptions#getMaxActions()} operations or its estimated size reaches
+     * {@link StreamingBulkOptions#getMaxBytes()}. Up to {@link StreamingBulkOptions#getMaxConcurrentRequests()} requests
+     * are in flight at the same time and the publisher is only requested for more entities when there is room for
+     * them, so the memory used is bounded by the options and not by the number of entities.
+     *
+     * @param entities the entities to save, must not be {@literal null}
+     * @param index the index to save the entities in, must not be {@literal null}
+     * @param options the options controlling the bulk requests, must not be {@literal null}
+     * @param <T> the entity type
+     * @return the saved entities in the order they were emitted by the publisher
+     */
+    public <T> Flux<T> saveAll(Publisher<T> entities, IndexCoordinates index, StreamingBulkOptions options) {
+
+        Assert.notNull(entities, "entities must not be null");
+        Assert.notNull(index, "index must not be null");
+        Assert.notNull(options, "options must not be null");
+
+        return Flux.defer(() -> {
+            BulkRequestAccumulator accumulator = new BulkRequestAccumulator(options.getMaxActions(),
+                    options.getMaxBytes());
+
+            return Flux.from(entities) //
+                    .concatMap(entity -> maybeCallbackBeforeConvert(entity, index)) //
+                    .map(entity -> {
+                        BulkOperation operation = requestConverter.documentBulkOperation(getIndexQuery(entity), index,
+                                getRefreshPolicy());
+                        return new PendingBulkOperation<>(entity, operation,
+                                requestConverter.documentBulkOperationSize(operation));
+                    }) //
+                    .bufferUntil(pending -> accumulator.addAndResetIfFull(pending.size())) //
+                    .flatMapSequential(chunk -> doStreamingBulkOperation(chunk, options.getBulkOptions(), index),
+                            options.getMaxConcurrentRequests(), 1);
+        });
+    }
+
+    /**
+     * Saves the entities emitted by the given publisher in a sequence of bulk requests into the index of the given
+     * entity class.
+     *
+     * @see #saveAll(Publisher, IndexCoordinates, StreamingBulkOptions)
+     */
+    public <T> Flux<T> saveAll(Publisher<T> entities, Class<?> clazz, StreamingBulkOptions options) {
+
+        Assert.notNull(clazz, "clazz must not be null");
+
+        return saveAll(entities, getIndexCoordinatesFor(clazz), options);
+    }
+
+    private <T> Flux<T> doStreamingBulkOperation(List<PendingBulkOperation<T>> chunk, BulkOptions bulkOptions,
+            IndexCoordinates index) {
+
+        List<BulkOperation> operations = chunk.stream().map(PendingBulkOperation::operation).toList();
+        BulkRequest bulkRequest = requestConverter.documentBulkRequestFromOperations(operations, bulkOptions,
+                getRefreshPolicy());
+
+        return doBulkRequest(bulkRequest, bulkOptions) //
+                .index() //
+                .concatMap(indexAndResponse -> afterBulkSave(chunk.get(indexAndResponse.getT1().intValue()).entity(),
+                        indexAndResponse.getT2(), index));
+    }
+
+    private <T> Mono<T> afterBulkSave(T savedEntity, BulkResponseItem response, IndexCoordinates index) {
+
+        var updatedEntity = entityOperations.updateIndexedObject(
+                savedEntity, new IndexedObjectInformation( //
+                        response.id(), //
+                        response.index(), //
+                        response.seqNo(), //
+                        response.primaryTerm(), //
+                        response.version()),
+                converter,
+                routingResolver);
+        return maybeCallbackAfterSave(updatedEntity, index);
+    }
+
+    /**
+     * an entity together with the bulk operation created for it and the size of the operation in the request body.
+     */
+    private record PendingBulkOperation<T>(T entity, BulkOperation operation, long size) {
+    }
+
     @Override
     protected Mono<Boolean> doExists(String id, IndexCoordinates index) {
 
@@ -159,7 +250,9 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
 
         DeleteByQueryRequest request = requestConverter.documentDeleteByQueryRequest(query, routingResolver.getRouting(),
                 entityType, index, getRefreshPolicy());
-        return Mono.from(execute(client -> client.deleteByQuery(request))).map(responseConverter::byQueryResponse);
+        return Mono.from(execute(client -> client.deleteByQuery(request))) //
+                .doOnNext(response -> invalidateCaches(index)) //
+                .map(responseConverter::byQueryResponse);
     }
 
     @Override
@@ -169,13 +262,79 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
         Assert.notNull(entityType, "entityType must not be null");
         Assert.notNull(index, "index must not be null");
 
-        GetRequest getRequest = requestConverter.documentGetRequest(id, routingResolver.getRouting(), index);
+        String routing = routingResolver.getRouting();
+        ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(converter, entityType, index);
+
+        DocumentCache cache = documentCaches.get(entityType, index);
+        if (cache != null) {
+            return Mono.defer(() -> {
+                Document document = cache.get(index.getIndexName(), id, routing);
+                return document != null ? Mono.just(document)
+                        : doGet(id, routing, index)
+                                .doOnNext(it -> cache.put(index.getIndexName(), id, routing, it));
+            }).flatMap(callback::toEntity);
+        }
+
+        return doGet(id, routing, index).flatMap(callback::toEntity);
+    }
+
+    private Mono<Document> doGet(String id, @Nullable String routing, IndexCoordinates index) {
+
+        RequestCoalescer<RequestConverter.DocumentGet, MultiGetItem<Document>> coalescer = getCoalescer;
+        if (coalescer != null && index.getIndexNames().length == 1) {
+            return coalesce(coalescer, new RequestConverter.DocumentGet(index.getIndexName(), id, routing), this::doGets)
+                    .flatMap(item -> item.isFailed() ? doSingleGet(id, routing, index)
+                            : Mono.justOrEmpty(item.getItem()));
+        }
+
+        return doSingleGet(id, routing, index);
+    }
+
+    private Mono<Document> doSingleGet(String id, @Nullable String routing, IndexCoordinates index) {
+
+        GetRequest getRequest = requestConverter.documentGetRequest(id, routing, index);
 
         Mono<GetResponse<EntityAsMap>> getResponse = Mono
                 .from(execute(client -> client.get(getRequest, EntityAsMap.class)));
 
-        ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(converter, entityType, index);
-        return getResponse.flatMap(response -> callback.toEntity(DocumentAdapters.from(response)));
+        return getResponse.flatMap(response -> Mono.justOrEmpty(DocumentAdapters.from(response)));
+    }
+
+    private Mono<List<MultiGetItem<Document>>> doGets(List<RequestConverter.DocumentGet> gets) {
+        return doMultiGet(requestConverter.documentMgetRequest(gets));
+    }
+
+    private Mono<List<MultiGetItem<Document>>> doMultiGet(MgetRequest request) {
+        return Mono.from(execute(client -> client.mget(request, EntityAsMap.class))).map(DocumentAdapters::from);
+    }
+
+    /**
+     * Adds a request to the open batch of the coalescer. The request that opens a batch schedules sending it after the
+     * window, the request that fills it sends it right away. When all requests of a batch are cancelled, the batch is
+     * not sent or its request is cancelled.
+     */
+    private <K, V> Mono<V> coalesce(RequestCoalescer<K, V> coalescer, K key, Function<List<K>, Mono<List<V>>> executor) {
+
+        return Mono.defer(() -> {
+            RequestCoalescer.Submission<K, V> submission = coalescer.submit(key);
+            RequestCoalescer.Batch<K, V> batch = submission.batch();
+
+            Runnable send = () -> {
+                if (coalescer.close(batch)) {
+                    Disposable sending = executor.apply(batch.keys()).subscribe(batch::complete, batch::fail);
+                    batch.onAbandon(sending::dispose);
+                }
+            };
+
+            if (submission.filled()) {
+                send.run();
+            } else if (submission.opened()) {
+                Schedulers.parallel().schedule(send, coalescer.getOptions().getWindow().toNanos(), TimeUnit.NANOSECONDS);
+            }
+
+            // the result may be shared by identical requests, so cancelling one of them must not cancel it
+            return Mono.fromFuture(submission.result(), true).doOnCancel(() -> coalescer.cancel(batch));
+        });
     }
 
     @Override
@@ -215,7 +374,10 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
         UpdateRequest<Document, ?> request = requestConverter.documentUpdateRequest(updateQuery, index, getRefreshPolicy(),
                 routingResolver.getRouting());
 
-        return Mono.from(execute(client -> client.update(request, Document.class))).flatMap(response -> {
+        return Mono.from(execute(client -> client.update(request, Document.class))) //
+                .doOnSubscribe(subscription -> documentCaches.evict(index, request.id())) //
+                .doOnNext(response -> invalidateCaches(index, response)) //
+                .flatMap(response -> {
             UpdateResponse.Result result = result(response.result());
             return result == null ? Mono.empty() : Mono.just(UpdateResponse.of(result));
         });
@@ -239,13 +401,108 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
     private Flux<BulkResponseItem> doBulkOperation(List<?> queries, BulkOptions bulkOptions, IndexCoordinates index) {
 
         BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, getRefreshPolicy());
-        return client.bulk(bulkRequest)
-                .onErrorMap(e -> new UncategorizedElasticsearchException("Error executing bulk request", e))
+        return doBulkRequest(bulkRequest, bulkOptions);
+    }
+
+    private Flux<BulkResponseItem> doBulkRequest(BulkRequest bulkRequest, BulkOptions bulkOptions) {
+
+        return executeBulkRequest(bulkRequest) //
+                .doOnSubscribe(subscription -> documentCaches.evict(bulkRequest)) //
+                .flatMap(response -> retryRejectedItems(bulkRequest, bulkOptions, response, 1)) //
+                .doOnNext(response -> invalidateCaches(bulkRequest, response)) //
                 .flatMap(this::checkForBulkOperationFailure) //
                 .flatMapMany(response -> Flux.fromIterable(response.items()));
 
     }
 
+    /**
+     * Invalidates the cached documents and search results after a document was written.
+     */
+    private void invalidateCaches(IndexCoordinates index, WriteResponseBase response) {
+
+        documentCaches.invalidate(index, response);
+        SearchResultCache cache = searchResultCache;
+        if (cache != null) {
+            cache.invalidate(index, response.index());
+        }
+    }
+
+    private void invalidateCaches(BulkRequest bulkRequest, BulkResponse bulkResponse) {
+
+        documentCaches.invalidate(bulkRequest, bulkResponse);
+        SearchResultCache cache = searchResultCache;
+        if (cache != null) {
+            cache.invalidate(bulkRequest, bulkResponse);
+        }
+    }
+
+    /**
+     * Invalidates the cached documents of the index and its search results after documents of the index were written
+     * by a query or the index was deleted.
+     */
+    private void invalidateCaches(IndexCoordinates index) {
+
+        documentCaches.evict(index);
+        invalidateSearchResults(index);
+    }
+
+    /**
+     * Invalidates the cached search results of the index after it was refreshed, which makes written documents visible
+     * to searches. Cached documents are read in real time and stay valid.
+     */
+    private void invalidateSearchResults(IndexCoordinates index) {
+
+        SearchResultCache cache = searchResultCache;
+        if (cache != null) {
+            cache.invalidate(index, null);
+        }
+    }
+
+    private IndexChangeListener indexChangeListener() {
+        return new IndexChangeListener() {
+
+            @Override
+            public void indexRefreshed(IndexCoordinates index) {
+                invalidateSearchResults(index);
+            }
+
+            @Override
+            public void indexDeleted(IndexCoordinates index) {
+                invalidateCaches(index);
+            }
+        };
+    }
+
+    private Mono<BulkResponse> executeBulkRequest(BulkRequest bulkRequest) {
+        return observedClient.bulk(bulkRequest)
+                .onErrorMap(e -> new UncategorizedElasticsearchException("Error executing bulk request", e));
+    }
+
+    /**
+     * Resends the items of the response that were rejected with a transient error, if a {@link BulkRetryPolicy} is set,
+     * and merges the results into the response.
+     */
+    private Mono<BulkResponse> retryRejectedItems(BulkRequest bulkRequest, BulkOptions bulkOptions,
+            BulkResponse bulkResponse, int attempt) {
+
+        BulkRetryPolicy retryPolicy = bulkRetryPolicy;
+        if (retryPolicy == null || attempt > retryPolicy.getMaxRetries()) {
+            return Mono.just(bulkResponse);
+        }
+
+        List<Integer> positions = BulkRetries.retryablePositions(bulkResponse, retryPolicy);
+        if (positions.isEmpty()) {
+            return Mono.just(bulkResponse);
+        }
+
+        BulkRequest retryRequest = requestConverter.documentBulkRequestFromOperations(
+                BulkRetries.select(bulkRequest.operations(), positions), bulkOptions, getRefreshPolicy());
+        return Mono.delay(retryPolicy.getBackoff(attempt)) //
+                .then(executeBulkRequest(retryRequest)) //
+                .map(retryResponse -> BulkRetries.merge(bulkResponse, positions, retryResponse)) //
+                .flatMap(merged -> retryRejectedItems(bulkRequest, bulkOptions, merged, attempt + 1));
+    }
+
     private Mono<BulkResponse> checkForBulkOperationFailure(BulkResponse bulkResponse) {
 
         if (bulkResponse.errors()) {
@@ -281,7 +538,10 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
 
     private Mono<String> doDelete(DeleteRequest request) {
 
+        IndexCoordinates index = IndexCoordinates.of(request.index());
         return Mono.from(execute(client -> client.delete(request))) //
+                .doOnSubscribe(subscription -> documentCaches.evict(index, request.id())) //
+                .doOnNext(deleteResponse -> invalidateCaches(index, deleteResponse)) //
                 .flatMap(deleteResponse -> {
                     if (deleteResponse.result() == Result.NotFound) {
                         return Mono.empty();
@@ -300,10 +560,19 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
 
         ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(converter, clazz, index);
 
-        Publisher<MgetResponse<EntityAsMap>> response = execute(client -> client.mget(request, EntityAsMap.class));
+        DocumentCache cache = documentCaches.get(clazz, index);
+        Mono<List<MultiGetItem<Document>>> documents = cache != null ? Mono.defer(() -> {
+            DocumentCache.Lookup lookup = cache.lookup(request);
+            if (lookup == null) {
+                return doMultiGet(request);
+            }
+            MgetRequest missing = lookup.missing();
+            return (missing != null ? doMultiGet(missing) : Mono.just(List.<MultiGetItem<Document>> of()))
+                    .map(items -> cache.merge(lookup, items));
+        }) : doMultiGet(request);
 
-        return Mono.from(response)//
-                .flatMapMany(it -> Flux.fromIterable(DocumentAdapters.from(it))) //
+        return documents //
+                .flatMapMany(Flux::fromIterable) //
                 .flatMap(multiGetItem -> {
                     if (multiGetItem.isFailed()) {
                         return Mono.just(MultiGetItem.of(null, multiGetItem.getFailure()));
@@ -318,7 +587,117 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
 
     @Override
     protected ReactiveOpenSearchTemplate doCopy() {
-        return new ReactiveOpenSearchTemplate(client, converter);
+
+        ReactiveOpenSearchTemplate copy = new ReactiveOpenSearchTemplate(client, converter);
+        copy.setBulkRetryPolicy(bulkRetryPolicy);
+        copy.setPointInTimeScanOptions(pointInTimeScanOptions);
+        copy.observedClient = observedClient;
+        copy.setGetCoalescingOptions(getGetCoalescingOptions());
+        copy.setSearchCoalescingOptions(getSearchCoalescingOptions());
+        copy.documentCaches = documentCaches;
+        copy.searchResultCache = searchResultCache;
+        return copy;
+    }
+
+    /**
+     * Sets the policy used to resend the items of a bulk request that were rejected with a transient error. If no
+     * policy is set, any failed item makes the bulk operation fail.
+     *
+     * @param bulkRetryPolicy the policy, {@literal null} to disable retries
+     */
+    public void setBulkRetryPolicy(@Nullable BulkRetryPolicy bulkRetryPolicy) {
+        this.bulkRetryPolicy = bulkRetryPolicy;
+    }
+
+    @Nullable
+    public BulkRetryPolicy getBulkRetryPolicy() {
+        return bulkRetryPolicy;
+    }
+
+    /**
+     * Sets the options used to read all documents of unbounded queries with a point in time and {@code search_after}.
+     *
+     * @param pointInTimeScanOptions the options, must not be {@literal null}
+     */
+    public void setPointInTimeScanOptions(PointInTimeScanOptions pointInTimeScanOptions) {
+
+        Assert.notNull(pointInTimeScanOptions, "pointInTimeScanOptions must not be null");
+
+        this.pointInTimeScanOptions = pointInTimeScanOptions;
+    }
+
+    public PointInTimeScanOptions getPointInTimeScanOptions() {
+        return pointInTimeScanOptions;
+    }
+
+    /**
+     * Sends the requests of {@link #execute(ClientCallback)} through the transport the given function creates around the
+     * transport of the client. The requests of the index and cluster operations are not affected.
+     *
+     * @param observingTransport creates the transport, {@literal null} to send the requests through the client
+     * @see TemplateObservations
+     */
+    void observeRequests(@Nullable UnaryOperator<OpenSearchTransport> observingTransport) {
+        this.observedClient = observingTransport != null
+                ? new ReactiveOpenSearchClient(observingTransport.apply(client._transport()), client._transportOptions())
+                : client;
+    }
+
+    OpenSearchTransport getRequestTransport() {
+        return observedClient._transport();
+    }
+
+    /**
+     * Enables coalescing of concurrent {@link #get(String, Class, IndexCoordinates)} calls into {@code _mget} requests.
+     * A batch is sent on the {@link Schedulers#parallel() parallel scheduler} when the window of the options has passed,
+     * or by the call that fills it. Documents that fail in the {@code _mget} request are fetched again with a single get,
+     * so the failure surfaces as it does without coalescing. Calls with more than one index are not coalesced.
+     *
+     * @param getCoalescingOptions the options, {@literal null} to send a request per call
+     */
+    public void setGetCoalescingOptions(@Nullable CoalescingOptions getCoalescingOptions) {
+        this.getCoalescer = getCoalescingOptions != null ? new RequestCoalescer<>(getCoalescingOptions) : null;
+    }
+
+    @Nullable
+    public CoalescingOptions getGetCoalescingOptions() {
+        return getCoalescer != null ? getCoalescer.getOptions() : null;
+    }
+
+    /**
+     * Enables coalescing of concurrent searches for bounded queries into {@code _msearch} requests, identical searches
+     * in a batch are sent once. A batch is sent on the {@link Schedulers#parallel() parallel scheduler} when the window
+     * of the options has passed, or by the search that fills it. Searches that fail in the {@code _msearch} request are
+     * sent again on their own, so the failure surfaces as it does without coalescing. Unbounded queries, which are read
+     * with a point in time, and search template queries are not coalesced.
+     *
+     * @param searchCoalescingOptions the options, {@literal null} to send a request per search
+     */
+    public void setSearchCoalescingOptions(@Nullable CoalescingOptions searchCoalescingOptions) {
+        this.searchCoalescer = searchCoalescingOptions != null ? new RequestCoalescer<>(searchCoalescingOptions) : null;
+    }
+
+    @Nullable
+    public CoalescingOptions getSearchCoalescingOptions() {
+        return searchCoalescer != null ? searchCoalescer.getOptions() : null;
+    }
+
+    /**
+     * Enables the cache of search responses for the searches for bounded queries. Searches with a point in time or
+     * other options an {@code _msearch} item does not support are not cached. The writes of the template and its copies
+     * and the refreshes and deletes of an index through its {@link #indexOps(IndexCoordinates) index operations}
+     * invalidate the cached responses of the index. A new cache is created on every call and shared with the copies of
+     * the template created afterwards.
+     *
+     * @param searchCacheOptions the options, {@literal null} to not cache search responses
+     */
+    public void setSearchCacheOptions(@Nullable SearchCacheOptions searchCacheOptions) {
+        this.searchResultCache = searchCacheOptions != null ? new SearchResultCache(searchCacheOptions, jsonpMapper) : null;
+    }
+
+    @Nullable
+    public SearchCacheOptions getSearchCacheOptions() {
+        return searchResultCache != null ? searchResultCache.getOptions() : null;
     }
 
     // region search operations
@@ -343,10 +722,13 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
     private Flux<SearchDocument> doFindUnbounded(Query query, Class<?> clazz, IndexCoordinates index) {
 
         if (query instanceof BaseQuery baseQuery) {
-            var pitKeepAlive = Duration.ofMinutes(5);
+            var scanOptions = pointInTimeScanOptions;
+            var pitKeepAlive = scanOptions.getKeepAlive();
+            var prefetch = scanOptions.getPrefetch();
             // setup functions for Flux.usingWhen()
-            Mono<PitSearchAfter> resourceSupplier = openPointInTime(index, pitKeepAlive, true)
-                    .map(pit -> new PitSearchAfter(baseQuery, pit));
+            Mono<PitSearchAfter> resourceSupplier = doOpenPointInTime(index, pitKeepAlive, true)
+                    .map(response -> new PitSearchAfter(response.pitId(),
+                            scanOptions.slicesFor(response.shards() != null ? response.shards().total() : null)));
 
             Function<PitSearchAfter, Publisher<?>> asyncComplete = this::cleanupPit;
 
@@ -366,91 +748,92 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
 
             Function<PitSearchAfter, Publisher<? extends SearchResponse<EntityAsMap>>> resourceClosure = psa -> {
 
-                baseQuery.setPointInTime(new Query.PointInTime(psa.getPit(), pitKeepAlive));
+                var searchRequests = requestConverter.pointInTimeSearchRequests(baseQuery, psa.getPit(), scanOptions,
+                        routingResolver.getRouting(), clazz, index);
+                SearchRequest firstSearchRequest = searchRequests.first();
+                SearchRequest followSearchRequest = searchRequests.follow();
 
-                // only add _shard_doc if there is not a field_collapse and a sort with the same name
-                boolean addShardDoc = true;
-
-                if (query instanceof NativeQuery nativeQuery && nativeQuery.getFieldCollapse() != null) {
-                    var field = nativeQuery.getFieldCollapse().field();
-
-                    if (nativeQuery.getSortOptions().stream()
-                            .anyMatch(sortOptions -> sortOptions.isField() && sortOptions.field().field().equals(field))) {
-                        addShardDoc = false;
-                    }
-
-                    if (query.getSort() != null
-                            && query.getSort().stream().anyMatch(order -> order.getProperty().equals(field))) {
-                        addShardDoc = false;
-                    }
-                }
-
-                if (addShardDoc) {
-                    baseQuery.addSort(Sort.by("_shard_doc"));
+                int slices = psa.getSlices();
+                if (slices < 2) {
+                    return searchAfterPages(firstSearchRequest, followSearchRequest);
                 }
 
-                SearchRequest firstSearchRequest = requestConverter.searchRequest(baseQuery, routingResolver.getRouting(),
-                        clazz, index, false, true);
-
-                return Mono.from(execute(client -> client.search(firstSearchRequest, EntityAsMap.class)))
-                        .expand(entityAsMapSearchResponse -> {
-
-                            var hits = entityAsMapSearchResponse.hits().hits();
-                            if (CollectionUtils.isEmpty(hits)) {
-                                return Mono.empty();
-                            }
-
-                            List<Object> sortOptions = hits.get(hits.size() - 1).sort().stream().map(TypeUtils::toObject)
-                                    .collect(Collectors.toList());
-                            baseQuery.setSearchAfter(sortOptions);
-                            SearchRequest followSearchRequest = requestConverter.searchRequest(baseQuery,
-                                    routingResolver.getRouting(), clazz, index, false, true);
-                            return Mono.from(execute(client -> client.search(followSearchRequest, EntityAsMap.class)));
-                        });
-
+                // every slice is subscribed to at once and asked for as many pages as may be read ahead, at least one
+                return Flux.range(0, slices).flatMap(slice -> {
+                    SlicedScroll slicedScroll = SlicedScroll.of(s -> s.id(slice).max(slices));
+                    return searchAfterPages(firstSearchRequest.toBuilder().slice(slicedScroll).build(),
+                            followSearchRequest.toBuilder().slice(slicedScroll).build());
+                }, slices, Math.max(prefetch, 1));
             };
 
             Flux<SearchResponse<EntityAsMap>> searchResponses = Flux.usingWhen(resourceSupplier, resourceClosure, asyncComplete,
                     asyncError, asyncCancel);
-            return searchResponses.flatMapIterable(entityAsMapSearchResponse -> entityAsMapSearchResponse.hits().hits())
+
+            if (prefetch > 0) {
+                // the pages are handed over to another thread, so the next page is requested as soon as the current one
+                // arrives and not after its hits have been processed; the queue bounds the number of buffered pages
+                return searchResponses.publishOn(Schedulers.parallel(), prefetch)
+                        .flatMapIterable(entityAsMapSearchResponse -> entityAsMapSearchResponse.hits().hits(), 1)
+                        .map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
+            }
+            // a page is only requested when the hits of the previous one have been consumed
+            return searchResponses
+                    .concatMap(entityAsMapSearchResponse -> Flux.fromIterable(entityAsMapSearchResponse.hits().hits()), 0)
                     .map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
         } else {
             return Flux.error(new IllegalArgumentException("Query must be derived from BaseQuery"));
         }
     }
 
+    /**
+     * Pages through the results of a point in time search with {@code search_after} until a page has no hits.
+     *
+     * @param firstSearchRequest the request for the first page
+     * @param followSearchRequest the request for the following pages, without {@code search_after} values
+     */
+    private Flux<SearchResponse<EntityAsMap>> searchAfterPages(SearchRequest firstSearchRequest,
+            SearchRequest followSearchRequest) {
+
+        return Flux.defer(() -> {
+            AtomicReference<SearchRequest> nextSearchRequest = new AtomicReference<>(firstSearchRequest);
+            // the request for a page is only sent once the page is requested; expand, like a source of a single value,
+            // would subscribe to the next page right away
+            return Flux.<SearchRequest> generate(sink -> {
+                sink.next(nextSearchRequest.get());
+                sink.complete();
+            }) //
+                    .concatMap(searchRequest -> Mono
+                            .from(execute(client -> client.search(searchRequest, EntityAsMap.class))), 0) //
+                    .doOnNext(entityAsMapSearchResponse -> {
+                        var hits = entityAsMapSearchResponse.hits().hits();
+                        nextSearchRequest.set(CollectionUtils.isEmpty(hits) ? null
+                                : followSearchRequest.toBuilder().searchAfter(hits.get(hits.size() - 1).sort()).build());
+                    }) //
+                    .repeat(() -> nextSearchRequest.get() != null);
+        });
+    }
+
     private Publisher<?> cleanupPit(PitSearchAfter psa) {
-        var baseQuery = psa.getBaseQuery();
-        baseQuery.setPointInTime(null);
-        baseQuery.setSearchAfter(null);
-        baseQuery.setSort(psa.getSort());
         var pit = psa.getPit();
         return StringUtils.hasText(pit) ? closePointInTime(pit) : Mono.empty();
     }
 
     static private class PitSearchAfter {
-        private final BaseQuery baseQuery;
-        @Nullable private final Sort sort;
         private final String pit;
+        private final int slices;
 
-        PitSearchAfter(BaseQuery baseQuery, String pit) {
-            this.baseQuery = baseQuery;
-            this.sort = baseQuery.getSort();
+        PitSearchAfter(String pit, int slices) {
             this.pit = pit;
-        }
-
-        public BaseQuery getBaseQuery() {
-            return baseQuery;
-        }
-
-        @Nullable
-        public Sort getSort() {
-            return sort;
+            this.slices = slices;
         }
 
         public String getPit() {
             return pit;
         }
+
+        public int getSlices() {
+            return slices;
+        }
     }
 
     @Override
@@ -459,6 +842,11 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
         Assert.notNull(query, "query must not be null");
         Assert.notNull(index, "index must not be null");
 
+        CountRequest countRequest = requestConverter.countRequest(query, routingResolver.getRouting(), entityType, index);
+        if (countRequest != null) {
+            return Mono.from(execute(client -> client.count(countRequest))).map(CountResponse::count);
+        }
+
         SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), entityType, index,
                 true);
 
@@ -466,16 +854,129 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
                 .map(searchResponse -> searchResponse.hits().total() != null ? searchResponse.hits().total().value() : 0L);
     }
 
+    /**
+     * Counts the documents matching the query in the index of the given class up to the threshold.
+     *
+     * @see #countApproximately(Query, Class, IndexCoordinates, int)
+     */
+    public Mono<ApproximateCount> countApproximately(Query query, Class<?> entityType, int threshold) {
+        return countApproximately(query, entityType, getIndexCoordinatesFor(entityType), threshold);
+    }
+
+    /**
+     * Counts the documents matching the query up to the threshold. Searches stop counting once the threshold is
+     * reached, which is much cheaper than an exact count of a large number of matches.
+     *
+     * @param threshold the number of documents up to which the count is exact
+     * @return the count, a lower bound if more documents than the threshold match
+     */
+    public Mono<ApproximateCount> countApproximately(Query query, @Nullable Class<?> entityType, IndexCoordinates index,
+            int threshold) {
+
+        Assert.notNull(query, "query must not be null");
+        Assert.notNull(index, "index must not be null");
+
+        SearchRequest searchRequest = requestConverter.approximateCountRequest(query, routingResolver.getRouting(),
+                entityType, index, threshold);
+
+        return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class)))
+                .map(searchResponse -> ApproximateCount.of(searchResponse.hits().total()));
+    }
+
+    /**
+     * Searches in the index of the given class and emits the hits with their sources as JSON bytes.
+     *
+     * @see #searchRaw(Query, Class, IndexCoordinates)
+     */
+    public Flux<RawSearchHit> searchRaw(Query query, Class<?> clazz) {
+        return searchRaw(query, clazz, getIndexCoordinatesFor(clazz));
+    }
+
+    /**
+     * Searches and emits the hits with their sources as the JSON of the response, for services that pass the sources
+     * on as they are. The sources are not read into documents or entities, and no entity callbacks are invoked. With a
+     * {@link StreamingOpenSearchTransport} every hit is emitted as soon as it was parsed, see
+     * {@link ReactiveOpenSearchClient#searchHits(SearchRequest, Class)}. The search result cache and search coalescing
+     * are not used.
+     *
+     * @param clazz the class to map the field names of the query with, may be {@literal null}
+     */
+    public Flux<RawSearchHit> searchRaw(Query query, @Nullable Class<?> clazz, IndexCoordinates index) {
+
+        Assert.notNull(query, "query must not be null");
+        Assert.notNull(index, "index must not be null");
+
+        return Flux.defer(() -> {
+            SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz,
+                    index, false);
+            return Flux.from(execute(client -> client.searchHits(searchRequest, RawSearchHit.SOURCE_DESERIALIZER)))
+                    .map(RawSearchHit::from);
+        });
+    }
+
     private Flux<SearchDocument> doFindBounded(Query query, Class<?> clazz, IndexCoordinates index) {
 
         SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
                 false, false);
 
-        return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class))) //
+        if (searchResultCache == null && searchCoalescer == null) {
+            // the hits are emitted while the response is parsed if the client has a StreamingOpenSearchTransport
+            return Flux.from(execute(client -> client.searchHits(searchRequest, EntityAsMap.class))) //
+                    .map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
+        }
+
+        return executeSearch(searchRequest) //
                 .flatMapIterable(entityAsMapSearchResponse -> entityAsMapSearchResponse.hits().hits()) //
                 .map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
     }
 
+    private Mono<SearchResponse<EntityAsMap>> executeSearch(SearchRequest searchRequest) {
+
+        SearchResultCache cache = searchResultCache;
+        RequestCoalescer<RequestConverter.SearchItem, MultiSearchResponseItem<EntityAsMap>> coalescer = searchCoalescer;
+        RequestConverter.SearchItem searchItem = cache != null || coalescer != null
+                ? requestConverter.searchItem(searchRequest)
+                : null;
+
+        if (searchItem == null) {
+            return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class)));
+        }
+
+        if (cache == null) {
+            return executeSearch(searchRequest, searchItem, coalescer);
+        }
+
+        return Mono.defer(() -> {
+            SearchResponse<EntityAsMap> cachedResponse = cache.get(searchItem.json());
+            if (cachedResponse != null) {
+                return Mono.just(cachedResponse);
+            }
+
+            long generation = cache.generation();
+            return executeSearch(searchRequest, searchItem, coalescer).doOnNext(
+                    searchResponse -> cache.put(searchItem.json(), searchRequest.index(), searchResponse, generation));
+        });
+    }
+
+    private Mono<SearchResponse<EntityAsMap>> executeSearch(SearchRequest searchRequest,
+            RequestConverter.SearchItem searchItem,
+            @Nullable RequestCoalescer<RequestConverter.SearchItem, MultiSearchResponseItem<EntityAsMap>> coalescer) {
+
+        if (coalescer != null) {
+            return coalesce(coalescer, searchItem, this::doSearches)
+                    .flatMap(responseItem -> responseItem.isResult() ? Mono.just(responseItem.result())
+                            : Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class))));
+        }
+
+        return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class)));
+    }
+
+    private Mono<List<MultiSearchResponseItem<EntityAsMap>>> doSearches(List<RequestConverter.SearchItem> searchItems) {
+
+        MsearchRequest request = requestConverter.searchMsearchRequest(searchItems);
+        return Mono.from(execute(client -> client.msearch(request, EntityAsMap.class))).map(MsearchResponse::responses);
+    }
+
     private Flux<SearchDocument> doSearch(SearchTemplateQuery query, Class<?> clazz, IndexCoordinates index) {
 
         var request = requestConverter.searchTemplate(query, routingResolver.getRouting(), index);
@@ -499,7 +1000,7 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
         SearchDocumentResponse.EntityCreator<T> entityCreator = searchDocument -> callback.toEntity(searchDocument)
                 .toFuture();
 
-        return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class)))
+        return executeSearch(searchRequest)
                 .map(searchResponse -> SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
     }
 
@@ -519,8 +1020,14 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
         Assert.notNull(keepAlive, "keepAlive must not be null");
         Assert.notNull(ignoreUnavailable, "ignoreUnavailable must not be null");
 
+        return doOpenPointInTime(index, keepAlive, ignoreUnavailable).map(CreatePitResponse::pitId);
+    }
+
+    private Mono<CreatePitResponse> doOpenPointInTime(IndexCoordinates index, Duration keepAlive,
+            Boolean ignoreUnavailable) {
+
         var request = requestConverter.searchOpenPointInTimeRequest(index, keepAlive, ignoreUnavailable);
-        return Mono.from(execute(client -> client.openPointInTime(request))).map(CreatePitResponse::pitId);
+        return Mono.from(execute(client -> client.openPointInTime(request)));
     }
 
     @Override
@@ -583,12 +1090,20 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
 
     @Override
     public ReactiveIndexOperations indexOps(IndexCoordinates index) {
-        return new ReactiveIndicesTemplate(client.indices(), getReactiveClusterTemplate(), converter, index);
+
+        ReactiveIndicesTemplate indicesTemplate = new ReactiveIndicesTemplate(client.indices(),
+                getReactiveClusterTemplate(), converter, index);
+        indicesTemplate.setIndexChangeListener(indexChangeListener());
+        return indicesTemplate;
     }
 
     @Override
     public ReactiveIndexOperations indexOps(Class<?> clazz) {
-        return new ReactiveIndicesTemplate(client.indices(), getReactiveClusterTemplate(), converter, clazz);
+
+        ReactiveIndicesTemplate indicesTemplate = new ReactiveIndicesTemplate(client.indices(),
+                getReactiveClusterTemplate(), converter, clazz);
+        indicesTemplate.setIndexChangeListener(indexChangeListener());
+        return indicesTemplate;
     }
 
     @Override
@@ -637,7 +1152,7 @@ public class ReactiveOpenSearchTemplate extends AbstractReactiveElasticsearchTem
      * @return the callback result
      */
     public <T> Publisher<T> execute(ReactiveOpenSearchTemplate.ClientCallback<Publisher<T>> callback) {
-        return Flux.defer(() -> callback.doWithClient(client)).onErrorMap(this::translateException);
+        return Flux.defer(() -> callback.doWithClient(observedClient)).onErrorMap(this::translateException);
     }
 
     /**
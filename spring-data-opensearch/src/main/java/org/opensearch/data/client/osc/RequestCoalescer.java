@@ -0,0 +1,232 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Collects concurrent requests identified by a key into batches as defined by {@link CoalescingOptions}. The
+ * imperative templates use {@link #execute(Object, Function)}, which blocks the caller and lets the thread that opened
+ * a batch send it. The reactive templates use {@link #submit(Object)} and {@link #close(Batch)} and send the batch
+ * from a scheduled task, their callers may {@link #cancel(Batch) cancel} their requests.
+ *
+ * @param <K> the type of the keys identifying the requests, identical requests must have equal keys
+ * @param <V> the type of the results
+ */
+final class RequestCoalescer<K, V> {
+
+    private final CoalescingOptions options;
+    @Nullable private Batch<K, V> open;
+
+    RequestCoalescer(CoalescingOptions options) {
+
+        Assert.notNull(options, "options must not be null");
+
+        this.options = options;
+    }
+
+    CoalescingOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Adds a request to the open batch, opening a new one if there is none. A batch that reaches the maximum size is no
+     * longer open.
+     */
+    synchronized Submission<K, V> submit(K key) {
+
+        boolean opened = open == null;
+        if (opened) {
+            open = new Batch<>();
+        }
+
+        Batch<K, V> batch = open;
+        CompletableFuture<V> result = batch.add(key);
+        batch.waiting++;
+
+        boolean filled = batch.size() >= options.getMaxBatchSize();
+        if (filled) {
+            open = null;
+            batch.full.countDown();
+        }
+
+        return new Submission<>(batch, result, opened, filled);
+    }
+
+    /**
+     * Stops the batch from collecting requests.
+     *
+     * @return {@literal true} if the caller is the first to close the batch and has to send it
+     */
+    synchronized boolean close(Batch<K, V> batch) {
+
+        if (open == batch) {
+            open = null;
+        }
+        return batch.closed.compareAndSet(false, true);
+    }
+
+    /**
+     * Withdraws a request that was submitted to a batch. When no caller is waiting for the batch anymore, it is
+     * abandoned: it is not sent if it was not sent yet, and the {@link Batch#onAbandon(Runnable) cancellation} of the
+     * request that sends it is run otherwise.
+     */
+    void cancel(Batch<K, V> batch) {
+
+        synchronized (this) {
+            if (--batch.waiting > 0) {
+                return;
+            }
+            if (open == batch) {
+                open = null;
+            }
+        }
+        batch.abandon();
+    }
+
+    /**
+     * Adds a request to a batch and waits for its result. The thread that opened the batch waits for the window or
+     * until the batch is full and then sends it with the given function.
+     *
+     * @param executor sends a batch, returns the results in the order of the keys
+     */
+    V execute(K key, Function<List<K>, List<V>> executor) {
+
+        Submission<K, V> submission = submit(key);
+        Batch<K, V> batch = submission.batch();
+
+        if (submission.opened()) {
+            try {
+                batch.full.await(options.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                // the batch is sent nevertheless, the other callers are waiting for it
+                Thread.currentThread().interrupt();
+            }
+
+            if (close(batch)) {
+                try {
+                    batch.complete(executor.apply(batch.keys()));
+                } catch (RuntimeException | Error e) {
+                    batch.fail(e);
+                }
+            }
+        }
+
+        try {
+            return submission.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param batch the batch the request was added to
+     * @param result completed with the result of the request
+     * @param opened whether the request opened the batch
+     * @param filled whether the request filled the batch
+     */
+    record Submission<K, V>(Batch<K, V> batch, CompletableFuture<V> result, boolean opened, boolean filled) {
+    }
+
+    static final class Batch<K, V> {
+
+        private final Map<K, CompletableFuture<V>> requests = new LinkedHashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private int waiting;
+        private boolean abandoned;
+        @Nullable private Runnable cancellation;
+
+        private CompletableFuture<V> add(K key) {
+            return requests.computeIfAbsent(key, k -> new CompletableFuture<>());
+        }
+
+        private int size() {
+            return requests.size();
+        }
+
+        /**
+         * @return the distinct keys of the batch in the order they were added
+         */
+        List<K> keys() {
+            return new ArrayList<>(requests.keySet());
+        }
+
+        /**
+         * Sets the cancellation of the request that sends the batch, it is run right away if the batch was abandoned
+         * already.
+         */
+        void onAbandon(Runnable cancellation) {
+
+            synchronized (this) {
+                if (!abandoned) {
+                    this.cancellation = cancellation;
+                    return;
+                }
+            }
+            cancellation.run();
+        }
+
+        private void abandon() {
+
+            Runnable cancellation;
+            synchronized (this) {
+                abandoned = true;
+                closed.set(true);
+                cancellation = this.cancellation;
+            }
+            if (cancellation != null) {
+                cancellation.run();
+            }
+        }
+
+        /**
+         * @param results the results in the order of the {@link #keys()}
+         */
+        void complete(List<V> results) {
+
+            if (results.size() != requests.size()) {
+                fail(new IllegalStateException(
+                        "expected " + requests.size() + " results for the batch but got " + results.size()));
+                return;
+            }
+
+            Iterator<V> iterator = results.iterator();
+            for (CompletableFuture<V> result : requests.values()) {
+                result.complete(iterator.next());
+            }
+        }
+
+        void fail(Throwable error) {
+
+            for (CompletableFuture<V> result : requests.values()) {
+                result.completeExceptionally(error);
+            }
+        }
+    }
+}
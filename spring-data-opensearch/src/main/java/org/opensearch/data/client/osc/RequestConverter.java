@@ -18,14 +18,17 @@ package org.opensearch.data.client.osc;
 import static org.opensearch.data.client.osc.TypeUtils.*;
 import static org.springframework.util.CollectionUtils.*;
 
+import jakarta.json.stream.JsonGenerator;
 import jakarta.json.stream.JsonParser;
 import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -64,6 +67,7 @@ import org.opensearch.client.opensearch.cluster.GetComponentTemplateRequest;
 import org.opensearch.client.opensearch.cluster.HealthRequest;
 import org.opensearch.client.opensearch.cluster.PutComponentTemplateRequest;
 import org.opensearch.client.opensearch.core.*;
+import org.opensearch.client.opensearch.core.CountRequest;
 import org.opensearch.client.opensearch.core.CreatePitRequest;
 import org.opensearch.client.opensearch.core.DeletePitRequest;
 import org.opensearch.client.opensearch.core.bulk.BulkOperation;
@@ -73,6 +77,7 @@ import org.opensearch.client.opensearch.core.bulk.UpdateOperation;
 import org.opensearch.client.opensearch.core.mget.MultiGetOperation;
 import org.opensearch.client.opensearch.core.msearch.MultisearchBody;
 import org.opensearch.client.opensearch.core.msearch.MultisearchHeader;
+import org.opensearch.client.opensearch.core.msearch.RequestItem;
 import org.opensearch.client.opensearch.core.search.Highlight;
 import org.opensearch.client.opensearch.core.search.Pit;
 import org.opensearch.client.opensearch.core.search.Rescore;
@@ -113,7 +118,6 @@ import org.springframework.data.elasticsearch.core.query.*;
 import org.springframework.data.elasticsearch.core.reindex.ReindexRequest;
 import org.springframework.data.elasticsearch.core.reindex.Remote;
 import org.springframework.data.elasticsearch.core.script.Script;
-import org.springframework.data.elasticsearch.support.DefaultStringObjectMap;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -610,11 +614,11 @@ class RequestConverter {
             String id = StringUtils.hasText(query.getId()) ? query.getId() : getPersistentEntityId(queryObject);
             builder //
                     .id(id) //
-                    .document(elasticsearchConverter.mapObject(queryObject));
+                    .document(entityDocument(queryObject, false));
         } else if (query.getSource() != null) {
             builder //
                     .id(query.getId()) //
-                    .document(new DefaultStringObjectMap<>().fromJson(query.getSource()));
+                    .document(new RawJsonValue(query.getSource()));
         } else {
             throw new InvalidDataAccessApiUsageException(
                     "object or source is null, failed to index the document [id: " + query.getId() + ']');
@@ -650,7 +654,7 @@ class RequestConverter {
 
     @SuppressWarnings("DuplicatedCode")
     private IndexOperation<?> bulkIndexOperation(IndexQuery query, IndexCoordinates indexCoordinates,
-            @Nullable RefreshPolicy refreshPolicy) {
+            @Nullable RefreshPolicy refreshPolicy, boolean serializeDocument) {
 
         IndexOperation.Builder<Object> builder = new IndexOperation.Builder<>();
 
@@ -662,9 +666,11 @@ class RequestConverter {
             String id = StringUtils.hasText(query.getId()) ? query.getId() : getPersistentEntityId(queryObject);
             builder //
                     .id(id) //
-                    .document(elasticsearchConverter.mapObject(queryObject));
+                    .document(entityDocument(queryObject, serializeDocument));
         } else if (query.getSource() != null) {
-            builder.document(new DefaultStringObjectMap<>().fromJson(query.getSource()));
+            builder //
+                    .id(query.getId()) //
+                    .document(RawJsonValue.singleLine(query.getSource()));
         } else {
             throw new InvalidDataAccessApiUsageException(
                     "object or source is null, failed to index the document [id: " + query.getId() + ']');
@@ -691,7 +697,7 @@ class RequestConverter {
 
     @SuppressWarnings("DuplicatedCode")
     private CreateOperation<?> bulkCreateOperation(IndexQuery query, IndexCoordinates indexCoordinates,
-            @Nullable RefreshPolicy refreshPolicy) {
+            @Nullable RefreshPolicy refreshPolicy, boolean serializeDocument) {
 
         CreateOperation.Builder<Object> builder = new CreateOperation.Builder<>();
 
@@ -703,9 +709,11 @@ class RequestConverter {
             String id = StringUtils.hasText(query.getId()) ? query.getId() : getPersistentEntityId(queryObject);
             builder //
                     .id(id) //
-                    .document(elasticsearchConverter.mapObject(queryObject));
+                    .document(entityDocument(queryObject, serializeDocument));
         } else if (query.getSource() != null) {
-            builder.document(new DefaultStringObjectMap<>().fromJson(query.getSource()));
+            builder //
+                    .id(query.getId()) //
+                    .document(RawJsonValue.singleLine(query.getSource()));
         } else {
             throw new InvalidDataAccessApiUsageException(
                     "object or source is null, failed to index the document [id: " + query.getId() + ']');
@@ -725,6 +733,18 @@ class RequestConverter {
         return builder.build();
     }
 
+    /**
+     * Maps an entity to the document of an index request or bulk operation. The mapped document is handed to the request
+     * as it is and the transport writes it straight into the generator of the request body. If {@code serialize} is
+     * {@literal true}, the document is instead written to UTF-8 JSON once and only those bytes are kept, they are then
+     * copied to the request body as they are.
+     */
+    private Object entityDocument(Object entity, boolean serialize) {
+
+        Document document = elasticsearchConverter.mapObject(entity);
+        return serialize ? RawJsonValue.of(document, jsonpMapper) : document;
+    }
+
     private UpdateOperation<?> bulkUpdateOperation(UpdateQuery query, IndexCoordinates index,
             @Nullable RefreshPolicy refreshPolicy) {
 
@@ -794,6 +814,24 @@ class RequestConverter {
     public BulkRequest documentBulkRequest(List<?> queries, BulkOptions bulkOptions, IndexCoordinates indexCoordinates,
             @Nullable RefreshPolicy refreshPolicy) {
 
+        List<BulkOperation> operations = queries.stream()
+                .map(query -> documentBulkOperation(query, indexCoordinates, refreshPolicy, false))
+                .collect(Collectors.toList());
+
+        return documentBulkRequestFromOperations(operations, bulkOptions, refreshPolicy);
+    }
+
+    /**
+     * Creates a {@link BulkRequest} from already converted {@link BulkOperation}s.
+     *
+     * @param operations the operations to send
+     * @param bulkOptions options for the request
+     * @param refreshPolicy the refresh policy of the template
+     * @return the request
+     */
+    public BulkRequest documentBulkRequestFromOperations(List<BulkOperation> operations, BulkOptions bulkOptions,
+            @Nullable RefreshPolicy refreshPolicy) {
+
         BulkRequest.Builder builder = new BulkRequest.Builder();
 
         if (bulkOptions.getTimeout() != null) {
@@ -817,24 +855,72 @@ class RequestConverter {
             builder.routing(bulkOptions.getRoutingId());
         }
 
-        List<BulkOperation> operations = queries.stream().map(query -> {
-            BulkOperation.Builder ob = new BulkOperation.Builder();
-            if (query instanceof IndexQuery indexQuery) {
+        builder.operations(operations);
 
-                if (indexQuery.getOpType() == IndexQuery.OpType.CREATE) {
-                    ob.create(bulkCreateOperation(indexQuery, indexCoordinates, refreshPolicy));
-                } else {
-                    ob.index(bulkIndexOperation(indexQuery, indexCoordinates, refreshPolicy));
-                }
-            } else if (query instanceof UpdateQuery updateQuery) {
-                ob.update(bulkUpdateOperation(updateQuery, indexCoordinates, refreshPolicy));
+        return builder.build();
+    }
+
+    /**
+     * Converts a single {@link IndexQuery} or {@link UpdateQuery} into a {@link BulkOperation}. The document of an
+     * entity is serialized right away, so that measuring the operation with {@link #documentBulkOperationSize} and
+     * sending it later do not walk the mapped entity twice.
+     *
+     * @param query the query to convert
+     * @param indexCoordinates the index to use when the query does not define one
+     * @param refreshPolicy the refresh policy of the template
+     * @return the bulk operation
+     */
+    public BulkOperation documentBulkOperation(Object query, IndexCoordinates indexCoordinates,
+            @Nullable RefreshPolicy refreshPolicy) {
+        return documentBulkOperation(query, indexCoordinates, refreshPolicy, true);
+    }
+
+    private BulkOperation documentBulkOperation(Object query, IndexCoordinates indexCoordinates,
+            @Nullable RefreshPolicy refreshPolicy, boolean serializeDocument) {
+
+        BulkOperation.Builder ob = new BulkOperation.Builder();
+        if (query instanceof IndexQuery indexQuery) {
+
+            if (indexQuery.getOpType() == IndexQuery.OpType.CREATE) {
+                ob.create(bulkCreateOperation(indexQuery, indexCoordinates, refreshPolicy, serializeDocument));
+            } else {
+                ob.index(bulkIndexOperation(indexQuery, indexCoordinates, refreshPolicy, serializeDocument));
             }
-            return ob.build();
-        }).collect(Collectors.toList());
+        } else if (query instanceof UpdateQuery updateQuery) {
+            ob.update(bulkUpdateOperation(updateQuery, indexCoordinates, refreshPolicy));
+        }
+        return ob.build();
+    }
 
-        builder.operations(operations);
+    /**
+     * Returns the number of bytes the given operation occupies in the NDJSON body of a bulk request. The action line is
+     * serialized into a counting sink, so no buffer is retained; a document that is already serialized, like the
+     * entity of a {@link #documentBulkOperation}, is counted by its length without being written again.
+     *
+     * @param operation the operation to measure
+     * @return the size in bytes, including the line separators
+     */
+    public long documentBulkOperationSize(BulkOperation operation) {
+
+        Assert.notNull(operation, "operation must not be null");
+
+        CountingOutputStream out = new CountingOutputStream();
+        long serializedLength = 0;
+        Iterator<?> serializables = operation._serializables();
+
+        while (serializables.hasNext()) {
+            Object serializable = serializables.next();
+            if (serializable instanceof RawJsonValue rawJsonValue) {
+                serializedLength += rawJsonValue.getUtf8Length();
+            } else {
+                JsonGenerator generator = jsonpMapper.jsonProvider().createGenerator(out);
+                jsonpMapper.serialize(serializable, generator);
+                generator.close();
+            }
+            out.write('\n');
+        }
 
-        return builder.build();
+        return out.getCount() + serializedLength;
     }
 
     public GetRequest documentGetRequest(String id, @Nullable String routing, IndexCoordinates indexCoordinates) {
@@ -886,6 +972,31 @@ class RequestConverter {
                 .docs(multiGetOperations));
     }
 
+    /**
+     * Creates the request to get documents that were requested by individual get calls, see
+     * {@link OpenSearchTemplate#setGetCoalescingOptions(CoalescingOptions)}.
+     */
+    MgetRequest documentMgetRequest(List<DocumentGet> gets) {
+
+        Assert.notEmpty(gets, "gets must not be empty");
+
+        List<MultiGetOperation> multiGetOperations = gets.stream()
+                .map(get -> MultiGetOperation.of(mgo -> mgo //
+                        .index(get.index()) //
+                        .id(get.id()) //
+                        .routing(get.routing())))
+                .collect(Collectors.toList());
+
+        return MgetRequest.of(mg -> mg //
+                .docs(multiGetOperations));
+    }
+
+    /**
+     * A document requested by a get call, the key to coalesce get calls with.
+     */
+    record DocumentGet(String index, String id, @Nullable String routing) {
+    }
+
     public org.opensearch.client.opensearch.core.ReindexRequest reindex(ReindexRequest reindexRequest,
             boolean waitForCompletion) {
 
@@ -1244,6 +1355,95 @@ class RequestConverter {
 
     // region search
 
+    /**
+     * Creates a request for the {@code _count} API. The filter of the query, which a search applies as post filter, is
+     * added as filter clause to the query.
+     *
+     * @return the request, {@literal null} if the query uses features the {@code _count} API does not support, like a
+     *         point in time, a knn query or a timeout, and has to be counted with a search
+     */
+    @Nullable
+    public CountRequest countRequest(Query query, @Nullable String routing, @Nullable Class<?> clazz,
+            IndexCoordinates indexCoordinates) {
+
+        Assert.notNull(query, "query must not be null");
+        Assert.notNull(indexCoordinates, "indexCoordinates must not be null");
+
+        if (query.getPointInTime() != null || query.getTimeout() != null
+                || (query instanceof NativeQuery nativeQuery && nativeQuery.getKnnQuery() != null)
+                || !(query instanceof CriteriaQuery || query instanceof StringQuery || query instanceof NativeQuery)) {
+            return null;
+        }
+
+        String[] indexNames = indexCoordinates.getIndexNames();
+        Assert.notEmpty(indexNames, "indexCoordinates does not contain entries");
+
+        var esQuery = getQuery(query, clazz);
+        var filter = getFilter(query);
+
+        return CountRequest.of(b -> {
+            b.index(Arrays.asList(indexNames)) //
+                    .allowNoIndices(query.getAllowNoIndices()) //
+                    .preference(query.getPreference());
+
+            if (filter != null) {
+                b.query(q -> q.bool(bq -> {
+                    if (esQuery != null) {
+                        bq.must(esQuery);
+                    }
+                    return bq.filter(filter);
+                }));
+            } else if (esQuery != null) {
+                b.query(esQuery);
+            }
+
+            if (query.getRoute() != null) {
+                b.routing(query.getRoute());
+            } else if (StringUtils.hasText(routing)) {
+                b.routing(routing);
+            }
+
+            var expandWildcards = query.getExpandWildcards();
+            if (expandWildcards != null && !expandWildcards.isEmpty()) {
+                b.expandWildcards(expandWildcards(expandWildcards));
+            }
+
+            var indicesOptions = query.getIndicesOptions();
+            if (indicesOptions != null) {
+                indicesOptions.getOptions().forEach(option -> {
+                    switch (option) {
+                        case ALLOW_NO_INDICES -> b.allowNoIndices(true);
+                        case IGNORE_UNAVAILABLE -> b.ignoreUnavailable(true);
+                        case IGNORE_THROTTLED -> b.ignoreThrottled(true);
+                        default -> {
+                            // not supported by the count API, like in searches
+                        }
+                    }
+                });
+            }
+
+            if (query.getMinScore() > 0) {
+                b.minScore(query.getMinScore());
+            }
+
+            return b;
+        });
+    }
+
+    /**
+     * Creates a search request that counts the hits of the query up to the given threshold only. The total hits of the
+     * response are exact if there are less hits than the threshold, a lower bound otherwise.
+     */
+    public SearchRequest approximateCountRequest(Query query, @Nullable String routing, @Nullable Class<?> clazz,
+            IndexCoordinates indexCoordinates, int threshold) {
+
+        Assert.isTrue(threshold > 0, "threshold must be greater than 0");
+
+        return searchRequest(query, routing, clazz, indexCoordinates, true).toBuilder()
+                .trackTotalHits(th -> th.count(threshold)) //
+                .build();
+    }
+
     public <T> SearchRequest searchRequest(Query query, @Nullable String routing, @Nullable Class<T> clazz,
             IndexCoordinates indexCoordinates, boolean forCount) {
         return searchRequest(query, routing, clazz, indexCoordinates, forCount, false, null);
@@ -1262,13 +1462,20 @@ class RequestConverter {
     public <T> SearchRequest searchRequest(Query query, @Nullable String routing, @Nullable Class<T> clazz,
             IndexCoordinates indexCoordinates, boolean forCount, boolean forBatchedSearch,
             @Nullable Long scrollTimeInMillis) {
+        return searchRequest(query, routing, clazz, indexCoordinates, forCount, forBatchedSearch, scrollTimeInMillis,
+                null);
+    }
+
+    private <T> SearchRequest searchRequest(Query query, @Nullable String routing, @Nullable Class<T> clazz,
+            IndexCoordinates indexCoordinates, boolean forCount, boolean forBatchedSearch,
+            @Nullable Long scrollTimeInMillis, @Nullable PointInTimeScan scan) {
 
         Assert.notNull(query, "query must not be null");
         Assert.notNull(indexCoordinates, "indexCoordinates must not be null");
 
         elasticsearchConverter.updateQuery(query, clazz);
         SearchRequest.Builder builder = new SearchRequest.Builder();
-        prepareSearchRequest(query, routing, clazz, indexCoordinates, builder, forCount, forBatchedSearch);
+        prepareSearchRequest(query, routing, clazz, indexCoordinates, builder, forCount, forBatchedSearch, scan);
 
         if (scrollTimeInMillis != null) {
             builder.scroll(t -> t.time(scrollTimeInMillis + "ms"));
@@ -1411,6 +1618,127 @@ class RequestConverter {
         });
     }
 
+    /**
+     * Converts a search request into an item of a {@code _msearch} request, see
+     * {@link OpenSearchTemplate#setSearchCoalescingOptions(CoalescingOptions)}.
+     *
+     * @return the item, {@literal null} if the request has options that a {@code _msearch} item does not support, like
+     *         a point in time or a scroll
+     */
+    @Nullable
+    SearchItem searchItem(SearchRequest searchRequest) {
+
+        Assert.notNull(searchRequest, "searchRequest must not be null");
+
+        if (searchRequest.pit() != null || searchRequest.scroll() != null || searchRequest.slice() != null
+                || searchRequest.terminateAfter() != null || searchRequest.profile() != null
+                || searchRequest.ignoreThrottled() != null || !searchRequest.stats().isEmpty()
+                || !searchRequest.runtimeMappings().isEmpty()) {
+            return null;
+        }
+
+        MultisearchHeader header = MultisearchHeader.of(hb -> hb //
+                .index(searchRequest.index()) //
+                .routing(searchRequest.routing()) //
+                .preference(searchRequest.preference()) //
+                .requestCache(searchRequest.requestCache()) //
+                .searchType(searchRequest.searchType()) //
+                .allowNoIndices(searchRequest.allowNoIndices()) //
+                .expandWildcards(searchRequest.expandWildcards()) //
+                .ignoreUnavailable(searchRequest.ignoreUnavailable()));
+
+        MultisearchBody body = multisearchBody(searchRequest);
+        RequestItem item = RequestItem.of(rib -> rib //
+                .header(header) //
+                .body(body));
+
+        return new SearchItem(item, JsonUtils.toJson(header, jsonpMapper) + '\n' + JsonUtils.toJson(body, jsonpMapper));
+    }
+
+    /**
+     * Copies the body of a search request into the body of a {@code _msearch} item. Lists and maps are only set when they
+     * are not empty, an empty one that is set would be written.
+     */
+    private MultisearchBody multisearchBody(SearchRequest searchRequest) {
+
+        return MultisearchBody.of(bb -> {
+            bb.query(searchRequest.query()) //
+                    .postFilter(searchRequest.postFilter()) //
+                    .from(searchRequest.from()) //
+                    .size(searchRequest.size()) //
+                    .source(searchRequest.source()) //
+                    .highlight(searchRequest.highlight()) //
+                    .collapse(searchRequest.collapse()) //
+                    .suggest(searchRequest.suggest()) //
+                    .trackTotalHits(searchRequest.trackTotalHits()) //
+                    .trackScores(searchRequest.trackScores()) //
+                    .minScore(searchRequest.minScore()) //
+                    .explain(searchRequest.explain()) //
+                    .version(searchRequest.version()) //
+                    .seqNoPrimaryTerm(searchRequest.seqNoPrimaryTerm()) //
+                    .timeout(searchRequest.timeout());
+
+            if (!searchRequest.aggregations().isEmpty()) {
+                bb.aggregations(searchRequest.aggregations());
+            }
+            if (!searchRequest.sort().isEmpty()) {
+                bb.sort(searchRequest.sort());
+            }
+            if (!searchRequest.searchAfter().isEmpty()) {
+                bb.searchAfter(searchRequest.searchAfter());
+            }
+            if (!searchRequest.fields().isEmpty()) {
+                bb.fields(searchRequest.fields());
+            }
+            if (!searchRequest.docvalueFields().isEmpty()) {
+                bb.docvalueFields(searchRequest.docvalueFields());
+            }
+            if (!searchRequest.storedFields().isEmpty()) {
+                bb.storedFields(searchRequest.storedFields());
+            }
+            if (!searchRequest.scriptFields().isEmpty()) {
+                bb.scriptFields(searchRequest.scriptFields());
+            }
+            if (!searchRequest.rescore().isEmpty()) {
+                bb.rescore(searchRequest.rescore());
+            }
+            if (!searchRequest.indicesBoost().isEmpty()) {
+                bb.indicesBoost(searchRequest.indicesBoost());
+            }
+            if (!searchRequest.ext().isEmpty()) {
+                bb.ext(searchRequest.ext());
+            }
+            return bb;
+        });
+    }
+
+    /**
+     * Creates the {@code _msearch} request for searches that were requested by individual search calls.
+     */
+    MsearchRequest searchMsearchRequest(List<SearchItem> searchItems) {
+
+        Assert.notEmpty(searchItems, "searchItems must not be empty");
+
+        return MsearchRequest.of(mrb -> mrb //
+                .searches(searchItems.stream().map(SearchItem::item).toList()));
+    }
+
+    /**
+     * A search requested by a search call, the key to coalesce search calls with. Items are equal if their JSON is.
+     */
+    record SearchItem(RequestItem item, String json) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SearchItem that && json.equals(that.json);
+        }
+
+        @Override
+        public int hashCode() {
+            return json.hashCode();
+        }
+    }
+
     /**
      * {@link MsearchRequest} and {@link MsearchTemplateRequest} share the same {@link MultisearchHeader}
      */
@@ -1441,7 +1769,8 @@ class RequestConverter {
     }
 
     private <T> void prepareSearchRequest(Query query, @Nullable String routing, @Nullable Class<T> clazz,
-            IndexCoordinates indexCoordinates, SearchRequest.Builder builder, boolean forCount, boolean forBatchedSearch) {
+            IndexCoordinates indexCoordinates, SearchRequest.Builder builder, boolean forCount, boolean forBatchedSearch,
+            @Nullable PointInTimeScan scan) {
 
         String[] indexNames = indexCoordinates.getIndexNames();
 
@@ -1462,7 +1791,7 @@ class RequestConverter {
                 .requestCache(query.getRequestCache()) //
         ;
 
-        var pointInTime = query.getPointInTime();
+        var pointInTime = scan != null ? scan.pointInTime() : query.getPointInTime();
         if (pointInTime != null) {
             builder.pit(new Pit.Builder().id(pointInTime.id()).keepAlive(time(pointInTime.keepAlive()).time()).build());
         } else {
@@ -1529,8 +1858,12 @@ class RequestConverter {
         }
         // query.getSort() must be checked after prepareNativeSearch as this already might hav a sort set that must have
         // higher priority
-        if (query.getSort() != null) {
-            List<SortOptions> sortOptions = getSortOptions(query.getSort(), persistentEntity);
+        Sort sort = query.getSort();
+        if (scan != null && scan.shardDocSort()) {
+            sort = sort != null ? sort.and(Sort.by("_shard_doc")) : Sort.by("_shard_doc");
+        }
+        if (sort != null) {
+            List<SortOptions> sortOptions = getSortOptions(sort, persistentEntity);
 
             if (!sortOptions.isEmpty()) {
                 // ReactiveElasticsearchTemplate adds "_shard_doc" field to sort
@@ -1561,7 +1894,7 @@ class RequestConverter {
             builder.explain(true);
         }
 
-        if (!isEmpty(query.getSearchAfter())) {
+        if (!isEmpty(query.getSearchAfter()) && (scan == null || scan.withSearchAfter())) {
             builder.searchAfter(query.getSearchAfter()
                 .stream()
                 .map(TypeUtils::toFieldValue)
@@ -1824,17 +2157,27 @@ class RequestConverter {
 
     private void addFilter(Query query, SearchRequest.Builder builder) {
 
+        var filter = getFilter(query);
+        if (filter != null) {
+            builder.postFilter(filter);
+        }
+    }
+
+    @Nullable
+    private org.opensearch.client.opensearch._types.query_dsl.Query getFilter(Query query) {
+
         if (query instanceof CriteriaQuery) {
-            CriteriaFilterProcessor.createQuery(((CriteriaQuery) query).getCriteria()).ifPresent(builder::postFilter);
-        } else // noinspection StatementWithEmptyBody
-        if (query instanceof StringQuery) {
+            return CriteriaFilterProcessor.createQuery(((CriteriaQuery) query).getCriteria()).orElse(null);
+        } else if (query instanceof StringQuery) {
             // no filter for StringQuery
+            return null;
         } else if (query instanceof NativeQuery nativeQuery) {
             if (nativeQuery.getFilter() != null) {
-                builder.postFilter(nativeQuery.getFilter());
+                return nativeQuery.getFilter();
             } else if (nativeQuery.getSpringDataQuery() != null) {
-                addFilter(nativeQuery.getSpringDataQuery(), builder);
+                return getFilter(nativeQuery.getSpringDataQuery());
             }
+            return null;
         } else {
             throw new IllegalArgumentException("unhandled Query implementation " + query.getClass().getName());
         }
@@ -1908,6 +2251,92 @@ class RequestConverter {
         return DeletePitRequest.of(cpit -> cpit.pitId(Collections.singletonList(pit)));
     }
 
+    /**
+     * Creates the requests to read all documents matching a query through a point in time with {@code search_after}. A
+     * {@code _shard_doc} sort is added unless the query has a field collapse and is sorted by the collapse field. The
+     * query itself is not changed, so it may be used concurrently. The page size is the one of the options, if set, or
+     * else the one of the query's pageable; a query with {@link Query#isLimiting() maximum results} reads pages of at
+     * most that size.
+     *
+     * @return the request for the first page and the request for the following pages, which has no
+     *         {@code search_after} values set
+     * @throws IllegalArgumentException if the query's pageable has an offset, see
+     *           {@link #assertPointInTimeScannable(Query)}
+     */
+    PointInTimeSearchRequests pointInTimeSearchRequests(BaseQuery query, String pit, PointInTimeScanOptions options,
+            @Nullable String routing, @Nullable Class<?> clazz, IndexCoordinates index) {
+
+        Assert.notNull(query, "query must not be null");
+        Assert.notNull(pit, "pit must not be null");
+        Assert.notNull(options, "options must not be null");
+        assertPointInTimeScannable(query);
+
+        var pointInTime = new Query.PointInTime(pit, options.getKeepAlive());
+        var shardDocSort = addShardDocSort(query);
+
+        SearchRequest firstSearchRequest = searchRequest(query, routing, clazz, index, false, true, null,
+                new PointInTimeScan(pointInTime, shardDocSort, true));
+        SearchRequest followSearchRequest = searchRequest(query, routing, clazz, index, false, true, null,
+                new PointInTimeScan(pointInTime, shardDocSort, false));
+
+        int pageSize = options.getPageSize();
+        if (pageSize > 0 && query.isLimiting()) {
+            pageSize = Math.min(pageSize, query.getMaxResults());
+        }
+        if (pageSize > 0) {
+            firstSearchRequest = firstSearchRequest.toBuilder().size(pageSize).build();
+            followSearchRequest = followSearchRequest.toBuilder().size(pageSize).build();
+        }
+
+        return new PointInTimeSearchRequests(firstSearchRequest, followSearchRequest);
+    }
+
+    /**
+     * Checks that a query can be read through a point in time with {@code search_after}: the pages are read from the
+     * start, so the pageable of the query must not have an offset.
+     *
+     * @throws IllegalArgumentException if the query's pageable has an offset
+     */
+    static void assertPointInTimeScannable(Query query) {
+
+        Assert.isTrue(query.getPageable().isUnpaged() || query.getPageable().getOffset() == 0,
+                "a point in time scan reads from the first hit, the pageable of the query must not have an offset");
+    }
+
+    // only add _shard_doc if there is not a field_collapse and a sort with the same name
+    private static boolean addShardDocSort(Query query) {
+
+        if (query instanceof NativeQuery nativeQuery && nativeQuery.getFieldCollapse() != null) {
+            var field = nativeQuery.getFieldCollapse().field();
+
+            if (nativeQuery.getSortOptions().stream()
+                    .anyMatch(sortOptions -> sortOptions.isField() && sortOptions.field().field().equals(field))) {
+                return false;
+            }
+
+            return query.getSort() == null
+                    || query.getSort().stream().noneMatch(order -> order.getProperty().equals(field));
+        }
+        return true;
+    }
+
+    /**
+     * The requests to page through a point in time, see
+     * {@link #pointInTimeSearchRequests(BaseQuery, String, PointInTimeScanOptions, String, Class, IndexCoordinates)}.
+     */
+    record PointInTimeSearchRequests(SearchRequest first, SearchRequest follow) {
+    }
+
+    /**
+     * Overrides of a query for the requests of a point in time scan.
+     *
+     * @param pointInTime the point in time to search
+     * @param shardDocSort whether to add a {@code _shard_doc} sort
+     * @param withSearchAfter whether to use the {@code search_after} values of the query
+     */
+    private record PointInTimeScan(Query.PointInTime pointInTime, boolean shardDocSort, boolean withSearchAfter) {
+    }
+
     public SearchTemplateRequest searchTemplate(SearchTemplateQuery query, @Nullable String routing,
             IndexCoordinates index) {
 
@@ -2091,5 +2520,27 @@ class RequestConverter {
         };
     }
 
+    /**
+     * {@link OutputStream} that discards the written data and only counts the number of bytes.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+
     // endregion
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import java.time.Duration;
+import org.springframework.util.Assert;
+
+/**
+ * Options for the cache of search responses of a template. A response is cached under the request it answers, as it
+ * is sent to OpenSearch, and returned for identical requests until it expires after the {@link #getTimeToLive() time
+ * to live}, it is evicted to make room for other responses or a write or refresh of its index through the template
+ * invalidates it. The responses are kept as serialized JSON, responses larger than the
+ * {@link #getMaxResponseBytes() maximum response size} are not cached.
+ * <p>
+ * A cached response may miss changes that were made visible by a refresh of the index after the response was read,
+ * unless the refresh or the write were done through the template or one of its copies. The time to live should
+ * therefore not be longer than the staleness the application tolerates, like the refresh interval of the index.
+ *
+ * @see OpenSearchTemplate#setSearchCacheOptions(SearchCacheOptions)
+ * @see ReactiveOpenSearchTemplate#setSearchCacheOptions(SearchCacheOptions)
+ */
+public class SearchCacheOptions {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(10);
+    public static final int DEFAULT_MAX_RESPONSE_BYTES = 1024 * 1024;
+
+    private final int maximumSize;
+    private final Duration timeToLive;
+    private final int maxResponseBytes;
+
+    private SearchCacheOptions(Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.timeToLive = builder.timeToLive;
+        this.maxResponseBytes = builder.maxResponseBytes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of responses in the cache, the least recently used ones are evicted first
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return the time a response is kept after it was read
+     */
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * @return the maximum size of a serialized response that is cached, in bytes
+     */
+    public int getMaxResponseBytes() {
+        return maxResponseBytes;
+    }
+
+    public static class Builder {
+
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+        private int maxResponseBytes = DEFAULT_MAX_RESPONSE_BYTES;
+
+        private Builder() {}
+
+        public Builder withMaximumSize(int maximumSize) {
+
+            Assert.isTrue(maximumSize > 0, "maximumSize must be greater than 0");
+
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Builder withTimeToLive(Duration timeToLive) {
+
+            Assert.notNull(timeToLive, "timeToLive must not be null");
+            Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        public Builder withMaxResponseBytes(int maxResponseBytes) {
+
+            Assert.isTrue(maxResponseBytes > 0, "maxResponseBytes must be greater than 0");
+
+            this.maxResponseBytes = maxResponseBytes;
+            return this;
+        }
+
+        public SearchCacheOptions build() {
+            return new SearchCacheOptions(this);
+        }
+    }
+}
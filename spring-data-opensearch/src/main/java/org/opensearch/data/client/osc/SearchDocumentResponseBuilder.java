@@ -132,6 +132,36 @@ class SearchDocumentResponseBuilder {
 
         Assert.notNull(hitsMetadata, "hitsMetadata must not be null");
 
+        List<SearchDocument> searchDocuments = new ArrayList<>();
+        for (Hit<?> hit : hitsMetadata.hits()) {
+            searchDocuments.add(DocumentAdapters.from(hit, jsonpMapper));
+        }
+
+        return from(hitsMetadata, searchDocuments, shards, scrollId, pointInTimeId, executionDurationInMillis,
+                aggregations, suggestFrom(suggestES, entityCreator));
+    }
+
+    /**
+     * creates a SearchDocumentResponse without suggestions from a {@link SearchResult} whose hits have already been
+     * converted to {@link SearchDocument}s
+     *
+     * @param responseBody the response body
+     * @param searchDocuments the documents of the hits of the response
+     * @return the SearchDocumentResponse
+     */
+    static SearchDocumentResponse from(SearchResult<?> responseBody, List<SearchDocument> searchDocuments) {
+
+        Assert.notNull(responseBody, "responseBody must not be null");
+        Assert.notNull(searchDocuments, "searchDocuments must not be null");
+
+        return from(responseBody.hits(), searchDocuments, responseBody.shards(), responseBody.scrollId(),
+                responseBody.pitId(), responseBody.took(), responseBody.aggregations(), null);
+    }
+
+    private static SearchDocumentResponse from(HitsMetadata<?> hitsMetadata, List<SearchDocument> searchDocuments,
+            @Nullable ShardStatistics shards, @Nullable String scrollId, @Nullable String pointInTimeId,
+            long executionDurationInMillis, @Nullable Map<String, Aggregate> aggregations, @Nullable Suggest suggest) {
+
         long totalHits;
         String totalHitsRelation;
 
@@ -151,16 +181,9 @@ class SearchDocumentResponseBuilder {
         float maxScore = hitsMetadata.maxScore() != null ? hitsMetadata.maxScore().floatValue() : Float.NaN;
         final Duration executionDuration = Duration.ofMillis(executionDurationInMillis);
 
-        List<SearchDocument> searchDocuments = new ArrayList<>();
-        for (Hit<?> hit : hitsMetadata.hits()) {
-            searchDocuments.add(DocumentAdapters.from(hit, jsonpMapper));
-        }
-
         OpenSearchAggregations aggregationsContainer = aggregations != null ? new OpenSearchAggregations(aggregations)
                 : null;
 
-        Suggest suggest = suggestFrom(suggestES, entityCreator);
-
         SearchShardStatistics shardStatistics = shards != null ? shardsFrom(shards) : null;
 
         return new SearchDocumentResponse(totalHits, totalHitsRelation, maxScore, executionDuration,
@@ -0,0 +1,192 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpParser;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.springframework.lang.Nullable;
+
+/**
+ * Parses the {@code hits.hits} of a search response one hit at a time and hands every hit to a consumer as soon as its
+ * closing brace was read, so the hits of a large response are not all held in memory at once. All other properties
+ * of the response are skipped.
+ * <p>
+ * The parser is fed the response in chunks as they arrive. The tokens a non-blocking Jackson parser reads for a hit are
+ * collected into a {@link TokenBuffer} until the hit is complete and then deserialized from that buffer with the
+ * {@link Hit} deserializer of the {@link JsonpMapper}, so every hit is tokenized once. Decimal numbers are buffered
+ * with their text and keep their exact value.
+ */
+final class SearchHitParser<TDocument> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String HITS = "hits";
+
+    private final JsonParser parser;
+    private final JsonpMapper jsonpMapper;
+    private final JsonpDeserializer<Hit<TDocument>> hitDeserializer;
+    private final Consumer<Hit<TDocument>> hits;
+
+    private State state = State.RESPONSE;
+    private int depth;
+    private boolean hitsValue;
+    @Nullable private TokenBuffer hit;
+    private int hitDepth;
+
+    private SearchHitParser(JsonParser parser, JsonpMapper jsonpMapper, JsonpDeserializer<TDocument> documentDeserializer,
+            Consumer<Hit<TDocument>> hits) {
+
+        this.parser = parser;
+        this.jsonpMapper = jsonpMapper;
+        this.hitDeserializer = Hit.createHitDeserializer(documentDeserializer);
+        this.hits = hits;
+    }
+
+    /**
+     * @return a parser that is fed the response with {@link #feed(ByteBuffer)} and {@link #endOfInput()}
+     */
+    static <TDocument> SearchHitParser<TDocument> nonBlocking(JsonpMapper jsonpMapper,
+            JsonpDeserializer<TDocument> documentDeserializer, Consumer<Hit<TDocument>> hits) throws IOException {
+
+        JsonFactory jsonFactory = jsonpMapper instanceof JacksonJsonpMapper jacksonJsonpMapper
+                ? jacksonJsonpMapper.objectMapper().getFactory()
+                : JSON_FACTORY;
+        return new SearchHitParser<>(jsonFactory.createNonBlockingByteBufferParser(), jsonpMapper,
+                documentDeserializer, hits);
+    }
+
+    /**
+     * Parses the hits of the complete response read from the given stream, chunk by chunk.
+     */
+    static <TDocument> void parse(InputStream content, JsonpMapper jsonpMapper,
+            JsonpDeserializer<TDocument> documentDeserializer, Consumer<Hit<TDocument>> hits) throws IOException {
+
+        SearchHitParser<TDocument> parser = nonBlocking(jsonpMapper, documentDeserializer, hits);
+        byte[] buffer = new byte[StreamingOpenSearchTransport.BUFFER_SIZE];
+        int read;
+        while ((read = content.read(buffer)) >= 0) {
+            parser.feed(ByteBuffer.wrap(buffer, 0, read));
+        }
+        parser.endOfInput();
+    }
+
+    /**
+     * Parses the next chunk of the response and emits the hits that were completed by it. The chunk is read completely
+     * before this method returns.
+     */
+    void feed(ByteBuffer chunk) throws IOException {
+
+        ((ByteBufferFeeder) parser.getNonBlockingInputFeeder()).feedInput(chunk);
+        parseAvailable();
+        chunk.position(chunk.limit());
+    }
+
+    void endOfInput() throws IOException {
+
+        parser.getNonBlockingInputFeeder().endOfInput();
+        parseAvailable();
+        parser.close();
+    }
+
+    private void parseAvailable() throws IOException {
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+
+            if (hit != null) {
+                if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+                    // buffered as text, copyCurrentEvent would buffer a double
+                    hit.writeNumber(parser.getText());
+                } else {
+                    hit.copyCurrentEvent(parser);
+                }
+                if (token.isStructStart()) {
+                    hitDepth++;
+                } else if (token.isStructEnd() && --hitDepth == 0) {
+                    hits.accept(deserialize(hit));
+                    hit = null;
+                }
+                continue;
+            }
+
+            if (token == JsonToken.FIELD_NAME) {
+                hitsValue = HITS.equals(parser.currentName())
+                        && (state == State.RESPONSE && depth == 1 || state == State.HITS && depth == 2);
+                continue;
+            }
+
+            boolean isHitsValue = hitsValue;
+            hitsValue = false;
+
+            if (token == JsonToken.START_OBJECT && state == State.HIT_ARRAY && depth == 3) {
+                hit = new TokenBuffer(parser);
+                hit.copyCurrentEvent(parser);
+                hitDepth = 1;
+            } else if (token.isStructStart()) {
+                depth++;
+                if (isHitsValue && state == State.RESPONSE && token == JsonToken.START_OBJECT) {
+                    state = State.HITS;
+                } else if (isHitsValue && state == State.HITS && token == JsonToken.START_ARRAY) {
+                    state = State.HIT_ARRAY;
+                }
+            } else if (token.isStructEnd()) {
+                depth--;
+                if (state == State.HIT_ARRAY && depth == 2) {
+                    state = State.HITS;
+                } else if (state == State.HITS && depth == 1) {
+                    state = State.RESPONSE;
+                }
+            }
+        }
+    }
+
+    private Hit<TDocument> deserialize(TokenBuffer tokens) throws IOException {
+
+        if (jsonpMapper instanceof JacksonJsonpMapper jacksonJsonpMapper) {
+            try (JacksonJsonpParser hitParser = new JacksonJsonpParser(
+                    tokens.asParser(jacksonJsonpMapper.objectMapper()))) {
+                return hitDeserializer.deserialize(hitParser, jsonpMapper);
+            }
+        }
+
+        // other mappers cannot read Jackson tokens
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(bytes)) {
+            tokens.serialize(generator);
+        }
+        try (jakarta.json.stream.JsonParser hitParser = jsonpMapper.jsonProvider()
+                .createParser(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return hitDeserializer.deserialize(hitParser, jsonpMapper);
+        }
+    }
+
+    private enum State {
+        /** in the response object, outside of its {@code hits} */
+        RESPONSE,
+        /** in the {@code hits} object of the response */
+        HITS,
+        /** in the {@code hits} array of the {@code hits} object */
+        HIT_ARRAY
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.BulkOperationBase;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * A bounded cache of search responses, see {@link SearchCacheOptions}. The responses are kept as serialized JSON,
+ * which takes a fraction of the memory of the deserialized responses with their sources, and deserialized for every
+ * request that reads them.
+ * <p>
+ * Every invalidation increments a generation and records it for the invalidated index names; a response is only cached
+ * if none of the indices of its request was invalidated since the request was sent, so a search that was sent before a
+ * write and returns after it cannot put the old response back, while writes to other indices do not keep it out of
+ * the cache. The generations of the least recently invalidated index names are forgotten beyond
+ * {@link #MAX_INVALIDATED_INDICES} names; a request sent before the generation of a forgotten name is not cached.
+ */
+final class SearchResultCache {
+
+    private static final JsonpDeserializer<SearchResponse<EntityAsMap>> DESERIALIZER = SearchResponse
+            .createSearchResponseDeserializer(JsonpDeserializer.of(EntityAsMap.class));
+
+    static final int MAX_INVALIDATED_INDICES = 1024;
+
+    private final SearchCacheOptions options;
+    private final JsonpMapper jsonpMapper;
+    private final LongSupplier nanoTime;
+    private final Map<String, Entry> entries;
+    private final LinkedHashMap<String, Long> invalidatedIndices = new LinkedHashMap<>();
+    private long generation;
+    private long invalidatedAll;
+
+    SearchResultCache(SearchCacheOptions options, JsonpMapper jsonpMapper) {
+        this(options, jsonpMapper, System::nanoTime);
+    }
+
+    SearchResultCache(SearchCacheOptions options, JsonpMapper jsonpMapper, LongSupplier nanoTime) {
+
+        Assert.notNull(options, "options must not be null");
+        Assert.notNull(jsonpMapper, "jsonpMapper must not be null");
+        Assert.notNull(nanoTime, "nanoTime must not be null");
+
+        this.options = options;
+        this.jsonpMapper = jsonpMapper;
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > options.getMaximumSize();
+            }
+        };
+    }
+
+    SearchCacheOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * @return the generation to pass to {@link #put(String, List, SearchResponse, long)} for a request sent now
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    @Nullable
+    SearchResponse<EntityAsMap> get(String key) {
+
+        byte[] response;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (nanoTime.getAsLong() - entry.expiresAt >= 0) {
+                entries.remove(key);
+                return null;
+            }
+            response = entry.response;
+        }
+
+        try (JsonParser parser = jsonpMapper.jsonProvider().createParser(new ByteArrayInputStream(response))) {
+            return DESERIALIZER.deserialize(parser, jsonpMapper);
+        }
+    }
+
+    /**
+     * Caches a complete response, unless one of the indices of its request was invalidated after the request was sent.
+     *
+     * @param indices the indices of the request, {@literal empty} for all indices
+     * @param generation the {@link #generation()} before the request was sent
+     */
+    void put(String key, List<String> indices, SearchResponse<EntityAsMap> response, long generation) {
+
+        if (response.timedOut() || response.shards().failed() > 0
+                || Boolean.TRUE.equals(response.terminatedEarly())) {
+            return;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator generator = jsonpMapper.jsonProvider().createGenerator(bytes)) {
+            response.serialize(generator, jsonpMapper);
+        }
+        if (bytes.size() > options.getMaxResponseBytes()) {
+            return;
+        }
+
+        synchronized (this) {
+            if (!invalidatedSince(generation, indices)) {
+                entries.put(key, new Entry(bytes.toByteArray(), indices.toArray(String[]::new),
+                        nanoTime.getAsLong() + options.getTimeToLive().toNanos()));
+            }
+        }
+    }
+
+    /**
+     * Removes the responses of requests that may have read from one of the given indices.
+     */
+    synchronized void invalidate(Collection<String> indexNames) {
+
+        generation++;
+        for (String indexName : indexNames) {
+            invalidatedIndices.remove(indexName);
+            invalidatedIndices.put(indexName, generation);
+        }
+        while (invalidatedIndices.size() > MAX_INVALIDATED_INDICES) {
+            invalidatedAll = Math.max(invalidatedAll, invalidatedIndices.pollFirstEntry().getValue());
+        }
+
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (reads(iterator.next().indices, indexNames)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes the responses that may have read a document that was written, by the name of the index the write was
+     * sent to and of the index it was written to.
+     */
+    void invalidate(IndexCoordinates index, @Nullable String writtenIndex) {
+
+        Set<String> indexNames = new HashSet<>(Arrays.asList(index.getIndexNames()));
+        if (writtenIndex != null) {
+            indexNames.add(writtenIndex);
+        }
+        invalidate(indexNames);
+    }
+
+    /**
+     * Removes the responses that may have read a document written by a bulk request.
+     */
+    void invalidate(BulkRequest request, BulkResponse response) {
+
+        Set<String> indexNames = new HashSet<>();
+        if (request.index() != null) {
+            indexNames.add(request.index());
+        }
+        for (BulkOperation operation : request.operations()) {
+            String index = ((BulkOperationBase) operation._get()).index();
+            if (index != null) {
+                indexNames.add(index);
+            }
+        }
+        for (BulkResponseItem item : response.items()) {
+            indexNames.add(item.index());
+        }
+        invalidate(indexNames);
+    }
+
+    synchronized void invalidateAll() {
+
+        generation++;
+        invalidatedAll = generation;
+        invalidatedIndices.clear();
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return whether one of the given indices of a request was invalidated after the given generation
+     */
+    private boolean invalidatedSince(long generation, List<String> indices) {
+
+        if (invalidatedAll > generation) {
+            return true;
+        }
+
+        String[] requestIndices = indices.toArray(String[]::new);
+        for (Map.Entry<String, Long> invalidated : invalidatedIndices.sequencedEntrySet().reversed()) {
+            if (invalidated.getValue() <= generation) {
+                return false;
+            }
+            if (reads(requestIndices, List.of(invalidated.getKey()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean reads(String[] indices, Collection<String> indexNames) {
+
+        if (indices.length == 0) {
+            return true;
+        }
+
+        for (String index : indices) {
+            if ("_all".equals(index) || index.startsWith("-")) {
+                return true;
+            }
+            for (String indexName : indexNames) {
+                if (PatternMatchUtils.simpleMatch(index, indexName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private record Entry(byte[] response, String[] indices, long expiresAt) {
+    }
+}
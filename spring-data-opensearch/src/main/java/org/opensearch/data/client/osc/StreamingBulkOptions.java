@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.util.Assert;
+
+/**
+ * Options for streaming a publisher of entities into a sequence of bulk requests. A bulk request is sent as soon as it
+ * contains {@link #getMaxActions()} operations or its estimated body size reaches {@link #getMaxBytes()}, whichever
+ * comes first. At most {@link #getMaxConcurrentRequests()} bulk requests are in flight at the same time.
+ *
+ * @see ReactiveOpenSearchTemplate#saveAll(org.reactivestreams.Publisher,
+ *      org.springframework.data.elasticsearch.core.mapping.IndexCoordinates, StreamingBulkOptions)
+ */
+public class StreamingBulkOptions {
+
+    public static final int DEFAULT_MAX_ACTIONS = 1_000;
+    public static final long DEFAULT_MAX_BYTES = 5L * 1024 * 1024;
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 1;
+
+    private static final StreamingBulkOptions DEFAULT = builder().build();
+
+    private final int maxActions;
+    private final long maxBytes;
+    private final int maxConcurrentRequests;
+    private final BulkOptions bulkOptions;
+
+    private StreamingBulkOptions(Builder builder) {
+        this.maxActions = builder.maxActions;
+        this.maxBytes = builder.maxBytes;
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.bulkOptions = builder.bulkOptions;
+    }
+
+    public static StreamingBulkOptions defaultOptions() {
+        return DEFAULT;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of operations in a single bulk request
+     */
+    public int getMaxActions() {
+        return maxActions;
+    }
+
+    /**
+     * @return the estimated maximum size in bytes of a single bulk request body
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return the maximum number of bulk requests that are executed concurrently
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * @return the options applied to every bulk request
+     */
+    public BulkOptions getBulkOptions() {
+        return bulkOptions;
+    }
+
+    public static class Builder {
+
+        private int maxActions = DEFAULT_MAX_ACTIONS;
+        private long maxBytes = DEFAULT_MAX_BYTES;
+        private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+        private BulkOptions bulkOptions = BulkOptions.defaultOptions();
+
+        private Builder() {}
+
+        public Builder withMaxActions(int maxActions) {
+
+            Assert.isTrue(maxActions > 0, "maxActions must be greater than 0");
+
+            this.maxActions = maxActions;
+            return this;
+        }
+
+        public Builder withMaxBytes(long maxBytes) {
+
+            Assert.isTrue(maxBytes > 0, "maxBytes must be greater than 0");
+
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        public Builder withMaxConcurrentRequests(int maxConcurrentRequests) {
+
+            Assert.isTrue(maxConcurrentRequests > 0, "maxConcurrentRequests must be greater than 0");
+
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        public Builder withBulkOptions(BulkOptions bulkOptions) {
+
+            Assert.notNull(bulkOptions, "bulkOptions must not be null");
+
+            this.bulkOptions = bulkOptions;
+            return this;
+        }
+
+        public StreamingBulkOptions build() {
+            return new StreamingBulkOptions(this);
+        }
+    }
+}
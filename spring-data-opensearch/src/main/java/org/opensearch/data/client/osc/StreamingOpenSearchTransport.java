@@ -0,0 +1,869 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.net.URIBuilder;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.NdJsonpSerializable;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.GenericEndpoint;
+import org.opensearch.client.transport.GenericSerializable;
+import org.opensearch.client.transport.JsonEndpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportException;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.transport.endpoints.BooleanEndpoint;
+import org.opensearch.client.transport.endpoints.BooleanResponse;
+import org.opensearch.client.util.MissingRequiredPropertyException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * An {@link OpenSearchTransport} that sends the requests with a {@link CloseableHttpAsyncClient} directly, instead of
+ * through the low level {@link org.opensearch.client.RestClient}. Request bodies are serialized into a list of
+ * fixed-size buffers that are written to the connection as it accepts them, without copying them into one byte array
+ * first. Response bodies are collected into such buffers as they arrive and deserialized on the I/O thread that
+ * received the end of the response, which completes the returned future without a hop to another thread. The hits of
+ * a search response can also be emitted one by one while the response arrives, see
+ * {@link #searchHits(SearchRequest, JsonpDeserializer, TransportOptions)}.
+ * <p>
+ * The requests are sent to the hosts in turn, a request that fails with an {@link IOException} is sent to the next host
+ * until it was sent to all of them. Cancelling the future returned by
+ * {@link #performRequestAsync(Object, Endpoint, TransportOptions)} cancels the HTTP exchange.
+ * <p>
+ * The transport owns the client: it starts the client when it is created and closes it when it is closed.
+ *
+ * @see OpenSearchClients#getStreamingOpenSearchTransport(org.springframework.data.elasticsearch.client.ClientConfiguration,
+ *      String, TransportOptions, JsonpMapper)
+ */
+public class StreamingOpenSearchTransport implements OpenSearchTransport {
+
+    static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+
+    private final CloseableHttpAsyncClient client;
+    private final List<HttpHost> hosts;
+    private final String pathPrefix;
+    private final JsonpMapper jsonpMapper;
+    private final TransportOptions transportOptions;
+    private final AtomicInteger nextHost = new AtomicInteger();
+
+    /**
+     * @param client the client to send the requests with, started by the transport if it is not started yet
+     * @param hosts the hosts to send the requests to, must not be {@literal empty}
+     * @param pathPrefix the prefix of the paths of all requests, may be {@literal null}
+     * @param jsonpMapper the mapper to serialize the requests and deserialize the responses with
+     * @param transportOptions the options of the requests that are sent without options
+     */
+    public StreamingOpenSearchTransport(CloseableHttpAsyncClient client, List<HttpHost> hosts,
+            @Nullable String pathPrefix, JsonpMapper jsonpMapper, TransportOptions transportOptions) {
+
+        Assert.notNull(client, "client must not be null");
+        Assert.notEmpty(hosts, "hosts must not be empty");
+        Assert.notNull(jsonpMapper, "jsonpMapper must not be null");
+        Assert.notNull(transportOptions, "transportOptions must not be null");
+
+        this.client = client;
+        this.hosts = List.copyOf(hosts);
+        this.pathPrefix = pathPrefix != null ? cleanPathPrefix(pathPrefix) : "";
+        this.jsonpMapper = jsonpMapper;
+        this.transportOptions = transportOptions;
+
+        client.start();
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) throws IOException {
+
+        try {
+            return performRequestAsync(request, endpoint, options).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for the response", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) {
+
+        CompletableFuture<ResponseT> future = new CompletableFuture<>();
+        Exchange<ResponseT> exchange;
+        try {
+            exchange = prepareExchange(request, endpoint, options != null ? options : transportOptions, future);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        future.whenComplete((response, error) -> {
+            if (future.isCancelled()) {
+                exchange.cancel();
+            }
+        });
+        exchange.send();
+        return future;
+    }
+
+    @Override
+    public JsonpMapper jsonpMapper() {
+        return jsonpMapper;
+    }
+
+    @Override
+    public TransportOptions options() {
+        return transportOptions;
+    }
+
+    @Override
+    public void close() throws IOException {
+        client.close(CloseMode.GRACEFUL);
+    }
+
+    private <RequestT, ResponseT, ErrorT> Exchange<ResponseT> prepareExchange(RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint, TransportOptions options, CompletableFuture<ResponseT> future)
+            throws IOException, URISyntaxException {
+        return prepareExchange(request, endpoint, options, response -> decodeResponse(response, endpoint),
+                BufferingResponseConsumer::new, future);
+    }
+
+    private <RequestT, ResponseT> Exchange<ResponseT> prepareExchange(RequestT request,
+            Endpoint<RequestT, ?, ?> endpoint, TransportOptions options, ResponseDecoder<ResponseT> decoder,
+            BiFunction<String, String, BufferingResponseConsumer> consumers, CompletableFuture<ResponseT> future)
+            throws IOException, URISyntaxException {
+
+        URIBuilder uriBuilder = new URIBuilder(pathPrefix + endpoint.requestUrl(request));
+        endpoint.queryParameters(request).forEach(uriBuilder::addParameter);
+        // RestClientOptions have no query parameters of their own, they return null
+        if (options.queryParameters() != null) {
+            options.queryParameters().forEach(uriBuilder::addParameter);
+        }
+        String path = uriBuilder.build().toASCIIString();
+
+        BufferEntityProducer entity = null;
+        if (endpoint.hasRequestBody()) {
+            BufferOutputStream body = new BufferOutputStream();
+            String contentType = JSON_CONTENT_TYPE;
+            if (request instanceof NdJsonpSerializable ndJsonpSerializable) {
+                writeNdJson(ndJsonpSerializable, body);
+                contentType = NDJSON_CONTENT_TYPE;
+            } else if (request instanceof GenericSerializable genericSerializable) {
+                contentType = genericSerializable.serialize(body);
+            } else {
+                try (JsonGenerator generator = jsonpMapper.jsonProvider().createGenerator(body)) {
+                    jsonpMapper.serialize(request, generator);
+                }
+            }
+            entity = new BufferEntityProducer(body.buffers(), contentType);
+        }
+
+        return new Exchange<>(endpoint.method(request), path, options, entity, decoder, consumers, future);
+    }
+
+    /**
+     * Sends a search request and emits the hits of its response while the response arrives: every hit is emitted as
+     * soon as it was parsed, before the rest of the response was received. The connection is not read from while
+     * there is no demand for more hits. All other properties of the response are ignored. A compressed response is
+     * received completely before its hits are parsed.
+     *
+     * @param request the search request
+     * @param documentDeserializer the deserializer of the {@code _source} of the hits
+     * @param options the options of the request, {@literal null} for the options of the transport
+     */
+    public <TDocument> Flux<Hit<TDocument>> searchHits(SearchRequest request,
+            JsonpDeserializer<TDocument> documentDeserializer, @Nullable TransportOptions options) {
+
+        Assert.notNull(request, "request must not be null");
+        Assert.notNull(documentDeserializer, "documentDeserializer must not be null");
+
+        return Flux.create(sink -> {
+            Endpoint<SearchRequest, ?, ?> endpoint = SearchRequest.createSearchEndpoint(documentDeserializer);
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            AtomicReference<HitStreamingConsumer<TDocument>> consumer = new AtomicReference<>();
+            Exchange<Void> exchange;
+            try {
+                exchange = prepareExchange(request, endpoint, options != null ? options : transportOptions,
+                        response -> {
+                            if (!isSuccess(response.statusCode(), endpoint)) {
+                                decodeResponse(response, endpoint);
+                            }
+                            return null;
+                        }, (method, path) -> {
+                            HitStreamingConsumer<TDocument> hits = new HitStreamingConsumer<>(method, path, endpoint,
+                                    documentDeserializer, sink);
+                            consumer.set(hits);
+                            return hits;
+                        }, future);
+            } catch (Exception e) {
+                sink.error(e);
+                return;
+            }
+
+            future.whenComplete((response, error) -> {
+                if (error != null) {
+                    sink.error(error);
+                } else {
+                    sink.complete();
+                }
+            });
+            sink.onRequest(n -> {
+                HitStreamingConsumer<TDocument> hits = consumer.get();
+                if (hits != null) {
+                    hits.resume();
+                }
+            });
+            sink.onCancel(() -> {
+                future.cancel(false);
+                exchange.cancel();
+            });
+            exchange.send();
+        });
+    }
+
+    private void writeNdJson(NdJsonpSerializable value, OutputStream out) throws IOException {
+
+        Iterator<?> values = value._serializables();
+        while (values.hasNext()) {
+            Object item = values.next();
+            if (item instanceof NdJsonpSerializable ndJsonpSerializable && item != value) {
+                // do not recurse on the item itself
+                writeNdJson(ndJsonpSerializable, out);
+            } else {
+                try (JsonGenerator generator = jsonpMapper.jsonProvider().createGenerator(out)) {
+                    jsonpMapper.serialize(item, generator);
+                }
+                out.write('\n');
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <ResponseT, ErrorT> ResponseT decodeResponse(BufferedResponse response,
+            Endpoint<?, ResponseT, ErrorT> endpoint) throws IOException {
+
+        int statusCode = response.statusCode();
+
+        if (statusCode == 403) {
+            throw new TransportException("Forbidden access");
+        }
+        if (statusCode == 401) {
+            throw new TransportException("Unauthorized access");
+        }
+
+        if (!endpoint.isError(statusCode)) {
+            return decodeSuccessResponse(response, endpoint);
+        }
+
+        if (!response.hasBody()) {
+            throw new TransportException("Expecting a response body, but none was sent");
+        }
+
+        if (endpoint instanceof GenericEndpoint<?, ?> genericEndpoint) {
+            Object error = decodeGenericResponse(response, genericEndpoint);
+            throw ((GenericEndpoint<?, Object>) genericEndpoint).exceptionConverter(statusCode, error);
+        }
+
+        JsonpDeserializer<ErrorT> errorDeserializer = endpoint.errorDeserializer(statusCode);
+        if (errorDeserializer == null) {
+            throw new TransportException("Request failed with status code '" + statusCode + "'");
+        }
+
+        ErrorT error;
+        try (JsonParser parser = jsonpMapper.jsonProvider().createParser(response.content())) {
+            error = errorDeserializer.deserialize(parser, jsonpMapper);
+        } catch (MissingRequiredPropertyException e) {
+            // the body may be a response, like the one of a get request for a missing document
+            try {
+                return decodeSuccessResponse(response, endpoint);
+            } catch (Exception ignored) {
+                throw new TransportException("Failed to decode error response", e);
+            }
+        }
+        throw endpoint.exceptionConverter(statusCode, error);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private <ResponseT> ResponseT decodeSuccessResponse(BufferedResponse response, Endpoint<?, ResponseT, ?> endpoint)
+            throws IOException {
+
+        if (endpoint instanceof BooleanEndpoint<?> booleanEndpoint) {
+            return (ResponseT) new BooleanResponse(booleanEndpoint.getResult(response.statusCode()));
+        }
+
+        if (endpoint instanceof JsonEndpoint<?, ResponseT, ?> jsonEndpoint) {
+            JsonpDeserializer<ResponseT> deserializer = jsonEndpoint.responseDeserializer();
+            if (deserializer == null) {
+                return null;
+            }
+            if (!response.hasBody()) {
+                throw new TransportException("Expecting a response body, but none was sent");
+            }
+            try (JsonParser parser = jsonpMapper.jsonProvider().createParser(response.content())) {
+                return deserializer.deserialize(parser, jsonpMapper);
+            }
+        }
+
+        if (endpoint instanceof GenericEndpoint<?, ?> genericEndpoint) {
+            return (ResponseT) decodeGenericResponse(response, genericEndpoint);
+        }
+
+        throw new TransportException("Unhandled endpoint type: '" + endpoint.getClass().getName() + "'");
+    }
+
+    private <ResponseT> ResponseT decodeGenericResponse(BufferedResponse response,
+            GenericEndpoint<?, ResponseT> endpoint) throws IOException {
+
+        List<Map.Entry<String, String>> headers = new ArrayList<>();
+        for (Header header : response.head().getHeaders()) {
+            headers.add(new AbstractMap.SimpleEntry<>(header.getName(), header.getValue()));
+        }
+
+        return endpoint.responseDeserializer(response.path(), response.method(),
+                response.head().getVersion() != null ? response.head().getVersion().format() : null,
+                response.statusCode(), response.head().getReasonPhrase(), headers, response.contentType(),
+                response.content());
+    }
+
+    private static boolean isSuccess(int statusCode, Endpoint<?, ?, ?> endpoint) {
+        return statusCode != 401 && statusCode != 403 && !endpoint.isError(statusCode);
+    }
+
+    private static String cleanPathPrefix(String pathPrefix) {
+
+        String cleaned = pathPrefix.startsWith("/") ? pathPrefix : '/' + pathPrefix;
+        if (cleaned.endsWith("/")) {
+            cleaned = cleaned.substring(0, cleaned.length() - 1);
+        }
+        return cleaned;
+    }
+
+    /**
+     * One request through the hosts of the transport, sent again to the next host when it fails with an
+     * {@link IOException}.
+     */
+    private final class Exchange<ResponseT> implements FutureCallback<BufferedResponse> {
+
+        private final String method;
+        private final String path;
+        private final TransportOptions options;
+        @Nullable private final BufferEntityProducer entity;
+        private final ResponseDecoder<ResponseT> decoder;
+        private final BiFunction<String, String, BufferingResponseConsumer> consumers;
+        private final CompletableFuture<ResponseT> future;
+        private final AtomicReference<Future<?>> sending = new AtomicReference<>();
+        private final int firstHost;
+        private int attempt;
+        @Nullable private volatile BufferingResponseConsumer consumer;
+
+        private Exchange(String method, String path, TransportOptions options, @Nullable BufferEntityProducer entity,
+                ResponseDecoder<ResponseT> decoder, BiFunction<String, String, BufferingResponseConsumer> consumers,
+                CompletableFuture<ResponseT> future) {
+
+            this.method = method;
+            this.path = path;
+            this.options = options;
+            this.entity = entity;
+            this.decoder = decoder;
+            this.consumers = consumers;
+            this.future = future;
+            this.firstHost = nextHost.getAndIncrement();
+        }
+
+        void send() {
+
+            HttpHost host = hosts.get(Math.floorMod(firstHost + attempt, hosts.size()));
+            BasicHttpRequest request = new BasicHttpRequest(method, host, path);
+            options.headers().forEach(header -> request.addHeader(header.getKey(), header.getValue()));
+
+            BufferingResponseConsumer responseConsumer = consumers.apply(method, path);
+            consumer = responseConsumer;
+            Future<?> sent = client.execute(new BasicRequestProducer(request, entity), responseConsumer, this);
+            sending.set(sent);
+            if (future.isCancelled()) {
+                sent.cancel(true);
+            }
+        }
+
+        void cancel() {
+
+            Future<?> sent = sending.get();
+            if (sent != null) {
+                sent.cancel(true);
+            }
+        }
+
+        @Override
+        public void completed(BufferedResponse response) {
+
+            try {
+                List<String> warnings = response.warnings();
+                Function<List<String>, Boolean> onWarnings = options.onWarnings();
+                if (!warnings.isEmpty() && onWarnings != null && Boolean.TRUE.equals(onWarnings.apply(warnings))) {
+                    throw new TransportException("Request " + method + ' ' + path + " returned warnings " + warnings);
+                }
+                future.complete(decoder.decode(response));
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public void failed(Exception ex) {
+
+            BufferingResponseConsumer responseConsumer = consumer;
+            if (ex instanceof IOException && (responseConsumer == null || responseConsumer.isRetryable())
+                    && ++attempt < hosts.size() && !future.isDone()) {
+                send();
+                return;
+            }
+            future.completeExceptionally(ex);
+        }
+
+        @Override
+        public void cancelled() {
+            future.cancel(false);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResponseDecoder<ResponseT> {
+        ResponseT decode(BufferedResponse response) throws IOException;
+    }
+
+    /**
+     * A response with its body in the buffers it was received into.
+     */
+    private record BufferedResponse(String method, String path, HttpResponse head, @Nullable String contentType,
+            @Nullable String contentEncoding, @Nullable List<ByteBuffer> body) {
+
+        int statusCode() {
+            return head.getCode();
+        }
+
+        boolean hasBody() {
+            return body != null;
+        }
+
+        List<String> warnings() {
+
+            Header[] headers = head.getHeaders("Warning");
+            if (headers.length == 0) {
+                return List.of();
+            }
+            List<String> warnings = new ArrayList<>(headers.length);
+            for (Header header : headers) {
+                warnings.add(header.getValue());
+            }
+            return warnings;
+        }
+
+        /**
+         * @return a stream over the buffers of the body, uncompressed if it was gzip compressed
+         */
+        InputStream content() throws IOException {
+
+            if (body == null) {
+                return InputStream.nullInputStream();
+            }
+
+            List<InputStream> streams = new ArrayList<>(body.size());
+            for (ByteBuffer buffer : body) {
+                streams.add(new ByteArrayInputStream(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                        buffer.remaining()));
+            }
+            InputStream content = new SequenceInputStream(Collections.enumeration(streams));
+            return CompressionSettings.GZIP.equalsIgnoreCase(contentEncoding) ? new GZIPInputStream(content) : content;
+        }
+    }
+
+    /**
+     * Collects the body of a response into a {@link BufferOutputStream} while it arrives.
+     */
+    private static class BufferingResponseConsumer implements AsyncResponseConsumer<BufferedResponse> {
+
+        final String method;
+        final String path;
+        @Nullable HttpResponse head;
+        @Nullable EntityDetails entity;
+        @Nullable FutureCallback<BufferedResponse> callback;
+        final BufferOutputStream body = new BufferOutputStream();
+
+        private BufferingResponseConsumer(String method, String path) {
+            this.method = method;
+            this.path = path;
+        }
+
+        @Override
+        public void consumeResponse(HttpResponse response, @Nullable EntityDetails entityDetails, HttpContext context,
+                FutureCallback<BufferedResponse> resultCallback) throws IOException {
+
+            this.head = response;
+            this.entity = entityDetails;
+            this.callback = resultCallback;
+            if (entityDetails == null) {
+                resultCallback.completed(new BufferedResponse(method, path, response, null, null, null));
+            }
+        }
+
+        @Override
+        public void informationResponse(HttpResponse response, HttpContext context) {}
+
+        @Override
+        public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+            capacityChannel.update(Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void consume(ByteBuffer src) throws IOException {
+            body.write(src);
+        }
+
+        @Override
+        public void streamEnd(@Nullable List<? extends Header> trailers) throws IOException {
+
+            Assert.state(head != null && entity != null && callback != null, "response was not started");
+
+            callback.completed(new BufferedResponse(method, path, head, entity.getContentType(),
+                    contentEncoding(head, entity), body.buffers()));
+        }
+
+        /**
+         * @return whether the request may be sent again after the exchange failed
+         */
+        boolean isRetryable() {
+            return true;
+        }
+
+        @Nullable
+        static String contentEncoding(HttpResponse head, EntityDetails entity) {
+
+            String contentEncoding = entity.getContentEncoding();
+            if (contentEncoding == null && head.getFirstHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+                contentEncoding = head.getFirstHeader(HttpHeaders.CONTENT_ENCODING).getValue();
+            }
+            return contentEncoding;
+        }
+
+        @Override
+        public void failed(Exception cause) {}
+
+        @Override
+        public void releaseResources() {}
+    }
+
+    /**
+     * Emits the hits of a successful search response with a {@link SearchHitParser} while the response arrives, and
+     * collects error responses and compressed responses like a {@link BufferingResponseConsumer}. The capacity of the
+     * connection is only updated while the subscriber has demand for more hits.
+     */
+    private final class HitStreamingConsumer<TDocument> extends BufferingResponseConsumer {
+
+        private final Endpoint<?, ?, ?> endpoint;
+        private final JsonpDeserializer<TDocument> documentDeserializer;
+        private final FluxSink<Hit<TDocument>> sink;
+        private final AtomicBoolean paused = new AtomicBoolean();
+        @Nullable private volatile CapacityChannel capacityChannel;
+        @Nullable private SearchHitParser<TDocument> parser;
+        private volatile boolean responded;
+
+        private HitStreamingConsumer(String method, String path, Endpoint<?, ?, ?> endpoint,
+                JsonpDeserializer<TDocument> documentDeserializer, FluxSink<Hit<TDocument>> sink) {
+            super(method, path);
+
+            this.endpoint = endpoint;
+            this.documentDeserializer = documentDeserializer;
+            this.sink = sink;
+        }
+
+        @Override
+        public void consumeResponse(HttpResponse response, @Nullable EntityDetails entityDetails, HttpContext context,
+                FutureCallback<BufferedResponse> resultCallback) throws IOException {
+
+            responded = true;
+            if (entityDetails != null && isSuccess(response.getCode(), endpoint)
+                    && contentEncoding(response, entityDetails) == null) {
+                parser = SearchHitParser.nonBlocking(jsonpMapper, documentDeserializer, sink::next);
+            }
+            super.consumeResponse(response, entityDetails, context, resultCallback);
+        }
+
+        @Override
+        public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+
+            if (parser == null) {
+                super.updateCapacity(capacityChannel);
+                return;
+            }
+
+            this.capacityChannel = capacityChannel;
+            paused.set(true);
+            resume();
+        }
+
+        /**
+         * Reads more of the response if it was paused and the subscriber has demand.
+         */
+        void resume() {
+
+            CapacityChannel channel = capacityChannel;
+            if (channel != null && sink.requestedFromDownstream() > 0 && paused.compareAndSet(true, false)) {
+                try {
+                    channel.update(BUFFER_SIZE);
+                } catch (IOException e) {
+                    sink.error(e);
+                }
+            }
+        }
+
+        @Override
+        public void consume(ByteBuffer src) throws IOException {
+
+            if (parser != null) {
+                parser.feed(src);
+            } else {
+                super.consume(src);
+            }
+        }
+
+        @Override
+        public void streamEnd(@Nullable List<? extends Header> trailers) throws IOException {
+
+            Assert.state(head != null && entity != null && callback != null, "response was not started");
+
+            if (parser != null) {
+                parser.endOfInput();
+                callback.completed(new BufferedResponse(method, path, head, entity.getContentType(), null, null));
+                return;
+            }
+
+            if (isSuccess(head.getCode(), endpoint)) {
+                BufferedResponse response = new BufferedResponse(method, path, head, entity.getContentType(),
+                        contentEncoding(head, entity), body.buffers());
+                SearchHitParser.parse(response.content(), jsonpMapper, documentDeserializer, sink::next);
+            }
+            super.streamEnd(trailers);
+        }
+
+        @Override
+        boolean isRetryable() {
+            return !responded;
+        }
+    }
+
+    /**
+     * Produces a request body from the buffers it was serialized into. The buffers are not modified, so the body can be
+     * produced again for a retry.
+     */
+    private static final class BufferEntityProducer implements AsyncEntityProducer {
+
+        private final List<ByteBuffer> buffers;
+        private final String contentType;
+        private final long contentLength;
+        private int index;
+        @Nullable private ByteBuffer current;
+
+        private BufferEntityProducer(List<ByteBuffer> buffers, String contentType) {
+
+            this.buffers = buffers;
+            this.contentType = contentType;
+            long length = 0;
+            for (ByteBuffer buffer : buffers) {
+                length += buffer.remaining();
+            }
+            this.contentLength = length;
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public long getContentLength() {
+            return contentLength;
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Nullable
+        @Override
+        public String getContentEncoding() {
+            return null;
+        }
+
+        @Override
+        public boolean isChunked() {
+            return false;
+        }
+
+        @Override
+        public Set<String> getTrailerNames() {
+            return Set.of();
+        }
+
+        @Override
+        public int available() {
+
+            long available = 0;
+            for (int i = index; i < buffers.size(); i++) {
+                available += i == index && current != null ? current.remaining() : buffers.get(i).remaining();
+            }
+            return (int) Math.min(Integer.MAX_VALUE, available);
+        }
+
+        @Override
+        public void produce(DataStreamChannel channel) throws IOException {
+
+            while (index < buffers.size()) {
+                if (current == null) {
+                    current = buffers.get(index).duplicate();
+                }
+                channel.write(current);
+                if (current.hasRemaining()) {
+                    // the channel is full, it asks for more output when it can take it
+                    return;
+                }
+                current = null;
+                index++;
+            }
+            channel.endStream();
+        }
+
+        @Override
+        public void failed(Exception cause) {}
+
+        @Override
+        public void releaseResources() {
+            index = 0;
+            current = null;
+        }
+    }
+
+    /**
+     * An {@link OutputStream} that writes into a list of heap buffers of {@link #BUFFER_SIZE} bytes, so a large body
+     * is never copied to grow a single array.
+     */
+    static final class BufferOutputStream extends OutputStream {
+
+        private final List<ByteBuffer> buffers = new ArrayList<>();
+        @Nullable private ByteBuffer current;
+
+        @Override
+        public void write(int b) {
+            writable().put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+
+            while (length > 0) {
+                ByteBuffer buffer = writable();
+                int count = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, count);
+                offset += count;
+                length -= count;
+            }
+        }
+
+        void write(ByteBuffer src) {
+
+            while (src.hasRemaining()) {
+                ByteBuffer buffer = writable();
+                int count = Math.min(src.remaining(), buffer.remaining());
+                ByteBuffer slice = src.slice(src.position(), count);
+                buffer.put(slice);
+                src.position(src.position() + count);
+            }
+        }
+
+        /**
+         * @return views of the written bytes, from their start to the last byte written
+         */
+        List<ByteBuffer> buffers() {
+
+            List<ByteBuffer> written = new ArrayList<>(buffers.size());
+            for (ByteBuffer buffer : buffers) {
+                ByteBuffer view = buffer.duplicate();
+                view.flip();
+                written.add(view);
+            }
+            return written;
+        }
+
+        private ByteBuffer writable() {
+
+            if (current == null || !current.hasRemaining()) {
+                current = ByteBuffer.allocate(BUFFER_SIZE);
+                buffers.add(current);
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Observes the requests the templates send with {@code execute(ClientCallback)}, see {@link OpenSearchObservation}.
+ * The requests of the index and cluster operations are not observed. Micrometer Observation is an optional dependency
+ * of Spring Data OpenSearch, so the templates do not refer to it themselves; this class must only be used when it is on
+ * the classpath.
+ *
+ * @see ObservingOpenSearchTransport
+ */
+public final class TemplateObservations {
+
+    private TemplateObservations() {}
+
+    /**
+     * Observes the requests of the given template with the given registry.
+     *
+     * @param template the template, must not be {@literal null}
+     * @param observationRegistry the registry, {@literal null} to not observe requests
+     */
+    public static void observe(OpenSearchTemplate template, @Nullable ObservationRegistry observationRegistry) {
+
+        Assert.notNull(template, "template must not be null");
+
+        template.observeRequests(observationRegistry != null
+                ? transport -> new ObservingOpenSearchTransport(transport, observationRegistry)
+                : null);
+    }
+
+    /**
+     * Observes the requests of the given template with the given registry.
+     *
+     * @param template the template, must not be {@literal null}
+     * @param observationRegistry the registry, {@literal null} to not observe requests
+     */
+    public static void observe(ReactiveOpenSearchTemplate template, @Nullable ObservationRegistry observationRegistry) {
+
+        Assert.notNull(template, "template must not be null");
+
+        template.observeRequests(observationRegistry != null
+                ? transport -> new ObservingOpenSearchTransport(transport, observationRegistry)
+                : null);
+    }
+
+    /**
+     * @return the registry that observes the requests of the given template, {@literal null} if they are not observed
+     */
+    @Nullable
+    public static ObservationRegistry getObservationRegistry(OpenSearchTemplate template) {
+
+        Assert.notNull(template, "template must not be null");
+
+        return observationRegistry(template.getRequestTransport());
+    }
+
+    /**
+     * @return the registry that observes the requests of the given template, {@literal null} if they are not observed
+     */
+    @Nullable
+    public static ObservationRegistry getObservationRegistry(ReactiveOpenSearchTemplate template) {
+
+        Assert.notNull(template, "template must not be null");
+
+        return observationRegistry(template.getRequestTransport());
+    }
+
+    @Nullable
+    private static ObservationRegistry observationRegistry(OpenSearchTransport transport) {
+        return transport instanceof ObservingOpenSearchTransport observingTransport
+                ? observingTransport.getObservationRegistry()
+                : null;
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch._types.ErrorCause;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+
+class BulkIngesterUnitTests {
+
+    private static final IndexCoordinates INDEX = IndexCoordinates.of("foo");
+
+    private final RequestConverter requestConverter = new RequestConverter(
+            new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()), new JacksonJsonpMapper());
+
+    @Test
+    @DisplayName("should send bulk requests when the maximum number of actions is reached and on close")
+    void shouldSendBulkRequestsByNumberOfActions() {
+
+        List<Integer> requestSizes = new CopyOnWriteArrayList<>();
+        RecordingListener listener = new RecordingListener();
+        Function<BulkRequest, BulkResponse> executor = request -> {
+            requestSizes.add(request.operations().size());
+            return response(request, id -> null);
+        };
+        var options = BulkIngesterOptions.builder().withMaxActions(2).withMaxConcurrentRequests(2).build();
+
+        try (var ingester = new BulkIngester(requestConverter, executor, INDEX, null, options, listener)) {
+            for (int i = 0; i < 5; i++) {
+                ingester.add(indexQuery(String.valueOf(i)));
+            }
+        }
+
+        assertThat(requestSizes).containsExactlyInAnyOrder(2, 2, 1);
+        assertThat(listener.successes).containsOnlyKeys("0", "1", "2", "3", "4");
+        assertThat(listener.failures).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should report item failures to the listener")
+    void shouldReportItemFailures() {
+
+        RecordingListener listener = new RecordingListener();
+        Function<BulkRequest, BulkResponse> executor = request -> response(request,
+                id -> "1".equals(id) ? "rejected" : null);
+
+        try (var ingester = new BulkIngester(requestConverter, executor, INDEX, null,
+                BulkIngesterOptions.defaultOptions(), listener)) {
+            ingester.add(indexQuery("0"));
+            ingester.add(indexQuery("1"));
+        }
+
+        assertThat(listener.successes).containsOnlyKeys("0");
+        assertThat(listener.failures).containsOnlyKeys("1");
+        assertThat(listener.failures.get("1")).isInstanceOf(BulkFailureException.class);
+        assertThat(((BulkFailureException) listener.failures.get("1")).getFailedDocuments().get("1").status())
+                .isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("should report all items as failed when the bulk request cannot be executed")
+    void shouldReportAllItemsAsFailedWhenRequestFails() {
+
+        RecordingListener listener = new RecordingListener();
+        RuntimeException exception = new IllegalStateException("connection refused");
+        Function<BulkRequest, BulkResponse> executor = request -> {
+            throw exception;
+        };
+
+        try (var ingester = new BulkIngester(requestConverter, executor, INDEX, null,
+                BulkIngesterOptions.defaultOptions(), listener)) {
+            ingester.add(indexQuery("0"));
+            ingester.add(indexQuery("1"));
+        }
+
+        assertThat(listener.successes).isEmpty();
+        assertThat(listener.failures).containsOnlyKeys("0", "1");
+        assertThat(listener.failures.values()).containsOnly(exception);
+    }
+
+    @Test
+    @DisplayName("should send pending operations when the flush interval has elapsed")
+    void shouldSendPendingOperationsAfterFlushInterval() throws InterruptedException {
+
+        CountDownLatch latch = new CountDownLatch(1);
+        RecordingListener listener = new RecordingListener() {
+            @Override
+            public void onItemSuccess(Object query, IndexedObjectInformation information) {
+                super.onItemSuccess(query, information);
+                latch.countDown();
+            }
+        };
+        var options = BulkIngesterOptions.builder().withFlushInterval(Duration.ofMillis(50)).build();
+
+        try (var ingester = new BulkIngester(requestConverter, request -> response(request, id -> null), INDEX, null,
+                options, listener)) {
+            ingester.add(indexQuery("0"));
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(listener.successes).containsOnlyKeys("0");
+    }
+
+    @Test
+    @DisplayName("should reject operations after close")
+    void shouldRejectOperationsAfterClose() {
+
+        var ingester = new BulkIngester(requestConverter, request -> response(request, id -> null), INDEX, null,
+                BulkIngesterOptions.defaultOptions(), BulkIngester.Listener.NOOP);
+        ingester.close();
+
+        assertThatThrownBy(() -> ingester.add(indexQuery("0"))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("should let a timed flush that waits for a running request finish on close")
+    void shouldFinishWaitingTimedFlushOnClose() throws InterruptedException {
+
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch releaseRequest = new CountDownLatch(1);
+        RecordingListener listener = new RecordingListener();
+        Function<BulkRequest, BulkResponse> executor = request -> {
+            requestStarted.countDown();
+            try {
+                releaseRequest.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return response(request, id -> null);
+        };
+        var options = BulkIngesterOptions.builder().withMaxActions(2).withMaxConcurrentRequests(1)
+                .withFlushInterval(Duration.ofMillis(20)).build();
+        var ingester = new BulkIngester(requestConverter, executor, INDEX, null, options, listener);
+
+        ingester.add(indexQuery("0"));
+        ingester.add(indexQuery("1"));
+        assertThat(requestStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        ingester.add(indexQuery("2"));
+        // let the timed flush take the pending operation and wait for the permit of the running request
+        Thread.sleep(200);
+
+        Thread closing = new Thread(ingester::close);
+        closing.start();
+        Thread.sleep(100);
+        releaseRequest.countDown();
+        closing.join(5_000);
+
+        assertThat(closing.isAlive()).isFalse();
+        assertThat(listener.failures).isEmpty();
+        assertThat(listener.successes).containsOnlyKeys("0", "1", "2");
+    }
+
+    @Test
+    @DisplayName("should send every operation that was accepted while the ingester was closed")
+    void shouldSendOperationsAddedConcurrentlyWithClose() throws InterruptedException {
+
+        RecordingListener listener = new RecordingListener();
+        var ingester = new BulkIngester(requestConverter, request -> response(request, id -> null), INDEX, null,
+                BulkIngesterOptions.builder().withMaxActions(7).build(), listener);
+        Set<String> accepted = ConcurrentHashMap.newKeySet();
+        List<Thread> adders = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            adders.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    String id = thread + "-" + i;
+                    try {
+                        ingester.add(indexQuery(id));
+                        accepted.add(id);
+                    } catch (IllegalStateException e) {
+                        return;
+                    }
+                }
+            }));
+        }
+
+        adders.forEach(Thread::start);
+        Thread.sleep(50);
+        ingester.close();
+        for (Thread adder : adders) {
+            adder.join();
+        }
+
+        assertThat(listener.failures).isEmpty();
+        assertThat(listener.successes.keySet()).isEqualTo(accepted);
+    }
+
+    private static IndexQuery indexQuery(String id) {
+        return new IndexQueryBuilder().withId(id).withSource("{\"text\":\"text-" + id + "\"}").build();
+    }
+
+    private static BulkResponse response(BulkRequest request, Function<String, String> errorForId) {
+
+        List<BulkResponseItem> items = request.operations().stream().map(operation -> {
+            String id = operation.index().id();
+            String error = errorForId.apply(id);
+            return BulkResponseItem.of(b -> {
+                b.operationType(OperationType.Index).index(INDEX.getIndexName()).id(id);
+                if (error != null) {
+                    return b.status(429).error(ErrorCause.of(e -> e.type("es_rejected_execution_exception").reason(error)));
+                }
+                return b.status(201).seqNo(1L).primaryTerm(1L).version(1L);
+            });
+        }).toList();
+        return BulkResponse.of(b -> b.errors(items.stream().anyMatch(item -> item.error() != null)).took(1).items(items));
+    }
+
+    private static class RecordingListener implements BulkIngester.Listener {
+
+        final Map<String, IndexedObjectInformation> successes = new ConcurrentHashMap<>();
+        final Map<String, Exception> failures = new ConcurrentHashMap<>();
+
+        @Override
+        public void onItemSuccess(Object query, IndexedObjectInformation information) {
+            successes.put(((IndexQuery) query).getId(), information);
+        }
+
+        @Override
+        public void onItemFailure(Object query, Exception failure) {
+            failures.put(((IndexQuery) query).getId(), failure);
+        }
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.opensearch.data.client.osc;
 
+import static org.assertj.core.api.Assertions.*;
+
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -160,4 +162,43 @@ class DocumentAdaptersUnitTests {
         softly.assertThat(matchedQueries).isEqualTo(Arrays.asList("query1", "query2"));
         softly.assertAll();
     }
+
+    @Test
+    @DisplayName("should adapt fields of all JSON types the same way as parsing them into a map")
+    void shouldAdaptFieldsOfAllJsonTypes() {
+
+        String json = """
+                {"int":[1],"long":[12345678901],"big":[123456789012345678901234567890],"double":[1.5],
+                "string":["s"],"bool":[true,false],"object":[{"a":{"b":[1,"c"]}}]}
+                """;
+        EntityAsMap expected = new EntityAsMap().fromJson(json);
+        Hit.Builder<EntityAsMap> builder = new Hit.Builder<EntityAsMap>().index("index").id("42");
+        expected.keySet().forEach(key -> builder.fields(key, JsonData.of(expected.get(key))));
+
+        SearchDocument searchDocument = DocumentAdapters.from(builder.build(), jsonpMapper);
+
+        assertThat(searchDocument.getFields()).containsOnlyKeys(expected.keySet());
+        expected.forEach((key, value) -> assertThat(searchDocument.get(key)).isEqualTo(value));
+        assertThat(searchDocument.<Object> getFieldValue("int")).isEqualTo(1);
+        assertThat(searchDocument.<Object> getFieldValue("long")).isEqualTo(12345678901L);
+        assertThat(searchDocument.<Object> getFieldValue("double")).isEqualTo(1.5);
+    }
+
+    @Test
+    @DisplayName("should adapt hits without fields, highlights, inner hits and matched queries")
+    void shouldAdaptHitsWithoutFields() {
+
+        Hit<EntityAsMap> searchHit = new Hit.Builder<EntityAsMap>() //
+                .index("index") //
+                .id("42") //
+                .build();
+
+        SearchDocument searchDocument = DocumentAdapters.from(searchHit, jsonpMapper);
+
+        assertThat(searchDocument.getFields()).isEmpty();
+        assertThat(searchDocument.getHighlightFields()).isEmpty();
+        assertThat(searchDocument.getInnerHits()).isEmpty();
+        assertThat(searchDocument.getMatchedQueries()).isSameAs(Collections.emptyList());
+        assertThat(searchDocument).isEmpty();
+    }
 }
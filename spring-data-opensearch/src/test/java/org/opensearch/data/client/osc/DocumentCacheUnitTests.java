@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.document.Document;
+
+class DocumentCacheUnitTests {
+
+    private final AtomicLong now = new AtomicLong();
+    private final DocumentCache cache = new DocumentCache(2, 100, now::get);
+
+    @Test
+    @DisplayName("should return a copy of a cached document read with the same routing")
+    void shouldReturnCopyOfCachedDocument() {
+
+        Document document = document(1, 1);
+        cache.put("foo", "1", null, document);
+        document.put("text", "changed");
+
+        Document cached = cache.get("foo", "1", null);
+        assertThat(cached).isNotSameAs(document).containsEntry("text", "text");
+        assertThat(cached.getId()).isEqualTo("1");
+        assertThat(cached.getSeqNo()).isEqualTo(1);
+        assertThat(cache.get("foo", "1", "routing")).isNull();
+        assertThat(cache.get("bar", "1", null)).isNull();
+    }
+
+    @Test
+    @DisplayName("should not cache a document read before a write that was seen")
+    void shouldRejectStaleDocuments() {
+
+        cache.put("foo", "1", null, document(1, 1));
+        cache.invalidate("foo", "1", 2, 1);
+
+        assertThat(cache.get("foo", "1", null)).isNull();
+
+        cache.put("foo", "1", null, document(1, 1));
+        assertThat(cache.get("foo", "1", null)).isNull();
+
+        cache.put("foo", "1", null, document(0, 2));
+        assertThat(cache.get("foo", "1", null)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should evict expired and least recently used documents")
+    void shouldEvictExpiredAndLeastRecentlyUsedDocuments() {
+
+        cache.put("foo", "1", null, document(1, 1));
+        now.addAndGet(50);
+        cache.put("foo", "2", null, document(1, 1));
+        cache.get("foo", "1", null);
+        cache.put("foo", "3", null, document(1, 1));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("foo", "2", null)).isNull();
+
+        now.addAndGet(50);
+        assertThat(cache.get("foo", "1", null)).isNull();
+        assertThat(cache.get("foo", "3", null)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should evict only the documents of the given index")
+    void shouldEvictDocumentsOfIndex() {
+
+        cache.put("foo", "1", null, document(1, 1));
+        cache.put("bar", "1", null, document(1, 1));
+
+        cache.evictIndex("foo");
+
+        assertThat(cache.get("foo", "1", null)).isNull();
+        assertThat(cache.get("bar", "1", null)).isNotNull();
+    }
+
+    private static Document document(long seqNo, long primaryTerm) {
+
+        Document document = Document.create();
+        document.setId("1");
+        document.setSeqNo(seqNo);
+        document.setPrimaryTerm(primaryTerm);
+        document.put("text", "text");
+        return document;
+    }
+}
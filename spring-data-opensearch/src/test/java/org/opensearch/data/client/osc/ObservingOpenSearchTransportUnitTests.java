@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.opensearch._types.ErrorCause;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.DeleteByQueryRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.opensearch.client.transport.OpenSearchTransport;
+
+class ObservingOpenSearchTransportUnitTests {
+
+    private final OpenSearchTransport delegate = mock(OpenSearchTransport.class);
+    private final List<Observation.Context> observed = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ObservingOpenSearchTransport transport;
+
+    @BeforeEach
+    void setUp() {
+
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new OpenSearchMeterObservationHandler(meterRegistry));
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                observed.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        transport = new ObservingOpenSearchTransport(delegate, registry);
+    }
+
+    @Test
+    @DisplayName("should observe a bulk request with its operation, index, took and failed items")
+    void shouldObserveBulkRequest() throws IOException {
+
+        var request = BulkRequest.of(b -> b.index("foo-000001").operations(o -> o.delete(d -> d.id("1"))));
+        var response = BulkResponse.of(b -> b.errors(true).took(5).items(BulkResponseItem.of(i -> i
+                .operationType(OperationType.Delete).index("foo-000001").id("1").status(429)
+                .error(ErrorCause.of(e -> e.type("es_rejected_execution_exception").reason("rejected"))))));
+        when(delegate.performRequest(eq(request), any(), any())).thenReturn(response);
+
+        assertThat(transport.performRequest(request, BulkRequest._ENDPOINT, null)).isSameAs(response);
+
+        assertThat(observed).singleElement().isInstanceOfSatisfying(OpenSearchObservationContext.class, context -> {
+            assertThat(context.getName()).isEqualTo("spring.data.opensearch.request");
+            assertThat(context.getLowCardinalityKeyValues()).containsExactlyInAnyOrder( //
+                    KeyValue.of("opensearch.operation", "bulk"), //
+                    KeyValue.of("opensearch.index", "foo"), //
+                    KeyValue.of("outcome", "PARTIAL_FAILURE"));
+            assertThat(context.getHighCardinalityKeyValue("opensearch.index.name").getValue()).isEqualTo("foo-000001");
+            assertThat(context.getHighCardinalityKeyValue("opensearch.took").getValue()).isEqualTo("5");
+            assertThat(context.getHighCardinalityKeyValue("opensearch.bulk.failures").getValue()).isEqualTo("1");
+            assertThat(context.getHighCardinalityKeyValue("opensearch.client.overhead")).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("should record the took, client overhead, hits and bulk failures as meters tagged with the alias")
+    void shouldRecordMeters() throws IOException {
+
+        var request = BulkRequest.of(b -> b.index("logs-2024.05.01").operations(o -> o.delete(d -> d.id("1"))));
+        var response = BulkResponse.of(b -> b.errors(true).took(5).items(BulkResponseItem.of(i -> i
+                .operationType(OperationType.Delete).index("logs-2024.05.01").id("1").status(429)
+                .error(ErrorCause.of(e -> e.type("es_rejected_execution_exception").reason("rejected"))))));
+        when(delegate.performRequest(eq(request), any(), any())).thenReturn(response);
+
+        transport.performRequest(request, BulkRequest._ENDPOINT, null);
+
+        var took = meterRegistry.get("spring.data.opensearch.request.took").tag("opensearch.operation", "bulk")
+                .tag("opensearch.index", "logs").tag("outcome", "PARTIAL_FAILURE").timer();
+        assertThat(took.count()).isEqualTo(1);
+        assertThat(took.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+        assertThat(meterRegistry.get("spring.data.opensearch.request.client.overhead").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("spring.data.opensearch.request.bulk.failures").summary().totalAmount())
+                .isEqualTo(1);
+        assertThat(meterRegistry.find("spring.data.opensearch.request.hits").meter()).isNull();
+    }
+
+    @Test
+    @DisplayName("should tag the index alias instead of dated or rolled over index names")
+    void shouldTagIndexAlias() {
+
+        var convention = DefaultOpenSearchObservationConvention.INSTANCE;
+
+        assertThat(convention.indexAlias("products")).isEqualTo("products");
+        assertThat(convention.indexAlias("products-000042")).isEqualTo("products");
+        assertThat(convention.indexAlias("logs-2024.05.01")).isEqualTo("logs");
+        assertThat(convention.indexAlias("logs_2024-05")).isEqualTo("logs");
+        assertThat(convention.indexAlias("foo,bar")).isEqualTo("multiple");
+        assertThat(convention.indexAlias("2024")).isEqualTo("2024");
+        assertThat(convention.indexAlias(null)).isEqualTo("none");
+    }
+
+    @Test
+    @DisplayName("should observe a failed asynchronous request")
+    void shouldObserveFailedAsyncRequest() {
+
+        var request = SearchRequest.of(b -> b);
+        var failure = new IllegalStateException("failed");
+        when(delegate.performRequestAsync(eq(request), any(), any())).thenReturn(CompletableFuture.failedFuture(failure));
+
+        assertThat(transport.performRequestAsync(request, SearchRequest._ENDPOINT, null)).isCompletedExceptionally();
+
+        assertThat(observed).singleElement().satisfies(context -> {
+            assertThat(context.getError()).isSameAs(failure);
+            assertThat(context.getLowCardinalityKeyValues()).containsExactlyInAnyOrder( //
+                    KeyValue.of("opensearch.operation", "search"), //
+                    KeyValue.of("opensearch.index", "none"), //
+                    KeyValue.of("outcome", "FAILURE"));
+        });
+    }
+
+    @Test
+    @DisplayName("should derive the operation from the request type and the index from the path")
+    void shouldDeriveOperationAndIndex() {
+
+        assertThat(ObservingOpenSearchTransport.operationName(DeleteByQueryRequest.class)).isEqualTo("delete_by_query");
+        assertThat(ObservingOpenSearchTransport.index("/foo%2Cbar/_search")).isEqualTo("foo,bar");
+        assertThat(ObservingOpenSearchTransport.index("/_mget")).isNull();
+    }
+}
@@ -0,0 +1,866 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.ErrorCause;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.Result;
+import org.opensearch.client.opensearch.cluster.OpenSearchClusterClient;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.CountRequest;
+import org.opensearch.client.opensearch.core.CountResponse;
+import org.opensearch.client.opensearch.core.CreatePitRequest;
+import org.opensearch.client.opensearch.core.CreatePitResponse;
+import org.opensearch.client.opensearch.core.DeleteByQueryRequest;
+import org.opensearch.client.opensearch.core.DeleteByQueryResponse;
+import org.opensearch.client.opensearch.core.DeletePitRequest;
+import org.opensearch.client.opensearch.core.DeletePitResponse;
+import org.opensearch.client.opensearch.core.GetRequest;
+import org.opensearch.client.opensearch.core.GetResponse;
+import org.opensearch.client.opensearch.core.IndexRequest;
+import org.opensearch.client.opensearch.core.IndexResponse;
+import org.opensearch.client.opensearch.core.MgetRequest;
+import org.opensearch.client.opensearch.core.MgetResponse;
+import org.opensearch.client.opensearch.core.MsearchRequest;
+import org.opensearch.client.opensearch.core.MsearchResponse;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.opensearch.client.opensearch.core.mget.MultiGetOperation;
+import org.opensearch.client.opensearch.core.mget.MultiGetResponseItem;
+import org.opensearch.client.opensearch.core.msearch.MultiSearchResponseItem;
+import org.opensearch.client.opensearch.core.msearch.RequestItem;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.core.search.TotalHitsRelation;
+import org.opensearch.client.opensearch.indices.OpenSearchIndicesClient;
+import org.opensearch.client.opensearch.indices.RefreshRequest;
+import org.opensearch.client.opensearch.indices.RefreshResponse;
+import org.opensearch.client.transport.JsonEndpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.event.AfterConvertCallback;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.BaseQuery;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.lang.Nullable;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchTemplateUnitTests {
+
+    private static final IndexCoordinates INDEX = IndexCoordinates.of("foo");
+
+    @Mock private OpenSearchClient client;
+    @Mock private OpenSearchTransport transport;
+
+    private OpenSearchTemplate template;
+    private final CompletableFuture<String> closingThread = new CompletableFuture<>();
+
+    @BeforeEach
+    void setUp() {
+        doReturn(transport).when(client)._transport();
+        doReturn(new JacksonJsonpMapper()).when(transport).jsonpMapper();
+
+        MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+                new SimpleElasticsearchMappingContext());
+        converter.afterPropertiesSet();
+        template = new OpenSearchTemplate(client, converter);
+    }
+
+    @Test
+    @DisplayName("should resend only rejected bulk items and merge the results in the original order")
+    void shouldResendOnlyRejectedBulkItems() throws IOException {
+
+        when(client.bulk(any(BulkRequest.class))) //
+                .thenAnswer(invocation -> response(invocation.getArgument(0), id -> !"0".equals(id))) //
+                .thenAnswer(invocation -> response(invocation.getArgument(0), "2"::equals)) //
+                .thenAnswer(invocation -> response(invocation.getArgument(0), id -> false));
+        template.setBulkRetryPolicy(BulkRetryPolicy.builder().withInitialBackoff(Duration.ZERO).build());
+
+        List<IndexedObjectInformation> result = template.bulkIndex(indexQueries(3), INDEX);
+
+        assertThat(result).extracting(IndexedObjectInformation::id).containsExactly("0", "1", "2");
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(3)).bulk(captor.capture());
+        assertThat(captor.getAllValues()).extracting(request -> request.operations().size()).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    @DisplayName("should only report permanently rejected bulk items")
+    void shouldOnlyReportPermanentlyRejectedBulkItems() throws IOException {
+
+        when(client.bulk(any(BulkRequest.class)))
+                .thenAnswer(invocation -> response(invocation.getArgument(0), "1"::equals));
+        template.setBulkRetryPolicy(
+                BulkRetryPolicy.builder().withMaxRetries(2).withInitialBackoff(Duration.ZERO).build());
+
+        assertThatThrownBy(() -> template.bulkIndex(indexQueries(3), INDEX)) //
+                .isInstanceOf(BulkFailureException.class) //
+                .satisfies(e -> assertThat(((BulkFailureException) e).getFailedDocuments()).containsOnlyKeys("1"));
+        verify(client, times(3)).bulk(any(BulkRequest.class));
+    }
+
+    @Test
+    @DisplayName("should not retry bulk items without a retry policy")
+    void shouldNotRetryWithoutRetryPolicy() throws IOException {
+
+        when(client.bulk(any(BulkRequest.class)))
+                .thenAnswer(invocation -> response(invocation.getArgument(0), "1"::equals));
+
+        assertThatThrownBy(() -> template.bulkIndex(indexQueries(3), INDEX))
+                .isInstanceOf(BulkFailureException.class);
+        verify(client, times(1)).bulk(any(BulkRequest.class));
+    }
+
+    @Test
+    @DisplayName("should read search hits directly into the entity like the converter does")
+    void shouldReadSearchHitsDirectly() throws IOException {
+
+        when(client.search(any(SearchRequest.class), eq(EntityAsMap.class)))
+                .thenAnswer(invocation -> searchResponse(JsonpDeserializer.of(EntityAsMap.class)));
+        when(transport.performRequest(any(SearchRequest.class), any(), any())).thenAnswer(invocation -> {
+            JsonEndpoint<?, ?, ?> endpoint = invocation.getArgument(1);
+            return parse(SEARCH_RESPONSE, endpoint.responseDeserializer());
+        });
+        var query = template.matchAllQuery();
+
+        SearchHits<DirectEntity> converted = template.search(query, DirectEntity.class, INDEX);
+        template.setDirectEntityReads(true);
+        SearchHits<DirectEntity> direct = template.search(query, DirectEntity.class, INDEX);
+
+        verify(transport).performRequest(any(SearchRequest.class), any(), any());
+        assertThat(direct.getTotalHits()).isEqualTo(converted.getTotalHits());
+        assertThat(direct.getSearchHits()).extracting(SearchHit::getScore)
+                .containsExactlyElementsOf(converted.getSearchHits().stream().map(SearchHit::getScore).toList());
+        assertThat(direct.getSearchHits()).extracting(SearchHit::getContent).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(converted.getSearchHits().stream().map(SearchHit::getContent).toList());
+        DirectEntity first = direct.getSearchHit(0).getContent();
+        assertThat(first.id).isEqualTo("1");
+        assertThat(first.text).isEqualTo("first");
+        assertThat(first.count).isEqualTo(42);
+        assertThat(first.ratio).isEqualTo(0.5);
+        assertThat(first.tags).containsExactly("a", "b");
+        assertThat(first.color).isEqualTo(Color.GREEN);
+        assertThat(first.version).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("should pass the directly read entity as document to after convert callbacks")
+    void shouldPassDirectlyReadEntityToAfterConvertCallbacks() throws IOException {
+
+        when(transport.performRequest(any(SearchRequest.class), any(), any())).thenAnswer(invocation -> {
+            JsonEndpoint<?, ?, ?> endpoint = invocation.getArgument(1);
+            return parse(SEARCH_RESPONSE, endpoint.responseDeserializer());
+        });
+        List<org.springframework.data.elasticsearch.core.document.Document> documents = new ArrayList<>();
+        template.setEntityCallbacks(EntityCallbacks.create(new AfterConvertCallback<DirectEntity>() {
+            @Override
+            public DirectEntity onAfterConvert(DirectEntity entity,
+                    org.springframework.data.elasticsearch.core.document.Document document, IndexCoordinates index) {
+                documents.add(document);
+                return entity;
+            }
+        }));
+        template.setDirectEntityReads(true);
+
+        template.search(template.matchAllQuery(), DirectEntity.class, INDEX);
+
+        assertThat(documents).hasSize(2);
+        assertThat(documents.get(0).getId()).isEqualTo("1");
+        assertThat(documents.get(0).getVersion()).isEqualTo(3L);
+        assertThat(documents.get(0)).containsEntry("text", "first").containsEntry("count-field", 42);
+        assertThat(documents.get(1)).containsEntry("text", "second").containsEntry("count-field", 7);
+    }
+
+    @Test
+    @DisplayName("should only write the directly read entity to a document when a callback accesses its content")
+    void shouldWriteDirectlyReadEntityToDocumentLazily() throws IOException {
+
+        when(transport.performRequest(any(SearchRequest.class), any(), any())).thenAnswer(invocation -> {
+            JsonEndpoint<?, ?, ?> endpoint = invocation.getArgument(1);
+            return parse(SEARCH_RESPONSE, endpoint.responseDeserializer());
+        });
+        ElasticsearchConverter converter = spy(template.getElasticsearchConverter());
+        template = new OpenSearchTemplate(client, converter);
+        List<String> ids = new ArrayList<>();
+        template.setEntityCallbacks(EntityCallbacks.create(new AfterConvertCallback<DirectEntity>() {
+            @Override
+            public DirectEntity onAfterConvert(DirectEntity entity,
+                    org.springframework.data.elasticsearch.core.document.Document document, IndexCoordinates index) {
+                ids.add(document.getId());
+                if ("2".equals(document.getId())) {
+                    assertThat(document.get("text")).isEqualTo("second");
+                }
+                return entity;
+            }
+        }));
+        template.setDirectEntityReads(true);
+
+        template.search(template.matchAllQuery(), DirectEntity.class, INDEX);
+
+        assertThat(ids).containsExactly("1", "2");
+        verify(converter, times(1)).mapObject(any());
+    }
+
+    @Test
+    @DisplayName("should not send a direct search for an entity with subtypes in the mapping context")
+    void shouldNotReadEntitiesWithMappedSubtypesDirectly() throws IOException {
+
+        when(client.search(any(SearchRequest.class), eq(EntityAsMap.class)))
+                .thenAnswer(invocation -> searchResponse(JsonpDeserializer.of(EntityAsMap.class)));
+        template.getElasticsearchConverter().getMappingContext().getRequiredPersistentEntity(SubDirectEntity.class);
+        template.setDirectEntityReads(true);
+
+        assertThat(template.search(template.matchAllQuery(), DirectEntity.class, INDEX)).hasSize(2);
+
+        assertThat(DirectEntityReader.of(DirectEntity.class, template.getElasticsearchConverter())).isNull();
+        verify(transport, never()).performRequest(any(SearchRequest.class), any(), any());
+        verify(client, times(1)).search(any(SearchRequest.class), eq(EntityAsMap.class));
+    }
+
+    @Test
+    @DisplayName("should read hits with the type hint of a class that is no subtype directly like the converter does")
+    void shouldReadHitsOfUnrelatedTypeHintDirectly() throws IOException {
+
+        String response = SEARCH_RESPONSE.replace(DirectEntity.class.getName(), "com.example.Unknown");
+        when(transport.performRequest(any(SearchRequest.class), any(), any())).thenAnswer(invocation -> {
+            JsonEndpoint<?, ?, ?> endpoint = invocation.getArgument(1);
+            return parse(response, endpoint.responseDeserializer());
+        });
+        template.setDirectEntityReads(true);
+
+        SearchHits<DirectEntity> hits = template.search(template.matchAllQuery(), DirectEntity.class, INDEX);
+
+        assertThat(hits.getSearchHit(0).getContent()).isExactlyInstanceOf(DirectEntity.class);
+        assertThat(hits.getSearchHit(0).getContent().text).isEqualTo("first");
+        verify(client, never()).search(any(SearchRequest.class), eq(EntityAsMap.class));
+    }
+
+    @Test
+    @DisplayName("should read hits with the type hint of a subclass with the converter")
+    void shouldReadHitsOfSubclassWithConverter() throws IOException {
+
+        String response = SEARCH_RESPONSE.replace("$DirectEntity\"", "$SubDirectEntity\"");
+        when(client.search(any(SearchRequest.class), eq(EntityAsMap.class)))
+                .thenAnswer(invocation -> parse(response,
+                        SearchResponse.createSearchResponseDeserializer(JsonpDeserializer.of(EntityAsMap.class))));
+        when(transport.performRequest(any(SearchRequest.class), any(), any())).thenAnswer(invocation -> {
+            JsonEndpoint<?, ?, ?> endpoint = invocation.getArgument(1);
+            return parse(response, endpoint.responseDeserializer());
+        });
+        template.setDirectEntityReads(true);
+
+        SearchHits<DirectEntity> first = template.search(template.matchAllQuery(), DirectEntity.class, INDEX);
+        SearchHits<DirectEntity> second = template.search(template.matchAllQuery(), DirectEntity.class, INDEX);
+
+        assertThat(first.getSearchHit(0).getContent()).isInstanceOf(SubDirectEntity.class);
+        assertThat(first.getSearchHit(0).getContent().text).isEqualTo("first");
+        assertThat(first.getSearchHit(1).getContent().text).isEqualTo("second");
+        assertThat(second.getSearchHit(0).getContent()).isInstanceOf(SubDirectEntity.class);
+        verify(transport, times(1)).performRequest(any(SearchRequest.class), any(), any());
+        verify(client, times(2)).search(any(SearchRequest.class), eq(EntityAsMap.class));
+    }
+
+    @Test
+    @DisplayName("should return the sources of raw search hits as the JSON of the response")
+    void shouldReturnRawSearchHits() throws IOException {
+
+        when(transport.performRequest(any(SearchRequest.class), any(), any())).thenAnswer(invocation -> {
+            JsonEndpoint<?, ?, ?> endpoint = invocation.getArgument(1);
+            return parse(SEARCH_RESPONSE, endpoint.responseDeserializer());
+        });
+
+        List<RawSearchHit> hits = template.searchRaw(template.matchAllQuery(), DirectEntity.class, INDEX);
+
+        assertThat(hits).hasSize(2);
+        RawSearchHit first = hits.get(0);
+        assertThat(first.getIndex()).isEqualTo("foo");
+        assertThat(first.getId()).isEqualTo("1");
+        assertThat(first.getVersion()).isEqualTo(3L);
+        assertThat(first.getScore()).isEqualTo(1.0f);
+        assertThat(first.getSourceAsString()).isEqualTo("{\"_class\":"
+                + "\"org.opensearch.data.client.osc.OpenSearchTemplateUnitTests$DirectEntity\",\"text\":\"first\","
+                + "\"count-field\":42,\"ratio\":0.5,\"tags\":[\"a\",\"b\"],\"color\":\"GREEN\","
+                + "\"unknown\":{\"nested\":[1,2]}}");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        hits.get(1).writeSourceTo(out);
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"text\":\"second\",\"count-field\":\"7\",\"tags\":\"c\"}");
+        assertThat(hits.get(1).getSource().remaining()).isEqualTo(hits.get(1).getSourceLength()).isEqualTo(out.size());
+    }
+
+    @Test
+    @DisplayName("should not read entities directly that need the converter")
+    void shouldNotReadEntitiesDirectlyThatNeedTheConverter() {
+
+        assertThat(DirectEntityReader.of(DirectEntity.class, template.getElasticsearchConverter())).isNotNull();
+        assertThat(DirectEntityReader.of(NestedEntity.class, template.getElasticsearchConverter())).isNull();
+    }
+
+    @Test
+    @DisplayName("should fail an unpaged search that returns more hits than the limit")
+    void shouldFailUnpagedSearchAboveLimit() throws IOException {
+
+        when(client.search(any(SearchRequest.class), eq(EntityAsMap.class)))
+                .thenAnswer(invocation -> searchResponse(JsonpDeserializer.of(EntityAsMap.class)));
+
+        var query = new StringQuery("{\"match_all\":{}}", Pageable.unpaged());
+
+        template.setUnpagedSearchLimit(2);
+        assertThat(template.search(query, DirectEntity.class, INDEX)).hasSize(2);
+
+        template.setUnpagedSearchLimit(1);
+        assertThatThrownBy(() -> template.search(query, DirectEntity.class, INDEX))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class);
+
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(2)).search(captor.capture(), eq(EntityAsMap.class));
+        assertThat(captor.getAllValues()).extracting(SearchRequest::size).containsExactly(3, 2);
+    }
+
+    @Test
+    @DisplayName("should fail an unpaged raw search that returns more hits than the limit")
+    void shouldFailUnpagedRawSearchAboveLimit() throws IOException {
+
+        when(transport.performRequest(any(SearchRequest.class), any(), any())).thenAnswer(invocation -> {
+            JsonEndpoint<?, ?, ?> endpoint = invocation.getArgument(1);
+            return parse(SEARCH_RESPONSE, endpoint.responseDeserializer());
+        });
+
+        var query = new StringQuery("{\"match_all\":{}}", Pageable.unpaged());
+
+        template.setUnpagedSearchLimit(2);
+        assertThat(template.searchRaw(query, DirectEntity.class, INDEX)).hasSize(2);
+
+        template.setUnpagedSearchLimit(1);
+        assertThatThrownBy(() -> template.searchRaw(query, DirectEntity.class, INDEX))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class);
+
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(transport, times(2)).performRequest(captor.capture(), any(), any());
+        assertThat(captor.getAllValues()).extracting(SearchRequest::size).containsExactly(3, 2);
+    }
+
+    @Test
+    @DisplayName("should stream all pages of a point in time and close it at the end")
+    void shouldStreamAllPagesOfPointInTime() throws IOException {
+
+        mockPointInTime(3);
+        var options = PointInTimeScanOptions.builder().withPageSize(1).withPrefetch(2).build();
+
+        List<String> ids;
+        try (Stream<SearchHit<DirectEntity>> stream = template
+                .searchForStreamWithPointInTime(template.matchAllQuery(), DirectEntity.class, INDEX, options).stream()) {
+            ids = stream.map(SearchHit::getId).toList();
+        }
+
+        assertThat(ids).containsExactly("0", "1", "2");
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(4)).search(captor.capture(), eq(EntityAsMap.class));
+        assertThat(captor.getAllValues()).allSatisfy(request -> {
+            assertThat(request.pit().id()).isEqualTo("pit");
+            assertThat(request.size()).isEqualTo(1);
+        });
+        verify(client).deletePit(any(DeletePitRequest.class));
+    }
+
+    @Test
+    @DisplayName("should close the point in time when the stream is closed early")
+    void shouldClosePointInTimeWhenStreamIsClosedEarly() throws IOException {
+
+        mockPointInTime(3);
+        var options = PointInTimeScanOptions.builder().withPageSize(1).build();
+
+        try (Stream<SearchHit<DirectEntity>> stream = template
+                .searchForStreamWithPointInTime(template.matchAllQuery(), DirectEntity.class, INDEX, options).stream()) {
+            assertThat(stream.findFirst()).map(SearchHit::getId).contains("0");
+        }
+
+        verify(client, times(1)).search(any(SearchRequest.class), eq(EntityAsMap.class));
+        verify(client).deletePit(any(DeletePitRequest.class));
+    }
+
+    @Test
+    @DisplayName("should stream at most the maximum results of a point in time without changing the query")
+    void shouldStreamMaxResultsOfPointInTimeWithoutChangingQuery() throws IOException {
+
+        mockPointInTime(5);
+        var options = PointInTimeScanOptions.builder().withPageSize(10).withPrefetch(1).build();
+        var query = (BaseQuery) template.matchAllQuery();
+        query.setMaxResults(2);
+
+        List<String> ids;
+        try (Stream<SearchHit<DirectEntity>> stream = template
+                .searchForStreamWithPointInTime(query, DirectEntity.class, INDEX, options).stream()) {
+            ids = stream.map(SearchHit::getId).toList();
+        }
+
+        assertThat(ids).containsExactly("0", "1");
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(2)).search(captor.capture(), eq(EntityAsMap.class));
+        assertThat(captor.getAllValues()).extracting(SearchRequest::size).containsOnly(2);
+        assertThat(query.getPointInTime()).isNull();
+        assertThat(query.getSort()).isEqualTo(Sort.unsorted());
+        assertThat(query.getSearchAfter()).isNull();
+        verify(client).deletePit(any(DeletePitRequest.class));
+    }
+
+    @Test
+    @DisplayName("should read the pages of a point in time on the consuming thread after the template is destroyed")
+    void shouldReadPagesOfPointInTimeAfterDestroy() throws IOException {
+
+        mockPointInTime(3);
+        var options = PointInTimeScanOptions.builder().withPageSize(1).withPrefetch(2).build();
+        template.destroy();
+
+        List<String> ids;
+        try (Stream<SearchHit<DirectEntity>> stream = template
+                .searchForStreamWithPointInTime(template.matchAllQuery(), DirectEntity.class, INDEX, options).stream()) {
+            ids = stream.map(SearchHit::getId).toList();
+        }
+
+        assertThat(ids).containsExactly("0", "1", "2");
+        verify(client, times(4)).search(any(SearchRequest.class), eq(EntityAsMap.class));
+        verify(client).deletePit(any(DeletePitRequest.class));
+    }
+
+    @Test
+    @DisplayName("should close the point in time of a garbage collected scan off the cleaner thread")
+    void shouldClosePointInTimeOfGarbageCollectedScanAsynchronously() throws Exception {
+
+        mockPointInTime(3);
+        openPointInTimeScan();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!closingThread.isDone() && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(closingThread.get(1, TimeUnit.SECONDS)).startsWith("opensearch-pit-");
+    }
+
+    private void openPointInTimeScan() {
+
+        var options = PointInTimeScanOptions.builder().withPageSize(1).withPrefetch(0).build();
+        assertThat(template.searchForStreamWithPointInTime(template.matchAllQuery(), DirectEntity.class, INDEX, options)
+                .hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should not refer to the optional Micrometer Observation in the signatures of the templates")
+    void shouldNotReferToMicrometerInTemplateSignatures() {
+
+        for (Class<?> templateClass : List.of(OpenSearchTemplate.class, ReactiveOpenSearchTemplate.class)) {
+            Stream<Class<?>> types = Stream.concat(
+                    Arrays.stream(templateClass.getDeclaredFields()).map(java.lang.reflect.Field::getType),
+                    Arrays.stream(templateClass.getDeclaredMethods())
+                            .flatMap(method -> Stream.concat(Stream.of(method.getReturnType()),
+                                    Arrays.stream(method.getParameterTypes()))));
+
+            assertThat(types).extracting(Class::getName).noneMatch(name -> name.startsWith("io.micrometer."));
+        }
+    }
+
+    @Test
+    @DisplayName("should reject a point in time scan of a query with an offset")
+    void shouldRejectPointInTimeScanWithOffset() throws IOException {
+
+        var query = template.matchAllQuery();
+        query.setPageable(Pageable.ofSize(10).withPage(1));
+
+        assertThatThrownBy(() -> template.searchForStreamWithPointInTime(query, DirectEntity.class, INDEX))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(client, never()).createPit(any(CreatePitRequest.class));
+    }
+
+    @Test
+    @DisplayName("should coalesce concurrent gets into one mget request and get failed documents on their own")
+    void shouldCoalesceConcurrentGets() throws Exception {
+
+        when(client.mget(any(MgetRequest.class), eq(EntityAsMap.class)))
+                .thenAnswer(invocation -> mgetResponse(invocation.getArgument(0), "3"::equals));
+        when(client.get(any(GetRequest.class), eq(EntityAsMap.class))).thenReturn(
+                GetResponse.of(b -> b.index(INDEX.getIndexName()).id("3").found(true).source(source("3"))));
+        template.setGetCoalescingOptions(
+                CoalescingOptions.builder().withMaxBatchSize(3).withWindow(Duration.ofMinutes(1)).build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<DirectEntity>> results = Stream.of("1", "2", "3")
+                    .map(id -> executor.submit(() -> template.get(id, DirectEntity.class, INDEX))).toList();
+
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get(10, TimeUnit.SECONDS).text).isEqualTo("text-" + (i + 1));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ArgumentCaptor<MgetRequest> captor = ArgumentCaptor.forClass(MgetRequest.class);
+        verify(client).mget(captor.capture(), eq(EntityAsMap.class));
+        assertThat(captor.getValue().docs()).extracting(MultiGetOperation::id).containsExactlyInAnyOrder("1", "2", "3");
+        verify(client).get(any(GetRequest.class), eq(EntityAsMap.class));
+    }
+
+    @Test
+    @DisplayName("should coalesce concurrent searches into one msearch request and search failed items on their own")
+    void shouldCoalesceConcurrentSearches() throws Exception {
+
+        when(client.msearch(any(MsearchRequest.class), eq(EntityAsMap.class)))
+                .thenAnswer(invocation -> msearchResponse(invocation.getArgument(0), "3"::equals));
+        when(client.search(any(SearchRequest.class), eq(EntityAsMap.class))).thenReturn(searchResponse("3"));
+        template.setSearchCoalescingOptions(CoalescingOptions.builder().withWindow(Duration.ofSeconds(1)).build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<String> ids = List.of("1", "2", "3", "1");
+            List<Future<SearchHits<DirectEntity>>> results = ids.stream()
+                    .map(id -> executor.submit(() -> template.search(termQuery(id), DirectEntity.class, INDEX)))
+                    .toList();
+
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get(10, TimeUnit.SECONDS).getSearchHit(0).getContent().text)
+                        .isEqualTo("text-" + ids.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ArgumentCaptor<MsearchRequest> captor = ArgumentCaptor.forClass(MsearchRequest.class);
+        verify(client).msearch(captor.capture(), eq(EntityAsMap.class));
+        assertThat(captor.getValue().searches()).extracting(OpenSearchTemplateUnitTests::termValue)
+                .containsExactlyInAnyOrder("1", "2", "3");
+        verify(client).search(any(SearchRequest.class), eq(EntityAsMap.class));
+    }
+
+    @Test
+    @DisplayName("should read cached documents of near cached entities until they are written")
+    void shouldReadNearCachedDocumentsUntilWritten() throws IOException {
+
+        when(client.get(any(GetRequest.class), eq(EntityAsMap.class))).thenReturn(GetResponse
+                .of(b -> b.index(INDEX.getIndexName()).id("1").found(true).seqNo(1L).primaryTerm(1L).source(source("1"))));
+        when(client.index(any(IndexRequest.class))).thenReturn(IndexResponse.of(b -> b.index(INDEX.getIndexName())
+                .id("1").seqNo(2).primaryTerm(1).version(2).result(Result.Updated)
+                .shards(sh -> sh.total(1).successful(1).failed(0))));
+        when(client.mget(any(MgetRequest.class), eq(EntityAsMap.class)))
+                .thenAnswer(invocation -> mgetResponse(invocation.getArgument(0), id -> false));
+
+        assertThat(template.get("1", CachedEntity.class, INDEX).text).isEqualTo("text-1");
+        assertThat(template.get("1", CachedEntity.class, INDEX).text).isEqualTo("text-1");
+        verify(client).get(any(GetRequest.class), eq(EntityAsMap.class));
+
+        List<MultiGetItem<CachedEntity>> items = template.multiGet(
+                StringQuery.builder("{\"match_all\":{}}").withIds("1", "2").build(), CachedEntity.class, INDEX);
+        assertThat(items).extracting(item -> item.getItem().text).containsExactly("text-1", "text-2");
+        ArgumentCaptor<MgetRequest> captor = ArgumentCaptor.forClass(MgetRequest.class);
+        verify(client).mget(captor.capture(), eq(EntityAsMap.class));
+        assertThat(captor.getValue().docs()).extracting(MultiGetOperation::id).containsExactly("2");
+
+        template.index(new IndexQueryBuilder().withId("1").withSource("{\"text\":\"changed\"}").build(), INDEX);
+        template.get("1", CachedEntity.class, INDEX);
+
+        verify(client, times(2)).get(any(GetRequest.class), eq(EntityAsMap.class));
+    }
+
+    @Test
+    @DisplayName("should keep near cached documents on a refresh and evict those of an index written by query")
+    void shouldEvictNearCachedDocumentsOfIndexWrittenByQuery() throws IOException {
+
+        IndexCoordinates other = IndexCoordinates.of("bar");
+        when(client.get(any(GetRequest.class), eq(EntityAsMap.class))).thenAnswer(invocation -> {
+            GetRequest request = invocation.getArgument(0);
+            return GetResponse.of(b -> b.index(request.index()).id(request.id()).found(true).seqNo(1L).primaryTerm(1L)
+                    .source(source(request.id())));
+        });
+        OpenSearchIndicesClient indices = mock(OpenSearchIndicesClient.class);
+        OpenSearchClusterClient cluster = mock(OpenSearchClusterClient.class);
+        doReturn(transport).when(indices)._transport();
+        doReturn(transport).when(cluster)._transport();
+        doReturn(indices).when(client).indices();
+        doReturn(cluster).when(client).cluster();
+        when(indices.refresh(any(RefreshRequest.class)))
+                .thenReturn(RefreshResponse.of(b -> b.shards(sh -> sh.total(1).successful(1).failed(0))));
+        when(client.deleteByQuery(any(DeleteByQueryRequest.class)))
+                .thenReturn(DeleteByQueryResponse.of(b -> b.took(1L).timedOut(false).total(1L).deleted(1L)));
+
+        template.get("1", CachedEntity.class, INDEX);
+        template.get("1", CachedEntity.class, other);
+        template.indexOps(INDEX).refresh();
+        template.get("1", CachedEntity.class, INDEX);
+
+        verify(client, times(2)).get(any(GetRequest.class), eq(EntityAsMap.class));
+
+        template.delete(DeleteQuery.builder(template.matchAllQuery()).build(), CachedEntity.class, INDEX);
+        template.get("1", CachedEntity.class, INDEX);
+        template.get("1", CachedEntity.class, other);
+
+        verify(client, times(3)).get(any(GetRequest.class), eq(EntityAsMap.class));
+    }
+
+    @Test
+    @DisplayName("should return cached search responses until the index is written")
+    void shouldReturnCachedSearchResponsesUntilWritten() throws IOException {
+
+        when(client.search(any(SearchRequest.class), eq(EntityAsMap.class))).thenReturn(searchResponse("1"));
+        when(client.index(any(IndexRequest.class))).thenReturn(IndexResponse.of(b -> b.index(INDEX.getIndexName())
+                .id("1").seqNo(2).primaryTerm(1).version(2).result(Result.Updated)
+                .shards(sh -> sh.total(1).successful(1).failed(0))));
+        template.setSearchCacheOptions(SearchCacheOptions.builder().build());
+
+        assertThat(template.search(termQuery("1"), DirectEntity.class, INDEX).getSearchHit(0).getContent().text)
+                .isEqualTo("text-1");
+        assertThat(template.search(termQuery("1"), DirectEntity.class, INDEX).getSearchHit(0).getContent().text)
+                .isEqualTo("text-1");
+        verify(client).search(any(SearchRequest.class), eq(EntityAsMap.class));
+
+        template.index(new IndexQueryBuilder().withId("1").withSource("{\"text\":\"changed\"}").build(), INDEX);
+        template.search(termQuery("1"), DirectEntity.class, INDEX);
+
+        verify(client, times(2)).search(any(SearchRequest.class), eq(EntityAsMap.class));
+    }
+
+    @Test
+    @DisplayName("should count with the count API and with a search when the query has a timeout")
+    void shouldCountWithCountApi() throws IOException {
+
+        when(client.count(any(CountRequest.class))).thenReturn(
+                CountResponse.of(b -> b.count(42).shards(sh -> sh.total(1).successful(1).failed(0))));
+        when(client.search(any(SearchRequest.class), eq(EntityAsMap.class))).thenReturn(SearchResponse
+                .searchResponseOf(b -> b.took(1).timedOut(false).shards(sh -> sh.total(1).successful(1).failed(0))
+                        .hits(h -> h.total(t -> t.value(7).relation(TotalHitsRelation.Eq)).hits(List.of()))));
+
+        NativeQuery query = termQuery("1");
+        assertThat(template.count(query, DirectEntity.class, INDEX)).isEqualTo(42);
+        verify(client, never()).search(any(SearchRequest.class), eq(EntityAsMap.class));
+
+        query.setTimeout(Duration.ofSeconds(1));
+        assertThat(template.count(query, DirectEntity.class, INDEX)).isEqualTo(7);
+
+        verify(client).count(any(CountRequest.class));
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(captor.capture(), eq(EntityAsMap.class));
+        assertThat(captor.getValue().timeout()).isEqualTo("1000ms");
+    }
+
+    private void mockPointInTime(int pages) throws IOException {
+
+        when(client.createPit(any(CreatePitRequest.class)))
+                .thenReturn(CreatePitResponse.of(b -> b.pitId("pit").creationTime(1L)));
+        when(client.search(any(SearchRequest.class), eq(EntityAsMap.class))).thenAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            int page = request.searchAfter().isEmpty() ? 0 : (int) request.searchAfter().get(0).longValue() + 1;
+            List<Hit<EntityAsMap>> hits = page < pages ? List.of(Hit.of(h -> h.index(INDEX.getIndexName())
+                    .id(String.valueOf(page)).source(new EntityAsMap()).sort(FieldValue.of(page)))) : List.of();
+            return SearchResponse.<EntityAsMap>searchResponseOf(b -> b.took(1).timedOut(false)
+                    .shards(sh -> sh.total(1).successful(1).failed(0)).hits(h -> h.hits(hits)));
+        });
+        when(client.deletePit(any(DeletePitRequest.class))).thenAnswer(invocation -> {
+            closingThread.complete(Thread.currentThread().getName());
+            return DeletePitResponse.of(b -> b.pits(List.of()));
+        });
+    }
+
+    private static final String SEARCH_RESPONSE = """
+            {
+              "took": 1,
+              "timed_out": false,
+              "_shards": { "total": 1, "successful": 1, "skipped": 0, "failed": 0 },
+              "hits": {
+                "total": { "value": 2, "relation": "eq" },
+                "max_score": 1.0,
+                "hits": [
+                  {
+                    "_index": "foo", "_id": "1", "_version": 3, "_score": 1.0,
+                    "_source": {
+                      "_class": "org.opensearch.data.client.osc.OpenSearchTemplateUnitTests$DirectEntity",
+                      "text": "first", "count-field": 42, "ratio": 0.5, "tags": ["a", "b"], "color": "GREEN",
+                      "unknown": { "nested": [1, 2] }
+                    }
+                  },
+                  {
+                    "_index": "foo", "_id": "2", "_version": 1, "_score": 0.5,
+                    "_source": { "text": "second", "count-field": "7", "tags": "c" }
+                  }
+                ]
+              }
+            }
+            """;
+
+    private static <T> SearchResponse<T> searchResponse(JsonpDeserializer<T> documentDeserializer) {
+        return parse(SEARCH_RESPONSE, SearchResponse.createSearchResponseDeserializer(documentDeserializer));
+    }
+
+    private static <T> T parse(String json, JsonpDeserializer<T> deserializer) {
+
+        var mapper = new JacksonJsonpMapper();
+        try (var parser = mapper.jsonProvider().createParser(new StringReader(json))) {
+            return deserializer.deserialize(parser, mapper);
+        }
+    }
+
+    private static List<IndexQuery> indexQueries(int count) {
+        return IntStream.range(0, count) //
+                .mapToObj(i -> new IndexQueryBuilder().withId(String.valueOf(i))
+                        .withSource("{\"text\":\"text-" + i + "\"}").build()) //
+                .toList();
+    }
+
+    private static BulkResponse response(BulkRequest request, Predicate<String> rejected) {
+
+        List<BulkResponseItem> items = request.operations().stream().map(operation -> {
+            String id = operation.index().id();
+            return BulkResponseItem.of(b -> {
+                b.operationType(OperationType.Index).index(INDEX.getIndexName()).id(id);
+                if (rejected.test(id)) {
+                    return b.status(429).error(ErrorCause.of(e -> e.type("es_rejected_execution_exception").reason("rejected")));
+                }
+                return b.status(201).seqNo(1L).primaryTerm(1L).version(1L);
+            });
+        }).toList();
+        return BulkResponse.of(b -> b.errors(items.stream().anyMatch(item -> item.error() != null)).took(1).items(items));
+    }
+
+    private static MgetResponse<EntityAsMap> mgetResponse(MgetRequest request, Predicate<String> failed) {
+        List<MultiGetResponseItem<EntityAsMap>> items = request.docs().stream()
+                .map(doc -> MultiGetResponseItem.<EntityAsMap> of(b -> failed.test(doc.id())
+                        ? b.failure(f -> f.index(doc.index()).id(doc.id())
+                                .error(e -> e.type("index_not_found_exception").reason("failed")))
+                        : b.result(r -> r.index(doc.index()).id(doc.id()).found(true).seqNo(1L).primaryTerm(1L)
+                                .source(source(doc.id())))))
+                .toList();
+        return MgetResponse.of(b -> b.docs(items));
+    }
+
+    private static NativeQuery termQuery(String value) {
+        return NativeQuery.builder().withQuery(q -> q.term(t -> t.field("text").value(FieldValue.of(value)))).build();
+    }
+
+    private static String termValue(RequestItem item) {
+        return item.body().query().term().value().stringValue();
+    }
+
+    private static MsearchResponse<EntityAsMap> msearchResponse(MsearchRequest request, Predicate<String> failed) {
+        List<MultiSearchResponseItem<EntityAsMap>> items = request.searches().stream()
+                .map(OpenSearchTemplateUnitTests::termValue)
+                .map(value -> MultiSearchResponseItem.<EntityAsMap> of(b -> failed.test(value)
+                        ? b.failure(f -> f.status(404)
+                                .error(e -> e.type("index_not_found_exception").reason("failed")))
+                        : b.result(r -> r.status(200).took(1).timedOut(false)
+                                .shards(sh -> sh.total(1).successful(1).failed(0))
+                                .hits(h -> h.hits(List.of(hit(value)))))))
+                .toList();
+        return MsearchResponse.of(b -> b.took(1).responses(items));
+    }
+
+    private static SearchResponse<EntityAsMap> searchResponse(String id) {
+        return SearchResponse.searchResponseOf(b -> b.took(1).timedOut(false)
+                .shards(sh -> sh.total(1).successful(1).failed(0)).hits(h -> h.hits(List.of(hit(id)))));
+    }
+
+    private static Hit<EntityAsMap> hit(String id) {
+        return Hit.of(h -> h.index(INDEX.getIndexName()).id(id).source(source(id)));
+    }
+
+    private static EntityAsMap source(String id) {
+        EntityAsMap source = new EntityAsMap();
+        source.put("text", "text-" + id);
+        return source;
+    }
+
+    enum Color {
+        RED, GREEN
+    }
+
+    @Document(indexName = "foo")
+    static class DirectEntity {
+        @Nullable
+        @Id String id;
+        @Nullable
+        @Field(type = FieldType.Text) String text;
+        @Nullable
+        @Field(name = "count-field", type = FieldType.Integer) Integer count;
+        @Field(type = FieldType.Double) double ratio;
+        @Nullable
+        @Field(type = FieldType.Keyword) List<String> tags;
+        @Nullable
+        @Field(type = FieldType.Keyword) Color color;
+        @Nullable
+        @Version Long version;
+    }
+
+    static class SubDirectEntity extends DirectEntity {}
+
+    @NearCache
+    @Document(indexName = "foo")
+    static class CachedEntity {
+        @Nullable
+        @Id String id;
+        @Nullable
+        @Field(type = FieldType.Text) String text;
+    }
+
+    @Document(indexName = "foo")
+    static class NestedEntity {
+        @Nullable
+        @Id String id;
+        @Nullable
+        @Field(type = FieldType.Nested) DirectEntity nested;
+    }
+}
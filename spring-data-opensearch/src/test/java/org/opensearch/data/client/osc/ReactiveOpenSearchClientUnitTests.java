@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.endpoints.BooleanResponse;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOpenSearchClientUnitTests {
+
+    @Mock private OpenSearchTransport transport;
+
+    @Test
+    @DisplayName("should send a request for every subscription and none before")
+    void shouldSendRequestForEverySubscription() {
+
+        doAnswer(invocation -> CompletableFuture.completedFuture(new BooleanResponse(true))).when(transport)
+                .performRequestAsync(any(), any(), any());
+        ReactiveOpenSearchClient client = new ReactiveOpenSearchClient(transport);
+
+        Mono<BooleanResponse> ping = client.ping();
+        verify(transport, never()).performRequestAsync(any(), any(), any());
+
+        StepVerifier.create(ping).expectNextMatches(BooleanResponse::value).verifyComplete();
+        StepVerifier.create(ping).expectNextMatches(BooleanResponse::value).verifyComplete();
+        verify(transport, times(2)).performRequestAsync(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should cancel the request of the transport when the subscription is cancelled")
+    void shouldCancelRequestWhenSubscriptionIsCancelled() {
+
+        CompletableFuture<SearchResponse<EntityAsMap>> future = new CompletableFuture<>();
+        doReturn(future).when(transport).performRequestAsync(any(), any(), any());
+        ReactiveOpenSearchClient client = new ReactiveOpenSearchClient(transport);
+
+        StepVerifier.create(client.search(SearchRequest.of(b -> b.index("foo")), EntityAsMap.class)) //
+                .expectSubscription() //
+                .thenCancel() //
+                .verify();
+
+        assertThat(future).isCancelled();
+    }
+}
@@ -0,0 +1,462 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch._types.ErrorCause;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.Result;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.CreatePitRequest;
+import org.opensearch.client.opensearch.core.CreatePitResponse;
+import org.opensearch.client.opensearch.core.DeletePitRequest;
+import org.opensearch.client.opensearch.core.DeletePitResponse;
+import org.opensearch.client.opensearch.core.DeleteRequest;
+import org.opensearch.client.opensearch.core.DeleteResponse;
+import org.opensearch.client.opensearch.core.GetRequest;
+import org.opensearch.client.opensearch.core.GetResponse;
+import org.opensearch.client.opensearch.core.MgetRequest;
+import org.opensearch.client.opensearch.core.MgetResponse;
+import org.opensearch.client.opensearch.core.MsearchRequest;
+import org.opensearch.client.opensearch.core.MsearchResponse;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.opensearch.client.opensearch.core.mget.MultiGetOperation;
+import org.opensearch.client.opensearch.core.mget.MultiGetResponseItem;
+import org.opensearch.client.opensearch.core.msearch.MultiSearchResponseItem;
+import org.opensearch.client.opensearch.core.msearch.RequestItem;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.lang.Nullable;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOpenSearchTemplateUnitTests {
+
+    private static final IndexCoordinates INDEX = IndexCoordinates.of("foo");
+
+    @Mock private ReactiveOpenSearchClient client;
+    @Mock private OpenSearchTransport transport;
+
+    private ReactiveOpenSearchTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(transport).when(client)._transport();
+        doReturn(new JacksonJsonpMapper()).when(transport).jsonpMapper();
+
+        SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+        MappingElasticsearchConverter converter = new MappingElasticsearchConverter(mappingContext);
+        converter.afterPropertiesSet();
+        template = new ReactiveOpenSearchTemplate(client, converter);
+    }
+
+    @Test
+    @DisplayName("should split a stream of entities into bulk requests by number of actions")
+    void shouldSplitStreamIntoBulkRequestsByNumberOfActions() {
+
+        when(client.bulk(any(BulkRequest.class))).thenAnswer(invocation -> Mono.just(successResponse(invocation.getArgument(0))));
+        var options = StreamingBulkOptions.builder().withMaxActions(2).build();
+
+        template.saveAll(entities(5), INDEX, options) //
+                .map(SampleEntity::getId) //
+                .as(StepVerifier::create) //
+                .expectNext("0", "1", "2", "3", "4") //
+                .verifyComplete();
+
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(3)).bulk(captor.capture());
+        assertThat(captor.getAllValues()).extracting(request -> request.operations().size()).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("should split a stream of entities into bulk requests by estimated size")
+    void shouldSplitStreamIntoBulkRequestsByEstimatedSize() {
+
+        when(client.bulk(any(BulkRequest.class))).thenAnswer(invocation -> Mono.just(successResponse(invocation.getArgument(0))));
+        var options = StreamingBulkOptions.builder().withMaxBytes(1).withMaxConcurrentRequests(2).build();
+
+        template.saveAll(entities(3), INDEX, options) //
+                .map(SampleEntity::getId) //
+                .as(StepVerifier::create) //
+                .expectNext("0", "1", "2") //
+                .verifyComplete();
+
+        verify(client, times(3)).bulk(any(BulkRequest.class));
+    }
+
+    @Test
+    @DisplayName("should resend only rejected bulk items and keep the original order")
+    void shouldResendOnlyRejectedBulkItems() {
+
+        AtomicInteger calls = new AtomicInteger();
+        when(client.bulk(any(BulkRequest.class))).thenAnswer(invocation -> {
+            BulkRequest request = invocation.getArgument(0);
+            return Mono.just(calls.getAndIncrement() == 0 ? response(request, "1"::equals) : successResponse(request));
+        });
+        template.setBulkRetryPolicy(BulkRetryPolicy.builder().withInitialBackoff(Duration.ZERO).build());
+
+        template.saveAll(entities(3).collectList(), INDEX) //
+                .map(SampleEntity::getId) //
+                .as(StepVerifier::create) //
+                .expectNext("0", "1", "2") //
+                .verifyComplete();
+
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(2)).bulk(captor.capture());
+        assertThat(captor.getAllValues().get(1).operations()).extracting(operation -> operation.index().id())
+                .containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("should fail with permanently rejected bulk items after the retries are exhausted")
+    void shouldFailWithPermanentlyRejectedBulkItems() {
+
+        when(client.bulk(any(BulkRequest.class)))
+                .thenAnswer(invocation -> Mono.just(response(invocation.getArgument(0), "1"::equals)));
+        template.setBulkRetryPolicy(
+                BulkRetryPolicy.builder().withMaxRetries(2).withInitialBackoff(Duration.ZERO).build());
+
+        template.saveAll(entities(3).collectList(), INDEX) //
+                .as(StepVerifier::create) //
+                .verifyErrorSatisfies(e -> assertThat(e).isInstanceOf(BulkFailureException.class)
+                        .satisfies(ex -> assertThat(((BulkFailureException) ex).getFailedDocuments()).containsOnlyKeys("1")));
+
+        verify(client, times(3)).bulk(any(BulkRequest.class));
+    }
+
+    @Test
+    @DisplayName("should scan the slices of a point in time concurrently and close it afterwards")
+    void shouldScanSlicesOfPointInTime() {
+
+        when(client.openPointInTime(any(CreatePitRequest.class))).thenReturn(Mono.just(CreatePitResponse
+                .of(b -> b.pitId("pit").creationTime(1L).shards(s -> s.total(3).successful(3).failed(0)))));
+        when(client.search(any(SearchRequest.class), eq(EntityAsMap.class)))
+                .thenAnswer(invocation -> Mono.just(slicePage(invocation.getArgument(0), 2)));
+        when(client.closePointInTime(any(DeletePitRequest.class)))
+                .thenReturn(Mono.just(DeletePitResponse.of(b -> b.pits(List.of()))));
+        template.setPointInTimeScanOptions(
+                PointInTimeScanOptions.builder().withSlices(PointInTimeScanOptions.AUTO_SLICES).build());
+
+        template.search(new CriteriaQuery(new Criteria()), SampleEntity.class, INDEX) //
+                .map(searchHit -> searchHit.getId()) //
+                .collectList() //
+                .as(StepVerifier::create) //
+                .assertNext(ids -> assertThat(ids).containsExactlyInAnyOrder("0-0", "0-1", "1-0", "1-1", "2-0", "2-1")) //
+                .verifyComplete();
+
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(9)).search(captor.capture(), eq(EntityAsMap.class));
+        assertThat(captor.getAllValues()).allSatisfy(request -> {
+            assertThat(request.pit().id()).isEqualTo("pit");
+            assertThat(request.slice().max()).isEqualTo(3);
+        });
+        verify(client).closePointInTime(any(DeletePitRequest.class));
+    }
+
+    @Test
+    @DisplayName("should read a bounded number of pages ahead of a slow consumer")
+    void shouldPrefetchBoundedNumberOfPages() {
+
+        when(client.openPointInTime(any(CreatePitRequest.class))).thenReturn(Mono.just(CreatePitResponse
+                .of(b -> b.pitId("pit").creationTime(1L).shards(s -> s.total(1).successful(1).failed(0)))));
+        when(client.search(any(SearchRequest.class), eq(EntityAsMap.class)))
+                .thenAnswer(invocation -> Mono.just(slicePage(invocation.getArgument(0), 10)));
+        when(client.closePointInTime(any(DeletePitRequest.class)))
+                .thenReturn(Mono.just(DeletePitResponse.of(b -> b.pits(List.of()))));
+        template.setPointInTimeScanOptions(PointInTimeScanOptions.builder().withPrefetch(2).build());
+
+        StepVerifier.create(template.search(new CriteriaQuery(new Criteria()), SampleEntity.class, INDEX), 1) //
+                .expectNextCount(1) //
+                .then(() -> verify(client, timeout(1000).atLeast(2)).search(any(SearchRequest.class), eq(EntityAsMap.class))) //
+                .then(() -> verify(client, after(200).atMost(6)).search(any(SearchRequest.class), eq(EntityAsMap.class))) //
+                .thenCancel() //
+                .verify();
+
+        verify(client, timeout(1000)).closePointInTime(any(DeletePitRequest.class));
+    }
+
+    @Test
+    @DisplayName("should read at most one page ahead of the consumed hits for each slice without prefetch")
+    void shouldNotReadAheadWithoutPrefetch() {
+
+        when(client.openPointInTime(any(CreatePitRequest.class))).thenReturn(Mono.just(CreatePitResponse
+                .of(b -> b.pitId("pit").creationTime(1L).shards(s -> s.total(3).successful(3).failed(0)))));
+        when(client.search(any(SearchRequest.class), eq(EntityAsMap.class)))
+                .thenAnswer(invocation -> Mono.just(slicePage(invocation.getArgument(0), 10, 5)));
+        when(client.closePointInTime(any(DeletePitRequest.class)))
+                .thenReturn(Mono.just(DeletePitResponse.of(b -> b.pits(List.of()))));
+
+        StepVerifier.create(template.search(new CriteriaQuery(new Criteria()), SampleEntity.class, INDEX), 1) //
+                .expectNextCount(1) //
+                .then(() -> verify(client, after(200).times(1)).search(any(SearchRequest.class), eq(EntityAsMap.class))) //
+                .thenCancel() //
+                .verify();
+
+        template.setPointInTimeScanOptions(
+                PointInTimeScanOptions.builder().withSlices(PointInTimeScanOptions.AUTO_SLICES).build());
+        clearInvocations(client);
+
+        StepVerifier.create(template.search(new CriteriaQuery(new Criteria()), SampleEntity.class, INDEX), 1) //
+                .expectNextCount(1) //
+                .then(() -> verify(client, after(200).times(4)).search(any(SearchRequest.class), eq(EntityAsMap.class))) //
+                .thenCancel() //
+                .verify();
+    }
+
+    @Test
+    @DisplayName("should coalesce concurrent gets into one mget request and get failed documents on their own")
+    void shouldCoalesceConcurrentGets() {
+
+        when(client.mget(any(MgetRequest.class), eq(EntityAsMap.class)))
+                .thenAnswer(invocation -> Mono.just(mgetResponse(invocation.getArgument(0), "3"::equals)));
+        when(client.get(any(GetRequest.class), eq(EntityAsMap.class))).thenReturn(Mono.just(
+                GetResponse.of(b -> b.index(INDEX.getIndexName()).id("3").found(true).source(source("3")))));
+        template.setGetCoalescingOptions(
+                CoalescingOptions.builder().withMaxBatchSize(10).withWindow(Duration.ofMillis(50)).build());
+
+        Flux<String> texts = Flux.concat(Stream.of("1", "2", "3", "1") //
+                .map(id -> template.get(id, SampleEntity.class, INDEX).map(SampleEntity::getText)) //
+                .map(Mono::cache) //
+                .peek(Mono::subscribe) //
+                .toList());
+
+        StepVerifier.create(texts) //
+                .expectNext("text-1", "text-2", "text-3", "text-1") //
+                .verifyComplete();
+
+        ArgumentCaptor<MgetRequest> captor = ArgumentCaptor.forClass(MgetRequest.class);
+        verify(client).mget(captor.capture(), eq(EntityAsMap.class));
+        assertThat(captor.getValue().docs()).extracting(MultiGetOperation::id).containsExactly("1", "2", "3");
+        verify(client).get(any(GetRequest.class), eq(EntityAsMap.class));
+    }
+
+    @Test
+    @DisplayName("should not send a coalesced batch whose gets are all cancelled and cancel it when it was sent")
+    void shouldCancelAbandonedCoalescedBatches() {
+
+        AtomicBoolean cancelled = new AtomicBoolean();
+        when(client.mget(any(MgetRequest.class), eq(EntityAsMap.class)))
+                .thenReturn(Mono.<MgetResponse<EntityAsMap>> never().doOnCancel(() -> cancelled.set(true)));
+        template.setGetCoalescingOptions(
+                CoalescingOptions.builder().withMaxBatchSize(2).withWindow(Duration.ofMillis(20)).build());
+
+        template.get("1", SampleEntity.class, INDEX).subscribe().dispose();
+        Mono.delay(Duration.ofMillis(100)).block();
+        verify(client, never()).mget(any(MgetRequest.class), eq(EntityAsMap.class));
+
+        Disposable first = template.get("1", SampleEntity.class, INDEX).subscribe();
+        Disposable second = template.get("2", SampleEntity.class, INDEX).subscribe();
+        verify(client).mget(any(MgetRequest.class), eq(EntityAsMap.class));
+
+        first.dispose();
+        assertThat(cancelled).isFalse();
+        second.dispose();
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("should coalesce concurrent searches into one msearch request and search failed items on their own")
+    void shouldCoalesceConcurrentSearches() {
+
+        when(client.msearch(any(MsearchRequest.class), eq(EntityAsMap.class)))
+                .thenAnswer(invocation -> Mono.just(msearchResponse(invocation.getArgument(0), "3"::equals)));
+        when(client.search(any(SearchRequest.class), eq(EntityAsMap.class))).thenReturn(Mono.just(searchResponse("3")));
+        template.setSearchCoalescingOptions(
+                CoalescingOptions.builder().withMaxBatchSize(10).withWindow(Duration.ofMillis(50)).build());
+
+        Flux<String> texts = Flux.concat(Stream.of("1", "2", "3", "1") //
+                .map(id -> template.search(termQuery(id), SampleEntity.class, INDEX)
+                        .map(hit -> hit.getContent().getText()).single()) //
+                .map(Mono::cache) //
+                .peek(Mono::subscribe) //
+                .toList());
+
+        StepVerifier.create(texts) //
+                .expectNext("text-1", "text-2", "text-3", "text-1") //
+                .verifyComplete();
+
+        ArgumentCaptor<MsearchRequest> captor = ArgumentCaptor.forClass(MsearchRequest.class);
+        verify(client).msearch(captor.capture(), eq(EntityAsMap.class));
+        assertThat(captor.getValue().searches()).extracting(ReactiveOpenSearchTemplateUnitTests::termValue)
+                .containsExactly("1", "2", "3");
+        verify(client).search(any(SearchRequest.class), eq(EntityAsMap.class));
+    }
+
+    @Test
+    @DisplayName("should read cached documents of near cached entities until they are deleted")
+    void shouldReadNearCachedDocumentsUntilDeleted() {
+
+        when(client.get(any(GetRequest.class), eq(EntityAsMap.class))).thenReturn(Mono.just(GetResponse
+                .of(b -> b.index(INDEX.getIndexName()).id("1").found(true).seqNo(1L).primaryTerm(1L).source(source("1")))));
+        when(client.delete(any(DeleteRequest.class))).thenReturn(Mono.just(DeleteResponse.of(b -> b
+                .index(INDEX.getIndexName()).id("1").seqNo(2).primaryTerm(1).version(2).result(Result.Deleted)
+                .shards(sh -> sh.total(1).successful(1).failed(0)))));
+
+        Mono<String> get = template.get("1", CachedEntity.class, INDEX).map(CachedEntity::getText);
+
+        StepVerifier.create(get.then(get)).expectNext("text-1").verifyComplete();
+        verify(client).get(any(GetRequest.class), eq(EntityAsMap.class));
+
+        StepVerifier.create(template.delete("1", INDEX).then(get)).expectNext("text-1").verifyComplete();
+        verify(client, times(2)).get(any(GetRequest.class), eq(EntityAsMap.class));
+    }
+
+    private static SearchResponse<EntityAsMap> slicePage(SearchRequest request, int pages) {
+        return slicePage(request, pages, 1);
+    }
+
+    private static SearchResponse<EntityAsMap> slicePage(SearchRequest request, int pages, int hitsPerPage) {
+
+        int slice = request.slice() != null ? request.slice().id() : 0;
+        int page = request.searchAfter().isEmpty() ? 0 : (int) request.searchAfter().get(0).longValue() + 1;
+        List<Hit<EntityAsMap>> hits = page < pages ? IntStream.range(0, hitsPerPage) //
+                .<Hit<EntityAsMap>> mapToObj(hit -> Hit.of(h -> h.index(INDEX.getIndexName()).id(slice + "-" + (page * hitsPerPage + hit))
+                        .source(new EntityAsMap()).sort(FieldValue.of(page))))
+                .toList() : List.of();
+        return SearchResponse.searchResponseOf(b -> b.took(1).timedOut(false).shards(s -> s.total(3).successful(3).failed(0))
+                .hits(h -> h.hits(hits)));
+    }
+
+    private static Flux<SampleEntity> entities(int count) {
+        return Flux.fromStream(IntStream.range(0, count).mapToObj(i -> new SampleEntity(String.valueOf(i), "text-" + i)));
+    }
+
+    private static BulkResponse successResponse(BulkRequest request) {
+        return response(request, id -> false);
+    }
+
+    private static BulkResponse response(BulkRequest request, Predicate<String> rejected) {
+        List<BulkResponseItem> items = request.operations().stream().map(operation -> {
+            String id = operation.index().id();
+            return BulkResponseItem.of(b -> {
+                b.operationType(OperationType.Index).index(INDEX.getIndexName()).id(id);
+                if (rejected.test(id)) {
+                    return b.status(429).error(ErrorCause.of(e -> e.type("es_rejected_execution_exception").reason("rejected")));
+                }
+                return b.status(201).seqNo(1L).primaryTerm(1L).version(1L);
+            });
+        }).toList();
+        return BulkResponse.of(b -> b.errors(items.stream().anyMatch(item -> item.error() != null)).took(1).items(items));
+    }
+
+    private static NativeQuery termQuery(String value) {
+        return NativeQuery.builder().withQuery(q -> q.term(t -> t.field("text").value(FieldValue.of(value))))
+                .withPageable(PageRequest.of(0, 10)).build();
+    }
+
+    private static String termValue(RequestItem item) {
+        return item.body().query().term().value().stringValue();
+    }
+
+    private static MsearchResponse<EntityAsMap> msearchResponse(MsearchRequest request, Predicate<String> failed) {
+        List<MultiSearchResponseItem<EntityAsMap>> items = request.searches().stream()
+                .map(ReactiveOpenSearchTemplateUnitTests::termValue)
+                .map(value -> MultiSearchResponseItem.<EntityAsMap> of(b -> failed.test(value)
+                        ? b.failure(f -> f.status(404)
+                                .error(e -> e.type("index_not_found_exception").reason("failed")))
+                        : b.result(r -> r.status(200).took(1).timedOut(false)
+                                .shards(sh -> sh.total(1).successful(1).failed(0))
+                                .hits(h -> h.hits(List.of(hit(value)))))))
+                .toList();
+        return MsearchResponse.of(b -> b.took(1).responses(items));
+    }
+
+    private static SearchResponse<EntityAsMap> searchResponse(String id) {
+        return SearchResponse.searchResponseOf(b -> b.took(1).timedOut(false)
+                .shards(sh -> sh.total(1).successful(1).failed(0)).hits(h -> h.hits(List.of(hit(id)))));
+    }
+
+    private static Hit<EntityAsMap> hit(String id) {
+        return Hit.of(h -> h.index(INDEX.getIndexName()).id(id).source(source(id)));
+    }
+
+    private static MgetResponse<EntityAsMap> mgetResponse(MgetRequest request, Predicate<String> failed) {
+        List<MultiGetResponseItem<EntityAsMap>> items = request.docs().stream()
+                .map(doc -> MultiGetResponseItem.<EntityAsMap> of(b -> failed.test(doc.id())
+                        ? b.failure(f -> f.index(doc.index()).id(doc.id())
+                                .error(e -> e.type("index_not_found_exception").reason("failed")))
+                        : b.result(r -> r.index(doc.index()).id(doc.id()).found(true).source(source(doc.id())))))
+                .toList();
+        return MgetResponse.of(b -> b.docs(items));
+    }
+
+    private static EntityAsMap source(String id) {
+        EntityAsMap source = new EntityAsMap();
+        source.put("text", "text-" + id);
+        return source;
+    }
+
+    @Document(indexName = "foo")
+    static class SampleEntity {
+        @Nullable
+        @Id private String id;
+        @Nullable
+        @Field(type = FieldType.Text) private String text;
+
+        SampleEntity(@Nullable String id, @Nullable String text) {
+            this.id = id;
+            this.text = text;
+        }
+
+        @Nullable
+        public String getId() {
+            return id;
+        }
+
+        @Nullable
+        public String getText() {
+            return text;
+        }
+    }
+
+    @NearCache
+    @Document(indexName = "foo")
+    static class CachedEntity extends SampleEntity {
+
+        CachedEntity(@Nullable String id, @Nullable String text) {
+            super(id, text);
+        }
+    }
+}
@@ -16,23 +16,34 @@
 package org.opensearch.data.client.osc;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.skyscreamer.jsonassert.JSONAssert.*;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
+import org.json.JSONException;
 import org.junit.jupiter.api.Test;
 import org.opensearch.client.json.jackson.JacksonJsonpMapper;
 import org.opensearch.client.opensearch._types.Refresh;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
 import org.springframework.data.elasticsearch.core.query.Criteria;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.data.elasticsearch.core.query.DocValueField;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.core.query.StringQuery;
 import org.springframework.lang.Nullable;
 
@@ -86,11 +97,191 @@ class RequestConverterTest {
         assertThat(deleteByQueryRequest.refresh()).isEqualTo(Refresh.True);
     }
 
+    @Test
+    @DisplayName("should pass the source of an IndexQuery through without parsing it")
+    void shouldPassSourceThrough() {
+
+        var source = "{\"text\":\"some text\",\"nested\":{\"values\":[1,2.5,null,true]}}";
+        var indexQuery = new IndexQueryBuilder().withId("42").withSource(source).build();
+
+        var indexRequest = requestConverter.documentIndexRequest(indexQuery, IndexCoordinates.of("foo"), null);
+
+        assertThat(indexRequest.id()).isEqualTo("42");
+        assertThat(JsonUtils.toJson(indexRequest.document(), jsonpMapper)).isEqualTo(source);
+    }
+
+    @Test
+    @DisplayName("should serialize the entity of a bulk operation once and measure its size")
+    void shouldSerializeBulkOperationEntityOnce() {
+
+        var indexQuery = new IndexQueryBuilder().withObject(new SampleEntity("42", "some text")).build();
+
+        var operation = requestConverter.documentBulkOperation(indexQuery, IndexCoordinates.of("foo"), null);
+
+        assertThat(operation.index().id()).isEqualTo("42");
+        assertThat(operation.index().document()).isInstanceOf(RawJsonValue.class);
+        var document = JsonUtils.toJson(operation.index().document(), jsonpMapper);
+        assertThat(document).contains("\"text\":\"some text\"");
+        var header = "{\"index\":{\"_id\":\"42\",\"_index\":\"foo\"}}";
+        assertThat(requestConverter.documentBulkOperationSize(operation))
+                .isEqualTo(header.length() + 1 + document.length() + 1);
+    }
+
+    @Test
+    @DisplayName("should measure the UTF-8 bytes of serialized bulk documents without writing them again")
+    void shouldMeasureUtf8BytesOfSerializedBulkDocuments() {
+
+        var text = "grüße € \uD834\uDD1E";
+        var entityQuery = new IndexQueryBuilder().withId("42").withObject(new SampleEntity("42", text)).build();
+        var sourceQuery = new IndexQueryBuilder().withId("43").withSource("{\"text\":\"" + text + "\"}").build();
+
+        for (var indexQuery : List.of(entityQuery, sourceQuery)) {
+            var operation = requestConverter.documentBulkOperation(indexQuery, IndexCoordinates.of("foo"), null);
+
+            var header = "{\"index\":{\"_id\":\"" + indexQuery.getId() + "\",\"_index\":\"foo\"}}";
+            var document = JsonUtils.toJson(operation.index().document(), jsonpMapper);
+            assertThat(requestConverter.documentBulkOperationSize(operation)).isEqualTo(
+                    header.length() + 1 + document.getBytes(StandardCharsets.UTF_8).length + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("should write the serialized entity of a bulk operation like the mapped document")
+    void shouldWriteSerializedBulkEntityLikeMappedDocument() {
+
+        var entity = new SampleEntity("42", "some \"quoted\" text with ümlauts");
+        var indexQuery = new IndexQueryBuilder().withObject(entity).build();
+
+        var serialized = requestConverter.documentBulkOperation(indexQuery, IndexCoordinates.of("foo"), null);
+        var mapped = requestConverter.documentIndexRequest(indexQuery, IndexCoordinates.of("foo"), null);
+
+        assertThat(mapped.document()).isInstanceOf(org.springframework.data.elasticsearch.core.document.Document.class);
+        assertThat(JsonUtils.toJson(serialized.index().document(), jsonpMapper))
+                .isEqualTo(JsonUtils.toJson(mapped.document(), jsonpMapper));
+    }
+
+    @Test
+    @DisplayName("should keep the id of an IndexQuery with a source in bulk operations")
+    void shouldKeepIdOfBulkSource() {
+
+        var source = "{\"text\":\"some text\"}";
+        var indexQuery = new IndexQueryBuilder().withId("42").withSource(source).build();
+        var createQuery = new IndexQueryBuilder().withId("43").withSource(source)
+                .withOpType(IndexQuery.OpType.CREATE).build();
+
+        var bulkRequest = requestConverter.documentBulkRequest(List.of(indexQuery, createQuery),
+                BulkOptions.defaultOptions(), IndexCoordinates.of("foo"), null);
+
+        assertThat(bulkRequest.operations().get(0).index().id()).isEqualTo("42");
+        assertThat(bulkRequest.operations().get(1).create().id()).isEqualTo("43");
+    }
+
+    @Test
+    @DisplayName("should write a multi-line source of a bulk operation on a single line")
+    void shouldWriteMultiLineBulkSourceOnSingleLine() {
+
+        var source = """
+                {
+                  "text" : "some\\ntext",
+                  "price" : 1.10,
+                  "tags" : [ "a", "b" ]
+                }
+                """;
+        var indexQuery = new IndexQueryBuilder().withId("42").withSource(source).build();
+        var createQuery = new IndexQueryBuilder().withId("43").withSource(source)
+                .withOpType(IndexQuery.OpType.CREATE).build();
+
+        var index = requestConverter.documentBulkOperation(indexQuery, IndexCoordinates.of("foo"), null);
+        var create = requestConverter.documentBulkOperation(createQuery, IndexCoordinates.of("foo"), null);
+
+        var expected = "{\"text\":\"some\\ntext\",\"price\":1.10,\"tags\":[\"a\",\"b\"]}";
+        assertThat(JsonUtils.toJson(index.index().document(), jsonpMapper)).isEqualTo(expected);
+        assertThat(JsonUtils.toJson(create.create().document(), jsonpMapper)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("should create a count request with the filter of the query as filter clause")
+    void shouldCreateCountRequestWithFilter() {
+
+        var query = new CriteriaQuery(
+                new Criteria("text").contains("test").and("location").within(new GeoPoint(1.0, 2.0), "10km"));
+
+        var countRequest = requestConverter.countRequest(query, "route", SampleEntity.class, IndexCoordinates.of("foo"));
+
+        assertThat(countRequest).isNotNull();
+        assertThat(countRequest.index()).containsExactly("foo");
+        assertThat(countRequest.routing()).containsExactly("route");
+        var bool = countRequest.query().bool();
+        assertThat(bool.must()).hasSize(1);
+        assertThat(bool.filter()).hasSize(1);
+        assertThat(bool.filter().get(0).isGeoDistance()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should not create a count request for a query with a point in time")
+    void shouldNotCreateCountRequestForPointInTime() {
+
+        var query = new CriteriaQuery(new Criteria("text").contains("test"));
+        query.setPointInTime(new Query.PointInTime("pit", Duration.ofMinutes(1)));
+
+        assertThat(requestConverter.countRequest(query, null, SampleEntity.class, IndexCoordinates.of("foo"))).isNull();
+    }
+
+    @Test
+    @DisplayName("should not create a count request for a query with a timeout")
+    void shouldNotCreateCountRequestForTimeout() {
+
+        var query = new CriteriaQuery(new Criteria("text").contains("test"));
+        query.setTimeout(Duration.ofSeconds(1));
+
+        assertThat(requestConverter.countRequest(query, null, SampleEntity.class, IndexCoordinates.of("foo"))).isNull();
+    }
+
+    @Test
+    @DisplayName("should track total hits up to the threshold of an approximate count")
+    void shouldTrackTotalHitsUpToThreshold() {
+
+        var query = new CriteriaQuery(new Criteria("text").contains("test"));
+
+        var searchRequest = requestConverter.approximateCountRequest(query, null, SampleEntity.class,
+                IndexCoordinates.of("foo"), 10_000);
+
+        assertThat(searchRequest.size()).isEqualTo(0);
+        assertThat(searchRequest.trackTotalHits().count()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("should copy the body of a search request into a multi search item")
+    void shouldCopySearchRequestBodyIntoMultiSearchItem() throws JSONException {
+
+        var query = new CriteriaQuery(new Criteria("text").contains("test"), PageRequest.of(1, 5, Sort.by("text")));
+        query.setSearchAfter(List.of("a"));
+        query.addFields("text");
+        query.setDocValueFields(List.of(new DocValueField("text")));
+        query.setMinScore(0.5f);
+
+        var searchRequest = requestConverter.searchRequest(query, "route", SampleEntity.class, IndexCoordinates.of("foo"),
+                false);
+        var searchItem = requestConverter.searchItem(searchRequest);
+
+        assertThat(searchItem).isNotNull();
+        assertThat(searchItem.item().header().routing()).isEqualTo("route");
+        assertEquals(JsonUtils.toJson(searchRequest, jsonpMapper), JsonUtils.toJson(searchItem.item().body(), jsonpMapper),
+                true);
+    }
+
     @Document(indexName = "does-not-matter")
     static class SampleEntity {
         @Nullable
         @Id private String id;
         @Nullable
         @Field(type = FieldType.Text) private String text;
+
+        SampleEntity() {}
+
+        SampleEntity(@Nullable String id, @Nullable String text) {
+            this.id = id;
+            this.text = text;
+        }
     }
 }
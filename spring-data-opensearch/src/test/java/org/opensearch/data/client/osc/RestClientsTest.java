@@ -35,10 +35,13 @@ import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.client.RestClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.transport.endpoints.BooleanResponse;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
@@ -217,6 +220,63 @@ public class RestClientsTest {
         });
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("clientUnderTestFactorySource")
+    @DisplayName("should compress request bodies above the threshold and accept compressed responses")
+    void shouldCompressRequestBodiesAboveThreshold(ClientUnderTestFactory clientUnderTestFactory) {
+
+        wireMockServer(server -> {
+
+            String urlPattern = "^/index/_doc/42(\\?.*)?$";
+            stubFor(put(urlMatching(urlPattern)) //
+                    .willReturn(okJson("""
+                            {
+                              "_id": "42",
+                              "_index": "index",
+                              "_primary_term": 1,
+                              "_seq_no": 0,
+                              "_shards": {
+                                "failed": 0,
+                                "successful": 1,
+                                "total": 2
+                              },
+                              "_version": 1,
+                              "result": "created"
+                            }
+                            """)));
+
+            ClientConfiguration clientConfiguration = ClientConfiguration.builder() //
+                    .connectedTo("localhost:" + server.port()) //
+                    .withClientConfigurer(CompressionSettings.builder() //
+                            .withRequestCompressionThreshold(1024) //
+                            .withCompressedResponses(true) //
+                            .build()) //
+                    .build();
+
+            ClientUnderTest clientUnderTest = clientUnderTestFactory.create(clientConfiguration);
+
+            class Foo {
+                public final String text;
+
+                Foo(String text) {
+                    this.text = text;
+                }
+            }
+
+            clientUnderTest.index(new Foo("small"));
+            clientUnderTest.index(new Foo("large".repeat(500)));
+
+            verify(1, putRequestedFor(urlMatching(urlPattern)) //
+                    .withoutHeader("Content-Encoding") //
+                    .withHeader("Accept-Encoding", new EqualToPattern("gzip")) //
+                    .withRequestBody(containing("small")));
+            verify(1, putRequestedFor(urlMatching(urlPattern)) //
+                    .withHeader("Content-Encoding", new EqualToPattern("gzip")) //
+                    .withHeader("Accept-Encoding", new EqualToPattern("gzip")) //
+                    .withRequestBody(containing("largelarge")));
+        });
+    }
+
     private StubMapping stubForOpenSearchVersionCheck() {
         return stubFor(get(urlEqualTo("/")) //
                 .willReturn(okJson("""
@@ -240,6 +300,35 @@ public class RestClientsTest {
                         .withHeader("Content-Type", "application/json; charset=UTF-8")));
     }
 
+    @Test
+    @DisplayName("should apply connection pool settings and keep a connection manager set by a callback")
+    void shouldApplyConnectionPoolSettings() throws IOException {
+
+        ClientConfiguration clientConfiguration = ClientConfiguration.builder() //
+                .connectedTo("localhost:9200") //
+                .withClientConfigurer(ConnectionPoolSettings.builder() //
+                        .withMaxConnectionsPerRoute(50) //
+                        .withMaxConnectionsTotal(200) //
+                        .build()) //
+                .build();
+
+        try (RestClient restClient = OpenSearchClients.getRestClient(clientConfiguration)) {
+            assertThat(restClient).extracting("client.manager.pool.maxTotal").isEqualTo(200);
+            assertThat(restClient).extracting("client.manager.pool.defaultMaxPerRoute").isEqualTo(50);
+        }
+
+        ClientConfiguration callbackConfiguration = ClientConfiguration.builder() //
+                .connectedTo("localhost:9200") //
+                .withClientConfigurer(OpenSearchClients.OpenSearchHttpClientConfigurationCallback
+                        .from(builder -> builder.setConnectionManager(
+                                PoolingAsyncClientConnectionManagerBuilder.create().setMaxConnTotal(100).build()))) //
+                .build();
+
+        try (RestClient restClient = OpenSearchClients.getRestClient(callbackConfiguration)) {
+            assertThat(restClient).extracting("client.manager.pool.maxTotal").isEqualTo(100);
+        }
+    }
+
     private StubMapping stubForHead() {
         return stubFor(head(urlEqualTo("/")) //
                 .willReturn(ok()));
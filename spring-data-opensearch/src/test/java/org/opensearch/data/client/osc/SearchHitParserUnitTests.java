@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.core.search.Hit;
+
+class SearchHitParserUnitTests {
+
+    private static final String RESPONSE = """
+            {"took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"failed":0},
+            "aggregations":{"top":{"hits":{"hits":[{"_index":"foo","_id":"agg"}]}}},
+            "hits":{"total":{"value":2,"relation":"eq"},"max_score":1.0,"hits":[
+            {"_index":"foo","_id":"1","_score":1.0,"_source":{"text":"one","hits":[1,2]},
+            "inner_hits":{"nested":{"hits":{"hits":[{"_index":"foo","_id":"inner"}]}}}},
+            {"_index":"foo","_id":"2","_score":0.5,"_source":{"text":"two \\u00e9"},"sort":[2]}]},
+            "pit_id":"abc"}
+            """;
+
+    private final JacksonJsonpMapper jsonpMapper = new JacksonJsonpMapper();
+    private final List<Hit<EntityAsMap>> hits = new ArrayList<>();
+
+    @Test
+    @DisplayName("should emit every hit of a response fed one byte at a time as soon as it is complete")
+    void shouldParseResponseFedInChunks() throws IOException {
+
+        SearchHitParser<EntityAsMap> parser = SearchHitParser.nonBlocking(jsonpMapper,
+                JsonpDeserializer.of(EntityAsMap.class), hits::add);
+        byte[] bytes = RESPONSE.getBytes(StandardCharsets.UTF_8);
+        int endOfFirstHit = RESPONSE.indexOf("{\"_index\":\"foo\",\"_id\":\"2\"");
+
+        for (int i = 0; i < bytes.length; i++) {
+            ByteBuffer chunk = ByteBuffer.wrap(bytes, i, 1);
+            parser.feed(chunk);
+            assertThat(chunk.hasRemaining()).isFalse();
+            if (i == endOfFirstHit) {
+                assertThat(hits).extracting(Hit::id).containsExactly("1");
+            }
+        }
+        parser.endOfInput();
+
+        assertHits();
+    }
+
+    @Test
+    @DisplayName("should emit the hits of a complete response")
+    void shouldParseCompleteResponse() throws IOException {
+
+        SearchHitParser.parse(new ByteArrayInputStream(RESPONSE.getBytes(StandardCharsets.UTF_8)), jsonpMapper,
+                JsonpDeserializer.of(EntityAsMap.class), hits::add);
+
+        assertHits();
+    }
+
+    @Test
+    @DisplayName("should emit no hits for a response without hits")
+    void shouldParseResponseWithoutHits() throws IOException {
+
+        SearchHitParser.parse(new ByteArrayInputStream("""
+                {"took":1,"hits":{"total":{"value":0,"relation":"eq"},"hits":[]}}
+                """.getBytes(StandardCharsets.UTF_8)), jsonpMapper, JsonpDeserializer.of(EntityAsMap.class),
+                hits::add);
+
+        assertThat(hits).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should keep the exact text of decimal numbers of a hit fed in chunks")
+    void shouldKeepDecimalNumbers() throws IOException {
+
+        List<Hit<byte[]>> rawHits = new ArrayList<>();
+        SearchHitParser<byte[]> rawParser = SearchHitParser.nonBlocking(jsonpMapper, RawSearchHit.SOURCE_DESERIALIZER,
+                rawHits::add);
+        SearchHitParser<EntityAsMap> parser = SearchHitParser.nonBlocking(jsonpMapper,
+                JsonpDeserializer.of(EntityAsMap.class), hits::add);
+        byte[] bytes = """
+                {"hits":{"hits":[{"_index":"foo","_id":"1",
+                "_source":{"price":1.10,"ratio":0.5,"big":12345678901234567890.12345678901234567890}}]}}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        for (int i = 0; i < bytes.length; i += 7) {
+            rawParser.feed(ByteBuffer.wrap(bytes, i, Math.min(7, bytes.length - i)));
+            parser.feed(ByteBuffer.wrap(bytes, i, Math.min(7, bytes.length - i)));
+        }
+        rawParser.endOfInput();
+        parser.endOfInput();
+
+        assertThat(rawHits).singleElement().satisfies(hit -> assertThat(new String(hit.source(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"price\":1.10,\"ratio\":0.5,\"big\":12345678901234567890.12345678901234567890}"));
+        assertThat(hits).singleElement().satisfies(hit -> assertThat(hit.source().get("ratio")).isEqualTo(0.5));
+    }
+
+    private void assertHits() {
+
+        assertThat(hits).hasSize(2);
+        assertThat(hits.get(0)).satisfies(hit -> {
+            assertThat(hit.id()).isEqualTo("1");
+            assertThat(hit.score()).isEqualTo(1.0);
+            assertThat(hit.source()).containsEntry("text", "one").containsEntry("hits", List.of(1, 2));
+            assertThat(hit.innerHits().get("nested").hits().hits()).singleElement()
+                    .satisfies(innerHit -> assertThat(innerHit.id()).isEqualTo("inner"));
+        });
+        assertThat(hits.get(1)).satisfies(hit -> {
+            assertThat(hit.id()).isEqualTo("2");
+            assertThat(hit.source()).containsEntry("text", "two é");
+            assertThat(hit.sort()).singleElement().satisfies(sort -> assertThat(sort.longValue()).isEqualTo(2L));
+        });
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch._types.aggregations.StringTermsBucket;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.msearch.MultiSearchItem;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+class SearchResultCacheUnitTests {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SearchResultCache cache = new SearchResultCache(
+            SearchCacheOptions.builder().withMaximumSize(2).withTimeToLive(Duration.ofNanos(100)).build(),
+            new JacksonJsonpMapper(), now::get);
+
+    @Test
+    @DisplayName("should return a cached response with its hits and aggregations")
+    void shouldReturnCachedResponse() {
+
+        cache.put("key", List.of("foo"), response("1"), cache.generation());
+
+        SearchResponse<EntityAsMap> cached = cache.get("key");
+
+        assertThat(cached).isNotNull();
+        assertThat(cached.hits().hits()).singleElement().satisfies(hit -> {
+            assertThat(hit.id()).isEqualTo("1");
+            assertThat(hit.source()).containsEntry("text", "text-1");
+        });
+        assertThat(cached.aggregations().get("texts").sterms().buckets().array()).singleElement()
+                .satisfies(bucket -> assertThat(bucket.key()).isEqualTo("text-1"));
+        assertThat(cache.get("other")).isNull();
+    }
+
+    @Test
+    @DisplayName("should cache the response of a multi search item")
+    void shouldCacheMultiSearchItem() {
+
+        SearchResponse<EntityAsMap> response = MultiSearchItem.of(b -> b.status(200).took(1).timedOut(false)
+                .shards(sh -> sh.total(1).successful(1).failed(0)).hits(h -> h.hits(List.of(hit("1")))));
+
+        cache.put("key", List.of("foo"), response, cache.generation());
+
+        assertThat(cache.get("key").hits().hits()).extracting(Hit::id).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("should invalidate the responses of the written index and not cache responses read before")
+    void shouldInvalidateWrittenIndex() {
+
+        long generation = cache.generation();
+        cache.put("foo", List.of("foo"), response("1"), generation);
+        cache.put("bar", List.of("ba*"), response("1"), generation);
+
+        cache.invalidate(IndexCoordinates.of("foo"), "foo-000001");
+
+        assertThat(cache.get("foo")).isNull();
+        assertThat(cache.get("bar")).isNotNull();
+
+        cache.put("foo", List.of("foo"), response("1"), generation);
+        assertThat(cache.get("foo")).isNull();
+
+        cache.invalidate(IndexCoordinates.of("bar"), null);
+        assertThat(cache.get("bar")).isNull();
+    }
+
+    @Test
+    @DisplayName("should cache responses read before a write to another index")
+    void shouldCacheResponsesReadBeforeWriteToOtherIndex() {
+
+        long generation = cache.generation();
+
+        cache.invalidate(IndexCoordinates.of("other"), null);
+        cache.put("foo", List.of("foo"), response("1"), generation);
+        cache.put("foo*", List.of("foo*"), response("1"), generation);
+        cache.put("all", List.of(), response("1"), generation);
+
+        assertThat(cache.get("foo")).isNotNull();
+        assertThat(cache.get("foo*")).isNotNull();
+        assertThat(cache.get("all")).isNull();
+
+        cache.invalidate(IndexCoordinates.of("foo-000001"), null);
+        cache.put("foo", List.of("foo"), response("1"), generation);
+        cache.put("foo*", List.of("foo*"), response("1"), generation);
+
+        assertThat(cache.get("foo")).isNotNull();
+        assertThat(cache.get("foo*")).isNull();
+    }
+
+    @Test
+    @DisplayName("should not cache responses read before the invalidations it no longer tracks")
+    void shouldNotCacheResponsesReadBeforeForgottenInvalidations() {
+
+        long generation = cache.generation();
+
+        for (int i = 0; i <= SearchResultCache.MAX_INVALIDATED_INDICES; i++) {
+            cache.invalidate(IndexCoordinates.of("other-" + i), null);
+        }
+        cache.put("foo", List.of("foo"), response("1"), generation);
+
+        assertThat(cache.get("foo")).isNull();
+
+        cache.put("foo", List.of("foo"), response("1"), cache.generation());
+
+        assertThat(cache.get("foo")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should evict expired and least recently used responses and not cache partial ones")
+    void shouldEvictResponses() {
+
+        cache.put("1", List.of("foo"), response("1"), cache.generation());
+        now.addAndGet(50);
+        cache.put("2", List.of("foo"), response("2"), cache.generation());
+        cache.get("1");
+        cache.put("3", List.of("foo"), response("3"), cache.generation());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("2")).isNull();
+
+        now.addAndGet(50);
+        assertThat(cache.get("1")).isNull();
+        assertThat(cache.get("3")).isNotNull();
+
+        cache.put("4", List.of("foo"), SearchResponse.searchResponseOf(b -> b.took(1).timedOut(true)
+                .shards(sh -> sh.total(1).successful(1).failed(0)).hits(h -> h.hits(List.of()))), cache.generation());
+        assertThat(cache.get("4")).isNull();
+    }
+
+    private static SearchResponse<EntityAsMap> response(String id) {
+        return SearchResponse.searchResponseOf(b -> b.took(1).timedOut(false)
+                .shards(sh -> sh.total(1).successful(1).failed(0)) //
+                .hits(h -> h.hits(List.of(hit(id)))) //
+                .aggregations("texts", a -> a.sterms(t -> t.sumOtherDocCount(0L).buckets(bu -> bu
+                        .array(List.of(StringTermsBucket.of(sb -> sb.key("text-" + id).docCount(1))))))));
+    }
+
+    private static Hit<EntityAsMap> hit(String id) {
+
+        EntityAsMap source = new EntityAsMap();
+        source.put("text", "text-" + id);
+        return Hit.of(h -> h.index("foo").id(id).source(source));
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.data.client.osc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.*;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch._types.Refresh;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.transport.endpoints.BooleanResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.lang.Nullable;
+import reactor.test.StepVerifier;
+
+class StreamingOpenSearchTransportUnitTests {
+
+    private static final String SEARCH_RESPONSE = """
+            {"took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"failed":0},
+            "hits":{"total":{"value":1,"relation":"eq"},"hits":[{"_index":"foo","_id":"1","_source":{"text":"%s"}}]}}
+            """;
+
+    private final WireMockServer server = new WireMockServer(options() //
+            .dynamicPort() //
+            .usingFilesUnderDirectory("src/test/resources/wiremock-mappings"));
+    private StreamingOpenSearchTransport transport;
+
+    @BeforeEach
+    void setUp() {
+
+        server.start();
+        transport = OpenSearchClients.getStreamingOpenSearchTransport(
+                ClientConfiguration.create("localhost:" + server.port()), OpenSearchClients.REACTIVE_CLIENT, null,
+                new JacksonJsonpMapper());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+
+        transport.close();
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("should stream a request and read a response larger than a buffer")
+    void shouldStreamRequestAndReadResponse() {
+
+        String text = "x".repeat(3 * StreamingOpenSearchTransport.BUFFER_SIZE + 17);
+        server.stubFor(post(urlPathEqualTo("/foo/_search"))
+                .willReturn(okJson(SEARCH_RESPONSE.formatted(text))));
+        ReactiveOpenSearchClient client = new ReactiveOpenSearchClient(transport);
+
+        StepVerifier.create(client.search(SearchRequest.of(b -> b.index("foo") //
+                .query(q -> q.match(m -> m.field("text").query(FieldValue.of(text))))), EntityAsMap.class)) //
+                .assertNext(response -> assertThat(response.hits().hits()).singleElement()
+                        .satisfies(hit -> assertThat(hit.source()).containsEntry("text", text))) //
+                .verifyComplete();
+
+        server.verify(postRequestedFor(urlPathEqualTo("/foo/_search")) //
+                .withHeader("Content-Type", containing("application/json")) //
+                .withHeader("X-SpringDataOpenSearch-Client", equalTo(OpenSearchClients.REACTIVE_CLIENT)) //
+                .withRequestBody(equalToJson("{\"query\":{\"match\":{\"text\":{\"query\":\"" + text + "\"}}}}")));
+    }
+
+    @Test
+    @DisplayName("should send the operations of a bulk request as NDJSON")
+    void shouldSendBulkRequestAsNdJson() {
+
+        server.stubFor(post(urlPathEqualTo("/_bulk")).willReturn(okJson("""
+                {"took":1,"errors":false,"items":[{"index":{"_index":"foo","_id":"1","status":201}},
+                {"index":{"_index":"foo","_id":"2","status":201}}]}
+                """)));
+        ReactiveOpenSearchClient client = new ReactiveOpenSearchClient(transport);
+
+        StepVerifier.create(client.bulk(BulkRequest.of(b -> b.refresh(Refresh.True) //
+                .operations(o -> o.index(i -> i.index("foo").id("1").document(Map.of("text", "a")))) //
+                .operations(o -> o.index(i -> i.index("foo").id("2").document(Map.of("text", "b"))))))) //
+                .assertNext(response -> assertThat(response.items()).hasSize(2)) //
+                .verifyComplete();
+
+        server.verify(postRequestedFor(urlPathEqualTo("/_bulk")) //
+                .withQueryParam("refresh", equalTo("true")) //
+                .withRequestBody(equalTo("""
+                        {"index":{"_id":"1","_index":"foo"}}
+                        {"text":"a"}
+                        {"index":{"_id":"2","_index":"foo"}}
+                        {"text":"b"}
+                        """)));
+    }
+
+    @Test
+    @DisplayName("should map error responses like the RestClient transport")
+    void shouldMapErrorResponses() {
+
+        server.stubFor(head(urlPathEqualTo("/foo")).willReturn(notFound()));
+        server.stubFor(post(urlPathEqualTo("/bar/_search")).willReturn(jsonResponse("""
+                {"error":{"type":"index_not_found_exception","reason":"no such index [bar]"},"status":404}
+                """, 404)));
+        ReactiveOpenSearchClient client = new ReactiveOpenSearchClient(transport);
+
+        StepVerifier.create(client.indices().exists(e -> e.index("foo"))) //
+                .assertNext(response -> assertThat(response.value()).isFalse()) //
+                .verifyComplete();
+        StepVerifier.create(client.search(SearchRequest.of(b -> b.index("bar")), EntityAsMap.class)) //
+                .expectErrorSatisfies(e -> assertThat(e).isInstanceOfSatisfying(OpenSearchException.class, ex -> {
+                    assertThat(ex.status()).isEqualTo(404);
+                    assertThat(ex.error().type()).isEqualTo("index_not_found_exception");
+                })) //
+                .verify();
+    }
+
+    @Test
+    @DisplayName("should emit the hits of a search response before the response was received completely")
+    void shouldStreamSearchHits() {
+
+        StringBuilder hits = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            hits.append(i == 0 ? "" : ",").append("{\"_index\":\"foo\",\"_id\":\"").append(i)
+                    .append("\",\"_source\":{\"text\":\"").append("x".repeat(1000)).append("\"}}");
+        }
+        server.stubFor(post(urlPathEqualTo("/foo/_search")).willReturn(okJson("""
+                {"hits":{"total":{"value":100,"relation":"eq"},"hits":[%s]},
+                "took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"failed":0}}
+                """.formatted(hits)).withChunkedDribbleDelay(10, 2000)));
+        ReactiveOpenSearchClient client = new ReactiveOpenSearchClient(transport);
+        AtomicLong firstHit = new AtomicLong();
+
+        StepVerifier.create(client.searchHits(SearchRequest.of(b -> b.index("foo")), EntityAsMap.class), 1) //
+                .assertNext(hit -> {
+                    firstHit.set(System.nanoTime());
+                    assertThat(hit.id()).isEqualTo("0");
+                    assertThat(hit.source()).containsEntry("text", "x".repeat(1000));
+                }) //
+                .thenRequest(99) //
+                .expectNextCount(99) //
+                .then(() -> assertThat(Duration.ofNanos(System.nanoTime() - firstHit.get()))
+                        .isGreaterThan(Duration.ofMillis(1000))) //
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should emit raw search hits with the JSON of their sources")
+    void shouldStreamRawSearchHits() {
+
+        server.stubFor(post(urlPathEqualTo("/foo/_search")).willReturn(okJson("""
+                {"took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"failed":0},
+                "hits":{"total":{"value":2,"relation":"eq"},"hits":[
+                {"_index":"foo","_id":"1","_score":1.5,"_source":{ "text" : "one", "price": 1.10, "tags": ["a"] }},
+                {"_index":"foo","_id":"2","_score":0.5}]}}
+                """)));
+        MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+                new SimpleElasticsearchMappingContext());
+        converter.afterPropertiesSet();
+        ReactiveOpenSearchTemplate template = new ReactiveOpenSearchTemplate(new ReactiveOpenSearchClient(transport),
+                converter);
+
+        StepVerifier.create(template.searchRaw(template.matchAllQuery(), null, IndexCoordinates.of("foo"))) //
+                .assertNext(hit -> {
+                    assertThat(hit.getId()).isEqualTo("1");
+                    assertThat(hit.getScore()).isEqualTo(1.5f);
+                    assertThat(hit.getSourceAsString()).isEqualTo("{\"text\":\"one\",\"price\":1.10,\"tags\":[\"a\"]}");
+                }) //
+                .assertNext(hit -> {
+                    assertThat(hit.getId()).isEqualTo("2");
+                    assertThat(hit.hasSource()).isFalse();
+                    assertThat(hit.getSource().hasRemaining()).isFalse();
+                }) //
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should still emit the hits while the response arrives when the template observes its requests")
+    void shouldStreamObservedSearchHits() {
+
+        StringBuilder hits = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            hits.append(i == 0 ? "" : ",").append("{\"_index\":\"foo\",\"_id\":\"").append(i)
+                    .append("\",\"_source\":{\"text\":\"").append("x".repeat(1000)).append("\"}}");
+        }
+        server.stubFor(post(urlPathEqualTo("/foo/_search")).willReturn(okJson("""
+                {"hits":{"total":{"value":10,"relation":"eq"},"hits":[%s]},
+                "took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"failed":0}}
+                """.formatted(hits)).withChunkedDribbleDelay(10, 2000)));
+        List<OpenSearchObservationContext> observed = new CopyOnWriteArrayList<>();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                observed.add((OpenSearchObservationContext) context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return context instanceof OpenSearchObservationContext;
+            }
+        });
+        MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+                new SimpleElasticsearchMappingContext());
+        converter.afterPropertiesSet();
+        ReactiveOpenSearchTemplate template = new ReactiveOpenSearchTemplate(new ReactiveOpenSearchClient(transport),
+                converter);
+        TemplateObservations.observe(template, observationRegistry);
+        AtomicLong firstHit = new AtomicLong();
+
+        StepVerifier.create(template.searchRaw(template.matchAllQuery(), null, IndexCoordinates.of("foo"))) //
+                .assertNext(hit -> {
+                    firstHit.set(System.nanoTime());
+                    assertThat(hit.getId()).isEqualTo("0");
+                }) //
+                .expectNextCount(9) //
+                .then(() -> assertThat(Duration.ofNanos(System.nanoTime() - firstHit.get()))
+                        .isGreaterThan(Duration.ofMillis(1000))) //
+                .verifyComplete();
+
+        assertThat(observed).singleElement().satisfies(context -> {
+            assertThat(context.getOperation()).isEqualTo("search");
+            assertThat(context.getIndex()).isEqualTo("foo");
+            assertThat(context.getHits()).isEqualTo(10);
+            assertThat(context.getError()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("should save and search entities with the template of a configuration that uses the streaming transport")
+    void shouldUseStreamingTransportOfConfiguration() {
+
+        server.stubFor(put(urlPathEqualTo("/foo/_doc/1")).willReturn(okJson("""
+                {"_index":"foo","_id":"1","_version":1,"result":"created","_seq_no":0,"_primary_term":1,
+                "_shards":{"total":1,"successful":1,"failed":0}}
+                """)));
+        server.stubFor(post(urlPathEqualTo("/foo/_search")).willReturn(okJson(SEARCH_RESPONSE.formatted("one"))));
+        List<OpenSearchObservationContext> observed = new CopyOnWriteArrayList<>();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                observed.add((OpenSearchObservationContext) context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return context instanceof OpenSearchObservationContext;
+            }
+        });
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.getEnvironment().getPropertySources()
+                    .addFirst(new MapPropertySource("test", Map.of("streaming.port", server.port())));
+            context.register(StreamingTransportConfiguration.class);
+            context.refresh();
+
+            assertThat(context.getBean(OpenSearchTransport.class)).isInstanceOf(StreamingOpenSearchTransport.class);
+            ReactiveOpenSearchTemplate template = context.getBean(ReactiveOpenSearchTemplate.class);
+            TemplateObservations.observe(template, observationRegistry);
+
+            StepVerifier.create(template.save(new SampleEntity("1", "one"), IndexCoordinates.of("foo"))) //
+                    .assertNext(entity -> assertThat(entity.getId()).isEqualTo("1")) //
+                    .verifyComplete();
+            StepVerifier.create(template.search(template.matchAllQuery().setPageable(PageRequest.of(0, 10)),
+                    SampleEntity.class, IndexCoordinates.of("foo"))) //
+                    .assertNext(hit -> {
+                        assertThat(hit.getId()).isEqualTo("1");
+                        assertThat(hit.getContent().getText()).isEqualTo("one");
+                    }) //
+                    .verifyComplete();
+        }
+
+        server.verify(putRequestedFor(urlPathEqualTo("/foo/_doc/1")) //
+                .withHeader("X-SpringDataOpenSearch-Client", equalTo(OpenSearchClients.REACTIVE_CLIENT)) //
+                .withRequestBody(equalToJson("{\"id\":\"1\",\"text\":\"one\"}", true, true)));
+        assertThat(observed).extracting(OpenSearchObservationContext::getOperation).containsExactly("index", "search");
+        assertThat(observed).allSatisfy(context -> {
+            assertThat(context.getIndex()).isEqualTo("foo");
+            assertThat(context.getError()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("should map the error response of a streamed search")
+    void shouldMapErrorResponseOfStreamedSearch() {
+
+        server.stubFor(post(urlPathEqualTo("/bar/_search")).willReturn(jsonResponse("""
+                {"error":{"type":"index_not_found_exception","reason":"no such index [bar]"},"status":404}
+                """, 404)));
+        ReactiveOpenSearchClient client = new ReactiveOpenSearchClient(transport);
+
+        StepVerifier.create(client.searchHits(SearchRequest.of(b -> b.index("bar")), EntityAsMap.class)) //
+                .expectErrorSatisfies(e -> assertThat(e).isInstanceOfSatisfying(OpenSearchException.class,
+                        ex -> assertThat(ex.status()).isEqualTo(404))) //
+                .verify();
+    }
+
+    @Test
+    @DisplayName("should send a request to the next host when a host cannot be reached")
+    void shouldFailOverToNextHost() throws IOException {
+
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        server.stubFor(head(urlPathEqualTo("/")).willReturn(ok()));
+
+        try (StreamingOpenSearchTransport failingOver = new StreamingOpenSearchTransport(
+                HttpAsyncClients.createDefault(),
+                List.of(new HttpHost("localhost", closedPort), new HttpHost("localhost", server.port())), null,
+                new JacksonJsonpMapper(), TransportOptions.builder().build())) {
+            ReactiveOpenSearchClient client = new ReactiveOpenSearchClient(failingOver);
+
+            for (int i = 0; i < 2; i++) {
+                StepVerifier.create(client.ping()).expectNextMatches(BooleanResponse::value).verifyComplete();
+            }
+        }
+
+        server.verify(2, headRequestedFor(urlPathEqualTo("/")));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class StreamingTransportConfiguration extends ReactiveOpenSearchConfiguration {
+
+        @Autowired private Environment environment;
+
+        @Override
+        public ClientConfiguration clientConfiguration() {
+            return ClientConfiguration.create("localhost:" + environment.getRequiredProperty("streaming.port"));
+        }
+
+        @Override
+        public boolean useStreamingTransport() {
+            return true;
+        }
+    }
+
+    @Document(indexName = "foo", createIndex = false)
+    static class SampleEntity {
+        @Nullable
+        @Id private String id;
+        @Nullable private String text;
+
+        SampleEntity() {}
+
+        SampleEntity(@Nullable String id, @Nullable String text) {
+            this.id = id;
+            this.text = text;
+        }
+
+        @Nullable
+        public String getId() {
+            return id;
+        }
+
+        @Nullable
+        public String getText() {
+            return text;
+        }
+    }
+}